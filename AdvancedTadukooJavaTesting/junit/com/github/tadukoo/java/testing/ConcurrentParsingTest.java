@@ -0,0 +1,71 @@
+package com.github.tadukoo.java.testing;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConcurrentParsingTest{
+	
+	private static final int NUM_THREADS = 16;
+	private static final int ROUNDS_PER_THREAD = 4;
+	
+	@Test
+	public void testParsingCorpusConcurrently() throws Exception{
+		List<String> corpus = JavaClassParsingCorpus.createTests().stream()
+				.map(JavaClassParsingTest::getJavaClassCode)
+				.toList();
+		
+		// Parse everything serially first to know what to expect
+		List<String> expected = new ArrayList<>();
+		for(String code: corpus){
+			expected.add(FullJavaParser.parseType(code).toString());
+		}
+		
+		ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+		try{
+			CountDownLatch startLatch = new CountDownLatch(1);
+			List<Future<List<String>>> futures = new ArrayList<>();
+			for(int thread = 0; thread < NUM_THREADS; thread++){
+				// Each thread starts at a different spot in the corpus so different classes overlap
+				int offset = thread;
+				Callable<List<String>> task = () -> {
+					startLatch.await();
+					List<String> results = new ArrayList<>();
+					for(int round = 0; round < ROUNDS_PER_THREAD; round++){
+						for(int i = 0; i < corpus.size(); i++){
+							results.add(parse(corpus.get((i + offset) % corpus.size())));
+						}
+					}
+					return results;
+				};
+				futures.add(executor.submit(task));
+			}
+			startLatch.countDown();
+			
+			for(int thread = 0; thread < NUM_THREADS; thread++){
+				List<String> results = futures.get(thread).get();
+				for(int i = 0; i < results.size(); i++){
+					assertEquals(expected.get((i + thread) % corpus.size()), results.get(i));
+				}
+			}
+		}finally{
+			executor.shutdownNow();
+		}
+	}
+	
+	private static String parse(String code) throws JavaParsingException{
+		JavaCodeType type = FullJavaParser.parseType(code);
+		return type.toString();
+	}
+}
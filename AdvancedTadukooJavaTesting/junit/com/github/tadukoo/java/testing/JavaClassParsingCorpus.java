@@ -0,0 +1,83 @@
+package com.github.tadukoo.java.testing;
+
+import com.github.tadukoo.java.testing.util.AutoCloseableUtilTest;
+import com.github.tadukoo.java.testing.util.BooleanUtilTest;
+import com.github.tadukoo.java.testing.util.ByteUtilTest;
+import com.github.tadukoo.java.testing.util.CharacterUtilTest;
+import com.github.tadukoo.java.testing.util.CollectionUtilTest;
+import com.github.tadukoo.java.testing.util.ExceptionUtilTest;
+import com.github.tadukoo.java.testing.util.FileUtilTest;
+import com.github.tadukoo.java.testing.util.FloatUtilTest;
+import com.github.tadukoo.java.testing.util.LoggerUtilTest;
+import com.github.tadukoo.java.testing.util.dictionary.ISO_LATIN1DictionaryTest;
+import com.github.tadukoo.java.testing.util.dictionary.US_ASCIIDictionaryTest;
+import com.github.tadukoo.java.testing.util.dictionary.UTF16BEDictionaryTest;
+import com.github.tadukoo.java.testing.util.dictionary.UTF16DictionaryTest;
+import com.github.tadukoo.java.testing.util.dictionary.UTF16LEDictionaryTest;
+import com.github.tadukoo.java.testing.util.dictionary.UTF8DictionaryTest;
+import com.github.tadukoo.java.testing.util.download.DownloadUtilTest;
+import com.github.tadukoo.java.testing.util.download.ProgressReadableByteChannelWrapperTest;
+import com.github.tadukoo.java.testing.util.event.EventTest;
+import com.github.tadukoo.java.testing.util.functional.NoExceptionTest;
+import com.github.tadukoo.java.testing.util.logger.EasyLoggerTest;
+import com.github.tadukoo.java.testing.util.map.ManyToManyMapUtilTest;
+import com.github.tadukoo.java.testing.util.map.MultiMapUtilTest;
+import com.github.tadukoo.java.testing.util.parallel.ParallelWorkerTest;
+import com.github.tadukoo.java.testing.util.parallel.QueueTest;
+import com.github.tadukoo.java.testing.util.pojo.AbstractOrderedMappedPojoTest;
+import com.github.tadukoo.java.testing.util.stack.StackUtilTest;
+import com.github.tadukoo.java.testing.util.time.DateUtilTest;
+import com.github.tadukoo.java.testing.util.time.MonthUtilTest;
+
+import java.util.List;
+
+/**
+ * The corpus of {@link JavaClassParsingTest}s in this module, gathered in one place so that whole-corpus
+ * tests (e.g. concurrency tests or benchmarks) can parse every class (FormFieldBuilderTest is left out, as it
+ * isn't finished yet)
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class JavaClassParsingCorpus{
+	
+	/** Not allowed to instantiate {@link JavaClassParsingCorpus} */
+	private JavaClassParsingCorpus(){ }
+	
+	/**
+	 * @return New instances of all the {@link JavaClassParsingTest}s in the corpus
+	 */
+	public static List<JavaClassParsingTest> createTests(){
+		return List.of(
+				new AbstractOrderedMappedPojoTest(),
+				new AutoCloseableUtilTest(),
+				new BooleanUtilTest(),
+				new ByteUtilTest(),
+				new CharacterUtilTest(),
+				new CollectionUtilTest(),
+				new DateUtilTest(),
+				new DownloadUtilTest(),
+				new EasyLoggerTest(),
+				new EventTest(),
+				new ExceptionUtilTest(),
+				new FileUtilTest(),
+				new FloatUtilTest(),
+				new ISO_LATIN1DictionaryTest(),
+				new LoggerUtilTest(),
+				new ManyToManyMapUtilTest(),
+				new MonthUtilTest(),
+				new MultiMapUtilTest(),
+				new NoExceptionTest(),
+				new ParallelWorkerTest(),
+				new ProgressReadableByteChannelWrapperTest(),
+				new QueueTest(),
+				new StackUtilTest(),
+				new US_ASCIIDictionaryTest(),
+				new UTF16BEDictionaryTest(),
+				new UTF16DictionaryTest(),
+				new UTF16LEDictionaryTest(),
+				new UTF8DictionaryTest()
+		);
+	}
+}
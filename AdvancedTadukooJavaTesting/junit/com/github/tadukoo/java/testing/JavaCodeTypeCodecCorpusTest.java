@@ -0,0 +1,58 @@
+package com.github.tadukoo.java.testing;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.ParseMode;
+import com.github.tadukoo.java.serialization.JavaCodeTypeCodec;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JavaCodeTypeCodecCorpusTest{
+	
+	public static List<JavaClassParsingTest> getCorpus(){
+		return JavaClassParsingCorpus.createTests();
+	}
+	
+	private JavaCodeType roundTrip(JavaCodeType type) throws IOException{
+		return JavaCodeTypeCodec.decode(JavaCodeTypeCodec.encode(type));
+	}
+	
+	private void assertSameSpans(JavaClass expected, JavaClass actual){
+		assertEquals(expected.getSourceOffsets(), actual.getSourceOffsets());
+		assertEquals(expected.getSourceStartPosition(), actual.getSourceStartPosition());
+		assertEquals(expected.getSourceEndPosition(), actual.getSourceEndPosition());
+		for(int i = 0; i < expected.getMethods().size(); i++){
+			assertEquals(expected.getMethods().get(i).getSourceOffsets(), actual.getMethods().get(i).getSourceOffsets());
+		}
+		for(int i = 0; i < expected.getFields().size(); i++){
+			assertEquals(expected.getFields().get(i).getSourceOffsets(), actual.getFields().get(i).getSourceOffsets());
+		}
+		for(int i = 0; i < expected.getInnerClasses().size(); i++){
+			assertSameSpans(expected.getInnerClasses().get(i), actual.getInnerClasses().get(i));
+		}
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getCorpus")
+	public void testRoundTrip(JavaClassParsingTest test) throws IOException, JavaParsingException{
+		JavaClass clazz = (JavaClass) FullJavaParser.parseType(test.getJavaClassCode());
+		JavaClass loaded = (JavaClass) roundTrip(clazz);
+		assertEquals(test.getExpectedClass(), loaded);
+		assertEquals(test.getJavaClassCode(), loaded.toString());
+		assertSameSpans(clazz, loaded);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getCorpus")
+	public void testRoundTripOutline(JavaClassParsingTest test) throws IOException, JavaParsingException{
+		JavaCodeType outline = FullJavaParser.parseType(test.getJavaClassCode(), ParseMode.OUTLINE);
+		assertEquals(outline, roundTrip(outline));
+	}
+}
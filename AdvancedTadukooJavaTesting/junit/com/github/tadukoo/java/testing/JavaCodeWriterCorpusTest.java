@@ -0,0 +1,43 @@
+package com.github.tadukoo.java.testing;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.writing.JavaCodeWriter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JavaCodeWriterCorpusTest{
+	
+	public static List<JavaClassParsingTest> getCorpus(){
+		return JavaClassParsingCorpus.createTests();
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getCorpus")
+	public void testWriteExpectedClass(JavaClassParsingTest test) throws IOException{
+		StringBuilder code = new StringBuilder();
+		new JavaCodeWriter(code).write(test.getExpectedClass());
+		assertEquals(test.getExpectedClass().toString(), code.toString());
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getCorpus")
+	public void testWriteParsedClassToChannel(JavaClassParsingTest test) throws IOException, JavaParsingException{
+		JavaCodeType type = FullJavaParser.parseType(test.getJavaClassCode());
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		JavaCodeWriter writer = new JavaCodeWriter(Channels.newChannel(bytes));
+		writer.write(type);
+		writer.flush();
+		assertArrayEquals(type.toString().getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+	}
+}
@@ -0,0 +1,112 @@
+package com.github.tadukoo.java.testing;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.code.staticcodeblock.JavaStaticCodeBlock;
+import com.github.tadukoo.java.field.JavaField;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.method.JavaMethod;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.ParseMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParseModeCorpusTest{
+	
+	public static List<JavaClassParsingTest> getCorpus(){
+		return JavaClassParsingCorpus.createTests();
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getCorpus")
+	public void testLazyMethodBodies(JavaClassParsingTest test) throws JavaParsingException{
+		JavaCodeType type = FullJavaParser.parseType(test.getJavaClassCode(), ParseMode.LAZY_METHOD_BODIES);
+		assertEquals(test.getExpectedClass(), type);
+		assertEquals(test.getJavaClassCode(), type.toString());
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getCorpus")
+	public void testOutline(JavaClassParsingTest test) throws JavaParsingException{
+		JavaCodeType type = FullJavaParser.parseType(test.getJavaClassCode(), ParseMode.OUTLINE);
+		JavaClass clazz = assertInstanceOf(JavaClass.class, type);
+		assertOutline(test.getExpectedClass(), clazz, false);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getCorpus")
+	public void testOutlineWithComments(JavaClassParsingTest test) throws JavaParsingException{
+		JavaCodeType type = FullJavaParser.parseType(test.getJavaClassCode(), ParseMode.OUTLINE_WITH_COMMENTS);
+		JavaClass clazz = assertInstanceOf(JavaClass.class, type);
+		assertOutline(test.getExpectedClass(), clazz, true);
+	}
+	
+	private void assertOutline(JavaClass expected, JavaClass outline, boolean withComments){
+		assertEquals(expected.getPackageDeclaration(), outline.getPackageDeclaration());
+		assertEquals(expected.getImportStatements(), outline.getImportStatements());
+		assertEquals(expected.getAnnotations(), outline.getAnnotations());
+		assertEquals(expected.getVisibility(), outline.getVisibility());
+		assertEquals(expected.getClassName(), outline.getClassName());
+		assertEquals(expected.getSuperClassName(), outline.getSuperClassName());
+		assertEquals(expected.getImplementsInterfaceNames(), outline.getImplementsInterfaceNames());
+		if(withComments){
+			assertEquals(expected.getJavadoc(), outline.getJavadoc());
+			assertEquals(expected.getSingleLineComments(), outline.getSingleLineComments());
+			assertEquals(expected.getMultiLineComments(), outline.getMultiLineComments());
+		}else{
+			assertNull(outline.getJavadoc());
+			assertTrue(outline.getSingleLineComments().isEmpty());
+			assertTrue(outline.getMultiLineComments().isEmpty());
+		}
+		
+		// Static code blocks are kept, but without their content
+		assertEquals(expected.getStaticCodeBlocks().size(), outline.getStaticCodeBlocks().size());
+		for(JavaStaticCodeBlock staticCodeBlock: outline.getStaticCodeBlocks()){
+			assertTrue(staticCodeBlock.getLines().isEmpty());
+		}
+		
+		// Fields are the same (other than comments)
+		assertEquals(expected.getFields().size(), outline.getFields().size());
+		for(int i = 0; i < expected.getFields().size(); i++){
+			JavaField expectedField = expected.getFields().get(i);
+			JavaField field = outline.getFields().get(i);
+			assertEquals(expectedField.getAnnotations(), field.getAnnotations());
+			assertEquals(expectedField.getVisibility(), field.getVisibility());
+			assertEquals(expectedField.getType(), field.getType());
+			assertEquals(expectedField.getName(), field.getName());
+			assertEquals(expectedField.getValue(), field.getValue());
+			assertEquals(withComments?expectedField.getJavadoc():null, field.getJavadoc());
+		}
+		
+		// Methods have the same signatures, but no lines
+		assertEquals(expected.getMethods().size(), outline.getMethods().size());
+		for(int i = 0; i < expected.getMethods().size(); i++){
+			JavaMethod expectedMethod = expected.getMethods().get(i);
+			JavaMethod method = outline.getMethods().get(i);
+			assertEquals(expectedMethod.getAnnotations(), method.getAnnotations());
+			assertEquals(expectedMethod.getVisibility(), method.getVisibility());
+			assertEquals(expectedMethod.isAbstract(), method.isAbstract());
+			assertEquals(expectedMethod.isStatic(), method.isStatic());
+			assertEquals(expectedMethod.isFinal(), method.isFinal());
+			assertEquals(expectedMethod.getTypeParameters(), method.getTypeParameters());
+			assertEquals(expectedMethod.getReturnType(), method.getReturnType());
+			assertEquals(expectedMethod.getUniqueName(), method.getUniqueName());
+			assertEquals(expectedMethod.getThrowTypes(), method.getThrowTypes());
+			assertTrue(method.getLines().isEmpty());
+			assertEquals(withComments?expectedMethod.getJavadoc():null, method.getJavadoc());
+		}
+		
+		// Inner classes are outlined the same way
+		assertEquals(expected.getInnerClasses().size(), outline.getInnerClasses().size());
+		for(int i = 0; i < expected.getInnerClasses().size(); i++){
+			assertOutline(expected.getInnerClasses().get(i), outline.getInnerClasses().get(i), withComments);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.github.tadukoo.java.testing;
+
+import com.github.tadukoo.java.parsing.JavaLexer;
+import com.github.tadukoo.java.parsing.JavaTokenList;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class VectorLexerCorpusTest{
+	
+	public static List<JavaClassParsingTest> getCorpus(){
+		return JavaClassParsingCorpus.createTests();
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getCorpus")
+	public void testTokenizeVectorized(JavaClassParsingTest test){
+		String code = test.getJavaClassCode();
+		JavaTokenList expected = JavaLexer.tokenize(code);
+		JavaTokenList tokens = JavaLexer.tokenizeVectorized(code);
+		assertEquals(expected.size(), tokens.size());
+		for(int i = 0; i < expected.size(); i++){
+			assertEquals(expected.getKind(i), tokens.getKind(i));
+			assertEquals(expected.getStartOffset(i), tokens.getStartOffset(i));
+		}
+		assertEquals(expected, tokens);
+	}
+}
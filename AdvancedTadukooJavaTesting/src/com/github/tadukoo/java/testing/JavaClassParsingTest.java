@@ -35,6 +35,20 @@ public abstract class JavaClassParsingTest extends JavaCodeTypeTest{
 		this.expectedClass = expectedClass;
 	}
 	
+	/**
+	 * @return The text of the Java class to be parsed
+	 */
+	public String getJavaClassCode(){
+		return javaClassCode;
+	}
+	
+	/**
+	 * @return The expected {@link JavaClass} after parsing the code
+	 */
+	public JavaClass getExpectedClass(){
+		return expectedClass;
+	}
+	
 	/**
 	 * Parses the {@code javaClassCode} into a {@link JavaClass} before running unit tests
 	 *
@@ -31,6 +31,7 @@ import com.github.tadukoo.java.javadoc.JavadocBuilder;
 import com.github.tadukoo.java.javadoc.UneditableJavadoc;
 import com.github.tadukoo.java.method.*;
 import com.github.tadukoo.java.packagedeclaration.*;
+import com.github.tadukoo.java.writing.JavaCodeWriter;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.StringUtil;
 import com.github.tadukoo.util.functional.function.Function;
@@ -41,8 +42,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -68,6 +71,12 @@ public abstract class BaseJavaCodeTypeTest<CodeType extends JavaCodeType>{
 		assertEquals(expectedObject, actualObject);
 	}
 	
+	@ParameterizedTest
+	@MethodSource("getEqualsData")
+	public void testHashCode(Object expectedObject, Object actualObject){
+		assertEquals(Objects.hashCode(expectedObject), Objects.hashCode(actualObject));
+	}
+	
 	protected abstract Stream<Arguments> getNotEqualsData();
 	
 	@ParameterizedTest
@@ -84,6 +93,14 @@ public abstract class BaseJavaCodeTypeTest<CodeType extends JavaCodeType>{
 		assertEquals(expectedText, type.toString());
 	}
 	
+	@ParameterizedTest
+	@MethodSource("getStringData")
+	public void testWriteCode(CodeType type, String expectedText, String ignored) throws IOException{
+		StringBuilder code = new StringBuilder();
+		new JavaCodeWriter(code).write(type);
+		assertEquals(expectedText, code.toString());
+	}
+	
 	@ParameterizedTest
 	@MethodSource("getStringData")
 	public void testToBuilderCode(CodeType type, String ignored, String builderCode){
@@ -295,10 +312,10 @@ public abstract class BaseJavaCodeTypeTest<CodeType extends JavaCodeType>{
 		
 		protected TestJavaField(
 				boolean editable, Javadoc javadoc, List<JavaAnnotation> annotations,
-				Visibility visibility, boolean isStatic, boolean isFinal,
+				int modifiers,
 				JavaType type, String name, String value){
 			super(editable, javadoc, annotations,
-					visibility, isStatic, isFinal,
+					modifiers,
 					type, name, value);
 		}
 		
@@ -323,7 +340,7 @@ public abstract class BaseJavaCodeTypeTest<CodeType extends JavaCodeType>{
 		@Override
 		protected TestJavaField constructField(){
 			return new TestJavaField(editable, javadoc, annotations,
-					visibility, isStatic, isFinal,
+					modifiers,
 					type, name, value);
 		}
 	}
@@ -336,11 +353,11 @@ public abstract class BaseJavaCodeTypeTest<CodeType extends JavaCodeType>{
 		
 		private TestJavaMethod(
 				boolean editable, Javadoc javadoc, List<JavaAnnotation> annotations,
-				Visibility visibility, boolean isAbstract, boolean isStatic, boolean isFinal,
+				int modifiers,
 				List<JavaTypeParameter> typeParameters, JavaType returnType, String name,
 				List<JavaParameter> parameters, List<String> throwTypes, List<String> lines){
 			super(editable, javadoc, annotations,
-					visibility, isAbstract, isStatic, isFinal,
+					modifiers,
 					typeParameters, returnType, name,
 					parameters, throwTypes, lines);
 		}
@@ -366,7 +383,7 @@ public abstract class BaseJavaCodeTypeTest<CodeType extends JavaCodeType>{
 		@Override
 		protected TestJavaMethod constructMethod(){
 			return new TestJavaMethod(editable, javadoc, annotations,
-					visibility, isAbstract, isStatic, isFinal,
+					modifiers,
 					typeParameters, returnType, name,
 					parameters, throwTypes, lines);
 		}
@@ -382,7 +399,7 @@ public abstract class BaseJavaCodeTypeTest<CodeType extends JavaCodeType>{
 				boolean editable, boolean isInnerClass,
 				JavaPackageDeclaration packageDeclaration, List<JavaImportStatement> importStatements,
 				Javadoc javadoc, List<JavaAnnotation> annotations,
-				Visibility visibility, boolean isAbstract, boolean isStatic, boolean isFinal,
+				int modifiers,
 				JavaType className, JavaType superClassName, List<JavaType> implementsInterfaceNames,
 				List<JavaStaticCodeBlock> staticCodeBlocks,
 				List<JavaSingleLineComment> singleLineComments, List<JavaMultiLineComment> multiLineComments,
@@ -390,7 +407,7 @@ public abstract class BaseJavaCodeTypeTest<CodeType extends JavaCodeType>{
 				List<Pair<JavaCodeTypes, String>> innerElementsOrder){
 			super(editable, isInnerClass, packageDeclaration, importStatements,
 					javadoc, annotations,
-					visibility, isAbstract, isStatic, isFinal, className,
+					modifiers, className,
 					superClassName, implementsInterfaceNames,
 					staticCodeBlocks,
 					singleLineComments, multiLineComments,
@@ -445,7 +462,7 @@ public abstract class BaseJavaCodeTypeTest<CodeType extends JavaCodeType>{
 		protected TestJavaClass constructClass(){
 			return new TestJavaClass(editable, isInnerClass, packageDeclaration, importStatements,
 					javadoc, annotations,
-					visibility, isAbstract, isStatic, isFinal, className,
+					modifiers, className,
 					superClassName, implementsInterfaceNames,
 					staticCodeBlocks,
 					singleLineComments, multiLineComments,
@@ -0,0 +1,115 @@
+package com.github.tadukoo.java;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaModifiersTest{
+	
+	@Test
+	public void testBitsAreDistinct(){
+		int[] bits = {JavaModifiers.PUBLIC, JavaModifiers.PROTECTED, JavaModifiers.PRIVATE,
+				JavaModifiers.ABSTRACT, JavaModifiers.STATIC, JavaModifiers.FINAL};
+		int all = JavaModifiers.NONE;
+		for(int bit: bits){
+			assertEquals(1, Integer.bitCount(bit));
+			assertFalse(JavaModifiers.has(all, bit));
+			all |= bit;
+		}
+	}
+	
+	@Test
+	public void testVisibilityMask(){
+		assertEquals(JavaModifiers.PUBLIC | JavaModifiers.PROTECTED | JavaModifiers.PRIVATE,
+				JavaModifiers.VISIBILITY_MASK);
+	}
+	
+	@Test
+	public void testHas(){
+		int modifiers = JavaModifiers.PUBLIC | JavaModifiers.STATIC;
+		assertTrue(JavaModifiers.has(modifiers, JavaModifiers.PUBLIC));
+		assertTrue(JavaModifiers.has(modifiers, JavaModifiers.STATIC));
+		assertFalse(JavaModifiers.has(modifiers, JavaModifiers.FINAL));
+		assertTrue(JavaModifiers.has(modifiers, JavaModifiers.VISIBILITY_MASK));
+	}
+	
+	@Test
+	public void testWith(){
+		int modifiers = JavaModifiers.with(JavaModifiers.NONE, JavaModifiers.FINAL, true);
+		assertEquals(JavaModifiers.FINAL, modifiers);
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.STATIC, true);
+		assertEquals(JavaModifiers.STATIC | JavaModifiers.FINAL, modifiers);
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.FINAL, false);
+		assertEquals(JavaModifiers.STATIC, modifiers);
+	}
+	
+	@Test
+	public void testHasMultipleVisibilities(){
+		assertFalse(JavaModifiers.hasMultipleVisibilities(JavaModifiers.NONE));
+		assertFalse(JavaModifiers.hasMultipleVisibilities(JavaModifiers.PRIVATE | JavaModifiers.STATIC));
+		assertTrue(JavaModifiers.hasMultipleVisibilities(JavaModifiers.PUBLIC | JavaModifiers.PRIVATE));
+	}
+	
+	@Test
+	public void testGetVisibilityNone(){
+		assertEquals(Visibility.NONE, JavaModifiers.getVisibility(JavaModifiers.STATIC | JavaModifiers.FINAL));
+	}
+	
+	@Test
+	public void testGetVisibilityMultiple(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaModifiers.getVisibility(JavaModifiers.PUBLIC | JavaModifiers.PROTECTED));
+		assertEquals("Found multiple visibility modifiers", e.getMessage());
+	}
+	
+	@Test
+	public void testWithVisibility(){
+		int modifiers = JavaModifiers.withVisibility(JavaModifiers.PUBLIC | JavaModifiers.FINAL, Visibility.PRIVATE);
+		assertEquals(JavaModifiers.PRIVATE | JavaModifiers.FINAL, modifiers);
+		modifiers = JavaModifiers.withVisibility(modifiers, Visibility.NONE);
+		assertEquals(JavaModifiers.FINAL, modifiers);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getTokenData")
+	public void testFromToken(String token, int modifier){
+		assertEquals(modifier, JavaModifiers.fromToken(token));
+	}
+	
+	public static Stream<Arguments> getTokenData(){
+		return Stream.of(
+				Arguments.of("public", JavaModifiers.PUBLIC),
+				Arguments.of("protected", JavaModifiers.PROTECTED),
+				Arguments.of("private", JavaModifiers.PRIVATE),
+				Arguments.of("abstract", JavaModifiers.ABSTRACT),
+				Arguments.of("static", JavaModifiers.STATIC),
+				Arguments.of("final", JavaModifiers.FINAL),
+				Arguments.of("class", JavaModifiers.NONE),
+				Arguments.of(null, JavaModifiers.NONE)
+		);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getAppendData")
+	public void testAppend(int modifiers, String expected){
+		assertEquals(expected, JavaModifiers.append(new StringBuilder(), modifiers).toString());
+	}
+	
+	public static Stream<Arguments> getAppendData(){
+		return Stream.of(
+				Arguments.of(JavaModifiers.NONE, ""),
+				Arguments.of(JavaModifiers.PUBLIC, "public "),
+				Arguments.of(JavaModifiers.FINAL | JavaModifiers.STATIC | JavaModifiers.PRIVATE, "private static final "),
+				Arguments.of(JavaModifiers.ABSTRACT | JavaModifiers.PROTECTED, "protected abstract "),
+				Arguments.of(JavaModifiers.STATIC, "static ")
+		);
+	}
+}
@@ -8,7 +8,12 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class JavaTypeParameterTest{
@@ -133,6 +138,78 @@ public class JavaTypeParameterTest{
 						.build());
 	}
 	
+	@Test
+	public void testNotCanonical(){
+		assertFalse(JavaTypeParameter.builder()
+				.baseType(JavaType.builder()
+						.baseType("String")
+						.build())
+				.build().isCanonical());
+	}
+	
+	@Test
+	public void testBuildCanonical(){
+		JavaTypeParameter typeParam = JavaTypeParameter.builder()
+				.baseType(JavaType.builder()
+						.baseType("?")
+						.build())
+				.extendsType(JavaType.builder()
+						.baseType("String")
+						.build())
+				.buildCanonical();
+		assertTrue(typeParam.isCanonical());
+		assertTrue(typeParam.getBaseType().isCanonical());
+		assertTrue(typeParam.getExtendsType().isCanonical());
+		assertSame(typeParam, JavaTypeParameter.builder()
+				.baseType(JavaType.builder()
+						.baseType("?")
+						.build())
+				.extendsType(JavaType.builder()
+						.baseType("String")
+						.build())
+				.buildCanonical());
+	}
+	
+	@Test
+	public void testToCanonical(){
+		JavaTypeParameter typeParam = JavaTypeParameter.builder()
+				.baseType(JavaType.builder()
+						.baseType("String")
+						.build())
+				.build();
+		JavaTypeParameter canonical = typeParam.toCanonical();
+		assertNotSame(typeParam, canonical);
+		assertSame(canonical, canonical.toCanonical());
+		assertSame(canonical, typeParam.toCanonical());
+		assertNull(canonical.getExtendsType());
+		assertEquals(typeParam, canonical);
+		assertEquals(canonical, typeParam);
+		assertEquals(typeParam.hashCode(), canonical.hashCode());
+	}
+	
+	@Test
+	public void testCanonicalNotEquals(){
+		JavaTypeParameter typeParam = JavaTypeParameter.builder()
+				.baseType(JavaType.builder()
+						.baseType("?")
+						.build())
+				.extendsType(JavaType.builder()
+						.baseType("String")
+						.build())
+				.buildCanonical();
+		JavaTypeParameter otherParam = JavaTypeParameter.builder()
+				.baseType(JavaType.builder()
+						.baseType("?")
+						.build())
+				.extendsType(JavaType.builder()
+						.baseType("Integer")
+						.build())
+				.buildCanonical();
+		assertNotSame(typeParam, otherParam);
+		assertNotEquals(typeParam, otherParam);
+		assertSame(typeParam.getBaseType(), otherParam.getBaseType());
+	}
+	
 	@ParameterizedTest
 	@MethodSource("getStringData")
 	public void testToString(JavaTypeParameter typeParam, String text, String ignored){
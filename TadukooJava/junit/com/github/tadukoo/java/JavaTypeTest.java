@@ -10,7 +10,13 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class JavaTypeTest{
@@ -182,6 +188,245 @@ public class JavaTypeTest{
 						.build());
 	}
 	
+	@Test
+	public void testEqualsDifferentTypeParameterCanonicalName(){
+		JavaType type = JavaType.builder()
+				.baseType("List")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("String")
+								.canonicalName(String.class.getCanonicalName())
+								.build())
+						.build())
+				.build();
+		JavaType otherType = JavaType.builder()
+				.baseType("List")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("String")
+								.build())
+						.build())
+				.build();
+		assertEquals(type, otherType);
+		assertEquals(type.hashCode(), otherType.hashCode());
+	}
+	
+	@Test
+	public void testHashCodeDifferentCanonicalName(){
+		assertNotEquals(
+				JavaType.builder()
+						.baseType("String")
+						.canonicalName(String.class.getCanonicalName())
+						.build().hashCode(),
+				JavaType.builder()
+						.baseType("String")
+						.canonicalName("com.tadukoo.String")
+						.build().hashCode());
+	}
+	
+	@Test
+	public void testHashCodeAfterTypeParametersChanged(){
+		JavaType type = JavaType.builder()
+				.baseType("List")
+				.build();
+		JavaType otherType = JavaType.builder()
+				.baseType("List")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("String")
+								.build())
+						.build())
+				.build();
+		int hashCode = type.hashCode();
+		type.getTypeParameters().add(JavaTypeParameter.builder()
+				.baseType(JavaType.builder()
+						.baseType("String")
+						.build())
+				.build());
+		assertEquals(otherType, type);
+		assertEquals(otherType.hashCode(), type.hashCode());
+		assertNotEquals(hashCode, type.hashCode());
+	}
+	
+	@Test
+	public void testEqualsIgnoringCanonicalNames(){
+		assertTrue(JavaType.builder()
+				.baseType("String")
+				.canonicalName(String.class.getCanonicalName())
+				.build()
+				.equalsIgnoringCanonicalNames(JavaType.builder()
+						.baseType("String")
+						.build()));
+	}
+	
+	@Test
+	public void testNotCanonical(){
+		assertFalse(JavaType.builder()
+				.baseType("String")
+				.build().isCanonical());
+	}
+	
+	@Test
+	public void testBuildCanonical(){
+		JavaType type = JavaType.builder()
+				.baseType("List")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("String")
+								.build())
+						.build())
+				.buildCanonical();
+		assertTrue(type.isCanonical());
+		assertTrue(type.getTypeParameters().get(0).isCanonical());
+		assertTrue(type.getTypeParameters().get(0).getBaseType().isCanonical());
+		assertSame(type, JavaType.builder()
+				.baseType("List")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("String")
+								.build())
+						.build())
+				.buildCanonical());
+	}
+	
+	@Test
+	public void testToCanonical(){
+		JavaType type = JavaType.builder()
+				.baseType("Map")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("String")
+								.build())
+						.build())
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("?")
+								.build())
+						.extendsType(JavaType.builder()
+								.baseType("Number")
+								.build())
+						.build())
+				.build();
+		JavaType canonical = type.toCanonical();
+		assertNotSame(type, canonical);
+		assertSame(canonical, canonical.toCanonical());
+		assertSame(canonical, type.toCanonical());
+		assertEquals(type, canonical);
+		assertEquals(canonical, type);
+		assertEquals(type.hashCode(), canonical.hashCode());
+		assertEquals(type.toString(), canonical.toString());
+	}
+	
+	@Test
+	public void testCanonicalSharedTypeParameters(){
+		JavaType list = JavaType.builder()
+				.baseType("List")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("String")
+								.build())
+						.build())
+				.buildCanonical();
+		JavaType set = JavaType.builder()
+				.baseType("Set")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("String")
+								.build())
+						.build())
+				.buildCanonical();
+		assertSame(list.getTypeParameters().get(0), set.getTypeParameters().get(0));
+		assertSame(JavaType.builder().baseType("String").buildCanonical(),
+				list.getTypeParameters().get(0).getBaseType());
+	}
+	
+	@Test
+	public void testCanonicalDifferentCanonicalName(){
+		JavaType type = JavaType.builder()
+				.baseType("String")
+				.canonicalName(String.class.getCanonicalName())
+				.buildCanonical();
+		JavaType otherType = JavaType.builder()
+				.baseType("String")
+				.canonicalName("com.tadukoo.String")
+				.buildCanonical();
+		assertNotSame(type, otherType);
+		assertNotEquals(type, otherType);
+		assertSame(type, JavaType.builder()
+				.baseType("String")
+				.canonicalName(String.class.getCanonicalName())
+				.buildCanonical());
+	}
+	
+	@Test
+	public void testCanonicalEqualsDifferentTypeParameterCanonicalName(){
+		JavaType type = JavaType.builder()
+				.baseType("List")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("String")
+								.canonicalName(String.class.getCanonicalName())
+								.build())
+						.build())
+				.buildCanonical();
+		JavaType otherType = JavaType.builder()
+				.baseType("List")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("String")
+								.build())
+						.build())
+				.buildCanonical();
+		assertNotSame(type, otherType);
+		assertEquals(type, otherType);
+		assertEquals(type.hashCode(), otherType.hashCode());
+		assertNotSame(type.getTypeParameters().get(0), otherType.getTypeParameters().get(0));
+		assertEquals(type.getTypeParameters().get(0), otherType.getTypeParameters().get(0));
+	}
+	
+	@Test
+	public void testCanonicalSetCanonicalName(){
+		JavaType type = JavaType.builder()
+				.baseType("String")
+				.buildCanonical();
+		try{
+			type.setCanonicalName("com.tadukoo.String");
+			fail();
+		}catch(UnsupportedOperationException e){
+			assertEquals("Can't change the canonical name of a canonical JavaType", e.getMessage());
+		}
+		assertNull(type.getCanonicalName());
+	}
+	
+	@Test
+	public void testCanonicalTypeParametersUnmodifiable(){
+		JavaType type = JavaType.builder()
+				.baseType("List")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder()
+								.baseType("String")
+								.build())
+						.build())
+				.buildCanonical();
+		assertThrows(UnsupportedOperationException.class, () -> type.getTypeParameters().clear());
+	}
+	
+	@Test
+	public void testCanonicalGarbageCollected() throws InterruptedException{
+		int before = JavaType.getNumCanonicalTypes();
+		for(int i = 0; i < 1000; i++){
+			JavaType.builder()
+					.baseType("GarbageType" + i)
+					.buildCanonical();
+		}
+		assertTrue(JavaType.getNumCanonicalTypes() > before);
+		for(int i = 0; i < 50 && JavaType.getNumCanonicalTypes() >= before + 1000; i++){
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertTrue(JavaType.getNumCanonicalTypes() < before + 1000);
+	}
+	
 	@ParameterizedTest
 	@MethodSource("getStringData")
 	public void testToString(JavaType type, String text, String ignored){
@@ -0,0 +1,207 @@
+package com.github.tadukoo.java;
+
+import com.github.tadukoo.java.comment.EditableJavaSingleLineComment;
+import com.github.tadukoo.java.comment.UneditableJavaSingleLineComment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RenderCacheTest{
+	
+	private RenderCache cache;
+	
+	@BeforeEach
+	public void setup(){
+		cache = new RenderCache(true);
+	}
+	
+	@Test
+	public void testGetRenderedEmpty(){
+		assertNull(cache.getRendered());
+	}
+	
+	@Test
+	public void testGetRendered(){
+		cache.setRendered("rendered");
+		assertEquals("rendered", cache.getRendered());
+	}
+	
+	@Test
+	public void testModified(){
+		cache.setRendered("rendered");
+		cache.modified();
+		assertNull(cache.getRendered());
+	}
+	
+	@Test
+	public void testGetIndented(){
+		JavaCodeType comment = UneditableJavaSingleLineComment.builder()
+				.content("test")
+				.build();
+		String indented = cache.getIndented(comment);
+		assertEquals("\t// test", indented);
+		assertSame(indented, cache.getIndented(comment));
+		cache.modified();
+		assertNotSame(indented, cache.getIndented(comment));
+	}
+	
+	@Test
+	public void testModifiedParents(){
+		RenderCache parent = new RenderCache(true);
+		RenderCache grandparent = new RenderCache(true);
+		cache.addParent(parent);
+		parent.addParent(grandparent);
+		parent.setRendered("parent");
+		grandparent.setRendered("grandparent");
+		cache.modified();
+		assertNull(parent.getRendered());
+		assertNull(grandparent.getRendered());
+	}
+	
+	@Test
+	public void testRemoveParent(){
+		RenderCache parent = new RenderCache(true);
+		cache.addParent(parent);
+		cache.addParent(parent);
+		cache.removeParent(parent);
+		parent.setRendered("parent");
+		cache.modified();
+		assertNull(parent.getRendered());
+		cache.removeParent(parent);
+		parent.setRendered("parent");
+		cache.modified();
+		assertEquals("parent", parent.getRendered());
+	}
+	
+	@Test
+	public void testAddParentUneditable(){
+		RenderCache uneditableCache = new RenderCache(false);
+		RenderCache parent = new RenderCache(true);
+		uneditableCache.addParent(parent);
+		parent.setRendered("parent");
+		uneditableCache.modified();
+		assertEquals("parent", parent.getRendered());
+	}
+	
+	@Test
+	public void testTrackCodeType(){
+		EditableJavaSingleLineComment comment = EditableJavaSingleLineComment.builder()
+				.content("test")
+				.build();
+		assertSame(comment, cache.track(comment));
+		cache.setRendered("rendered");
+		comment.setContent("derp");
+		assertNull(cache.getRendered());
+	}
+	
+	@Test
+	public void testTrackCodeTypeUneditableParent(){
+		EditableJavaSingleLineComment comment = EditableJavaSingleLineComment.builder()
+				.content("test")
+				.build();
+		RenderCache uneditableCache = new RenderCache(false);
+		assertSame(comment, uneditableCache.track(comment));
+		uneditableCache.setRendered("rendered");
+		comment.setContent("derp");
+		assertEquals("rendered", uneditableCache.getRendered());
+	}
+	
+	@Test
+	public void testReplaceCodeType(){
+		EditableJavaSingleLineComment comment = EditableJavaSingleLineComment.builder()
+				.content("test")
+				.build();
+		EditableJavaSingleLineComment otherComment = EditableJavaSingleLineComment.builder()
+				.content("other")
+				.build();
+		cache.track(comment);
+		assertSame(otherComment, cache.replace(comment, otherComment));
+		cache.setRendered("rendered");
+		comment.setContent("derp");
+		assertEquals("rendered", cache.getRendered());
+		otherComment.setContent("derp");
+		assertNull(cache.getRendered());
+	}
+	
+	@Test
+	public void testTrackTypeParameters(){
+		JavaType innerType = JavaType.builder().baseType("String").build();
+		JavaType type = JavaType.builder()
+				.baseType("List")
+				.typeParameter(JavaTypeParameter.builder().baseType(innerType).build())
+				.build();
+		cache.track(type);
+		cache.setRendered("rendered");
+		innerType.getTypeParameters().add(JavaTypeParameter.builder()
+				.baseType(JavaType.builder().baseType("Integer").build())
+				.build());
+		assertNull(cache.getRendered());
+		cache.setRendered("rendered");
+		type.getTypeParameters().clear();
+		assertNull(cache.getRendered());
+		cache.setRendered("rendered");
+		innerType.getTypeParameters().clear();
+		assertEquals("rendered", cache.getRendered());
+	}
+	
+	@Test
+	public void testTrack(){
+		List<String> list = new ArrayList<>();
+		assertTrue(cache.track(list) instanceof TrackedList);
+	}
+	
+	@Test
+	public void testTrackUneditable(){
+		List<String> list = new ArrayList<>(List.of("test"));
+		List<String> tracked = new RenderCache(false).track(list);
+		assertEquals(list, tracked);
+		assertThrows(UnsupportedOperationException.class, () -> tracked.add("other"));
+		list.add("other");
+		assertEquals(List.of("test"), tracked);
+	}
+	
+	@Test
+	public void testTrackUneditableNull(){
+		assertNull(new RenderCache(false).track((List<String>) null));
+	}
+	
+	@Test
+	public void testTrackUneditableElements(){
+		List<JavaType> list = new ArrayList<>(List.of(JavaType.builder().baseType("String").build()));
+		List<JavaType> tracked = new RenderCache(false).track(list, JavaType::toCanonical);
+		assertEquals(list, tracked);
+		assertTrue(tracked.get(0).isCanonical());
+		assertThrows(UnsupportedOperationException.class, tracked::clear);
+	}
+	
+	@Test
+	public void testTrackElements(){
+		List<JavaType> list = new ArrayList<>(List.of(JavaType.builder().baseType("String").build()));
+		List<JavaType> tracked = cache.track(list, JavaType::toCanonical);
+		assertTrue(tracked instanceof TrackedList);
+		assertFalse(tracked.get(0).isCanonical());
+	}
+	
+	@Test
+	public void testTrackType(){
+		JavaType type = JavaType.builder().baseType("String").build();
+		assertSame(type, cache.track(type));
+	}
+	
+	@Test
+	public void testTrackTypeUneditable(){
+		JavaType type = JavaType.builder().baseType("String").build();
+		assertSame(type.toCanonical(), new RenderCache(false).track(type));
+		assertNull(new RenderCache(false).track((JavaType) null));
+	}
+}
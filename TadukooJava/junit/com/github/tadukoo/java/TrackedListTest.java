@@ -0,0 +1,142 @@
+package com.github.tadukoo.java;
+
+import com.github.tadukoo.java.comment.EditableJavaSingleLineComment;
+import com.github.tadukoo.java.comment.JavaSingleLineComment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrackedListTest{
+	
+	private List<String> backingList;
+	private RenderCache owner;
+	private List<String> list;
+	
+	@BeforeEach
+	public void setup(){
+		backingList = new ArrayList<>(List.of("a", "b"));
+		owner = new RenderCache(true);
+		list = owner.track(backingList);
+		owner.setRendered("rendered");
+	}
+	
+	@Test
+	public void testTrackNull(){
+		assertNull(TrackedList.track(null));
+	}
+	
+	@Test
+	public void testTrackAlreadyTracked(){
+		assertSame(list, TrackedList.track(list));
+	}
+	
+	@Test
+	public void testContent(){
+		assertEquals(List.of("a", "b"), list);
+		assertEquals(2, list.size());
+		assertEquals("b", list.get(1));
+		assertEquals("rendered", owner.getRendered());
+	}
+	
+	@Test
+	public void testAdd(){
+		list.add("c");
+		assertEquals(List.of("a", "b", "c"), backingList);
+		assertNull(owner.getRendered());
+	}
+	
+	@Test
+	public void testAddAll(){
+		list.addAll(List.of("c", "d"));
+		assertEquals(List.of("a", "b", "c", "d"), backingList);
+		assertNull(owner.getRendered());
+	}
+	
+	@Test
+	public void testSet(){
+		assertEquals("a", list.set(0, "c"));
+		assertEquals(List.of("c", "b"), backingList);
+		assertNull(owner.getRendered());
+	}
+	
+	@Test
+	public void testRemove(){
+		assertEquals("a", list.remove(0));
+		assertEquals(List.of("b"), backingList);
+		assertNull(owner.getRendered());
+	}
+	
+	@Test
+	public void testRemoveObject(){
+		list.remove("b");
+		assertEquals(List.of("a"), backingList);
+		assertNull(owner.getRendered());
+	}
+	
+	@Test
+	public void testClear(){
+		list.clear();
+		assertTrue(backingList.isEmpty());
+		assertNull(owner.getRendered());
+	}
+	
+	@Test
+	public void testMultipleOwners(){
+		RenderCache otherOwner = new RenderCache(true);
+		assertSame(list, otherOwner.track(list));
+		otherOwner.setRendered("other");
+		list.add("c");
+		assertNull(owner.getRendered());
+		assertNull(otherOwner.getRendered());
+	}
+	
+	@Test
+	public void testReplaced(){
+		assertEquals(List.of("c"), owner.replace(list, new ArrayList<>(List.of("c"))));
+		owner.setRendered("rendered");
+		list.add("d");
+		assertEquals("rendered", owner.getRendered());
+	}
+	
+	@Test
+	public void testCodeTypesTracked(){
+		EditableJavaSingleLineComment comment = EditableJavaSingleLineComment.builder()
+				.content("test")
+				.build();
+		List<JavaSingleLineComment> comments = owner.track(new ArrayList<>(List.of(comment)));
+		owner.setRendered("rendered");
+		comment.setContent("derp");
+		assertNull(owner.getRendered());
+		
+		// Once the comment is removed, changing it no longer clears the cached code
+		comments.remove(comment);
+		owner.setRendered("rendered");
+		comment.setContent("test");
+		assertEquals("rendered", owner.getRendered());
+	}
+	
+	@Test
+	public void testAddedCodeTypesTracked(){
+		EditableJavaSingleLineComment comment = EditableJavaSingleLineComment.builder()
+				.content("test")
+				.build();
+		List<JavaSingleLineComment> comments = owner.track(new ArrayList<>());
+		comments.add(comment);
+		owner.setRendered("rendered");
+		comment.setContent("derp");
+		assertNull(owner.getRendered());
+		
+		// Once the comment is cleared out, changing it no longer clears the cached code
+		comments.clear();
+		owner.setRendered("rendered");
+		comment.setContent("test");
+		assertEquals("rendered", owner.getRendered());
+	}
+}
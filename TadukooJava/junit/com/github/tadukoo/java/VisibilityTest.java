@@ -18,6 +18,12 @@ public class VisibilityTest{
 		assertEquals(token, visibility.getToken());
 	}
 	
+	@ParameterizedTest
+	@MethodSource("getVisibilityData")
+	public void testVisibilityModifier(String ignored, Visibility visibility, String ignored2){
+		assertEquals(visibility, JavaModifiers.getVisibility(visibility.getModifier()));
+	}
+	
 	@ParameterizedTest
 	@MethodSource("getVisibilityData")
 	public void testVisibilityFromTextToken(String token, Visibility visibility, String ignored){
@@ -346,6 +346,16 @@ public class JavaAnnotationTest extends BaseJavaCodeTypeTest<JavaAnnotation>{
 		assertEquals("Derp", annotation.getName());
 	}
 	
+	@Test
+	public void testSetNameHashCode(){
+		EditableJavaAnnotation annotation = EditableJavaAnnotation.builder()
+				.name("Test")
+				.build();
+		assertEquals(UneditableJavaAnnotation.builder().name("Test").build().hashCode(), annotation.hashCode());
+		annotation.setName("Derp");
+		assertEquals(UneditableJavaAnnotation.builder().name("Derp").build().hashCode(), annotation.hashCode());
+	}
+	
 	@Test
 	public void testSetCanonicalName(){
 		EditableJavaAnnotation annotation = EditableJavaAnnotation.builder()
@@ -2,6 +2,7 @@ package com.github.tadukoo.java.field;
 
 import com.github.tadukoo.java.BaseJavaCodeTypeTest;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.Visibility;
 import com.github.tadukoo.java.annotation.EditableJavaAnnotation;
@@ -93,6 +94,26 @@ public class JavaFieldTest extends BaseJavaCodeTypeTest<JavaField>{
 								.build()
 								.isFinal()
 				),
+				// Default Modifiers
+				Pair.of(
+						builders -> JavaModifiers.NONE,
+						builders -> builders.fieldBuilder().get()
+								.type("int").name("test")
+								.build()
+								.getModifiers()
+				),
+				// Set Modifiers
+				Pair.of(
+						builders -> builders.fieldBuilder().get()
+								.visibility(Visibility.PRIVATE)
+								.isStatic().isFinal()
+								.type("int").name("test")
+								.build(),
+						builders -> builders.fieldBuilder().get()
+								.modifiers(JavaModifiers.PRIVATE | JavaModifiers.STATIC | JavaModifiers.FINAL)
+								.type("int").name("test")
+								.build()
+				),
 				// Default Value
 				Pair.of(
 						builders -> null,
@@ -536,6 +557,22 @@ public class JavaFieldTest extends BaseJavaCodeTypeTest<JavaField>{
 	protected Stream<Arguments> getBuilderErrorData(){
 		List<Pair<Function<Builders, Supplier<? extends JavaField>>,
 				String>> builderFuncsAndErrorMessages = ListUtil.createList(
+				// Multiple Visibilities
+				Pair.of(
+						builders -> () -> builders.fieldBuilder().get()
+								.type("int").name("test")
+								.modifiers(JavaModifiers.PUBLIC | JavaModifiers.PRIVATE)
+								.build(),
+						"Found multiple visibility modifiers"
+				),
+				// Abstract
+				Pair.of(
+						builders -> () -> builders.fieldBuilder().get()
+								.type("int").name("test")
+								.modifiers(JavaModifiers.ABSTRACT)
+								.build(),
+						"'abstract' is not a valid modifier on field!"
+				),
 				// Null Visibility
 				Pair.of(
 						builders -> () -> builders.fieldBuilder().get()
@@ -756,6 +793,29 @@ public class JavaFieldTest extends BaseJavaCodeTypeTest<JavaField>{
 		}
 	}
 	
+	@Test
+	public void testSetModifiers(){
+		EditableJavaField field = EditableJavaField.builder()
+				.type("int").name("test")
+				.build();
+		assertEquals(JavaModifiers.NONE, field.getModifiers());
+		field.setModifiers(JavaModifiers.PUBLIC | JavaModifiers.FINAL);
+		assertEquals(Visibility.PUBLIC, field.getVisibility());
+		assertFalse(field.isStatic());
+		assertTrue(field.isFinal());
+		assertEquals("public final int test;", field.toString());
+	}
+	
+	@Test
+	public void testSetModifiersAbstract(){
+		EditableJavaField field = EditableJavaField.builder()
+				.type("int").name("test")
+				.build();
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> field.setModifiers(JavaModifiers.ABSTRACT));
+		assertEquals("'abstract' is not a valid modifier on field!", e.getMessage());
+	}
+	
 	@Test
 	public void testSetVisibility(){
 		EditableJavaField field = EditableJavaField.builder()
@@ -2,7 +2,9 @@ package com.github.tadukoo.java.javaclass;
 
 import com.github.tadukoo.java.BaseJavaCodeTypeTest;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.JavaTypeParameter;
 import com.github.tadukoo.java.Visibility;
 import com.github.tadukoo.java.annotation.EditableJavaAnnotation;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
@@ -46,6 +48,8 @@ import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -1131,6 +1135,42 @@ public class JavaClassTest extends BaseJavaCodeTypeTest<JavaClass>{
 								.method(builders.methodBuilder().get().returnType("String").name("getSomething")
 										.parameter("int test").line("return doSomething();").build())
 								.build()
+				),
+				// Imports in a different order
+				Pair.of(
+						builders -> builders.classBuilder().get()
+								.importName("com.whatever", false)
+								.importName("org.yep", false)
+								.importName("com.example.test.*", true)
+								.importName("org.test.yep", true)
+								.className("AClassName")
+								.build(),
+						builders -> builders.classBuilder().get()
+								.importName("org.test.yep", true)
+								.importName("org.yep", false)
+								.importName("com.example.test.*", true)
+								.importName("com.whatever", false)
+								.className("AClassName")
+								.build()
+				),
+				// Default inner elements order
+				Pair.of(
+						builders -> builders.classBuilder().get()
+								.className("AClassName")
+								.innerClass(builders.classBuilder().get().innerClass().className("BClassName").build())
+								.field(builders.fieldBuilder().get().type("int").name("test").build())
+								.method(builders.methodBuilder().get().returnType("AClassName").build())
+								.build(),
+						builders -> builders.classBuilder().get()
+								.className("AClassName")
+								.innerClasses(ListUtil.createList(
+										builders.classBuilder().get().innerClass().className("BClassName").build()))
+								.fields(ListUtil.createList(
+										builders.fieldBuilder().get().type("int").name("test").build()))
+								.methods(ListUtil.createList(
+										builders.methodBuilder().get().returnType("AClassName").build()))
+								.innerElementsOrder(new ArrayList<>())
+								.build()
 				)
 		);
 		
@@ -1155,6 +1195,34 @@ public class JavaClassTest extends BaseJavaCodeTypeTest<JavaClass>{
 								.className("AClassName")
 								.build()
 				),
+				// Different inner elements order
+				Pair.of(
+						builders -> builders.classBuilder().get()
+								.className("AClassName")
+								.field(builders.fieldBuilder().get().type("int").name("test").build())
+								.method(builders.methodBuilder().get().returnType("AClassName").build())
+								.build(),
+						builders -> builders.classBuilder().get()
+								.className("AClassName")
+								.method(builders.methodBuilder().get().returnType("AClassName").build())
+								.field(builders.fieldBuilder().get().type("int").name("test").build())
+								.build()
+				),
+				// Different number of the same import
+				Pair.of(
+						builders -> builders.classBuilder().get()
+								.importName("com.whatever", false)
+								.importName("com.whatever", false)
+								.importName("org.yep", false)
+								.className("AClassName")
+								.build(),
+						builders -> builders.classBuilder().get()
+								.importName("com.whatever", false)
+								.importName("org.yep", false)
+								.importName("org.yep", false)
+								.className("AClassName")
+								.build()
+				),
 				// Different Types
 				Pair.of(
 						builders -> builders.classBuilder().get()
@@ -2553,6 +2621,14 @@ public class JavaClassTest extends BaseJavaCodeTypeTest<JavaClass>{
 	protected Stream<Arguments> getBuilderErrorData(){
 		List<Pair<Function<Builders, Supplier<? extends JavaClass>>,
 				String>> builderFuncsAndErrorMessages = ListUtil.createList(
+				// Multiple Visibilities
+				Pair.of(
+						builders -> () -> builders.classBuilder().get()
+								.modifiers(JavaModifiers.PUBLIC | JavaModifiers.PROTECTED)
+								.className("AClassName")
+								.build(),
+						"Found multiple visibility modifiers"
+				),
 				// Null Visibility
 				Pair.of(
 						builders -> () -> builders.classBuilder().get()
@@ -3359,6 +3435,282 @@ public class JavaClassTest extends BaseJavaCodeTypeTest<JavaClass>{
 		assertTrue(clazz.isInnerClass());
 	}
 	
+	@Test
+	public void testEditableFieldChangeHashCode(){
+		EditableJavaField field = EditableJavaField.builder()
+				.type("int").name("test")
+				.build();
+		EditableJavaClass clazz = EditableJavaClass.builder()
+				.className("AClassName")
+				.field(field)
+				.build();
+		assertEquals(UneditableJavaClass.builder()
+				.className("AClassName")
+				.field(UneditableJavaField.builder().type("int").name("test").build())
+				.build().hashCode(), clazz.hashCode());
+		field.setValue("42");
+		JavaClass expectedClass = UneditableJavaClass.builder()
+				.className("AClassName")
+				.field(UneditableJavaField.builder().type("int").name("test").value("42").build())
+				.build();
+		assertEquals(expectedClass, clazz);
+		assertEquals(expectedClass.hashCode(), clazz.hashCode());
+	}
+	
+	@Test
+	public void testUneditableUnchangeable(){
+		List<JavaField> fields = new ArrayList<>();
+		fields.add(UneditableJavaField.builder().type("int").name("test").build());
+		JavaType superClassName = JavaType.builder().baseType("AnotherClassName").build();
+		JavaClass clazz = UneditableJavaClass.builder()
+				.className("AClassName")
+				.superClassName(superClassName)
+				.fields(fields)
+				.build();
+		int hashCode = clazz.hashCode();
+		String string = clazz.toString();
+		
+		// Changing what the class was built with doesn't change the class
+		fields.add(UneditableJavaField.builder().type("String").name("derp").build());
+		superClassName.setCanonicalName("some.package.AnotherClassName");
+		assertEquals(1, clazz.getFields().size());
+		assertTrue(clazz.getSuperClassName().isCanonical());
+		assertNull(clazz.getSuperClassName().getCanonicalName());
+		assertEquals(hashCode, clazz.hashCode());
+		assertEquals(string, clazz.toString());
+		
+		// And the class can't be changed directly
+		assertThrows(UnsupportedOperationException.class, () -> clazz.getFields().clear());
+		assertThrows(UnsupportedOperationException.class,
+				() -> clazz.getClassName().setCanonicalName("some.package.AClassName"));
+	}
+	
+	@Test
+	public void testToStringCached(){
+		JavaClass clazz = UneditableJavaClass.builder()
+				.className("AClassName")
+				.field(UneditableJavaField.builder().type("int").name("test").build())
+				.build();
+		assertSame(clazz.toString(), clazz.toString());
+	}
+	
+	@Test
+	public void testToStringAfterEditingField(){
+		EditableJavaField field = EditableJavaField.builder()
+				.type("int").name("test")
+				.build();
+		EditableJavaMethod method = EditableJavaMethod.builder()
+				.returnType("int").name("getTest")
+				.line("return test;")
+				.build();
+		EditableJavaClass clazz = EditableJavaClass.builder()
+				.className("AClassName")
+				.field(field)
+				.method(method)
+				.build();
+		String methodString = method.toString();
+		assertEquals("""
+				class AClassName{
+				\t
+					int test;
+				\t
+					int getTest(){
+						return test;
+					}
+				}
+				""", clazz.toString());
+		field.setValue("42");
+		assertEquals("""
+				class AClassName{
+				\t
+					int test = 42;
+				\t
+					int getTest(){
+						return test;
+					}
+				}
+				""", clazz.toString());
+		// The method wasn't changed, so it shouldn't have been rendered again
+		assertSame(methodString, method.toString());
+	}
+	
+	@Test
+	public void testToStringAfterEditingClass(){
+		EditableJavaClass clazz = EditableJavaClass.builder()
+				.className("AClassName")
+				.build();
+		assertEquals("""
+				class AClassName{
+				\t
+				}
+				""", clazz.toString());
+		clazz.setVisibility(Visibility.PUBLIC);
+		assertEquals("""
+				public class AClassName{
+				\t
+				}
+				""", clazz.toString());
+	}
+	
+	@Test
+	public void testToStringAfterChangingLists(){
+		EditableJavaField field = EditableJavaField.builder()
+				.type("int").name("test")
+				.build();
+		EditableJavaMethod method = EditableJavaMethod.builder()
+				.returnType("int").name("getTest")
+				.line("return test;")
+				.build();
+		EditableJavaClass clazz = EditableJavaClass.builder()
+				.className("AClassName")
+				.method(method)
+				.build();
+		assertEquals("""
+				class AClassName{
+				\t
+					int getTest(){
+						return test;
+					}
+				}
+				""", clazz.toString());
+		clazz.getFields().add(field);
+		clazz.getInnerElementsOrder().add(0, Pair.of(JavaCodeTypes.FIELD, "test"));
+		method.getLines().add(0, "test++;");
+		method.getAnnotations().add(EditableJavaAnnotation.builder()
+				.name("Deprecated")
+				.build());
+		assertEquals("""
+				class AClassName{
+				\t
+					int test;
+				\t
+					@Deprecated
+					int getTest(){
+						test++;
+						return test;
+					}
+				}
+				""", clazz.toString());
+	}
+	
+	@Test
+	public void testToStringAfterChangingType(){
+		JavaType type = JavaType.builder()
+				.baseType("List")
+				.build();
+		EditableJavaClass clazz = EditableJavaClass.builder()
+				.className("AClassName")
+				.field(EditableJavaField.builder()
+						.type(type).name("test")
+						.build())
+				.build();
+		assertEquals("""
+				class AClassName{
+				\t
+					List test;
+				}
+				""", clazz.toString());
+		type.getTypeParameters().add(JavaTypeParameter.builder()
+				.baseType(JavaType.builder()
+						.baseType("String")
+						.build())
+				.build());
+		assertEquals("""
+				class AClassName{
+				\t
+					List<String> test;
+				}
+				""", clazz.toString());
+	}
+	
+	@Test
+	public void testToStringAfterSettingField(){
+		JavaType type = JavaType.builder()
+				.baseType("List")
+				.build();
+		EditableJavaField field = EditableJavaField.builder()
+				.type(type).name("test")
+				.build();
+		EditableJavaClass clazz = EditableJavaClass.builder()
+				.className("AClassName")
+				.field(field)
+				.build();
+		clazz.toString();
+		field.setType("int");
+		assertEquals("""
+				class AClassName{
+				\t
+					int test;
+				}
+				""", clazz.toString());
+		
+		// The old type is no longer in the class
+		type.getTypeParameters().add(JavaTypeParameter.builder()
+				.baseType(JavaType.builder()
+						.baseType("String")
+						.build())
+				.build());
+		String string = clazz.toString();
+		assertSame(string, clazz.toString());
+	}
+	
+	@Test
+	public void testToStringUnchangedByOtherClass(){
+		EditableJavaField otherField = EditableJavaField.builder()
+				.type("int").name("test")
+				.build();
+		EditableJavaClass clazz = EditableJavaClass.builder()
+				.className("AClassName")
+				.field(EditableJavaField.builder()
+						.type("int").name("test")
+						.build())
+				.build();
+		EditableJavaClass otherClass = EditableJavaClass.builder()
+				.className("BClassName")
+				.field(otherField)
+				.build();
+		String string = clazz.toString();
+		otherClass.toString();
+		otherField.setValue("42");
+		assertSame(string, clazz.toString());
+		assertEquals("""
+				class BClassName{
+				\t
+					int test = 42;
+				}
+				""", otherClass.toString());
+	}
+	
+	@Test
+	public void testToStringReusesUnchangedMembers(){
+		EditableJavaField field = EditableJavaField.builder()
+				.type("int").name("test")
+				.build();
+		EditableJavaMethod method = EditableJavaMethod.builder()
+				.returnType("int").name("getTest")
+				.line("return test;")
+				.build();
+		EditableJavaClass clazz = EditableJavaClass.builder()
+				.className("AClassName")
+				.field(field)
+				.method(method)
+				.build();
+		clazz.toString();
+		String methodCode = method.toIndentedString();
+		field.setValue("42");
+		assertEquals("""
+				class AClassName{
+				\t
+					int test = 42;
+				\t
+					int getTest(){
+						return test;
+					}
+				}
+				""", clazz.toString());
+		assertSame(methodCode, method.toIndentedString());
+	}
+	
 	@Test
 	public void testSetPackageDeclaration(){
 		EditableJavaClass clazz = EditableJavaClass.builder()
@@ -3708,6 +4060,21 @@ public class JavaClassTest extends BaseJavaCodeTypeTest<JavaClass>{
 		}
 	}
 	
+	@Test
+	public void testSetModifiers(){
+		EditableJavaClass clazz = EditableJavaClass.builder()
+				.className("AClassName")
+				.build();
+		assertEquals(JavaModifiers.NONE, clazz.getModifiers());
+		clazz.setModifiers(JavaModifiers.PUBLIC | JavaModifiers.ABSTRACT);
+		assertEquals(Visibility.PUBLIC, clazz.getVisibility());
+		assertTrue(clazz.isAbstract());
+		assertFalse(clazz.isStatic());
+		assertFalse(clazz.isFinal());
+		clazz.setStatic(true);
+		assertEquals(JavaModifiers.PUBLIC | JavaModifiers.ABSTRACT | JavaModifiers.STATIC, clazz.getModifiers());
+	}
+	
 	@Test
 	public void testSetVisibility(){
 		EditableJavaClass clazz = EditableJavaClass.builder()
@@ -1037,6 +1037,14 @@ public class JavaMethodTest extends BaseJavaCodeTypeTest<JavaMethod>{
 	@Override
 	protected Stream<Arguments> getBuilderErrorData(){
 		List<Pair<Function<Builders, Supplier<? extends JavaMethod>>, String>> builderFuncsAndErrorMessages = ListUtil.createList(
+				// Multiple Visibilities
+				Pair.of(
+						builders -> () -> builders.methodBuilder().get()
+								.returnType("int")
+								.modifiers(JavaModifiers.PROTECTED | JavaModifiers.PRIVATE)
+								.build(),
+						"Found multiple visibility modifiers"
+				),
 				// Null Visibility
 				Pair.of(
 						builders -> () -> builders.methodBuilder().get()
@@ -1378,6 +1386,21 @@ public class JavaMethodTest extends BaseJavaCodeTypeTest<JavaMethod>{
 		}
 	}
 	
+	@Test
+	public void testSetModifiers(){
+		EditableJavaMethod method = EditableJavaMethod.builder()
+				.returnType("int")
+				.build();
+		assertEquals(JavaModifiers.NONE, method.getModifiers());
+		method.setModifiers(JavaModifiers.PUBLIC | JavaModifiers.ABSTRACT);
+		assertEquals(Visibility.PUBLIC, method.getVisibility());
+		assertTrue(method.isAbstract());
+		assertFalse(method.isStatic());
+		assertFalse(method.isFinal());
+		method.setStatic(true);
+		assertEquals(JavaModifiers.PUBLIC | JavaModifiers.ABSTRACT | JavaModifiers.STATIC, method.getModifiers());
+	}
+	
 	@Test
 	public void testSetVisibility(){
 		EditableJavaMethod method = EditableJavaMethod.builder()
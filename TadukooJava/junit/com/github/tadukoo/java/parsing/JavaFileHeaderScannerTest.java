@@ -0,0 +1,167 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.importstatement.EditableJavaImportStatement;
+import com.github.tadukoo.java.importstatement.JavaImportStatement;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaFileHeaderScannerTest{
+	
+	private static final String TEST_CLASS = """
+			/*
+			 * Some license
+			 */
+			package com.example;
+
+			// Some imports
+			import java.util.List;
+			import static java.util.Collections.emptyList;
+			/** Not really a Javadoc */
+			import com.example.other.Other;
+
+			/**
+			 * A test class
+			 */
+			public class Test{
+			\t
+				private List<Other> others = emptyList();
+			}
+			""";
+	
+	@TempDir
+	private Path root;
+	
+	private void assertTestClassHeader(JavaFileHeaderScanner.Header header){
+		assertEquals("com.example", header.getPackageName());
+		assertEquals(List.of(
+				EditableJavaImportStatement.builder().importName("java.util.List").build(),
+				EditableJavaImportStatement.builder().isStatic().importName("java.util.Collections.emptyList").build(),
+				EditableJavaImportStatement.builder().importName("com.example.other.Other").build()
+		), header.importStatements());
+	}
+	
+	@Test
+	public void testScanHeader() throws JavaParsingException{
+		assertTestClassHeader(JavaFileHeaderScanner.scanHeader(TEST_CLASS));
+	}
+	
+	@Test
+	public void testScanHeaderFile() throws IOException, JavaParsingException{
+		Path file = root.resolve("Test.java");
+		Files.writeString(file, TEST_CLASS);
+		assertTestClassHeader(JavaFileHeaderScanner.scanHeader(file));
+	}
+	
+	@Test
+	public void testScanHeaderMatchesFullParse() throws JavaParsingException{
+		JavaClass clazz = (JavaClass) FullJavaParser.parseType(TEST_CLASS, ParseMode.OUTLINE);
+		JavaFileHeaderScanner.Header header = JavaFileHeaderScanner.scanHeader(TEST_CLASS);
+		assertEquals(clazz.getPackageDeclaration(), header.packageDeclaration());
+		assertEquals(clazz.getImportStatements(), header.importStatements());
+	}
+	
+	@Test
+	public void testScanHeaderSpans() throws JavaParsingException{
+		JavaFileHeaderScanner.Header header = JavaFileHeaderScanner.scanHeader(TEST_CLASS);
+		JavaImportStatement importStatement = header.importStatements().get(1);
+		assertEquals("import static java.util.Collections.emptyList;", TEST_CLASS.substring(
+				importStatement.getSourceStartOffset(), importStatement.getSourceEndOffset()));
+		assertEquals(8, importStatement.getSourceStartLine());
+	}
+	
+	@Test
+	public void testScanHeaderNoPackage() throws JavaParsingException{
+		JavaFileHeaderScanner.Header header = JavaFileHeaderScanner.scanHeader("""
+				import java.util.List;
+
+				@Deprecated
+				class Test{
+				}
+				""");
+		assertNull(header.packageDeclaration());
+		assertNull(header.getPackageName());
+		assertEquals(1, header.importStatements().size());
+	}
+	
+	@Test
+	public void testScanHeaderStopsAtClass() throws JavaParsingException{
+		// The rest of the file isn't looked at, so it doesn't need to be valid
+		JavaFileHeaderScanner.Header header = JavaFileHeaderScanner.scanHeader("""
+				package com.example;
+
+				class Test{ this is not valid
+				import java.util.List;
+				""");
+		assertEquals("com.example", header.getPackageName());
+		assertTrue(header.importStatements().isEmpty());
+	}
+	
+	@Test
+	public void testScanHeaderEmpty() throws JavaParsingException{
+		JavaFileHeaderScanner.Header header = JavaFileHeaderScanner.scanHeader("");
+		assertNull(header.packageDeclaration());
+		assertTrue(header.importStatements().isEmpty());
+	}
+	
+	@Test
+	public void testScanHeaderTwoPackages(){
+		JavaParsingException e = assertThrows(JavaParsingException.class,
+				() -> JavaFileHeaderScanner.scanHeader("package a;\npackage b;\nclass Test{}"));
+		assertTrue(e.getMessage().contains("Encountered two package declarations!"));
+	}
+	
+	@Test
+	public void testScanHeaderPackageAfterImport(){
+		JavaParsingException e = assertThrows(JavaParsingException.class,
+				() -> JavaFileHeaderScanner.scanHeader("import a.B;\npackage b;\nclass Test{}"));
+		assertTrue(e.getMessage().contains("Encountered package declaration after import statements!"));
+	}
+	
+	@Test
+	public void testScanHeaderUnclosedComment(){
+		JavaParsingException e = assertThrows(JavaParsingException.class,
+				() -> JavaFileHeaderScanner.scanHeader("package a;\n/* Not closed\nclass Test{}"));
+		assertTrue(e.getMessage().contains("Failed to find closing multi-line comment token!"));
+	}
+	
+	@Test
+	public void testScanHeaderUnfinishedImport(){
+		assertThrows(JavaParsingException.class, () -> JavaFileHeaderScanner.scanHeader("import java.util.List"));
+	}
+	
+	@Test
+	public void testScanHeaderFileLongerThanBuffer() throws IOException, JavaParsingException{
+		// Put enough imports in the file that the header is split across multiple reads
+		StringBuilder content = new StringBuilder("package com.example;\n\n");
+		for(int i = 0; i < 1000; i++){
+			content.append("import com.example.imports.Import").append(i).append(";\n");
+		}
+		content.append("\npublic class Test{\n}\n");
+		Path file = root.resolve("Test.java");
+		Files.writeString(file, content);
+		
+		JavaFileHeaderScanner.Header header = JavaFileHeaderScanner.scanHeader(file);
+		assertEquals("com.example", header.getPackageName());
+		assertEquals(1000, header.importStatements().size());
+		assertEquals("com.example.imports.Import999", header.importStatements().get(999).getImportName());
+	}
+	
+	@Test
+	public void testScanHeaderFileMalformed() throws IOException{
+		Path file = root.resolve("Test.java");
+		Files.write(file, new byte[]{'p', 'a', 'c', 'k', (byte) 0xFF, 'a', 'g', 'e'});
+		assertThrows(CharacterCodingException.class, () -> JavaFileHeaderScanner.scanHeader(file));
+	}
+}
@@ -0,0 +1,291 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaSourceSpanned;
+import com.github.tadukoo.java.JavaTokens;
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaLexerTest{
+	
+	/** The regular expression that used to be used for splitting content into tokens */
+	private static final Pattern OLD_TOKEN_PATTERN = Pattern.compile("\n|\\(|\\)|\\{|}|<|>|=|,|[^\\S\n]+|[^\\s(){}=,]+");
+	
+	private static List<String> oldTokenize(String content){
+		List<String> tokens = new ArrayList<>();
+		Matcher matcher = OLD_TOKEN_PATTERN.matcher(content);
+		while(matcher.find()){
+			tokens.add(matcher.group());
+		}
+		return tokens;
+	}
+	
+	private static Stream<Arguments> getTokenizeData(){
+		return Stream.of(
+				// Empty
+				Arguments.of("", new ArrayList<>()),
+				// Whitespace
+				Arguments.of(" \t \r", ListUtil.createList(" \t \r")),
+				// Newlines
+				Arguments.of("\n\n \n", ListUtil.createList("\n", "\n", " ", "\n")),
+				// Single Characters
+				Arguments.of("(){}<>=,", ListUtil.createList("(", ")", "{", "}", "<", ">", "=", ",")),
+				// Simple Field
+				Arguments.of("int test = 5;",
+						ListUtil.createList("int", " ", "test", " ", "=", " ", "5;")),
+				// Type Parameters in Word
+				Arguments.of("List<String> test",
+						ListUtil.createList("List<String>", " ", "test")),
+				// Type Parameters with Comma
+				Arguments.of("Map<String, Object> test",
+						ListUtil.createList("Map<String", ",", " ", "Object>", " ", "test")),
+				// Method
+				Arguments.of("public void test(){\n\treturn;\n}",
+						ListUtil.createList("public", " ", "void", " ", "test", "(", ")", "{", "\n", "\t", "return;",
+								"\n", "}")),
+				// Comments
+				Arguments.of("/** Javadoc */ // comment",
+						ListUtil.createList("/**", " ", "Javadoc", " ", "*/", " ", "//", " ", "comment")),
+				// Windows Newlines
+				Arguments.of("a\r\nb", ListUtil.createList("a", "\r", "\n", "b")),
+				// Type Parameter Start
+				Arguments.of("<T>test", ListUtil.createList("<", "T>test"))
+		);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getTokenizeData")
+	public void testTokenize(String content, List<String> expectedTokens){
+		JavaTokenList tokens = JavaLexer.tokenize(content);
+		assertEquals(expectedTokens, tokens);
+		assertEquals(oldTokenize(content), tokens);
+		assertEquals(content, String.join("", tokens));
+	}
+	
+	private static void assertSameTokens(JavaTokenList expected, JavaTokenList actual){
+		assertEquals(expected.size(), actual.size());
+		for(int i = 0; i < expected.size(); i++){
+			assertEquals(expected.getKind(i), actual.getKind(i));
+			assertEquals(expected.getStartOffset(i), actual.getStartOffset(i));
+		}
+		assertEquals(expected, actual);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getTokenizeData")
+	public void testTokenizeVectorized(String content, List<String> expectedTokens){
+		JavaTokenList tokens = JavaLexer.tokenizeVectorized(content);
+		assertEquals(expectedTokens, tokens);
+		assertSameTokens(JavaLexer.tokenize(content), tokens);
+	}
+	
+	@Test
+	public void testKindsAndOffsets(){
+		String content = "int[] test = new int[]{1, 2};\n";
+		JavaTokenList tokens = JavaLexer.tokenize(content);
+		int offset = 0;
+		for(int i = 0; i < tokens.size(); i++){
+			assertEquals(offset, tokens.getStartOffset(i));
+			assertEquals(offset + tokens.get(i).length(), tokens.getEndOffset(i));
+			offset = tokens.getEndOffset(i);
+		}
+		assertEquals(content.length(), offset);
+		assertEquals(JavaTokenKind.WORD, tokens.getKind(0));
+		assertEquals(JavaTokenKind.WHITESPACE, tokens.getKind(1));
+		assertTrue(tokens.isWhitespace(1));
+		assertEquals(JavaTokenKind.ASSIGNMENT_OPERATOR, tokens.getKind(4));
+		assertEquals(JavaTokenKind.BLOCK_OPEN, tokens.getKind(9));
+		assertEquals(JavaTokenKind.LIST_SEPARATOR, tokens.getKind(11));
+		assertEquals(JavaTokenKind.BLOCK_CLOSE, tokens.getKind(14));
+		assertEquals(JavaTokenKind.NEWLINE, tokens.getKind(tokens.size() - 1));
+		assertFalse(tokens.isWhitespace(0));
+	}
+	
+	@Test
+	public void testTokenizeMatchesOldRegexOnMixedContent(){
+		StringBuilder content = new StringBuilder();
+		String pieces = "ab(){}<>=, \t\n\r\f\u000B;.*/@\"'";
+		Random random = new Random(42);
+		for(int i = 0; i < 5000; i++){
+			content.append(pieces.charAt(random.nextInt(pieces.length())));
+		}
+		String text = content.toString();
+		assertEquals(oldTokenize(text), JavaLexer.tokenize(text));
+	}
+	
+	@Test
+	public void testTokenizeVectorizedMatchesOnMixedContent(){
+		String pieces = "ab(){}<>=, \t\n\r\f\u000B;.*/@\"'\u00E9\u8000\uFFFF";
+		Random random = new Random(42);
+		for(int length: new int[]{1, 63, 64, 65, 127, 128, 129, 5000}){
+			StringBuilder content = new StringBuilder();
+			for(int i = 0; i < length; i++){
+				content.append(pieces.charAt(random.nextInt(pieces.length())));
+			}
+			String text = content.toString();
+			assertSameTokens(JavaLexer.tokenize(text), JavaLexer.tokenizeVectorized(text));
+			assertSameTokens(JavaLexer.tokenize(text), JavaLexer.tokenizeVectorized(content));
+		}
+	}
+	
+	@Test
+	public void testTokenizeVectorizedRunsAcrossBlocks(){
+		// Each run crosses from one block of 64 characters into the next
+		String padding = "a".repeat(62);
+		for(String run: new String[]{"  \t  ", "<<>>", "b<>c", " <>b", "bbbb", "\n\n"}){
+			for(int shift = 0; shift < run.length(); shift++){
+				String text = padding.substring(shift) + " " + run + "(" + run + "){" + run;
+				assertSameTokens(JavaLexer.tokenize(text), JavaLexer.tokenizeVectorized(text));
+			}
+		}
+	}
+	
+	private static Stream<Arguments> getWordKindData(){
+		return Stream.of(
+				Arguments.of(JavaTokens.PACKAGE_TOKEN, JavaTokenKind.PACKAGE),
+				Arguments.of(JavaTokens.IMPORT_TOKEN, JavaTokenKind.IMPORT),
+				Arguments.of(JavaTokens.CLASS_TOKEN, JavaTokenKind.CLASS),
+				Arguments.of(JavaTokens.THROWS_TOKEN, JavaTokenKind.THROWS),
+				Arguments.of(JavaTokens.EXTENDS_TOKEN, JavaTokenKind.EXTENDS),
+				Arguments.of(JavaTokens.IMPLEMENTS_TOKEN, JavaTokenKind.IMPLEMENTS),
+				Arguments.of(JavaTokens.PRIVATE_MODIFIER, JavaTokenKind.PRIVATE),
+				Arguments.of(JavaTokens.PROTECTED_MODIFIER, JavaTokenKind.PROTECTED),
+				Arguments.of(JavaTokens.PUBLIC_MODIFIER, JavaTokenKind.PUBLIC),
+				Arguments.of(JavaTokens.ABSTRACT_MODIFIER, JavaTokenKind.ABSTRACT),
+				Arguments.of(JavaTokens.STATIC_MODIFIER, JavaTokenKind.STATIC),
+				Arguments.of(JavaTokens.FINAL_MODIFIER, JavaTokenKind.FINAL),
+				Arguments.of("/**", JavaTokenKind.JAVADOC_START),
+				Arguments.of("/**/", JavaTokenKind.JAVADOC_START),
+				Arguments.of("/*", JavaTokenKind.MULTI_LINE_COMMENT_START),
+				Arguments.of("/*test", JavaTokenKind.MULTI_LINE_COMMENT_START),
+				Arguments.of("//", JavaTokenKind.SINGLE_LINE_COMMENT_START),
+				Arguments.of("//test", JavaTokenKind.SINGLE_LINE_COMMENT_START),
+				Arguments.of("@Test", JavaTokenKind.ANNOTATION_START),
+				Arguments.of("@", JavaTokenKind.ANNOTATION_START),
+				// Near misses
+				Arguments.of("classes", JavaTokenKind.WORD),
+				Arguments.of("Class", JavaTokenKind.WORD),
+				Arguments.of("publik", JavaTokenKind.WORD),
+				Arguments.of("finally", JavaTokenKind.WORD),
+				Arguments.of("packages", JavaTokenKind.WORD),
+				Arguments.of("static;", JavaTokenKind.WORD),
+				Arguments.of("/", JavaTokenKind.WORD),
+				Arguments.of("a", JavaTokenKind.WORD),
+				Arguments.of("*/", JavaTokenKind.WORD)
+		);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("getWordKindData")
+	public void testWordKinds(String word, JavaTokenKind kind){
+		assertTrue(kind.isWord());
+		assertEquals(kind, JavaLexer.tokenize(word).getKind(0));
+		assertEquals(kind, JavaLexer.tokenize(" " + word + "(").getKind(1));
+		assertEquals(kind, JavaLexer.tokenizeVectorized(word).getKind(0));
+		assertEquals(kind, JavaLexer.tokenizeVectorized("a".repeat(60) + " " + word + "(").getKind(2));
+		assertEquals(kind, JavaLexer.classifyToken(word));
+	}
+	
+	@Test
+	public void testClassifyToken(){
+		assertEquals(JavaTokenKind.NEWLINE, JavaLexer.classifyToken("\n"));
+		assertEquals(JavaTokenKind.WHITESPACE, JavaLexer.classifyToken(" \t"));
+		assertEquals(JavaTokenKind.WHITESPACE, JavaLexer.classifyToken("\n\n"));
+		assertEquals(JavaTokenKind.BLOCK_OPEN, JavaLexer.classifyToken("{"));
+		assertEquals(JavaTokenKind.TYPE_PARAMETER_OPEN, JavaLexer.classifyToken("<"));
+		assertEquals(JavaTokenKind.WORD, JavaLexer.classifyToken("List<String>"));
+		assertEquals(JavaTokenKind.WORD, JavaLexer.classifyToken(""));
+	}
+	
+	@Test
+	public void testModifierKinds(){
+		for(JavaTokenKind kind: JavaTokenKind.values()){
+			assertEquals(JavaTokens.MODIFIERS.contains(kind.getFixedText()), kind.isModifier());
+		}
+		assertTrue(JavaTokenKind.JAVADOC_START.isCommentStart());
+		assertFalse(JavaTokenKind.ANNOTATION_START.isCommentStart());
+		assertFalse(JavaTokenKind.BLOCK_OPEN.isWord());
+	}
+	
+	@Test
+	public void testKeywordTokensAreShared(){
+		JavaTokenList tokens = JavaLexer.tokenize("public static class Test");
+		assertSame(JavaTokens.PUBLIC_MODIFIER, tokens.get(0));
+		assertSame(JavaTokens.STATIC_MODIFIER, tokens.get(2));
+		assertSame(JavaTokens.CLASS_TOKEN, tokens.get(4));
+	}
+	
+	@Test
+	public void testFixedTextTokensAreShared(){
+		JavaTokenList tokens = JavaLexer.tokenize("test(a, b) {\n}");
+		assertSame(JavaTokens.PARAMETER_OPEN_TOKEN, tokens.get(1));
+		assertSame(JavaTokens.LIST_SEPARATOR_TOKEN, tokens.get(3));
+		assertSame(" ", tokens.get(4));
+		assertSame(JavaTokens.BLOCK_OPEN_TOKEN, tokens.get(8));
+		assertSame("\n", tokens.get(9));
+		assertNotSame(tokens.get(0), JavaLexer.tokenize("test").get(0));
+	}
+	
+	@Test
+	public void testTokenizeCharSequence(){
+		String content = "int[] test = new int[]{1, 2};\n";
+		assertEquals(JavaLexer.tokenize(content), JavaLexer.tokenize(new StringBuilder(content)));
+	}
+	
+	@Test
+	public void testGetPosition(){
+		JavaTokenList tokens = JavaLexer.tokenize("int a;\n\tint b;\n");
+		assertEquals(JavaSourceSpanned.pack(1, 1), tokens.getPosition(0));
+		assertEquals(JavaSourceSpanned.pack(1, 7), tokens.getPosition(6));
+		assertEquals(JavaSourceSpanned.pack(2, 1), tokens.getPosition(7));
+		assertEquals(JavaSourceSpanned.pack(2, 3), tokens.getPosition(9));
+		assertEquals(JavaSourceSpanned.pack(3, 1), tokens.getPosition(15));
+		assertThrows(IndexOutOfBoundsException.class, () -> tokens.getPosition(16));
+	}
+	
+	@Test
+	public void testGetPositionOutOfOrder(){
+		JavaTokenList tokens = JavaLexer.tokenize("int a;\n\tint b;\n");
+		assertEquals(JavaSourceSpanned.pack(3, 1), tokens.getPosition(15));
+		assertEquals(JavaSourceSpanned.pack(1, 3), tokens.getPosition(2));
+		assertEquals(JavaSourceSpanned.pack(2, 2), tokens.getPosition(8));
+	}
+	
+	@Test
+	public void testFindBlockEnd(){
+		JavaTokenList tokens = JavaLexer.tokenize("{ a{b} {c} } d");
+		assertEquals(12, tokens.findBlockEnd(0));
+		assertEquals(6, tokens.findBlockEnd(3));
+	}
+	
+	@Test
+	public void testFindBlockEndNotClosed(){
+		JavaTokenList tokens = JavaLexer.tokenize("{ a{b}");
+		assertEquals(-1, tokens.findBlockEnd(0));
+	}
+	
+	@Test
+	public void testEndsWith(){
+		JavaTokenList tokens = JavaLexer.tokenize("/* test */ a");
+		assertTrue(tokens.endsWith(0, "/*"));
+		assertTrue(tokens.endsWith(4, "*/"));
+		assertFalse(tokens.endsWith(6, "*/"));
+		assertFalse(tokens.endsWith(5, "*/"));
+	}
+}
@@ -0,0 +1,224 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.field.JavaField;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.method.JavaMethod;
+import com.github.tadukoo.java.parsing.classtypes.JavaClassParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaFieldParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaMethodParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaParseResultTest{
+	
+	private static void assertSpan(
+			JavaParsingError error, int startOffset, int endOffset,
+			int startLine, int startColumn, int endLine, int endColumn){
+		assertEquals(startOffset, error.getSourceStartOffset());
+		assertEquals(endOffset, error.getSourceEndOffset());
+		assertEquals(startLine, error.getSourceStartLine());
+		assertEquals(startColumn, error.getSourceStartColumn());
+		assertEquals(endLine, error.getSourceEndLine());
+		assertEquals(endColumn, error.getSourceEndColumn());
+	}
+	
+	@Test
+	public void testEmptyResult(){
+		JavaParseResult<JavaClass> result = new JavaParseResult<>();
+		assertTrue(result.isSuccess());
+		assertNull(result.getResult());
+		assertNull(result.getFailedType());
+		assertTrue(result.getErrors().isEmpty());
+	}
+	
+	@Test
+	public void testFail(){
+		JavaParseResult<String> result = new JavaParseResult<>();
+		result.setResult("test");
+		JavaParsingError error1 = new JavaParsingError(JavaParsingErrorCode.MISSING, "one");
+		JavaParsingError error2 = new JavaParsingError(JavaParsingErrorCode.OTHER, "two");
+		result.fail(JavaCodeTypes.METHOD, error1);
+		result.fail(JavaCodeTypes.CLASS, List.of(error2));
+		assertFalse(result.isSuccess());
+		assertNull(result.getResult());
+		assertEquals(JavaCodeTypes.METHOD, result.getFailedType());
+		assertEquals(List.of(error1, error2), result.getErrors());
+	}
+	
+	@Test
+	public void testSuccess() throws JavaParsingException{
+		String content = """
+				class Test{
+				}""";
+		JavaParseResult<JavaClass> result = JavaClassParser.tryParseClass(content);
+		assertTrue(result.isSuccess());
+		assertEquals(JavaClassParser.parseClass(content), result.getResult());
+		assertNull(result.getFailedType());
+		assertTrue(result.getErrors().isEmpty());
+	}
+	
+	@Test
+	public void testClassDuplicateJavadoc(){
+		JavaParseResult<JavaClass> result = JavaClassParser.tryParseClass("""
+				/** one */
+				/** two */
+				class Test{
+				}""");
+		assertFalse(result.isSuccess());
+		assertNull(result.getResult());
+		assertEquals(JavaCodeTypes.CLASS, result.getFailedType());
+		assertEquals(1, result.getErrors().size());
+		JavaParsingError error = result.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.DUPLICATE, error.getCode());
+		assertEquals("Only one Javadoc allowed on a class!", error.getMessage());
+		assertSpan(error, 11, 21, 2, 1, 2, 11);
+	}
+	
+	@Test
+	public void testClassUnattachedAnnotations(){
+		JavaParseResult<JavaClass> result = JavaClassParser.tryParseClass("""
+				class Test{
+					@Test
+					@Deprecated
+				}""");
+		assertEquals(JavaCodeTypes.CLASS, result.getFailedType());
+		assertEquals(1, result.getErrors().size());
+		JavaParsingError error = result.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.UNATTACHED, error.getCode());
+		assertEquals("Found annotations at end of class with nothing to attach them to!", error.getMessage());
+		assertSpan(error, 13, 31, 2, 2, 3, 13);
+	}
+	
+	@Test
+	public void testClassMissingName(){
+		JavaParseResult<JavaClass> result = JavaClassParser.tryParseClass("class ");
+		assertEquals(JavaCodeTypes.CLASS, result.getFailedType());
+		JavaParsingError error = result.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.MISSING, error.getCode());
+		assertEquals("Failed to find class name!", error.getMessage());
+		assertSpan(error, 6, 6, 1, 7, 1, 7);
+	}
+	
+	@Test
+	public void testTypeWithModifiersDuplicateModifier(){
+		JavaParseResult<JavaClass> result = JavaClassParser.tryParseClass("""
+				class Test{
+					static static int x;
+				}""");
+		assertEquals(JavaCodeTypes.FIELD, result.getFailedType());
+		assertEquals(1, result.getErrors().size());
+		JavaParsingError error = result.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.INVALID_MODIFIER, error.getCode());
+		assertEquals("Found duplicate modifier: 'static'", error.getMessage());
+		assertSpan(error, 20, 26, 2, 9, 2, 15);
+	}
+	
+	@Test
+	public void testTypeWithModifiersMultipleVisibilities(){
+		JavaParseResult<JavaClass> result = JavaClassParser.tryParseClass("""
+				class Test{
+					public private int x;
+				}""");
+		assertEquals(JavaCodeTypes.FIELD, result.getFailedType());
+		JavaParsingError error = result.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.INVALID_MODIFIER, error.getCode());
+		assertEquals("Found multiple visibility modifiers", error.getMessage());
+		assertSpan(error, 13, 27, 2, 2, 2, 16);
+	}
+	
+	@Test
+	public void testTypeWithModifiersAbstractField(){
+		JavaParseResult<JavaClass> result = JavaClassParser.tryParseClass("""
+				class Test{
+					abstract int x;
+				}""");
+		assertEquals(JavaCodeTypes.FIELD, result.getFailedType());
+		assertEquals(1, result.getErrors().size());
+		JavaParsingError error = result.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.INVALID_MODIFIER, error.getCode());
+		assertEquals("'abstract' is not a valid modifier on field!", error.getMessage());
+		assertSpan(error, 13, 21, 2, 2, 2, 10);
+	}
+	
+	@Test
+	public void testClassMethodErrors(){
+		JavaParseResult<JavaClass> result = JavaClassParser.tryParseClass("""
+				class Test{
+					public void test() yep{
+					}
+				}""");
+		assertEquals(JavaCodeTypes.METHOD, result.getFailedType());
+		assertEquals(1, result.getErrors().size());
+		JavaParsingError error = result.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.UNEXPECTED_CONTENT, error.getCode());
+		assertSpan(error, 32, 35, 2, 21, 2, 24);
+	}
+	
+	@Test
+	public void testClassTokensDiagnostics(){
+		JavaParseResult<JavaClass> result = new JavaParseResult<>();
+		assertDoesNotThrow(() -> assertNull(JavaClassParser.parseClass(JavaLexer.tokenize("class "), 0, result)));
+		assertEquals(JavaCodeTypes.CLASS, result.getFailedType());
+		assertEquals(JavaParsingErrorCode.MISSING, result.getErrors().get(0).getCode());
+		assertSpan(result.getErrors().get(0), 6, 6, 1, 7, 1, 7);
+	}
+	
+	@Test
+	public void testMethodIncomplete(){
+		JavaParseResult<JavaMethod> result = JavaMethodParser.tryParseMethod("""
+				public void test(String s{
+				}""");
+		assertEquals(JavaCodeTypes.METHOD, result.getFailedType());
+		List<JavaParsingError> errors = result.getErrors();
+		assertEquals(2, errors.size());
+		assertEquals(JavaParsingErrorCode.INCOMPLETE, errors.get(0).getCode());
+		assertEquals("Didn't complete parameters in method", errors.get(0).getMessage());
+		assertSpan(errors.get(0), 16, 28, 1, 17, 2, 2);
+		assertEquals(JavaParsingErrorCode.INCOMPLETE, errors.get(1).getCode());
+		assertEquals("Didn't complete the method", errors.get(1).getMessage());
+		assertSpan(errors.get(1), 0, 28, 1, 1, 2, 2);
+	}
+	
+	@Test
+	public void testMethodUnexpectedContent(){
+		JavaParseResult<JavaMethod> result = JavaMethodParser.tryParseMethod("public void test() yep{\n}");
+		assertEquals(JavaCodeTypes.METHOD, result.getFailedType());
+		JavaParsingError error = result.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.UNEXPECTED_CONTENT, error.getCode());
+		assertEquals("Found unexpected content after method parameters: 'yep'", error.getMessage());
+		assertSpan(error, 19, 22, 1, 20, 1, 23);
+	}
+	
+	@Test
+	public void testMethodSuccess() throws JavaParsingException{
+		String content = "public void test(){\n}";
+		JavaParseResult<JavaMethod> result = JavaMethodParser.tryParseMethod(content);
+		assertTrue(result.isSuccess());
+		assertEquals(JavaMethodParser.parseMethod(content), result.getResult());
+	}
+	
+	@Test
+	public void testJavaParserDiagnostics() throws JavaParsingException{
+		JavaParser parser = new JavaParser();
+		JavaParseResult<JavaField> result = parser.tryParseField("int x");
+		assertFalse(result.isSuccess());
+		assertEquals(JavaCodeTypes.FIELD, result.getFailedType());
+		assertEquals(JavaParsingErrorCode.OTHER, result.getErrors().get(0).getCode());
+		
+		result = parser.tryParseField("int x;");
+		assertTrue(result.isSuccess());
+		assertEquals(JavaFieldParser.parseField("int x;"), result.getResult());
+		
+		JavaParseResult<JavaMethod> methodResult = parser.tryParseMethod("/** one */ /** two */ void test();");
+		assertEquals(JavaParsingErrorCode.DUPLICATE, methodResult.getErrors().get(0).getCode());
+		assertSpan(methodResult.getErrors().get(0), 11, 21, 1, 12, 1, 22);
+	}
+}
@@ -0,0 +1,140 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.field.JavaField;
+import com.github.tadukoo.java.method.JavaMethod;
+import com.github.tadukoo.java.parsing.codetypes.JavaAnnotationParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaFieldParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaMethodParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaParserTest{
+	
+	private static final String METHOD = """
+			/**
+			 * Does something
+			 */
+			@Override
+			@Deprecated
+			public static <T> List<T> doSomething(List<T> values, int count) throws Exception{
+				return values.subList(0, count);
+			}""";
+	private static final String FIELD = "private final String name = \"test\";";
+	
+	@Test
+	public void testDefaultSettings(){
+		JavaParser parser = new JavaParser();
+		assertEquals(ParseMode.FULL, parser.getParseMode());
+		assertNull(parser.getSymbolTable());
+	}
+	
+	@Test
+	public void testSettings(){
+		SymbolTable symbolTable = new SymbolTable();
+		JavaParser parser = new JavaParser(ParseMode.OUTLINE, symbolTable);
+		assertEquals(ParseMode.OUTLINE, parser.getParseMode());
+		assertSame(symbolTable, parser.getSymbolTable());
+	}
+	
+	@Test
+	public void testReuseMatchesStaticParsers() throws JavaParsingException{
+		JavaParser parser = new JavaParser();
+		for(int i = 0; i < 3; i++){
+			assertEquals(JavaMethodParser.parseMethod(METHOD), parser.parseMethod(METHOD));
+			assertEquals(JavaFieldParser.parseField(FIELD), parser.parseField(FIELD));
+			assertEquals(JavaAnnotationParser.parseAnnotation("@Test"), parser.parseAnnotation("@Test"));
+		}
+	}
+	
+	@Test
+	public void testReuseAfterSmallerSnippet() throws JavaParsingException{
+		JavaParser parser = new JavaParser();
+		parser.parseField("int x;");
+		assertEquals(JavaMethodParser.parseMethod(METHOD), parser.parseMethod(METHOD));
+		assertEquals(JavaFieldParser.parseField("int x;"), parser.parseField("int x;"));
+	}
+	
+	@Test
+	public void testReuseAfterException() throws JavaParsingException{
+		JavaParser parser = new JavaParser();
+		assertThrows(JavaParsingException.class,
+				() -> parser.parseField("/** one */ /** two */ int x;"));
+		assertEquals(JavaFieldParser.parseField(FIELD), parser.parseField(FIELD));
+		assertThrows(JavaParsingException.class, () -> parser.parseMethod("/** test */"));
+		assertEquals(JavaMethodParser.parseMethod(METHOD), parser.parseMethod(METHOD));
+	}
+	
+	@Test
+	public void testReuseErrorsMatchNewParser() throws JavaParsingException{
+		JavaParser parser = new JavaParser();
+		for(String field: List.of("/** one */ /** two */ int x;", "int x; /** test */", "int x; @Test",
+				"int x; int y;", "/** test */ @Test")){
+			parser.parseField(FIELD);
+			assertEquals(
+					assertThrows(JavaParsingException.class, () -> new JavaParser().parseField(field)).getMessage(),
+					assertThrows(JavaParsingException.class, () -> parser.parseField(field)).getMessage());
+		}
+		for(String method: List.of("/** one */ /** two */ void test(){}", "void test(){} /** test */",
+				"void test(){} @Test", "void test(){} void other(){}", "/** test */ @Test")){
+			parser.parseMethod(METHOD);
+			assertEquals(
+					assertThrows(JavaParsingException.class, () -> new JavaParser().parseMethod(method)).getMessage(),
+					assertThrows(JavaParsingException.class, () -> parser.parseMethod(method)).getMessage());
+		}
+	}
+	
+	@Test
+	public void testSymbolTableShared() throws JavaParsingException{
+		JavaParser parser = new JavaParser(ParseMode.FULL, new SymbolTable());
+		JavaField field1 = parser.parseField(new String("String name;"));
+		JavaField field2 = parser.parseField(new String("private String otherName;"));
+		assertSame(field1.getType().getBaseType(), field2.getType().getBaseType());
+	}
+	
+	@Test
+	public void testForCurrentThread() throws Exception{
+		JavaParser parser = JavaParser.forCurrentThread();
+		assertSame(parser, JavaParser.forCurrentThread());
+		
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try{
+			JavaParser otherParser = executor.submit(JavaParser::forCurrentThread).get();
+			assertNotSame(parser, otherParser);
+			JavaMethod method = executor.submit(() -> otherParser.parseMethod(METHOD)).get();
+			assertEquals(JavaMethodParser.parseMethod(METHOD), method);
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testStaticParsersOnManyThreads() throws Exception{
+		JavaMethod expectedMethod = new JavaParser().parseMethod(METHOD);
+		JavaField expectedField = new JavaParser().parseField(FIELD);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Future<Boolean>> results = new ArrayList<>();
+			for(int i = 0; i < 100; i++){
+				results.add(executor.submit(() -> expectedMethod.equals(JavaMethodParser.parseMethod(METHOD)) &&
+						expectedField.equals(JavaFieldParser.parseField(FIELD))));
+			}
+			for(Future<Boolean> result: results){
+				assertTrue(result.get());
+			}
+		}finally{
+			executor.shutdown();
+		}
+	}
+}
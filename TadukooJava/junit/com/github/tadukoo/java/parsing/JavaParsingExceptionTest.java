@@ -0,0 +1,204 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaSourceSpan;
+import com.github.tadukoo.java.JavaSourceSpanned;
+import com.github.tadukoo.java.parsing.classtypes.JavaClassParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaMethodParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaParsingExceptionTest{
+	
+	private static void assertSpan(
+			JavaParsingError error, int startOffset, int endOffset,
+			int startLine, int startColumn, int endLine, int endColumn){
+		assertEquals(startOffset, error.getSourceStartOffset());
+		assertEquals(endOffset, error.getSourceEndOffset());
+		assertEquals(startLine, error.getSourceStartLine());
+		assertEquals(startColumn, error.getSourceStartColumn());
+		assertEquals(endLine, error.getSourceEndLine());
+		assertEquals(endColumn, error.getSourceEndColumn());
+	}
+	
+	@Test
+	public void testMessageConstructor(){
+		JavaParsingException e = new JavaParsingException(JavaCodeTypes.CLASS, "Something went wrong");
+		assertEquals("Failed parsing JavaType: 'CLASS': Something went wrong", e.getMessage());
+		assertEquals(JavaCodeTypes.CLASS, e.getType());
+		assertEquals(1, e.getErrors().size());
+		JavaParsingError error = e.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.OTHER, error.getCode());
+		assertEquals("Something went wrong", error.getMessage());
+		assertFalse(error.hasSourceSpan());
+	}
+	
+	@Test
+	public void testErrorConstructor(){
+		JavaParsingError error = new JavaParsingError(JavaParsingErrorCode.MISSING, "Failed to find class name!");
+		JavaParsingException e = new JavaParsingException(JavaCodeTypes.CLASS, error);
+		assertEquals("Failed parsing JavaType: 'CLASS': Failed to find class name!", e.getMessage());
+		assertEquals(List.of(error), e.getErrors());
+	}
+	
+	@Test
+	public void testErrorsConstructor(){
+		List<JavaParsingError> errors = List.of(
+				new JavaParsingError(JavaParsingErrorCode.INCOMPLETE, "Didn't complete parameters in method"),
+				new JavaParsingError(JavaParsingErrorCode.INCOMPLETE, "Didn't complete the method"));
+		JavaParsingException e = new JavaParsingException(JavaCodeTypes.METHOD, errors);
+		assertEquals("Failed parsing JavaType: 'METHOD': Didn't complete parameters in method\n" +
+				"Didn't complete the method", e.getMessage());
+		assertEquals(JavaCodeTypes.METHOD, e.getType());
+		assertSame(errors, e.getErrors());
+	}
+	
+	@Test
+	public void testNoStackTrace(){
+		JavaParsingException e = new JavaParsingException(JavaCodeTypes.FIELD, "test");
+		assertEquals(0, e.getStackTrace().length);
+		e.fillInStackTrace();
+		assertEquals(0, e.getStackTrace().length);
+	}
+	
+	@Test
+	public void testErrorSpan(){
+		JavaParsingError error = new JavaParsingError(JavaParsingErrorCode.DUPLICATE, "test", new JavaSourceSpan(
+				JavaSourceSpanned.pack(11, 21), JavaSourceSpanned.pack(2, 1), JavaSourceSpanned.pack(2, 11)));
+		assertTrue(error.hasSourceSpan());
+		assertEquals(11, error.getSourceStartOffset());
+		assertEquals(21, error.getSourceEndOffset());
+		assertEquals(2, error.getSourceStartLine());
+		assertEquals(1, error.getSourceStartColumn());
+		assertEquals(2, error.getSourceEndLine());
+		assertEquals(11, error.getSourceEndColumn());
+		
+		JavaParsingError copy = new JavaParsingError(JavaParsingErrorCode.OTHER, "copy", error);
+		assertEquals(error.getSourceOffsets(), copy.getSourceOffsets());
+		assertEquals(error.getSourceStartPosition(), copy.getSourceStartPosition());
+		assertEquals(error.getSourceEndPosition(), copy.getSourceEndPosition());
+	}
+	
+	@Test
+	public void testErrorToString(){
+		assertEquals("MISSING: Failed to find class name!",
+				new JavaParsingError(JavaParsingErrorCode.MISSING, "Failed to find class name!").toString());
+		assertEquals("DUPLICATE at 2:1: test", new JavaParsingError(JavaParsingErrorCode.DUPLICATE, "test",
+				new JavaSourceSpan(JavaSourceSpanned.pack(11, 21), JavaSourceSpanned.pack(2, 1),
+						JavaSourceSpanned.pack(2, 11))).toString());
+	}
+	
+	@Test
+	public void testClassDuplicateJavadoc(){
+		JavaParsingException e = assertThrows(JavaParsingException.class, () -> JavaClassParser.parseClass("""
+				/** one */
+				/** two */
+				class Test{
+				}"""));
+		assertEquals(JavaCodeTypes.CLASS, e.getType());
+		assertEquals(1, e.getErrors().size());
+		JavaParsingError error = e.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.DUPLICATE, error.getCode());
+		assertEquals("Only one Javadoc allowed on a class!", error.getMessage());
+		assertSpan(error, 11, 21, 2, 1, 2, 11);
+	}
+	
+	@Test
+	public void testClassUnattachedAnnotations(){
+		JavaParsingException e = assertThrows(JavaParsingException.class, () -> JavaClassParser.parseClass("""
+				class Test{
+					@Test
+					@Deprecated
+				}"""));
+		assertEquals(JavaCodeTypes.CLASS, e.getType());
+		assertEquals(1, e.getErrors().size());
+		JavaParsingError error = e.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.UNATTACHED, error.getCode());
+		assertEquals("Found annotations at end of class with nothing to attach them to!", error.getMessage());
+		assertSpan(error, 13, 31, 2, 2, 3, 13);
+	}
+	
+	@Test
+	public void testClassMissingName(){
+		JavaParsingException e = assertThrows(JavaParsingException.class, () -> JavaClassParser.parseClass("class "));
+		assertEquals(JavaCodeTypes.CLASS, e.getType());
+		JavaParsingError error = e.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.MISSING, error.getCode());
+		assertEquals("Failed to find class name!", error.getMessage());
+		assertSpan(error, 6, 6, 1, 7, 1, 7);
+	}
+	
+	@Test
+	public void testTypeWithModifiersDuplicateModifier(){
+		JavaParsingException e = assertThrows(JavaParsingException.class, () -> JavaClassParser.parseClass("""
+				class Test{
+					static static int x;
+				}"""));
+		assertEquals(JavaCodeTypes.FIELD, e.getType());
+		assertEquals(1, e.getErrors().size());
+		JavaParsingError error = e.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.INVALID_MODIFIER, error.getCode());
+		assertEquals("Found duplicate modifier: 'static'", error.getMessage());
+		assertSpan(error, 20, 26, 2, 9, 2, 15);
+	}
+	
+	@Test
+	public void testTypeWithModifiersMultipleVisibilities(){
+		JavaParsingException e = assertThrows(JavaParsingException.class, () -> JavaClassParser.parseClass("""
+				class Test{
+					public private int x;
+				}"""));
+		assertEquals(JavaCodeTypes.FIELD, e.getType());
+		JavaParsingError error = e.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.INVALID_MODIFIER, error.getCode());
+		assertEquals("Found multiple visibility modifiers", error.getMessage());
+		assertSpan(error, 13, 27, 2, 2, 2, 16);
+	}
+	
+	@Test
+	public void testMethodIncomplete(){
+		JavaParsingException e = assertThrows(JavaParsingException.class, () -> JavaMethodParser.parseMethod("""
+				public void test(String s{
+				}"""));
+		assertEquals(JavaCodeTypes.METHOD, e.getType());
+		List<JavaParsingError> errors = e.getErrors();
+		assertEquals(2, errors.size());
+		assertEquals(JavaParsingErrorCode.INCOMPLETE, errors.get(0).getCode());
+		assertEquals("Didn't complete parameters in method", errors.get(0).getMessage());
+		assertSpan(errors.get(0), 16, 28, 1, 17, 2, 2);
+		assertEquals(JavaParsingErrorCode.INCOMPLETE, errors.get(1).getCode());
+		assertEquals("Didn't complete the method", errors.get(1).getMessage());
+		assertSpan(errors.get(1), 0, 28, 1, 1, 2, 2);
+	}
+	
+	@Test
+	public void testMethodUnexpectedContent(){
+		JavaParsingException e = assertThrows(JavaParsingException.class,
+				() -> JavaMethodParser.parseMethod("public void test() yep{\n}"));
+		assertEquals(JavaCodeTypes.METHOD, e.getType());
+		JavaParsingError error = e.getErrors().get(0);
+		assertEquals(JavaParsingErrorCode.UNEXPECTED_CONTENT, error.getCode());
+		assertEquals("Found unexpected content after method parameters: 'yep'", error.getMessage());
+		assertSpan(error, 19, 22, 1, 20, 1, 23);
+	}
+	
+	@Test
+	public void testJavaParserErrors(){
+		JavaParser parser = new JavaParser();
+		JavaParsingException e = assertThrows(JavaParsingException.class, () -> parser.parseField("int x"));
+		assertEquals(JavaCodeTypes.FIELD, e.getType());
+		assertEquals(JavaParsingErrorCode.OTHER, e.getErrors().get(0).getCode());
+		
+		e = assertThrows(JavaParsingException.class,
+				() -> parser.parseMethod("/** one */ /** two */ void test();"));
+		assertEquals(JavaParsingErrorCode.DUPLICATE, e.getErrors().get(0).getCode());
+		assertSpan(e.getErrors().get(0), 11, 21, 1, 12, 1, 22);
+	}
+}
@@ -0,0 +1,96 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaCodeTypes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaSourceTreeParserTest{
+	
+	private static final String TEST_CLASS = """
+			package com.example;
+
+			public class Test{
+			\t
+				private int value;
+			}
+			""";
+	private static final String OTHER_CLASS = """
+			package com.example.other;
+
+			import com.example.Test;
+
+			public class Other{
+			\t
+				public Test getTest(){
+					return null;
+				}
+			}
+			""";
+	
+	@TempDir
+	private Path root;
+	private Path testFile;
+	private Path otherFile;
+	private Path badFile;
+	
+	@BeforeEach
+	public void setup() throws IOException{
+		testFile = root.resolve("com/example/Test.java");
+		Files.createDirectories(testFile.getParent());
+		Files.writeString(testFile, TEST_CLASS);
+		otherFile = root.resolve("com/example/other/Other.java");
+		Files.createDirectories(otherFile.getParent());
+		Files.writeString(otherFile, OTHER_CLASS);
+		badFile = root.resolve("com/example/Bad.java");
+		Files.writeString(badFile, "this is not valid { java");
+		Files.writeString(root.resolve("com/example/notes.txt"), "Not a Java file");
+	}
+	
+	@Test
+	public void testParseSourceTree() throws IOException, JavaParsingException{
+		JavaSourceTreeParser.Result result = JavaSourceTreeParser.parseSourceTree(root);
+		assertEquals(List.of(testFile, otherFile).stream().sorted().toList(),
+				List.copyOf(result.parsedTypes().keySet()));
+		assertEquals(FullJavaParser.parseType(TEST_CLASS), result.parsedTypes().get(testFile));
+		assertEquals(FullJavaParser.parseType(OTHER_CLASS), result.parsedTypes().get(otherFile));
+		assertEquals(JavaCodeTypes.CLASS, result.parsedTypes().get(testFile).getJavaCodeType());
+	}
+	
+	@Test
+	public void testParseSourceTreeErrors() throws IOException{
+		JavaSourceTreeParser.Result result = JavaSourceTreeParser.parseSourceTree(root);
+		assertTrue(result.hasErrors());
+		assertEquals(List.of(badFile), List.copyOf(result.errors().keySet()));
+		assertInstanceOf(JavaParsingException.class, result.errors().get(badFile));
+	}
+	
+	@Test
+	public void testParseSourceTreeCustomPool() throws IOException{
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try{
+			Files.delete(badFile);
+			JavaSourceTreeParser.Result result = JavaSourceTreeParser.parseSourceTree(root, pool);
+			assertFalse(result.hasErrors());
+			assertEquals(2, result.parsedTypes().size());
+		}finally{
+			pool.shutdown();
+		}
+	}
+	
+	@Test
+	public void testParseFile() throws IOException, JavaParsingException{
+		assertEquals(FullJavaParser.parseType(TEST_CLASS), JavaSourceTreeParser.parseFile(testFile));
+	}
+}
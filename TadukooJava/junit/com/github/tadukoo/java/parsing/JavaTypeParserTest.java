@@ -0,0 +1,189 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaParameter;
+import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.JavaTypeParameter;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaTypeParserTest{
+	
+	private static JavaType type(String baseType, JavaTypeParameter ... typeParameters){
+		return JavaType.builder()
+				.baseType(baseType)
+				.typeParameters(List.of(typeParameters))
+				.build();
+	}
+	
+	private static JavaTypeParameter param(JavaType baseType){
+		return JavaTypeParameter.builder()
+				.baseType(baseType)
+				.build();
+	}
+	
+	private static JavaTypeParameter param(JavaType baseType, JavaType extendsType){
+		return JavaTypeParameter.builder()
+				.baseType(baseType)
+				.extendsType(extendsType)
+				.build();
+	}
+	
+	@Test
+	public void testParseSimpleType(){
+		assertEquals(type("String"), JavaTypeParser.parseType("String", null));
+	}
+	
+	@Test
+	public void testParseArrayType(){
+		assertEquals(type("String[]"), JavaTypeParser.parseType("String[]", null));
+	}
+	
+	@Test
+	public void testParseTypeSurroundingWhitespace(){
+		assertEquals(type("String"), JavaTypeParser.parseType(" \t String \n", null));
+	}
+	
+	@Test
+	public void testParseDeeplyNestedType(){
+		JavaType expected = type("Map",
+				param(type("String")),
+				param(type("List", param(type("Pair", param(type("A")), param(type("B")))))));
+		assertEquals(expected, JavaTypeParser.parseType("Map<String, List<Pair<A, B>>>", null));
+		assertEquals(expected, JavaTypeParser.parseType("Map < String ,List< Pair<A,B> > >", null));
+	}
+	
+	@Test
+	public void testParseTypeWithNestedExtends(){
+		JavaType expected = type("Map",
+				param(type("K"), type("Comparable", param(type("K")))),
+				param(type("?"), type("List", param(type("? extends Number")))));
+		assertEquals(expected.toString(),
+				JavaTypeParser.parseType("Map<K extends Comparable<K>, ? extends List<? extends Number>>", null)
+						.toString());
+	}
+	
+	@Test
+	public void testParseTypeUnclosed(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaTypeParser.parseType("List<String", null));
+		assertEquals("'List<String' is not a valid type", e.getMessage());
+	}
+	
+	@Test
+	public void testParseTypeTrailingContent(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaTypeParser.parseType("List<String>> extra", null));
+		assertEquals("'List<String>> extra' is not a valid type", e.getMessage());
+	}
+	
+	@Test
+	public void testParseTypeEmpty(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaTypeParser.parseType("  ", null));
+		assertEquals("'  ' is not a valid type", e.getMessage());
+	}
+	
+	@Test
+	public void testParseParameter(){
+		JavaParameter parameter = JavaTypeParser.parseParameter("Map<String, List<String>> names", null);
+		assertEquals(type("Map", param(type("String")), param(type("List", param(type("String"))))),
+				parameter.getType());
+		assertEquals("names", parameter.getName());
+		assertFalse(parameter.isVararg());
+	}
+	
+	@Test
+	public void testParseVarargParameter(){
+		JavaParameter parameter = JavaTypeParser.parseParameter("String ... text", null);
+		assertEquals(type("String"), parameter.getType());
+		assertEquals("text", parameter.getName());
+		assertTrue(parameter.isVararg());
+	}
+	
+	@Test
+	public void testParseVarargParameterNoSpaces(){
+		JavaParameter parameter = JavaTypeParser.parseParameter("String...text", null);
+		assertEquals(type("String"), parameter.getType());
+		assertEquals("text", parameter.getName());
+		assertTrue(parameter.isVararg());
+	}
+	
+	@Test
+	public void testParseParameterNoName(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaTypeParser.parseParameter("String", null));
+		assertEquals("'String' is not a valid parameter", e.getMessage());
+	}
+	
+	@Test
+	public void testParseTypeParametersBlank(){
+		assertTrue(JavaTypeParser.parseTypeParameters(" ", null).isEmpty());
+	}
+	
+	@Test
+	public void testParseTypeParameters(){
+		assertEquals(List.of(param(type("T"), type("Map", param(type("K")), param(type("V")))), param(type("U"))),
+				JavaTypeParser.parseTypeParameters("T extends Map<K, V>, U", null));
+	}
+	
+	@Test
+	public void testParseTypeParametersUnclosed(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaTypeParser.parseTypeParameters("T, Map<K, V", null));
+		assertEquals("Failed to parse remaining type parameter content: 'Map<K,V'", e.getMessage());
+	}
+	
+	@Test
+	public void testParseTypeParametersInvalid(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaTypeParser.parseTypeParameters("T, U extends, V", null));
+		assertEquals("'U extends' is not a valid type parameter", e.getMessage());
+	}
+	
+	@Test
+	public void testReadTypeFromOffset(){
+		String content = "class Test implements List<String> {";
+		JavaTypeParser parser = new JavaTypeParser(content, 21, content.length(), null);
+		assertEquals(type("List", param(type("String"))), parser.readType());
+		assertEquals(34, parser.getPosition());
+		assertNull(parser.readType());
+	}
+	
+	@Test
+	public void testParseTypeWithSymbolTableCanonical(){
+		SymbolTable symbolTable = new SymbolTable();
+		JavaType first = JavaTypeParser.parseType("Map<String, List<String>>", symbolTable);
+		JavaType second = JavaTypeParser.parseType("List<String>", symbolTable);
+		assertFalse(first.isCanonical());
+		assertFalse(second.isCanonical());
+		assertTrue(first.getTypeParameters().get(1).isCanonical());
+		assertSame(second.toCanonical(), first.getTypeParameters().get(1).getBaseType());
+		assertEquals(JavaTypeParser.parseType("Map<String, List<String>>", null).toString(), first.toString());
+	}
+	
+	@Test
+	public void testParseClassWithNestedGenericInterfaces() throws JavaParsingException{
+		JavaClass javaClass = (JavaClass) FullJavaParser.parseType("""
+				class Test<T extends Map<String, List<T>>> extends Base<List<T>>
+						implements Comparable<Map<String, List<String>>>, Serializable{
+				}
+				""");
+		assertEquals(type("Test", param(type("T"), type("Map", param(type("String")),
+						param(type("List", param(type("T"))))))),
+				javaClass.getClassName());
+		assertEquals(type("Base", param(type("List", param(type("T"))))), javaClass.getSuperClassName());
+		assertEquals(List.of(
+				type("Comparable", param(type("Map", param(type("String")),
+						param(type("List", param(type("String"))))))),
+				type("Serializable")), javaClass.getImplementsInterfaceNames());
+	}
+}
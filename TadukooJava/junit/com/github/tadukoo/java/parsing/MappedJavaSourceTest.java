@@ -0,0 +1,137 @@
+package com.github.tadukoo.java.parsing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MappedJavaSourceTest{
+	
+	private static final String TEST_CLASS = """
+			package com.example;
+			
+			/**
+			 * A test class for caf\u00E9s
+			 */
+			public class Test{
+			\t
+				private String value = "\uD83D\uDE00";
+			}
+			""";
+	
+	@TempDir
+	private Path root;
+	
+	private Path writeFile(String content) throws IOException{
+		Path file = root.resolve("Test.java");
+		Files.writeString(file, content, StandardCharsets.UTF_8);
+		return file;
+	}
+	
+	/**
+	 * Makes content that spans several chunks, with some chunks all ASCII and some not, and a character
+	 * outside the BMP (which becomes 2 chars) every so often so that chunks may end in the middle of one
+	 */
+	private static String createLargeContent(){
+		StringBuilder content = new StringBuilder();
+		for(int i = 0; content.length() < 300000; i++){
+			content.append("line ").append(i);
+			if(i % 997 == 0){
+				content.append(" \u00E9\u4E16\uD83D\uDE00");
+			}
+			if(i > 8000 && i < 12000){
+				content.append(" \u00E9");
+			}
+			content.append('\n');
+		}
+		return content.toString();
+	}
+	
+	@Test
+	public void testAscii() throws IOException{
+		String content = "public class Test{ }";
+		MappedJavaSource source = new MappedJavaSource(writeFile(content));
+		assertEquals(content.length(), source.length());
+		for(int i = 0; i < content.length(); i++){
+			assertEquals(content.charAt(i), source.charAt(i));
+		}
+		assertEquals("class", source.subSequence(7, 12).toString());
+		assertEquals(content, source.toString());
+	}
+	
+	@Test
+	public void testNonAscii() throws IOException{
+		MappedJavaSource source = new MappedJavaSource(writeFile(TEST_CLASS));
+		assertEquals(TEST_CLASS, source.toString());
+		assertEquals(TEST_CLASS.length(), source.length());
+	}
+	
+	@Test
+	public void testEmpty() throws IOException{
+		MappedJavaSource source = new MappedJavaSource(writeFile(""));
+		assertEquals(0, source.length());
+		assertEquals("", source.toString());
+		assertThrows(IndexOutOfBoundsException.class, () -> source.charAt(0));
+	}
+	
+	@Test
+	public void testLargeContentInOrder(){
+		String content = createLargeContent();
+		MappedJavaSource source = new MappedJavaSource(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+		for(int i = 0; i < content.length(); i++){
+			assertEquals(content.charAt(i), source.charAt(i));
+		}
+		assertEquals(content.length(), source.length());
+	}
+	
+	@Test
+	public void testLargeContentOutOfOrder(){
+		String content = createLargeContent();
+		MappedJavaSource source = new MappedJavaSource(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+		assertEquals(content.length(), source.length());
+		for(int i = content.length() - 1; i >= 0; i -= 7){
+			assertEquals(content.charAt(i), source.charAt(i));
+		}
+		assertEquals(content.substring(60000, 140000), source.subSequence(60000, 140000).toString());
+		assertEquals(content, source.toString());
+	}
+	
+	@Test
+	public void testOutOfBounds(){
+		MappedJavaSource source = new MappedJavaSource(ByteBuffer.wrap("test".getBytes(StandardCharsets.UTF_8)));
+		assertThrows(IndexOutOfBoundsException.class, () -> source.charAt(4));
+		assertThrows(IndexOutOfBoundsException.class, () -> source.charAt(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> source.subSequence(2, 1));
+	}
+	
+	@Test
+	public void testMalformed(){
+		MappedJavaSource source = new MappedJavaSource(ByteBuffer.wrap(new byte[]{'a', (byte) 0xC3, 'b'}));
+		UncheckedIOException e = assertThrows(UncheckedIOException.class, source::length);
+		assertInstanceOf(CharacterCodingException.class, e.getCause());
+	}
+	
+	@Test
+	public void testParseTypeFromPath() throws IOException, JavaParsingException{
+		Path file = writeFile(TEST_CLASS);
+		assertEquals(FullJavaParser.parseType(TEST_CLASS), FullJavaParser.parseType(file));
+		assertEquals(TEST_CLASS, FullJavaParser.parseType(file).toString());
+	}
+	
+	@Test
+	public void testParseTypeFromPathMalformed() throws IOException{
+		Path file = root.resolve("Bad.java");
+		Files.write(file, new byte[]{'c', 'l', 'a', 's', 's', ' ', (byte) 0xFF});
+		assertThrows(CharacterCodingException.class, () -> FullJavaParser.parseType(file));
+	}
+}
@@ -0,0 +1,117 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.method.JavaMethod;
+import com.github.tadukoo.java.parsing.classtypes.JavaClassParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OutlineParseModeTest{
+	
+	private static final String TEST_CLASS = """
+			package com.example;
+			
+			/**
+			 * A test class
+			 */
+			public class Test{
+			\t
+				static{
+					if(true){
+						System.out.println("Hi");
+					}
+				}
+			\t
+				// A comment
+				private int value = 5;
+			\t
+				/* Another comment */
+			\t
+				/**
+				 * @return The value
+				 */
+				public int getValue(){
+					if(value > 0){
+						return value;
+					}
+					return 0;
+				}
+			\t
+				public abstract void doSomething(String text) throws Exception;
+			}
+			""";
+	
+	@Test
+	public void testSkipsFlags(){
+		assertEquals(false, ParseMode.FULL.skipsBodies());
+		assertEquals(false, ParseMode.FULL.skipsComments());
+		assertEquals(false, ParseMode.LAZY_METHOD_BODIES.skipsBodies());
+		assertEquals(false, ParseMode.LAZY_METHOD_BODIES.skipsComments());
+		assertEquals(true, ParseMode.OUTLINE.skipsBodies());
+		assertEquals(true, ParseMode.OUTLINE.skipsComments());
+		assertEquals(true, ParseMode.OUTLINE_WITH_COMMENTS.skipsBodies());
+		assertEquals(false, ParseMode.OUTLINE_WITH_COMMENTS.skipsComments());
+	}
+	
+	@Test
+	public void testOutline() throws JavaParsingException{
+		JavaClass clazz = (JavaClass) FullJavaParser.parseType(TEST_CLASS, ParseMode.OUTLINE);
+		assertEquals("com.example", clazz.getPackageDeclaration().getPackageName());
+		assertEquals("Test", clazz.getSimpleClassName());
+		assertNull(clazz.getJavadoc());
+		assertTrue(clazz.getSingleLineComments().isEmpty());
+		assertTrue(clazz.getMultiLineComments().isEmpty());
+		assertEquals(1, clazz.getStaticCodeBlocks().size());
+		assertTrue(clazz.getStaticCodeBlocks().get(0).getLines().isEmpty());
+		assertEquals(1, clazz.getFields().size());
+		assertEquals("value", clazz.getFields().get(0).getName());
+		assertEquals("5", clazz.getFields().get(0).getValue());
+		
+		List<JavaMethod> methods = clazz.getMethods();
+		assertEquals(2, methods.size());
+		assertEquals("getValue", methods.get(0).getName());
+		assertNull(methods.get(0).getJavadoc());
+		assertTrue(methods.get(0).getLines().isEmpty());
+		assertEquals("doSomething", methods.get(1).getName());
+		assertEquals(List.of("Exception"), methods.get(1).getThrowTypes());
+		assertTrue(methods.get(1).getLines().isEmpty());
+	}
+	
+	@Test
+	public void testOutlineWithComments() throws JavaParsingException{
+		JavaClass clazz = (JavaClass) FullJavaParser.parseType(TEST_CLASS, ParseMode.OUTLINE_WITH_COMMENTS);
+		assertNotNull(clazz.getJavadoc());
+		assertEquals(1, clazz.getSingleLineComments().size());
+		assertEquals(1, clazz.getMultiLineComments().size());
+		assertNotNull(clazz.getMethods().get(0).getJavadoc());
+		assertTrue(clazz.getMethods().get(0).getLines().isEmpty());
+		assertTrue(clazz.getStaticCodeBlocks().get(0).getLines().isEmpty());
+	}
+	
+	@Test
+	public void testOutlineKeepsMethodSpan() throws JavaParsingException{
+		JavaClass clazz = JavaClassParser.parseClass(TEST_CLASS, ParseMode.OUTLINE);
+		JavaMethod method = clazz.getMethods().get(0);
+		String code = TEST_CLASS.substring(method.getSourceStartOffset(), method.getSourceEndOffset());
+		assertTrue(code.startsWith("public int getValue(){"));
+		assertTrue(code.endsWith("return 0;\n\t}"));
+	}
+	
+	@Test
+	public void testOutlineUnclosedComment(){
+		JavaParsingException e = assertThrows(JavaParsingException.class,
+				() -> FullJavaParser.parseType("""
+						public class Test{
+							/* Not closed
+						}
+						""", ParseMode.OUTLINE));
+		assertTrue(e.getMessage().contains("Failed to find closing multi-line comment token!"));
+	}
+}
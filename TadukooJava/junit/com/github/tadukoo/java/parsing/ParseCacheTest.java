@@ -0,0 +1,229 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParseCacheTest{
+	
+	private static final String TEST_CLASS = """
+			package com.example;
+			
+			import java.util.List;
+			
+			/**
+			 * A test class
+			 */
+			public class Test{
+			\t
+				private List<String> names;
+			\t
+				public List<String> getNames(){
+					return names;
+				}
+			}
+			""";
+	
+	@TempDir
+	private Path root;
+	
+	private List<Path> listEntries(Path directory) throws IOException{
+		try(Stream<Path> files = Files.list(directory)){
+			return files.toList();
+		}
+	}
+	
+	private String createClass(int num){
+		return TEST_CLASS.replace("class Test", "class Test" + num);
+	}
+	
+	@Test
+	public void testMissThenHit() throws IOException, JavaParsingException{
+		ParseCache cache = new ParseCache(root.resolve("cache"), 1024 * 1024);
+		JavaCodeType parsed = cache.parseType(TEST_CLASS, ParseMode.FULL);
+		assertEquals(0, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		
+		JavaCodeType loaded = cache.parseType(TEST_CLASS, ParseMode.FULL);
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(parsed, loaded);
+		assertNotSame(parsed, loaded);
+		assertEquals(FullJavaParser.parseType(TEST_CLASS), loaded);
+	}
+	
+	@Test
+	public void testFile() throws IOException, JavaParsingException{
+		Path file = root.resolve("Test.java");
+		Files.writeString(file, TEST_CLASS);
+		ParseCache cache = new ParseCache(root.resolve("cache"), 1024 * 1024);
+		assertEquals(FullJavaParser.parseType(file), cache.parseType(file));
+		
+		// The same content in a different file is still a hit
+		Path otherFile = root.resolve("Other.java");
+		Files.writeString(otherFile, TEST_CLASS);
+		assertEquals(FullJavaParser.parseType(file), cache.parseType(otherFile));
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+	
+	@Test
+	public void testChangedContentIsMiss() throws IOException, JavaParsingException{
+		ParseCache cache = new ParseCache(root.resolve("cache"), 1024 * 1024);
+		cache.parseType(createClass(1), ParseMode.FULL);
+		JavaClass clazz = (JavaClass) cache.parseType(createClass(2), ParseMode.FULL);
+		assertEquals("Test2", clazz.getClassName().getBaseType());
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+	}
+	
+	@Test
+	public void testParseModeIsPartOfKey() throws IOException, JavaParsingException{
+		ParseCache cache = new ParseCache(root.resolve("cache"), 1024 * 1024);
+		cache.parseType(TEST_CLASS, ParseMode.FULL);
+		JavaClass outline = (JavaClass) cache.parseType(TEST_CLASS, ParseMode.OUTLINE);
+		assertEquals(0, cache.getHits());
+		assertEquals(FullJavaParser.parseType(TEST_CLASS, ParseMode.OUTLINE), outline);
+		assertTrue(outline.getMethods().get(0).getLines().isEmpty());
+	}
+	
+	@Test
+	public void testPersistsAcrossInstances() throws IOException, JavaParsingException{
+		Path directory = root.resolve("cache");
+		new ParseCache(directory, 1024 * 1024).parseType(TEST_CLASS, ParseMode.FULL);
+		
+		ParseCache cache = new ParseCache(directory, 1024 * 1024);
+		assertTrue(cache.getCurrentSizeBytes() > 0);
+		cache.parseType(TEST_CLASS, ParseMode.FULL);
+		assertEquals(1, cache.getHits());
+		assertEquals(0, cache.getMisses());
+	}
+	
+	@Test
+	public void testCorruptEntryIsMiss() throws IOException, JavaParsingException{
+		Path directory = root.resolve("cache");
+		ParseCache cache = new ParseCache(directory, 1024 * 1024);
+		JavaCodeType parsed = cache.parseType(TEST_CLASS, ParseMode.FULL);
+		Path entry = listEntries(directory).get(0);
+		byte[] bytes = Files.readAllBytes(entry);
+		Files.write(entry, Arrays.copyOf(bytes, bytes.length / 2));
+		
+		assertEquals(parsed, cache.parseType(TEST_CLASS, ParseMode.FULL));
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		
+		// The entry has been written again
+		assertEquals(bytes.length, Files.size(entry));
+		cache.parseType(TEST_CLASS, ParseMode.FULL);
+		assertEquals(1, cache.getHits());
+	}
+	
+	@Test
+	public void testEvictsLeastRecentlyUsed() throws IOException, JavaParsingException{
+		Path directory = root.resolve("cache");
+		ParseCache sizing = new ParseCache(root.resolve("sizing"), 1024 * 1024);
+		sizing.parseType(createClass(0), ParseMode.FULL);
+		long entrySize = sizing.getCurrentSizeBytes();
+		
+		// Room for 3 entries
+		ParseCache cache = new ParseCache(directory, entrySize * 3 + entrySize / 2);
+		for(int i = 0; i < 3; i++){
+			cache.parseType(createClass(i), ParseMode.FULL);
+		}
+		// Make class 1 the least recently used
+		for(Path entry: listEntries(directory)){
+			Files.setLastModifiedTime(entry, FileTime.fromMillis(1000));
+		}
+		cache.parseType(createClass(0), ParseMode.FULL);
+		cache.parseType(createClass(2), ParseMode.FULL);
+		assertEquals(2, cache.getHits());
+		
+		// Adding another entry evicts down to 90% of the max, which removes the least recently used
+		cache.parseType(createClass(3), ParseMode.FULL);
+		assertTrue(cache.getCurrentSizeBytes() <= cache.getMaxSizeBytes());
+		assertEquals(3, listEntries(directory).size());
+		cache.parseType(createClass(0), ParseMode.FULL);
+		cache.parseType(createClass(2), ParseMode.FULL);
+		cache.parseType(createClass(3), ParseMode.FULL);
+		assertEquals(5, cache.getHits());
+		cache.parseType(createClass(1), ParseMode.FULL);
+		assertEquals(5, cache.getHits());
+	}
+	
+	@Test
+	public void testClear() throws IOException, JavaParsingException{
+		Path directory = root.resolve("cache");
+		ParseCache cache = new ParseCache(directory, 1024 * 1024);
+		cache.parseType(TEST_CLASS, ParseMode.FULL);
+		cache.clear();
+		assertEquals(0, cache.getCurrentSizeBytes());
+		assertTrue(listEntries(directory).isEmpty());
+		cache.parseType(TEST_CLASS, ParseMode.FULL);
+		assertEquals(2, cache.getMisses());
+	}
+	
+	@Test
+	public void testParsingErrorNotCached() throws IOException{
+		Path directory = root.resolve("cache");
+		ParseCache cache = new ParseCache(directory, 1024 * 1024);
+		assertThrows(JavaParsingException.class, () -> cache.parseType("package a;\npackage b;", ParseMode.FULL));
+		assertTrue(listEntries(directory).isEmpty());
+	}
+	
+	@Test
+	public void testInvalidMaxSize(){
+		assertThrows(IllegalArgumentException.class, () -> new ParseCache(root.resolve("cache"), 0));
+	}
+	
+	@Test
+	public void testConcurrentUse() throws Exception{
+		Path directory = root.resolve("cache");
+		ParseCache cache = new ParseCache(directory, 1024 * 1024);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Future<JavaCodeType>> results = new ArrayList<>();
+			for(int i = 0; i < 40; i++){
+				String content = createClass(i % 5);
+				results.add(executor.submit(() -> cache.parseType(content, ParseMode.FULL)));
+			}
+			for(int i = 0; i < results.size(); i++){
+				assertEquals(FullJavaParser.parseType(createClass(i % 5)), results.get(i).get());
+			}
+		}finally{
+			executor.shutdown();
+		}
+		assertEquals(40, cache.getHits() + cache.getMisses());
+		assertEquals(5, listEntries(directory).size());
+		assertFalse(listEntries(directory).stream().anyMatch(file -> file.toString().endsWith(".tmp")));
+	}
+	
+	@Test
+	public void testMurmur3Hash128(){
+		// Known values of MurmurHash3_x64_128 with a seed of 0
+		long[] empty = ParseCache.murmur3Hash128(new byte[0], 0);
+		assertEquals(0L, empty[0]);
+		assertEquals(0L, empty[1]);
+		long[] hello = ParseCache.murmur3Hash128("hello".getBytes(), 0);
+		assertEquals(0xcbd8a7b341bd9b02L, hello[0]);
+		assertEquals(0x5b1e906a48ae1d19L, hello[1]);
+	}
+}
@@ -0,0 +1,202 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaParameter;
+import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.JavaTypeParameter;
+import com.github.tadukoo.java.annotation.EditableJavaAnnotation;
+import com.github.tadukoo.java.annotation.JavaAnnotation;
+import com.github.tadukoo.java.parsing.codetypes.JavaAnnotationParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParseMemoTest{
+	
+	@Test
+	public void testDefaultMaxSize(){
+		assertEquals(ParseMemo.DEFAULT_MAX_SIZE, new ParseMemo<String>().getMaxSize());
+	}
+	
+	@Test
+	public void testNegativeMaxSize(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new ParseMemo<String>(-1));
+		assertEquals("maxSize must not be negative, but was -1", e.getMessage());
+	}
+	
+	@Test
+	public void testGetAndPut(){
+		ParseMemo<String> memo = new ParseMemo<>(4);
+		assertNull(memo.get("a"));
+		memo.put("a", "A");
+		assertEquals("A", memo.get("a"));
+		assertEquals(1, memo.size());
+		assertEquals(1, memo.getHits());
+		assertEquals(1, memo.getMisses());
+		assertEquals(0.5, memo.getHitRate());
+	}
+	
+	@Test
+	public void testHitRateNoLookups(){
+		assertEquals(0, new ParseMemo<String>().getHitRate());
+	}
+	
+	@Test
+	public void testEvictsLeastRecentlyUsed(){
+		ParseMemo<String> memo = new ParseMemo<>(2);
+		memo.put("a", "A");
+		memo.put("b", "B");
+		memo.get("a");
+		memo.put("c", "C");
+		assertEquals(2, memo.size());
+		assertEquals("A", memo.get("a"));
+		assertNull(memo.get("b"));
+		assertEquals("C", memo.get("c"));
+	}
+	
+	@Test
+	public void testSetMaxSizeEvicts(){
+		ParseMemo<String> memo = new ParseMemo<>(3);
+		memo.put("a", "A");
+		memo.put("b", "B");
+		memo.put("c", "C");
+		memo.setMaxSize(1);
+		assertEquals(1, memo.getMaxSize());
+		assertEquals(1, memo.size());
+		assertEquals("C", memo.get("c"));
+	}
+	
+	@Test
+	public void testMaxSizeZero(){
+		ParseMemo<String> memo = new ParseMemo<>(0);
+		memo.put("a", "A");
+		assertEquals(0, memo.size());
+		assertNull(memo.get("a"));
+	}
+	
+	@Test
+	public void testClear(){
+		ParseMemo<String> memo = new ParseMemo<>();
+		memo.put("a", "A");
+		memo.get("a");
+		memo.get("b");
+		memo.clear();
+		assertEquals(0, memo.size());
+		assertEquals(0, memo.getHits());
+		assertEquals(0, memo.getMisses());
+	}
+	
+	@Test
+	public void testConcurrentUse() throws Exception{
+		ParseMemo<String> memo = new ParseMemo<>(100);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Future<?>> futures = new ArrayList<>();
+			for(int thread = 0; thread < 4; thread++){
+				futures.add(executor.submit(() -> {
+					for(int i = 0; i < 5000; i++){
+						String key = "key" + (i % 200);
+						if(memo.get(key) == null){
+							memo.put(key, key.toUpperCase());
+						}
+					}
+				}));
+			}
+			for(Future<?> future: futures){
+				future.get();
+			}
+			assertEquals(100, memo.size());
+			assertEquals(20000, memo.getHits() + memo.getMisses());
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testParseJavaTypeCopied(){
+		long hits = AbstractJavaParser.getTypeMemo().getHits();
+		JavaType first = AbstractJavaParser.parseJavaType("Map<ParseMemoTestKey, List<String>>");
+		JavaType second = AbstractJavaParser.parseJavaType("Map<ParseMemoTestKey, List<String>>");
+		assertNotSame(first, second);
+		assertEquals(first, second);
+		assertFalse(first.isCanonical());
+		assertSame(first.getTypeParameters().get(0), second.getTypeParameters().get(0));
+		assertTrue(AbstractJavaParser.getTypeMemo().getHits() > hits);
+		
+		first.setCanonicalName("java.util.Map");
+		first.getTypeParameters().remove(1);
+		JavaType third = AbstractJavaParser.parseJavaType("Map<ParseMemoTestKey, List<String>>");
+		assertEquals(second, third);
+		assertNull(third.getCanonicalName());
+		assertEquals(2, third.getTypeParameters().size());
+	}
+	
+	@Test
+	public void testParseJavaTypeInvalidNotMemoized(){
+		for(int i = 0; i < 2; i++){
+			assertThrows(IllegalArgumentException.class,
+					() -> AbstractJavaParser.parseJavaType("ParseMemoTestKey<String"));
+		}
+	}
+	
+	@Test
+	public void testParseJavaParameterCopied(){
+		JavaParameter first = AbstractJavaParser.parseJavaParameter("ParseMemoTestKey... names");
+		JavaParameter second = AbstractJavaParser.parseJavaParameter("ParseMemoTestKey... names");
+		assertNotSame(first, second);
+		assertEquals(first, second);
+		assertNotSame(first.getType(), second.getType());
+		assertFalse(first.getType().isCanonical());
+		assertEquals("names", first.getName());
+		assertTrue(first.isVararg());
+		
+		first.getType().setCanonicalName("com.example.ParseMemoTestKey");
+		assertNull(AbstractJavaParser.parseJavaParameter("ParseMemoTestKey... names").getType().getCanonicalName());
+	}
+	
+	@Test
+	public void testParseJavaTypeParametersCopied(){
+		List<JavaTypeParameter> first = AbstractJavaParser.parseJavaTypeParameters("T extends ParseMemoTestKey, U");
+		first.add(JavaTypeParameter.builder().baseType(JavaType.builder().baseType("V").build()).build());
+		List<JavaTypeParameter> second = AbstractJavaParser.parseJavaTypeParameters("T extends ParseMemoTestKey, U");
+		assertNotSame(first, second);
+		assertEquals(2, second.size());
+		assertSame(first.get(0), second.get(0));
+	}
+	
+	@Test
+	public void testParseAnnotationCopied() throws JavaParsingException{
+		JavaAnnotation first = JavaAnnotationParser.parseAnnotation("@ParseMemoTestKey(value = \"a\")");
+		JavaAnnotation second = JavaAnnotationParser.parseAnnotation("@ParseMemoTestKey(value = \"a\")");
+		assertNotSame(first, second);
+		assertEquals(first, second);
+		assertInstanceOf(EditableJavaAnnotation.class, first);
+		
+		((EditableJavaAnnotation) first).setCanonicalName("com.example.ParseMemoTestKey");
+		((EditableJavaAnnotation) first).addParameter("other", "b");
+		JavaAnnotation third = JavaAnnotationParser.parseAnnotation("@ParseMemoTestKey(value = \"a\")");
+		assertEquals(second, third);
+		assertEquals("", third.getCanonicalName());
+		assertEquals(1, third.getParameters().size());
+	}
+	
+	@Test
+	public void testParseWithSymbolTableSkipsMemo(){
+		ParseMemo<JavaType> memo = AbstractJavaParser.getTypeMemo();
+		long lookups = memo.getHits() + memo.getMisses();
+		AbstractJavaParser.parseJavaType("ParseMemoTestSymbol", new SymbolTable());
+		assertEquals(lookups, memo.getHits() + memo.getMisses());
+	}
+}
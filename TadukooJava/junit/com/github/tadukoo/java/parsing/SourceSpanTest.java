@@ -0,0 +1,154 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.JavaSourceSpan;
+import com.github.tadukoo.java.JavaSourceSpanned;
+import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.field.EditableJavaField;
+import com.github.tadukoo.java.field.JavaField;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.method.JavaMethod;
+import com.github.tadukoo.java.parsing.codetypes.JavaFieldParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SourceSpanTest{
+	
+	private static final String TEST_CLASS = """
+			package com.example;
+			
+			import java.util.List;
+			
+			/**
+			 * A test class
+			 */
+			@Test
+			public class Test{
+			\t
+				// A comment
+				private int value = 5;
+			\t
+				public int getValue(){
+					return value;
+				}
+			}
+			""";
+	
+	private JavaClass clazz;
+	
+	@BeforeEach
+	public void setup() throws JavaParsingException{
+		clazz = (JavaClass) FullJavaParser.parseType(TEST_CLASS);
+	}
+	
+	private void assertSpan(String expectedCode, int startLine, int startColumn, int endLine, int endColumn,
+			JavaCodeType type){
+		assertTrue(type.hasSourceSpan());
+		assertEquals(expectedCode, TEST_CLASS.substring(type.getSourceStartOffset(), type.getSourceEndOffset()));
+		assertEquals(startLine, type.getSourceStartLine());
+		assertEquals(startColumn, type.getSourceStartColumn());
+		assertEquals(endLine, type.getSourceEndLine());
+		assertEquals(endColumn, type.getSourceEndColumn());
+	}
+	
+	@Test
+	public void testPackageDeclarationSpan(){
+		assertSpan("package com.example;", 1, 1, 1, 21, clazz.getPackageDeclaration());
+	}
+	
+	@Test
+	public void testImportStatementSpan(){
+		assertSpan("import java.util.List;", 3, 1, 3, 23, clazz.getImportStatements().get(0));
+	}
+	
+	@Test
+	public void testJavadocSpan(){
+		assertSpan("/**\n * A test class\n */", 5, 1, 7, 4, clazz.getJavadoc());
+	}
+	
+	@Test
+	public void testAnnotationSpan(){
+		assertSpan("@Test", 8, 1, 8, 6, clazz.getAnnotations().get(0));
+	}
+	
+	@Test
+	public void testClassSpan(){
+		assertSpan(TEST_CLASS.substring(TEST_CLASS.indexOf("public class"), TEST_CLASS.length() - 1), 9, 1, 17, 2,
+				clazz);
+	}
+	
+	@Test
+	public void testSingleLineCommentSpan(){
+		assertSpan("// A comment", 11, 2, 11, 14, clazz.getSingleLineComments().get(0));
+	}
+	
+	@Test
+	public void testFieldSpan(){
+		JavaField field = clazz.getFields().get(0);
+		assertSpan("private int value = 5;", 12, 2, 12, 24, field);
+	}
+	
+	@Test
+	public void testMethodSpan(){
+		JavaMethod method = clazz.getMethods().get(0);
+		assertSpan("public int getValue(){\n\t\treturn value;\n\t}", 14, 2, 16, 3, method);
+	}
+	
+	@Test
+	public void testSpansNotPartOfEquality() throws JavaParsingException{
+		JavaField field = JavaFieldParser.parseField("\n\nint value = 5;");
+		JavaField otherField = JavaFieldParser.parseField("int value = 5;");
+		assertEquals(3, field.getSourceStartLine());
+		assertEquals(1, otherField.getSourceStartLine());
+		assertEquals(field, otherField);
+		assertEquals(field.hashCode(), otherField.hashCode());
+	}
+	
+	@Test
+	public void testNoSpan(){
+		JavaType type = JavaType.builder().baseType("String").build();
+		assertFalse(type.hasSourceSpan());
+		assertEquals(0, type.getSourceStartLine());
+		assertNull(type.getSourceSpan());
+	}
+	
+	@Test
+	public void testSetPackedSpan(){
+		JavaField field = EditableJavaField.builder().type("int").name("value").build();
+		assertFalse(field.hasSourceSpan());
+		assertNull(field.getSourceSpan());
+		field.setSourceSpan(JavaSourceSpanned.pack(4, 18), JavaSourceSpanned.pack(2, 5), JavaSourceSpanned.pack(2, 19));
+		assertTrue(field.hasSourceSpan());
+		assertEquals(4, field.getSourceStartOffset());
+		assertEquals(18, field.getSourceEndOffset());
+		assertEquals(2, field.getSourceStartLine());
+		assertEquals(19, field.getSourceEndColumn());
+		assertEquals(new JavaSourceSpan(JavaSourceSpanned.pack(4, 18), JavaSourceSpanned.pack(2, 5),
+				JavaSourceSpanned.pack(2, 19)), field.getSourceSpan());
+	}
+	
+	@Test
+	public void testRemoveSpan(){
+		JavaField field = EditableJavaField.builder().type("int").name("value").build();
+		field.setSourceSpan(new JavaSourceSpan(JavaSourceSpanned.pack(0, 1), JavaSourceSpanned.pack(1, 1),
+				JavaSourceSpanned.pack(1, 2)));
+		assertTrue(field.hasSourceSpan());
+		field.setSourceSpan(null);
+		assertFalse(field.hasSourceSpan());
+		assertEquals(0, field.getSourceStartLine());
+	}
+	
+	@Test
+	public void testParsingPojoTokenIndices() throws JavaParsingException{
+		JavaTokenList tokens = JavaLexer.tokenize("\nint value = 5;\n");
+		ParsingPojo pojo = JavaFieldParser.parseField(tokens, 1);
+		assertEquals(1, pojo.startTokenIndex());
+		assertEquals(1, pojo.parsedType().getSourceStartOffset());
+		assertEquals(15, pojo.parsedType().getSourceEndOffset());
+	}
+}
@@ -0,0 +1,238 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaParameter;
+import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.field.JavaField;
+import com.github.tadukoo.java.importstatement.JavaImportStatement;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.method.JavaMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SymbolTableTest{
+	
+	private static final String TEST_CLASS = """
+			package com.example;
+
+			import java.util.List;
+
+			@Deprecated
+			public class Test extends Base implements Comparable<Test>{
+			\t
+				@SuppressWarnings(value = "unchecked")
+				private List<String> names;
+			\t
+				@Deprecated
+				public List<String> getNames(List<String> names, int count) throws Exception{
+					return names;
+				}
+			}
+			""";
+	
+	@Test
+	public void testDefaultNumStripes(){
+		assertEquals(16, new SymbolTable().getNumStripes());
+	}
+	
+	@Test
+	public void testNumStripesRoundedUp(){
+		assertEquals(1, new SymbolTable(1).getNumStripes());
+		assertEquals(4, new SymbolTable(3).getNumStripes());
+		assertEquals(8, new SymbolTable(8).getNumStripes());
+	}
+	
+	@Test
+	public void testInvalidNumStripes(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new SymbolTable(0));
+		assertEquals("numStripes must be positive, but was 0", e.getMessage());
+	}
+	
+	@Test
+	public void testInternSharesInstance(){
+		SymbolTable symbolTable = new SymbolTable();
+		String first = new String("String");
+		String second = new String("String");
+		assertNotSame(first, second);
+		assertSame(first, symbolTable.intern(first));
+		assertSame(first, symbolTable.intern(second));
+		assertEquals(1, symbolTable.size());
+	}
+	
+	@Test
+	public void testInternNull(){
+		SymbolTable symbolTable = new SymbolTable();
+		assertNull(symbolTable.intern(null));
+		assertEquals(0, symbolTable.size());
+	}
+	
+	@Test
+	public void testInternRange(){
+		SymbolTable symbolTable = new SymbolTable();
+		String name = symbolTable.intern(new StringBuilder("List<String>"), 0, 4);
+		assertEquals("List", name);
+		assertSame(name, symbolTable.intern(new String("List")));
+		assertSame(name, symbolTable.intern("java.util.List", 10, 14));
+		assertEquals("String", symbolTable.intern("List<String>", 5, 11));
+		assertEquals(2, symbolTable.size());
+	}
+	
+	@Test
+	public void testInternRangeOutOfBounds(){
+		SymbolTable symbolTable = new SymbolTable();
+		IndexOutOfBoundsException e = assertThrows(IndexOutOfBoundsException.class,
+				() -> symbolTable.intern("List", 2, 5));
+		assertEquals("Range [2, 5) out of bounds for length 4", e.getMessage());
+	}
+	
+	@Test
+	public void testInternManySymbols(){
+		SymbolTable symbolTable = new SymbolTable(2);
+		List<String> symbols = new ArrayList<>();
+		for(int i = 0; i < 10000; i++){
+			symbols.add(symbolTable.intern("symbol" + i));
+		}
+		assertEquals(10000, symbolTable.size());
+		for(int i = 0; i < 10000; i++){
+			assertSame(symbols.get(i), symbolTable.intern("symbol" + i));
+		}
+		assertEquals(10000, symbolTable.size());
+	}
+	
+	@Test
+	public void testClear(){
+		SymbolTable symbolTable = new SymbolTable();
+		String first = symbolTable.intern(new String("Override"));
+		symbolTable.clear();
+		assertEquals(0, symbolTable.size());
+		String second = new String("Override");
+		assertSame(second, symbolTable.intern(second));
+		assertNotSame(first, symbolTable.intern(second));
+	}
+	
+	@Test
+	public void testConcurrentIntern() throws Exception{
+		SymbolTable symbolTable = new SymbolTable();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Future<List<String>>> futures = new ArrayList<>();
+			for(int thread = 0; thread < 4; thread++){
+				futures.add(executor.submit(() -> {
+					List<String> symbols = new ArrayList<>();
+					for(int i = 0; i < 2000; i++){
+						symbols.add(symbolTable.intern(new String("symbol" + i)));
+					}
+					return symbols;
+				}));
+			}
+			List<String> first = futures.get(0).get();
+			for(Future<List<String>> future: futures){
+				List<String> symbols = future.get();
+				for(int i = 0; i < symbols.size(); i++){
+					assertSame(first.get(i), symbols.get(i));
+				}
+			}
+			assertEquals(2000, symbolTable.size());
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testParseJavaTypeWithSymbolTable(){
+		SymbolTable symbolTable = new SymbolTable();
+		JavaType first = AbstractJavaParser.parseJavaType("Map<String, List<String>>", symbolTable);
+		JavaType second = AbstractJavaParser.parseJavaType("List<String>", symbolTable);
+		assertEquals(AbstractJavaParser.parseJavaType("Map<String, List<String>>"), first);
+		JavaType nestedList = first.getTypeParameters().get(1).getBaseType();
+		assertSame(nestedList.getBaseType(), second.getBaseType());
+		assertSame(first.getTypeParameters().get(0).getBaseType().getBaseType(),
+				second.getTypeParameters().get(0).getBaseType().getBaseType());
+	}
+	
+	@Test
+	public void testParseJavaParameterWithSymbolTable(){
+		SymbolTable symbolTable = new SymbolTable();
+		JavaParameter first = AbstractJavaParser.parseJavaParameter("String name", symbolTable);
+		JavaParameter second = AbstractJavaParser.parseJavaParameter("String... name", symbolTable);
+		assertSame(first.getType().getBaseType(), second.getType().getBaseType());
+		assertSame(first.getName(), second.getName());
+	}
+	
+	@Test
+	public void testParseWithoutSymbolTableSame() throws JavaParsingException{
+		assertEquals(FullJavaParser.parseType(TEST_CLASS),
+				FullJavaParser.parseType(TEST_CLASS, ParseMode.FULL, new SymbolTable()));
+	}
+	
+	@Test
+	public void testParsesShareIdentifiers() throws JavaParsingException{
+		SymbolTable symbolTable = new SymbolTable();
+		JavaClass first = (JavaClass) FullJavaParser.parseType(
+				new StringBuilder(TEST_CLASS), ParseMode.FULL, symbolTable);
+		JavaClass second = (JavaClass) FullJavaParser.parseType(
+				new StringBuilder(TEST_CLASS), ParseMode.FULL, symbolTable);
+		
+		// Package and imports
+		assertSame(first.getPackageDeclaration().getPackageName(), second.getPackageDeclaration().getPackageName());
+		JavaImportStatement firstImport = first.getImportStatements().get(0);
+		assertSame(firstImport.getImportName(), second.getImportStatements().get(0).getImportName());
+		
+		// Class names
+		assertSame(first.getClassName().getBaseType(), second.getClassName().getBaseType());
+		assertSame(first.getSuperClassName().getBaseType(), second.getSuperClassName().getBaseType());
+		assertSame(first.getImplementsInterfaceNames().get(0).getBaseType(),
+				second.getImplementsInterfaceNames().get(0).getBaseType());
+		assertSame(first.getClassName().getBaseType(),
+				first.getImplementsInterfaceNames().get(0).getTypeParameters().get(0).getBaseType().getBaseType());
+		
+		// Annotations
+		assertSame(first.getAnnotations().get(0).getName(), second.getAnnotations().get(0).getName());
+		assertSame(first.getAnnotations().get(0).getName(), first.getMethods().get(0).getAnnotations().get(0).getName());
+		assertSame(first.getFields().get(0).getAnnotations().get(0).getParameters().get(0).getLeft(),
+				second.getFields().get(0).getAnnotations().get(0).getParameters().get(0).getLeft());
+		
+		// Fields and methods
+		JavaField firstField = first.getFields().get(0);
+		JavaMethod firstMethod = first.getMethods().get(0);
+		JavaMethod secondMethod = second.getMethods().get(0);
+		assertSame(firstField.getName(), second.getFields().get(0).getName());
+		assertSame(firstField.getType().getBaseType(), firstMethod.getReturnType().getBaseType());
+		assertSame(firstField.getName(), firstMethod.getParameters().get(0).getName());
+		assertSame(firstMethod.getName(), secondMethod.getName());
+		assertSame(firstMethod.getParameters().get(1).getType().getBaseType(),
+				secondMethod.getParameters().get(1).getType().getBaseType());
+		assertSame(firstMethod.getThrowTypes().get(0), secondMethod.getThrowTypes().get(0));
+	}
+	
+	@Test
+	public void testParsedTypesEditable() throws JavaParsingException{
+		SymbolTable symbolTable = new SymbolTable();
+		JavaClass first = (JavaClass) FullJavaParser.parseType(
+				new StringBuilder(TEST_CLASS), ParseMode.FULL, symbolTable);
+		JavaClass second = (JavaClass) FullJavaParser.parseType(
+				new StringBuilder(TEST_CLASS), ParseMode.FULL, symbolTable);
+		
+		JavaType firstType = first.getFields().get(0).getType();
+		JavaType secondType = second.getFields().get(0).getType();
+		assertNotSame(firstType, secondType);
+		firstType.setCanonicalName("com.example.Test");
+		assertEquals("com.example.Test", firstType.getCanonicalName());
+		assertNull(secondType.getCanonicalName());
+		
+		JavaType firstInterface = first.getImplementsInterfaceNames().get(0);
+		int numTypeParameters = firstInterface.getTypeParameters().size();
+		firstInterface.getTypeParameters().clear();
+		assertEquals(numTypeParameters, second.getImplementsInterfaceNames().get(0).getTypeParameters().size());
+	}
+}
@@ -0,0 +1,130 @@
+package com.github.tadukoo.java.parsing.codetypes;
+
+import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaParameter;
+import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.JavaTypeParameter;
+import com.github.tadukoo.java.field.EditableJavaField;
+import com.github.tadukoo.java.method.EditableJavaMethod;
+import com.github.tadukoo.java.parsing.BaseJavaParserTest;
+import com.github.tadukoo.java.parsing.JavaLexer;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.ParsingPojo;
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JavaMemberParserTest extends BaseJavaParserTest{
+	
+	private static ParsingPojo parseMember(String content) throws JavaParsingException{
+		return JavaMemberParser.parseMember(JavaLexer.tokenize(content), 0);
+	}
+	
+	private static JavaType type(String baseType){
+		return JavaType.builder()
+				.baseType(baseType)
+				.build();
+	}
+	
+	@Test
+	public void testFieldNoValue() throws JavaParsingException{
+		ParsingPojo result = parseMember("String name;");
+		assertEquals(EditableJavaField.builder()
+				.type(type("String")).name("name")
+				.build(), result.parsedType());
+		assertEquals(3, result.nextTokenIndex());
+	}
+	
+	@Test
+	public void testFieldSeparateSemicolon() throws JavaParsingException{
+		ParsingPojo result = parseMember("String name ;\n");
+		assertEquals(EditableJavaField.builder()
+				.type(type("String")).name("name")
+				.build(), result.parsedType());
+		assertEquals(5, result.nextTokenIndex());
+	}
+	
+	@Test
+	public void testFieldWithValue() throws JavaParsingException{
+		ParsingPojo result = parseMember("Map<String, List<String>> names = new HashMap<>( ) ;");
+		assertEquals(EditableJavaField.builder()
+				.type(JavaType.builder()
+						.baseType("Map")
+						.typeParameter(JavaTypeParameter.builder().baseType(type("String")).build())
+						.typeParameter(JavaTypeParameter.builder()
+								.baseType(JavaType.builder()
+										.baseType("List")
+										.typeParameter(JavaTypeParameter.builder().baseType(type("String")).build())
+										.build())
+								.build())
+						.build())
+				.name("names")
+				.value("new HashMap<>( )")
+				.build(), result.parsedType());
+	}
+	
+	@Test
+	public void testFieldMissingSemicolon(){
+		JavaParsingException e = assertThrows(JavaParsingException.class, () -> parseMember("int count = 5"));
+		assertEquals(buildJavaParsingExceptionMessage(JavaCodeTypes.FIELD, "Failed to find semicolon at end of field"),
+				e.getMessage());
+	}
+	
+	@Test
+	public void testMethod() throws JavaParsingException{
+		ParsingPojo result = parseMember("List<String> getNames(int count) throws Exception{\n\treturn names;\n}");
+		assertEquals(EditableJavaMethod.builder()
+				.returnType(JavaType.builder()
+						.baseType("List")
+						.typeParameter(JavaTypeParameter.builder().baseType(type("String")).build())
+						.build())
+				.name("getNames")
+				.parameter(JavaParameter.builder().type(type("int")).name("count").build())
+				.throwType("Exception")
+				.line("return names;")
+				.build(), result.parsedType());
+	}
+	
+	@Test
+	public void testGenericMethod() throws JavaParsingException{
+		ParsingPojo result = parseMember("<T extends Comparable<T>> T max(T first, T second);");
+		EditableJavaMethod method = (EditableJavaMethod) result.parsedType();
+		assertEquals("<T extends Comparable<T>>", "<" + method.getTypeParameters().get(0) + ">");
+		assertEquals(type("T"), method.getReturnType());
+		assertEquals("max", method.getName());
+		assertEquals(2, method.getParameters().size());
+	}
+	
+	@Test
+	public void testConstructor() throws JavaParsingException{
+		ParsingPojo result = parseMember("Test(){ }");
+		EditableJavaMethod method = (EditableJavaMethod) result.parsedType();
+		assertEquals(type("Test"), method.getReturnType());
+		assertNull(method.getName());
+	}
+	
+	@Test
+	public void testPlainTokenList() throws JavaParsingException{
+		ParsingPojo result = JavaMemberParser.parseMember(ListUtil.createList("String", " ", "name;"), 0);
+		assertEquals(EditableJavaField.builder()
+				.type(type("String")).name("name")
+				.build(), result.parsedType());
+	}
+	
+	@Test
+	public void testNotAMember() throws JavaParsingException{
+		assertNull(parseMember("String name, other;"));
+		assertNull(JavaMemberParser.parseMember(List.of("yep"), 0));
+	}
+	
+	@Test
+	public void testInvalidTypeNotAMember() throws JavaParsingException{
+		assertNull(parseMember("List<String name;"));
+		assertNull(parseMember("Map<String, > names;"));
+	}
+}
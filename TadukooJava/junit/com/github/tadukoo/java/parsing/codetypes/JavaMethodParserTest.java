@@ -1137,6 +1137,24 @@ public class JavaMethodParserTest extends BaseJavaParserTest{
 								Test(""",
 						"Didn't complete parameters in method" +
 								"\nDidn't complete the method"
+				),
+				// Unexpected Content after Parameters
+				Pair.of(
+						"""
+								Test() default{}""",
+						"Found unexpected content after method parameters: 'default'"
+				),
+				// Empty Parameter
+				Pair.of(
+						"""
+								Test(String type,){}""",
+						"Found an empty parameter in method"
+				),
+				// Empty Throw Type
+				Pair.of(
+						"""
+								Test() throws{}""",
+						"Found an empty throw type in method"
 				)
 		);
 		
@@ -1242,4 +1260,22 @@ public class JavaMethodParserTest extends BaseJavaParserTest{
 	public void testNotAMethodParseJustMethod(){
 		assertNull(JavaMethodParser.parseJustMethod("@Test"));
 	}
+	
+	@Test
+	public void testLongMethod() throws JavaParsingException{
+		StringBuilder parameters = new StringBuilder();
+		StringBuilder content = new StringBuilder();
+		for(int i = 0; i < 500; i++){
+			if(i > 0){
+				parameters.append(", ");
+			}
+			parameters.append("Map<String, List<Integer>> map").append(i);
+			content.append("\tdoSomething(").append(i).append(");\n");
+		}
+		JavaMethod method = JavaMethodParser.parseMethod(
+				"public void test(" + parameters + ") throws Exception{\n" + content.toString().repeat(20) + "}");
+		assertEquals(500, method.getParameters().size());
+		assertEquals("map499", method.getParameters().get(499).getName());
+		assertEquals(10000, method.getLines().size());
+	}
 }
@@ -0,0 +1,96 @@
+package com.github.tadukoo.java.parsing.codetypes;
+
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.method.EditableJavaMethod;
+import com.github.tadukoo.java.method.JavaMethod;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.ParseMode;
+import com.github.tadukoo.java.parsing.classtypes.JavaClassParser;
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LazyContentLinesTest{
+	
+	private static final String TEST_CLASS = """
+			package com.example;
+			
+			public class Test{
+			\t
+				public int getValue(){
+					if(true){
+						doSomething();
+					}
+					return 5;
+				}
+			\t
+				public void empty(){ }
+			}
+			""";
+	
+	private JavaClass lazyClass;
+	private JavaMethod lazyMethod;
+	private LazyContentLines lazyLines;
+	
+	@BeforeEach
+	public void setup() throws JavaParsingException{
+		lazyClass = JavaClassParser.parseClass(TEST_CLASS, ParseMode.LAZY_METHOD_BODIES);
+		lazyMethod = lazyClass.getMethods().get(0);
+		lazyLines = assertInstanceOf(LazyContentLines.class, lazyMethod.getLines());
+	}
+	
+	@Test
+	public void testNotParsedUntilUsed(){
+		assertEquals("getValue", lazyMethod.getName());
+		assertEquals("int", lazyMethod.getReturnType().toString());
+		assertFalse(lazyLines.isParsed());
+	}
+	
+	@Test
+	public void testLines(){
+		assertEquals(ListUtil.createList("if(true){", "\tdoSomething();", "}", "return 5;"), lazyLines);
+		assertTrue(lazyLines.isParsed());
+	}
+	
+	@Test
+	public void testEmptyLines(){
+		assertTrue(lazyClass.getMethods().get(1).getLines().isEmpty());
+	}
+	
+	@Test
+	public void testSameAsFullParse() throws JavaParsingException{
+		JavaClass fullClass = JavaClassParser.parseClass(TEST_CLASS);
+		assertEquals(fullClass, lazyClass);
+		assertEquals(TEST_CLASS, lazyClass.toString());
+	}
+	
+	@Test
+	public void testFullJavaParser() throws JavaParsingException{
+		JavaClass clazz = (JavaClass) FullJavaParser.parseType(TEST_CLASS, ParseMode.LAZY_METHOD_BODIES);
+		assertInstanceOf(LazyContentLines.class, clazz.getMethods().get(0).getLines());
+		assertEquals(TEST_CLASS, clazz.toString());
+	}
+	
+	@Test
+	public void testAddLine(){
+		EditableJavaMethod method = (EditableJavaMethod) lazyMethod;
+		method.addLine("// Done");
+		List<String> lines = method.getLines();
+		assertEquals(5, lines.size());
+		assertEquals("// Done", lines.get(4));
+	}
+	
+	@Test
+	public void testFullModeParsesRightAway() throws JavaParsingException{
+		JavaClass clazz = JavaClassParser.parseClass(TEST_CLASS, ParseMode.FULL);
+		assertFalse(clazz.getMethods().get(0).getLines() instanceof LazyContentLines);
+	}
+}
@@ -0,0 +1,340 @@
+package com.github.tadukoo.java.serialization;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.JavaParameter;
+import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.JavaTypeParameter;
+import com.github.tadukoo.java.Visibility;
+import com.github.tadukoo.java.annotation.EditableJavaAnnotation;
+import com.github.tadukoo.java.annotation.UneditableJavaAnnotation;
+import com.github.tadukoo.java.code.staticcodeblock.UneditableJavaStaticCodeBlock;
+import com.github.tadukoo.java.comment.EditableJavaMultiLineComment;
+import com.github.tadukoo.java.comment.UneditableJavaSingleLineComment;
+import com.github.tadukoo.java.field.EditableJavaField;
+import com.github.tadukoo.java.field.JavaField;
+import com.github.tadukoo.java.field.UneditableJavaField;
+import com.github.tadukoo.java.importstatement.UneditableJavaImportStatement;
+import com.github.tadukoo.java.javaclass.EditableJavaClass;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.javaclass.UneditableJavaClass;
+import com.github.tadukoo.java.javadoc.EditableJavadoc;
+import com.github.tadukoo.java.method.EditableJavaMethod;
+import com.github.tadukoo.java.method.UneditableJavaMethod;
+import com.github.tadukoo.java.packagedeclaration.EditableJavaPackageDeclaration;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaCodeTypeCodecTest{
+	
+	private byte[] encode(JavaCodeType type) throws IOException{
+		ByteBuffer buffer = JavaCodeTypeCodec.encode(type);
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return bytes;
+	}
+	
+	private JavaCodeType decode(byte[] bytes) throws IOException{
+		return JavaCodeTypeCodec.decode(ByteBuffer.wrap(bytes));
+	}
+	
+	private JavaCodeType roundTrip(JavaCodeType type) throws IOException{
+		return decode(encode(type));
+	}
+	
+	@Test
+	public void testNull() throws IOException{
+		assertNull(roundTrip(null));
+	}
+	
+	@Test
+	public void testPackageDeclaration() throws IOException{
+		JavaCodeType type = EditableJavaPackageDeclaration.builder().packageName("com.example").build();
+		assertEquals(type, roundTrip(type));
+	}
+	
+	@Test
+	public void testImportStatement() throws IOException{
+		JavaCodeType type = UneditableJavaImportStatement.builder().isStatic().importName("com.example.Test").build();
+		JavaCodeType loaded = roundTrip(type);
+		assertEquals(type, loaded);
+		assertFalse(((UneditableJavaImportStatement) loaded).isEditable());
+	}
+	
+	@Test
+	public void testJavadoc() throws IOException{
+		JavaCodeType type = EditableJavadoc.builder()
+				.condensed()
+				.content("Some content")
+				.content("With unicode \u00e9\u4e16")
+				.author("Logan Ferree (Tadukoo)")
+				.version("Beta v.0.6")
+				.since("Beta v.0.6")
+				.param("test", "Some parameter")
+				.returnVal("Something")
+				.throwsInfo("IOException", "Sometimes")
+				.build();
+		assertEquals(type, roundTrip(type));
+	}
+	
+	@Test
+	public void testComments() throws IOException{
+		JavaCodeType singleLine = UneditableJavaSingleLineComment.builder().content("A comment").build();
+		assertEquals(singleLine, roundTrip(singleLine));
+		JavaCodeType multiLine = EditableJavaMultiLineComment.builder().content("Line 1").content("Line 2").build();
+		assertEquals(multiLine, roundTrip(multiLine));
+	}
+	
+	@Test
+	public void testAnnotation() throws IOException{
+		JavaCodeType type = UneditableJavaAnnotation.builder()
+				.name("Test")
+				.canonicalName("com.example.Test")
+				.parameter("value", "\"Something\"")
+				.build();
+		assertEquals(type, roundTrip(type));
+	}
+	
+	@Test
+	public void testStaticCodeBlock() throws IOException{
+		JavaCodeType type = UneditableJavaStaticCodeBlock.builder().line("int i = 0;").line("i++;").build();
+		assertEquals(type, roundTrip(type));
+	}
+	
+	@Test
+	public void testField() throws IOException{
+		JavaCodeType type = EditableJavaField.builder()
+				.javadoc(EditableJavadoc.builder().content("A field").build())
+				.annotation(EditableJavaAnnotation.builder().name("Test").build())
+				.visibility(Visibility.PRIVATE)
+				.isStatic().isFinal()
+				.type(JavaType.builder()
+						.baseType("Map")
+						.typeParameter(JavaTypeParameter.builder()
+								.baseType(JavaType.builder().baseType("String").build())
+								.build())
+						.typeParameter(JavaTypeParameter.builder()
+								.baseType(JavaType.builder().baseType("?").build())
+								.extendsType(JavaType.builder().baseType("Number").build())
+								.build())
+						.build())
+				.name("test")
+				.value("new HashMap<>()")
+				.build();
+		assertEquals(type, roundTrip(type));
+	}
+	
+	@Test
+	public void testMethod() throws IOException{
+		JavaCodeType type = UneditableJavaMethod.builder()
+				.visibility(Visibility.PROTECTED)
+				.isStatic().isFinal()
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder().baseType("T").build())
+						.build())
+				.returnType("List<T>")
+				.name("test")
+				.parameter(JavaParameter.builder().type(JavaType.builder().baseType("T").build()).name("items")
+						.vararg().build())
+				.throwType("IOException")
+				.line("return List.of(items);")
+				.build();
+		assertEquals(type, roundTrip(type));
+	}
+	
+	@Test
+	public void testAbstractMethod() throws IOException{
+		JavaCodeType type = EditableJavaMethod.builder().isAbstract().returnType("void").name("test").build();
+		assertEquals(type, roundTrip(type));
+	}
+	
+	@Test
+	public void testClass() throws IOException{
+		JavaCodeType type = EditableJavaClass.builder()
+				.packageName("com.example")
+				.importName("java.util.List", false)
+				.javadoc(EditableJavadoc.builder().content("A class").build())
+				.annotation(EditableJavaAnnotation.builder().name("Deprecated").build())
+				.visibility(Visibility.PUBLIC)
+				.isAbstract()
+				.className("Test")
+				.superClassName("Base<String>")
+				.implementsInterfaceName("Comparable<Test>")
+				.singleLineComment("First")
+				.field(EditableJavaField.builder().type("int").name("count").build())
+				.multiLineComment("Second", "Comment")
+				.staticCodeBlock(List.of("count = 5;"))
+				.innerClass(EditableJavaClass.builder().innerClass().className("Inner").build())
+				.method(EditableJavaMethod.builder().returnType("int").name("getCount").line("return count;")
+						.build())
+				.build();
+		JavaClass loaded = (JavaClass) roundTrip(type);
+		assertEquals(type, loaded);
+		assertEquals(((JavaClass) type).getInnerElementsOrder(), loaded.getInnerElementsOrder());
+		assertEquals(type.toString(), loaded.toString());
+	}
+	
+	@Test
+	public void testUneditableClass() throws IOException{
+		JavaCodeType type = UneditableJavaClass.builder()
+				.className("Test")
+				.field(UneditableJavaField.builder().type("int").name("count").build())
+				.build();
+		JavaClass loaded = (JavaClass) roundTrip(type);
+		assertEquals(type, loaded);
+		assertFalse(loaded.isEditable());
+	}
+	
+	@Test
+	public void testSourceSpans() throws IOException, JavaParsingException{
+		JavaClass clazz = (JavaClass) FullJavaParser.parseType("""
+				package com.example;
+				
+				public class Test{
+				\t
+					private int count;
+				}
+				""");
+		JavaClass loaded = (JavaClass) roundTrip(clazz);
+		assertTrue(loaded.hasSourceSpan());
+		assertEquals(clazz.getSourceOffsets(), loaded.getSourceOffsets());
+		assertEquals(clazz.getSourceStartPosition(), loaded.getSourceStartPosition());
+		assertEquals(clazz.getSourceEndPosition(), loaded.getSourceEndPosition());
+		JavaField field = clazz.getFields().get(0);
+		JavaField loadedField = loaded.getFields().get(0);
+		assertEquals(field.getSourceOffsets(), loadedField.getSourceOffsets());
+		assertEquals(field.getSourceStartPosition(), loadedField.getSourceStartPosition());
+		assertEquals(field.getSourceEndPosition(), loadedField.getSourceEndPosition());
+		assertEquals(clazz.getPackageDeclaration().getSourceOffsets(),
+				loaded.getPackageDeclaration().getSourceOffsets());
+	}
+	
+	@Test
+	public void testNoSourceSpan() throws IOException{
+		JavaCodeType type = EditableJavaPackageDeclaration.builder().packageName("com.example").build();
+		assertFalse(roundTrip(type).hasSourceSpan());
+	}
+	
+	@Test
+	public void testType() throws IOException{
+		JavaCodeType type = JavaType.builder()
+				.baseType("List")
+				.canonicalName("java.util.List")
+				.typeParameter(JavaTypeParameter.builder()
+						.baseType(JavaType.builder().baseType("T").build())
+						.build())
+				.build();
+		assertEquals(type, roundTrip(type));
+	}
+	
+	@Test
+	public void testTypeParameter() throws IOException{
+		JavaCodeType type = JavaTypeParameter.builder()
+				.baseType(JavaType.builder().baseType("T").build())
+				.extendsType(JavaType.builder().baseType("Comparable").build())
+				.build();
+		assertEquals(type, roundTrip(type));
+	}
+	
+	@Test
+	public void testParameter() throws IOException{
+		JavaCodeType type = JavaParameter.builder()
+				.type(JavaType.builder().baseType("String").build())
+				.name("args")
+				.vararg()
+				.build();
+		assertEquals(type, roundTrip(type));
+	}
+	
+	@Test
+	public void testStringTable() throws IOException{
+		// Repeating the same lines barely grows the encoded size, since each String is only stored once
+		EditableJavaMethod oneLine = EditableJavaMethod.builder().returnType("void").name("test")
+				.line("System.out.println(\"Some long line of code\");")
+				.build();
+		EditableJavaMethod manyLines = EditableJavaMethod.builder().returnType("void").name("test")
+				.lines(Collections.nCopies(100, "System.out.println(\"Some long line of code\");"))
+				.build();
+		assertTrue(encode(manyLines).length < encode(oneLine).length + 100 + 10);
+		assertEquals(manyLines, roundTrip(manyLines));
+	}
+	
+	@Test
+	public void testDecodeDirectBuffer() throws IOException{
+		JavaCodeType type = EditableJavadoc.builder().content("With unicode \u00e9\u4e16").build();
+		byte[] bytes = encode(type);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes).flip();
+		assertEquals(type, JavaCodeTypeCodec.decode(buffer));
+		assertFalse(buffer.hasRemaining());
+	}
+	
+	@Test
+	public void testDecodeMoreThanOne() throws IOException{
+		JavaCodeType first = EditableJavaPackageDeclaration.builder().packageName("com.example").build();
+		JavaCodeType second = UneditableJavaSingleLineComment.builder().content("A comment").build();
+		byte[] firstBytes = encode(first);
+		byte[] secondBytes = encode(second);
+		ByteBuffer buffer = ByteBuffer.allocate(firstBytes.length + secondBytes.length);
+		buffer.put(firstBytes).put(secondBytes).flip();
+		assertEquals(first, JavaCodeTypeCodec.decode(buffer));
+		assertEquals(second, JavaCodeTypeCodec.decode(buffer));
+		assertFalse(buffer.hasRemaining());
+	}
+	
+	@Test
+	public void testDecodeNotEncoded(){
+		assertThrows(StreamCorruptedException.class, () -> decode(new byte[]{1, 2, 3, 4, 5}));
+	}
+	
+	@Test
+	public void testDecodeUnsupportedVersion() throws IOException{
+		byte[] bytes = encode(null);
+		bytes[Integer.BYTES] = 99;
+		StreamCorruptedException e = assertThrows(StreamCorruptedException.class, () -> decode(bytes));
+		assertEquals("Unsupported format version: 99", e.getMessage());
+	}
+	
+	@Test
+	public void testDecodeUnknownTag() throws IOException{
+		byte[] bytes = encode(null);
+		bytes[bytes.length - 1] = 0x7E;
+		assertThrows(StreamCorruptedException.class, () -> decode(bytes));
+	}
+	
+	@Test
+	public void testDecodeCutOff() throws IOException{
+		byte[] bytes = encode(EditableJavaPackageDeclaration.builder().packageName("com.example").build());
+		assertThrows(IOException.class, () -> decode(Arrays.copyOf(bytes, bytes.length - 1)));
+		assertThrows(EOFException.class, () -> decode(Arrays.copyOf(bytes, 2)));
+	}
+	
+	@Test
+	public void testDecodeInvalidData() throws IOException{
+		// The package name is the last thing written, so make it null, which is rejected by the builder
+		byte[] bytes = encode(EditableJavaPackageDeclaration.builder().packageName("com.example").build());
+		bytes[bytes.length - 1] = 0;
+		assertThrows(StreamCorruptedException.class, () -> decode(bytes));
+	}
+	
+	@Test
+	public void testDecodeInvalidStringReference() throws IOException{
+		byte[] bytes = encode(EditableJavaPackageDeclaration.builder().packageName("com.example").build());
+		bytes[bytes.length - 1] = 5;
+		assertThrows(StreamCorruptedException.class, () -> decode(bytes));
+	}
+}
@@ -0,0 +1,131 @@
+package com.github.tadukoo.java.writing;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.Visibility;
+import com.github.tadukoo.java.field.UneditableJavaField;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.javaclass.UneditableJavaClass;
+import com.github.tadukoo.java.javadoc.UneditableJavadoc;
+import com.github.tadukoo.java.method.UneditableJavaMethod;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JavaCodeWriterTest{
+	
+	private static JavaClass createNestedClass(int depth){
+		JavaClass clazz = UneditableJavaClass.builder()
+				.innerClass()
+				.javadoc(UneditableJavadoc.builder()
+						.content("Inner class at depth " + depth)
+						.build())
+				.visibility(Visibility.PUBLIC).isStatic()
+				.className("Inner" + depth)
+				.field(UneditableJavaField.builder()
+						.type("String").name("text").value("\"text\\nwith newline\"")
+						.build())
+				.method(UneditableJavaMethod.builder()
+						.returnType("String").name("getText")
+						.line("return text;")
+						.build())
+				.build();
+		if(depth > 1){
+			JavaClass inner = createNestedClass(depth - 1);
+			clazz = UneditableJavaClass.builder()
+					.copy(clazz)
+					.innerClass(inner)
+					.build();
+		}
+		return clazz;
+	}
+	
+	private static JavaClass createOuterClass(){
+		return UneditableJavaClass.builder()
+				.packageName("com.example")
+				.importName("java.util.List", false)
+				.importName("com.example.other.Thing", false)
+				.importName("com.example.other.Thing.CONSTANT", true)
+				.visibility(Visibility.PUBLIC)
+				.className("Outer")
+				.innerClass(createNestedClass(4))
+				.field(UneditableJavaField.builder()
+						.type("int").name("value")
+						.build())
+				.method(UneditableJavaMethod.builder()
+						.visibility(Visibility.PUBLIC)
+						.returnType("int").name("getValue")
+						.line("return value;")
+						.build())
+				.build();
+	}
+	
+	private static String writeToString(JavaCodeType type) throws IOException{
+		StringBuilder code = new StringBuilder();
+		new JavaCodeWriter(code).write(type);
+		return code.toString();
+	}
+	
+	@Test
+	public void testWriteNestedClasses() throws IOException{
+		JavaClass clazz = createOuterClass();
+		assertEquals(clazz.toString(), writeToString(clazz));
+	}
+	
+	@Test
+	public void testWriteToWriter() throws IOException{
+		JavaClass clazz = createOuterClass();
+		StringWriter stringWriter = new StringWriter();
+		JavaCodeWriter writer = new JavaCodeWriter(stringWriter);
+		writer.write(clazz);
+		writer.flush();
+		assertEquals(clazz.toString(), stringWriter.toString());
+	}
+	
+	@Test
+	public void testWriteToChannel() throws IOException{
+		JavaClass clazz = createOuterClass();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		JavaCodeWriter writer = new JavaCodeWriter(Channels.newChannel(bytes));
+		writer.write(clazz);
+		writer.flush();
+		assertArrayEquals(clazz.toString().getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+	}
+	
+	@Test
+	public void testWriteToChannelMultipleBuffers() throws IOException{
+		// Build a class big enough to fill the channel buffers several times, with non-ASCII characters
+		List<String> lines = new ArrayList<>();
+		for(int i = 0; i < 2000; i++){
+			lines.add("text += \"\u00dcn\u00efc\u00f6d\u00e9 \u4e2d " + i + "\";");
+		}
+		JavaClass clazz = UneditableJavaClass.builder()
+				.className("Big")
+				.method(UneditableJavaMethod.builder()
+						.returnType("String").name("getText")
+						.lines(lines)
+						.build())
+				.build();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		JavaCodeWriter writer = new JavaCodeWriter(Channels.newChannel(bytes), StandardCharsets.UTF_16LE);
+		writer.write(clazz);
+		writer.flush();
+		assertArrayEquals(clazz.toString().getBytes(StandardCharsets.UTF_16LE), bytes.toByteArray());
+	}
+	
+	@Test
+	public void testWriteMultipleTypes() throws IOException{
+		JavaClass clazz = createOuterClass();
+		StringBuilder code = new StringBuilder();
+		new JavaCodeWriter(code).write(clazz).write(clazz.getFields().get(0));
+		assertEquals(clazz.toString() + clazz.getFields().get(0).toString(), code.toString());
+	}
+}
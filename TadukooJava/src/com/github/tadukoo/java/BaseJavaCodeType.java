@@ -0,0 +1,83 @@
+package com.github.tadukoo.java;
+
+/**
+ * Base Java Code Type is the base class for the {@link JavaCodeType Java code types} that can be parsed, which
+ * holds the span of source code they were parsed from (see {@link JavaSourceSpanned}). The span is kept as its 3
+ * packed longs, and a {@link JavaSourceSpan} is only built when one is asked for, so parsing doesn't need to create
+ * an extra object for every code type.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public abstract class BaseJavaCodeType implements JavaCodeType{
+	
+	/** The packed start and end offsets of the source span ({@link #NO_SPAN} if it wasn't parsed) */
+	private long sourceOffsets = NO_SPAN;
+	/** The packed line and column of the start of the source span ({@link #NO_SPAN} if it wasn't parsed) */
+	private long sourceStartPosition = NO_SPAN;
+	/** The packed line and column of the end of the source span ({@link #NO_SPAN} if it wasn't parsed) */
+	private long sourceEndPosition = NO_SPAN;
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * A new {@link JavaSourceSpan} is built each time, so the packed getters (e.g. {@link #getSourceOffsets()})
+	 * should be preferred where possible
+	 */
+	@Override
+	public JavaSourceSpan getSourceSpan(){
+		return hasSourceSpan()?new JavaSourceSpan(sourceOffsets, sourceStartPosition, sourceEndPosition):null;
+	}
+	
+	/**
+	 * Sets the source span - this is meant to be used by the parsers
+	 *
+	 * @param sourceSpan The {@link JavaSourceSpan source span} (can be null to remove the span)
+	 */
+	public void setSourceSpan(JavaSourceSpan sourceSpan){
+		if(sourceSpan == null){
+			setSourceSpan(NO_SPAN, NO_SPAN, NO_SPAN);
+		}else{
+			setSourceSpan(sourceSpan.offsets(), sourceSpan.startPosition(), sourceSpan.endPosition());
+		}
+	}
+	
+	/**
+	 * Sets the source span from its packed longs (see {@link JavaSourceSpanned#pack(int, int)}) - this is meant to
+	 * be used by the parsers
+	 *
+	 * @param offsets The packed start and end offsets of the source span
+	 * @param startPosition The packed line and column of the start of the source span
+	 * @param endPosition The packed line and column of the end of the source span
+	 */
+	public void setSourceSpan(long offsets, long startPosition, long endPosition){
+		sourceOffsets = offsets;
+		sourceStartPosition = startPosition;
+		sourceEndPosition = endPosition;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean hasSourceSpan(){
+		return sourceStartPosition != NO_SPAN;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public long getSourceOffsets(){
+		return sourceOffsets;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public long getSourceStartPosition(){
+		return sourceStartPosition;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public long getSourceEndPosition(){
+		return sourceEndPosition;
+	}
+}
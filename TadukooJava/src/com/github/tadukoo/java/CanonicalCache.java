@@ -0,0 +1,136 @@
+package com.github.tadukoo.java;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+
+/**
+ * Canonical Cache is used to hash-cons the canonical instances of {@link JavaType} and {@link JavaTypeParameter},
+ * so that structurally identical values share a single instance. The instances are only weakly held, so once
+ * nothing else uses a canonical instance it can be garbage collected, and its entry is removed the next time the
+ * cache is used. It's safe to use from multiple threads at once.
+ * <br><br>
+ * The structure of the values is checked with the given {@link BiPredicate} instead of {@link Object#equals},
+ * since it can compare the (already canonical) parts of the values by reference, and has to tell apart values that
+ * are equal but not identical (e.g. types whose type parameters have different canonical names).
+ *
+ * @param <Value> The type of values being cached
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+final class CanonicalCache<Value>{
+	/** The canonical instances, each mapped to itself by a {@link WeakKey} */
+	private final ConcurrentHashMap<WeakKey<Value>, WeakKey<Value>> entries = new ConcurrentHashMap<>();
+	/** The queue that the {@link WeakKey keys} are put on once their values have been garbage collected */
+	private final ReferenceQueue<Value> queue = new ReferenceQueue<>();
+	/** Used to check if two values have the same structure */
+	private final BiPredicate<Value, Value> sameStructure;
+	
+	/**
+	 * Constructs a new empty {@link CanonicalCache}
+	 *
+	 * @param sameStructure Used to check if two values have the same structure (the hash codes of the values
+	 * must be equal whenever this returns true)
+	 */
+	CanonicalCache(BiPredicate<Value, Value> sameStructure){
+		this.sameStructure = sameStructure;
+	}
+	
+	/**
+	 * Gets the canonical instance with the same structure as the given candidate. If there isn't one, the
+	 * candidate becomes the canonical instance
+	 *
+	 * @param candidate The value to find the canonical instance of
+	 * @return The canonical instance with the same structure as the candidate
+	 */
+	Value canonicalize(Value candidate){
+		expungeStaleEntries();
+		WeakKey<Value> lookupKey = new WeakKey<>(candidate, candidate.hashCode(), null, sameStructure);
+		while(true){
+			WeakKey<Value> existing = entries.get(lookupKey);
+			if(existing == null){
+				WeakKey<Value> newKey = new WeakKey<>(candidate, lookupKey.hash, queue, sameStructure);
+				existing = entries.putIfAbsent(newKey, newKey);
+				if(existing == null){
+					return candidate;
+				}
+			}
+			Value value = existing.get();
+			if(value != null){
+				return value;
+			}
+			// The existing value was just garbage collected, so remove it and try again
+			entries.remove(existing, existing);
+		}
+	}
+	
+	/**
+	 * @return The number of canonical instances in the cache (after removing any that were garbage collected)
+	 */
+	int size(){
+		expungeStaleEntries();
+		return entries.size();
+	}
+	
+	/**
+	 * Removes the entries whose values have been garbage collected
+	 */
+	private void expungeStaleEntries(){
+		Object staleKey;
+		while((staleKey = queue.poll()) != null){
+			entries.remove(staleKey, staleKey);
+		}
+	}
+	
+	/**
+	 * A weak reference to a value, used as a key in the cache. Keys are equal if their values have the same
+	 * structure, and a key whose value was garbage collected is only equal to itself
+	 *
+	 * @param <Value> The type of the value
+	 */
+	private static final class WeakKey<Value> extends WeakReference<Value>{
+		/** The hash code of the value, kept so it can still be used after the value is garbage collected */
+		private final int hash;
+		/** Used to check if two values have the same structure */
+		private final BiPredicate<Value, Value> sameStructure;
+		
+		/**
+		 * Constructs a new {@link WeakKey} for the given value
+		 *
+		 * @param value The value
+		 * @param hash The hash code of the value
+		 * @param queue The queue to put the key on once the value is garbage collected (can be null)
+		 * @param sameStructure Used to check if two values have the same structure
+		 */
+		private WeakKey(Value value, int hash, ReferenceQueue<Value> queue, BiPredicate<Value, Value> sameStructure){
+			super(value, queue);
+			this.hash = hash;
+			this.sameStructure = sameStructure;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean equals(Object other){
+			if(this == other){
+				return true;
+			}else if(other instanceof WeakKey<?> otherKey && hash == otherKey.hash){
+				Value value = get();
+				@SuppressWarnings("unchecked")
+				Value otherValue = (Value) otherKey.get();
+				return value != null && otherValue != null &&
+						(value == otherValue || sameStructure.test(value, otherValue));
+			}else{
+				return false;
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int hashCode(){
+			return hash;
+		}
+	}
+}
@@ -0,0 +1,285 @@
+package com.github.tadukoo.java;
+
+import com.github.tadukoo.java.annotation.JavaAnnotation;
+import com.github.tadukoo.util.tuple.Pair;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Util functions used for the structural equals and hashCode methods of the {@link JavaCodeType Java code types}.
+ * A null List is treated the same as an empty List, since they produce the same code, and {@link Pair Pairs} are
+ * compared by their left and right values. {@link JavaType Java Types} and {@link JavaAnnotation annotations} inside
+ * other code types are compared by how they're written, ignoring their canonical names.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class EqualityUtil{
+	
+	/** The hash code used for a null or empty List (matches the hash code of an empty List) */
+	private static final int EMPTY_LIST_HASH_CODE = 1;
+	
+	/** Not allowed to instantiate {@link EqualityUtil} */
+	private EqualityUtil(){ }
+	
+	/**
+	 * Checks if the two given Lists are equal, treating a null List as an empty List
+	 *
+	 * @param list1 The first List
+	 * @param list2 The second List
+	 * @return Whether the Lists contain equal elements in the same order or not
+	 */
+	public static boolean listsEqual(List<?> list1, List<?> list2){
+		if(list1 == list2){
+			return true;
+		}
+		int size1 = list1 == null?0:list1.size();
+		int size2 = list2 == null?0:list2.size();
+		if(size1 != size2){
+			return false;
+		}
+		for(int i = 0; i < size1; i++){
+			if(!Objects.equals(list1.get(i), list2.get(i))){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Calculates a hash code for the given List, treating a null List as an empty List
+	 *
+	 * @param list The List to calculate a hash code for
+	 * @return The hash code of the List
+	 */
+	public static int listHashCode(List<?> list){
+		if(list == null || list.isEmpty()){
+			return EMPTY_LIST_HASH_CODE;
+		}
+		return list.hashCode();
+	}
+	
+	/**
+	 * Checks if the two given Lists contain the same elements (the same number of times), ignoring their order and
+	 * treating a null List as an empty List. This is used for Lists that are sorted when the code is built
+	 * (e.g. the import statements of a class)
+	 *
+	 * @param list1 The first List
+	 * @param list2 The second List
+	 * @return Whether the Lists contain equal elements in any order or not
+	 */
+	public static boolean unorderedListsEqual(List<?> list1, List<?> list2){
+		if(listsEqual(list1, list2)){
+			return true;
+		}
+		int size1 = list1 == null?0:list1.size();
+		int size2 = list2 == null?0:list2.size();
+		if(size1 != size2){
+			return false;
+		}
+		
+		// Count the elements of the first List, then take away the elements of the second List
+		Map<Object, Integer> counts = new HashMap<>();
+		for(Object element: list1){
+			counts.merge(element, 1, Integer::sum);
+		}
+		for(Object element: list2){
+			Integer count = counts.get(element);
+			if(count == null){
+				return false;
+			}else if(count == 1){
+				counts.remove(element);
+			}else{
+				counts.put(element, count - 1);
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Calculates a hash code for the given List that doesn't depend on the order of its elements, to match
+	 * {@link #unorderedListsEqual(List, List)}
+	 *
+	 * @param list The List to calculate a hash code for
+	 * @return The hash code of the List
+	 */
+	public static int unorderedListHashCode(List<?> list){
+		int hashCode = EMPTY_LIST_HASH_CODE;
+		if(list != null){
+			for(Object element: list){
+				hashCode += Objects.hashCode(element);
+			}
+		}
+		return hashCode;
+	}
+	
+	/**
+	 * Checks if the two given Lists of {@link Pair Pairs} are equal, treating a null List as an empty List,
+	 * and comparing the Pairs by their left and right values
+	 *
+	 * @param list1 The first List of {@link Pair Pairs}
+	 * @param list2 The second List of {@link Pair Pairs}
+	 * @return Whether the Lists contain equal {@link Pair Pairs} in the same order or not
+	 */
+	public static boolean pairListsEqual(List<? extends Pair<?, ?>> list1, List<? extends Pair<?, ?>> list2){
+		if(list1 == list2){
+			return true;
+		}
+		int size1 = list1 == null?0:list1.size();
+		int size2 = list2 == null?0:list2.size();
+		if(size1 != size2){
+			return false;
+		}
+		for(int i = 0; i < size1; i++){
+			Pair<?, ?> pair1 = list1.get(i);
+			Pair<?, ?> pair2 = list2.get(i);
+			if(!Objects.equals(pair1.getLeft(), pair2.getLeft()) || !Objects.equals(pair1.getRight(), pair2.getRight())){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Calculates a hash code for the given List of {@link Pair Pairs}, treating a null List as an empty List,
+	 * and hashing the Pairs by their left and right values
+	 *
+	 * @param list The List of {@link Pair Pairs} to calculate a hash code for
+	 * @return The hash code of the List
+	 */
+	public static int pairListHashCode(List<? extends Pair<?, ?>> list){
+		int hashCode = EMPTY_LIST_HASH_CODE;
+		if(list != null){
+			for(Pair<?, ?> pair: list){
+				hashCode = 31 * hashCode + 31 * Objects.hashCode(pair.getLeft()) + Objects.hashCode(pair.getRight());
+			}
+		}
+		return hashCode;
+	}
+	
+	/**
+	 * Checks if the two given {@link JavaType Java Types} are written the same, ignoring their canonical names
+	 * (see {@link JavaType#equalsIgnoringCanonicalNames(JavaType)})
+	 *
+	 * @param type1 The first {@link JavaType}
+	 * @param type2 The second {@link JavaType}
+	 * @return Whether the {@link JavaType Java Types} are written the same or not
+	 */
+	public static boolean typesEqual(JavaType type1, JavaType type2){
+		return type1 == type2 || (type1 != null && type1.equalsIgnoringCanonicalNames(type2));
+	}
+	
+	/**
+	 * Calculates a hash code for the given {@link JavaType} that ignores its canonical names, to match
+	 * {@link #typesEqual(JavaType, JavaType)}
+	 *
+	 * @param type The {@link JavaType} to calculate a hash code for
+	 * @return The hash code of the {@link JavaType}
+	 */
+	public static int typeHashCode(JavaType type){
+		return type == null?0:type.hashCodeIgnoringCanonicalNames();
+	}
+	
+	/**
+	 * Checks if the two given Lists of {@link JavaType Java Types} are equal, treating a null List as an empty List,
+	 * and ignoring the canonical names of the {@link JavaType Java Types}
+	 *
+	 * @param list1 The first List of {@link JavaType Java Types}
+	 * @param list2 The second List of {@link JavaType Java Types}
+	 * @return Whether the Lists contain {@link JavaType Java Types} that are written the same in the same order or not
+	 */
+	public static boolean typeListsEqual(List<JavaType> list1, List<JavaType> list2){
+		if(list1 == list2){
+			return true;
+		}
+		int size1 = list1 == null?0:list1.size();
+		int size2 = list2 == null?0:list2.size();
+		if(size1 != size2){
+			return false;
+		}
+		for(int i = 0; i < size1; i++){
+			if(!typesEqual(list1.get(i), list2.get(i))){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Calculates a hash code for the given List of {@link JavaType Java Types}, treating a null List as an empty
+	 * List, and ignoring the canonical names of the {@link JavaType Java Types}
+	 *
+	 * @param list The List of {@link JavaType Java Types} to calculate a hash code for
+	 * @return The hash code of the List
+	 */
+	public static int typeListHashCode(List<JavaType> list){
+		int hashCode = EMPTY_LIST_HASH_CODE;
+		if(list != null){
+			for(JavaType type: list){
+				hashCode = 31 * hashCode + typeHashCode(type);
+			}
+		}
+		return hashCode;
+	}
+	
+	/**
+	 * Checks if the two given Lists of {@link JavaAnnotation annotations} are equal, treating a null List as an
+	 * empty List, and ignoring the canonical names of the annotations
+	 *
+	 * @param list1 The first List of {@link JavaAnnotation annotations}
+	 * @param list2 The second List of {@link JavaAnnotation annotations}
+	 * @return Whether the Lists contain annotations that are written the same in the same order or not
+	 */
+	public static boolean annotationListsEqual(
+			List<? extends JavaAnnotation> list1, List<? extends JavaAnnotation> list2){
+		if(list1 == list2){
+			return true;
+		}
+		int size1 = list1 == null?0:list1.size();
+		int size2 = list2 == null?0:list2.size();
+		if(size1 != size2){
+			return false;
+		}
+		for(int i = 0; i < size1; i++){
+			JavaAnnotation annotation1 = list1.get(i);
+			JavaAnnotation annotation2 = list2.get(i);
+			if(annotation1 != annotation2 &&
+					(annotation1 == null || !annotation1.equalsIgnoringCanonicalName(annotation2))){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Calculates a hash code for the given List of {@link JavaAnnotation annotations}, treating a null List as an
+	 * empty List, and ignoring the canonical names of the annotations
+	 *
+	 * @param list The List of {@link JavaAnnotation annotations} to calculate a hash code for
+	 * @return The hash code of the List
+	 */
+	public static int annotationListHashCode(List<? extends JavaAnnotation> list){
+		int hashCode = EMPTY_LIST_HASH_CODE;
+		if(list != null){
+			for(JavaAnnotation annotation: list){
+				hashCode = 31 * hashCode + (annotation == null?0:annotation.hashCodeIgnoringCanonicalName());
+			}
+		}
+		return hashCode;
+	}
+	
+	/**
+	 * Makes sure a computed hash code is never 0, so that 0 can be used to mark a hash code that
+	 * hasn't been computed (and cached) yet
+	 *
+	 * @param hashCode The computed hash code
+	 * @return The hash code, or 1 if it was 0
+	 */
+	public static int nonZeroHashCode(int hashCode){
+		return hashCode == 0?1:hashCode;
+	}
+}
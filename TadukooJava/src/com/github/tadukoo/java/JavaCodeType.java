@@ -1,12 +1,15 @@
 package com.github.tadukoo.java;
 
+import com.github.tadukoo.util.StringUtil;
+
 /**
  * Represents a generic type in Java
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
-public interface JavaCodeType extends JavaTokens{
+public interface JavaCodeType extends JavaTokens, JavaSourceSpanned{
 	
 	/** Newline followed by 2 tabs, for use in {@link #toBuilderCode()} implementations */
 	String NEWLINE_WITH_2_TABS = "\n\t\t";
@@ -34,4 +37,29 @@ public interface JavaCodeType extends JavaTokens{
 	 * @return The String of code to build the {@link JavaCodeType}
 	 */
 	String toBuilderCode();
+	
+	/**
+	 * @return The code of this code type with all of its lines indented, for when it's inside another code type
+	 * (e.g. a field inside a class) - code types that cache their code cache this as well
+	 */
+	default String toIndentedString(){
+		return StringUtil.indentAllLines(toString());
+	}
+	
+	/**
+	 * Adds the {@link RenderCache} of a code type this one is inside of, so that its cached code is cleared whenever
+	 * this code type is changed (see {@link RenderCache#track(JavaCodeType)}) - code types that can't be changed
+	 * don't need to keep it
+	 *
+	 * @param parent The {@link RenderCache} of the code type this one is inside of
+	 */
+	default void addParentCache(RenderCache parent){ }
+	
+	/**
+	 * Removes the {@link RenderCache} of a code type this one was inside of, which was added with
+	 * {@link #addParentCache(RenderCache)}
+	 *
+	 * @param parent The {@link RenderCache} of the code type this one was inside of
+	 */
+	default void removeParentCache(RenderCache parent){ }
 }
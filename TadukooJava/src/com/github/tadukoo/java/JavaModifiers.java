@@ -0,0 +1,130 @@
+package com.github.tadukoo.java;
+
+/**
+ * Java Modifiers packs the {@link Visibility} and the abstract, static, and final modifiers of a class, method, or
+ * field into the bits of a single {@code int}. This is how the modifiers are parsed, stored in the builders and
+ * the Java code types, and rendered, so that checking, combining, and comparing modifiers are bit operations.
+ * <br><br>
+ * At most one of the visibility bits ({@link #VISIBILITY_MASK}) should be set, and when none of them are set, the
+ * visibility is {@link Visibility#NONE}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class JavaModifiers implements JavaTokens{
+	
+	/** No modifiers (with {@link Visibility#NONE}) */
+	public static final int NONE = 0;
+	/** The bit for {@link Visibility#PUBLIC} */
+	public static final int PUBLIC = 1;
+	/** The bit for {@link Visibility#PROTECTED} */
+	public static final int PROTECTED = 1 << 1;
+	/** The bit for {@link Visibility#PRIVATE} */
+	public static final int PRIVATE = 1 << 2;
+	/** The bit for {@link JavaTokens#ABSTRACT_MODIFIER} */
+	public static final int ABSTRACT = 1 << 3;
+	/** The bit for {@link JavaTokens#STATIC_MODIFIER} */
+	public static final int STATIC = 1 << 4;
+	/** The bit for {@link JavaTokens#FINAL_MODIFIER} */
+	public static final int FINAL = 1 << 5;
+	/** All the visibility bits */
+	public static final int VISIBILITY_MASK = PUBLIC | PROTECTED | PRIVATE;
+	
+	/** Not allowed to instantiate {@link JavaModifiers} */
+	private JavaModifiers(){ }
+	
+	/**
+	 * @param modifiers The modifiers to check
+	 * @param flags The modifier bit(s) to look for
+	 * @return Whether any of the given bits are set in the modifiers or not
+	 */
+	public static boolean has(int modifiers, int flags){
+		return (modifiers & flags) != 0;
+	}
+	
+	/**
+	 * @param modifiers The modifiers to start from
+	 * @param flags The modifier bit(s) to set or clear
+	 * @param set Whether to set the bits (true) or clear them (false)
+	 * @return The modifiers with the given bits set or cleared
+	 */
+	public static int with(int modifiers, int flags, boolean set){
+		return set?modifiers | flags:modifiers & ~flags;
+	}
+	
+	/**
+	 * @param modifiers The modifiers to check
+	 * @return Whether more than one of the visibility bits are set in the modifiers or not
+	 */
+	public static boolean hasMultipleVisibilities(int modifiers){
+		return Integer.bitCount(modifiers & VISIBILITY_MASK) > 1;
+	}
+	
+	/**
+	 * @param modifiers The modifiers to grab the {@link Visibility} from
+	 * @return The {@link Visibility} in the modifiers - {@link Visibility#NONE} if no visibility bit is set
+	 * @throws IllegalArgumentException If more than one visibility bit is set
+	 */
+	public static Visibility getVisibility(int modifiers){
+		return switch(modifiers & VISIBILITY_MASK){
+			case NONE -> Visibility.NONE;
+			case PUBLIC -> Visibility.PUBLIC;
+			case PROTECTED -> Visibility.PROTECTED;
+			case PRIVATE -> Visibility.PRIVATE;
+			default -> throw new IllegalArgumentException("Found multiple visibility modifiers");
+		};
+	}
+	
+	/**
+	 * @param modifiers The modifiers to start from
+	 * @param visibility The {@link Visibility} to use
+	 * @return The modifiers with their visibility bits replaced by the bit for the given {@link Visibility}
+	 */
+	public static int withVisibility(int modifiers, Visibility visibility){
+		return (modifiers & ~VISIBILITY_MASK) | visibility.getModifier();
+	}
+	
+	/**
+	 * @param token The modifier token (e.g. {@link JavaTokens#STATIC_MODIFIER})
+	 * @return The bit for the given modifier token, or {@link #NONE} if it isn't a modifier
+	 */
+	public static int fromToken(String token){
+		if(token == null){
+			return NONE;
+		}
+		return switch(token){
+			case PUBLIC_MODIFIER -> PUBLIC;
+			case PROTECTED_MODIFIER -> PROTECTED;
+			case PRIVATE_MODIFIER -> PRIVATE;
+			case ABSTRACT_MODIFIER -> ABSTRACT;
+			case STATIC_MODIFIER -> STATIC;
+			case FINAL_MODIFIER -> FINAL;
+			default -> NONE;
+		};
+	}
+	
+	/**
+	 * Appends the given modifiers to the given StringBuilder in the order they're written in code (visibility,
+	 * abstract, static, and then final), each followed by a space
+	 *
+	 * @param builder The StringBuilder to append to
+	 * @param modifiers The modifiers to append
+	 * @return The given StringBuilder
+	 */
+	public static StringBuilder append(StringBuilder builder, int modifiers){
+		if(has(modifiers, VISIBILITY_MASK)){
+			builder.append(getVisibility(modifiers).getToken()).append(' ');
+		}
+		if(has(modifiers, ABSTRACT)){
+			builder.append(ABSTRACT_MODIFIER).append(' ');
+		}
+		if(has(modifiers, STATIC)){
+			builder.append(STATIC_MODIFIER).append(' ');
+		}
+		if(has(modifiers, FINAL)){
+			builder.append(FINAL_MODIFIER).append(' ');
+		}
+		return builder;
+	}
+}
@@ -4,6 +4,7 @@ import com.github.tadukoo.util.StringUtil;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents a Java parameter (e.g. {@code Map<String, Object> theMap} or {@code String ... strings})
@@ -115,6 +116,8 @@ public class JavaParameter implements JavaCodeType{
 	private final String name;
 	/** Whether the parameter is a variable argument or not */
 	private final boolean vararg;
+	/** The cached hash code (0 if it hasn't been calculated yet) */
+	private int hashCode;
 	
 	/**
 	 * Constructs a new {@link JavaParameter} using the following parameters
@@ -163,16 +166,64 @@ public class JavaParameter implements JavaCodeType{
 		return vararg;
 	}
 	
+	/**
+	 * Gets a copy of this parameter that uses the {@link JavaType#toCanonical() canonical} instance of its
+	 * {@link JavaType type}, so that it can't be changed
+	 *
+	 * @return This parameter if its {@link JavaType type} is already canonical, or a copy with the canonical type
+	 */
+	public JavaParameter withCanonicalType(){
+		return type.isCanonical()?this:new JavaParameter(type.toCanonical(), name, vararg);
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object otherParameter){
-		if(otherParameter instanceof JavaParameter parameter){
-			return StringUtil.equals(this.toString(), parameter.toString());
+		if(this == otherParameter){
+			return true;
+		}else if(otherParameter instanceof JavaParameter parameter){
+			return EqualityUtil.typesEqual(type, parameter.type) && StringUtil.equals(name, parameter.name) &&
+					vararg == parameter.vararg;
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * If the {@link JavaType type} is {@link JavaType#isCanonical() canonical}, the hash code is only calculated once
+	 * and then cached. Otherwise it's calculated each time, since the {@link JavaType type} can be changed
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = EqualityUtil.nonZeroHashCode(
+					(31 * EqualityUtil.typeHashCode(type) + Objects.hashCode(name)) * 31 + Boolean.hashCode(vararg));
+			if(type.isCanonical()){
+				hashCode = hash;
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * A parameter can't be changed itself, so the parent is passed on to its {@link JavaType type}
+	 */
+	@Override
+	public void addParentCache(RenderCache parent){
+		type.addParentCache(parent);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		type.removeParentCache(parent);
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
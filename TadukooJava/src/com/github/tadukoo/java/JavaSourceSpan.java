@@ -0,0 +1,16 @@
+package com.github.tadukoo.java;
+
+/**
+ * Java Source Span is the span of source code that a {@link JavaSourceSpanned} was parsed from. It's stored
+ * compactly as 3 packed longs (see {@link JavaSourceSpanned#pack(int, int)}), and is immutable, so a code type only
+ * needs a single reference to it (which is null when it wasn't parsed).
+ *
+ * @param offsets The packed start offset (inclusive) and end offset (exclusive) in the source
+ * @param startPosition The packed line and column (both starting at 1) of the start offset
+ * @param endPosition The packed line and column (both starting at 1) of the end offset
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public record JavaSourceSpan(long offsets, long startPosition, long endPosition){ }
@@ -0,0 +1,133 @@
+package com.github.tadukoo.java;
+
+/**
+ * Java Source Spanned is implemented by {@link JavaCodeType Java code types} to give the span of source code they
+ * were parsed from. The span is stored compactly as 3 packed longs, each holding 2 ints (a {@link JavaSourceSpan}
+ * holds the same 3 longs when the span is needed as one object):
+ * <ul>
+ *     <li>The offsets: the start offset (inclusive) and end offset (exclusive) in the source</li>
+ *     <li>The start position: the line and column (both starting at 1) of the start offset</li>
+ *     <li>The end position: the line and column (both starting at 1) of the end offset</li>
+ * </ul>
+ * Spans are only set by the parsers (on code types that keep track of them, see {@link BaseJavaCodeType}), and code
+ * types that weren't parsed (or code types that don't keep track of spans) have no {@link JavaSourceSpan} and return
+ * {@link #NO_SPAN} for the packed longs. Spans are not part of
+ * equality, and they aren't updated when an editable code type is changed, so they always refer to the source code
+ * that was originally parsed.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public interface JavaSourceSpanned{
+	
+	/** The value used for the packed longs when there's no span */
+	long NO_SPAN = 0L;
+	
+	/**
+	 * Packs the given ints into a long
+	 *
+	 * @param high The int to put in the high 32 bits
+	 * @param low The int to put in the low 32 bits
+	 * @return The packed long
+	 */
+	static long pack(int high, int low){
+		return ((long) high << 32) | (low & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * @param packed A packed long
+	 * @return The int in the high 32 bits of the packed long
+	 */
+	static int high(long packed){
+		return (int) (packed >>> 32);
+	}
+	
+	/**
+	 * @param packed A packed long
+	 * @return The int in the low 32 bits of the packed long
+	 */
+	static int low(long packed){
+		return (int) packed;
+	}
+	
+	/**
+	 * @return The {@link JavaSourceSpan source span}, or null if there isn't one
+	 */
+	default JavaSourceSpan getSourceSpan(){
+		return null;
+	}
+	
+	/**
+	 * @return Whether this has a source span or not
+	 */
+	default boolean hasSourceSpan(){
+		return getSourceSpan() != null;
+	}
+	
+	/**
+	 * @return The packed start and end offsets of the source span, or {@link #NO_SPAN}
+	 */
+	default long getSourceOffsets(){
+		JavaSourceSpan sourceSpan = getSourceSpan();
+		return sourceSpan == null?NO_SPAN:sourceSpan.offsets();
+	}
+	
+	/**
+	 * @return The packed line and column of the start of the source span, or {@link #NO_SPAN}
+	 */
+	default long getSourceStartPosition(){
+		JavaSourceSpan sourceSpan = getSourceSpan();
+		return sourceSpan == null?NO_SPAN:sourceSpan.startPosition();
+	}
+	
+	/**
+	 * @return The packed line and column of the end of the source span, or {@link #NO_SPAN}
+	 */
+	default long getSourceEndPosition(){
+		JavaSourceSpan sourceSpan = getSourceSpan();
+		return sourceSpan == null?NO_SPAN:sourceSpan.endPosition();
+	}
+	
+	/**
+	 * @return The offset in the source where the span starts
+	 */
+	default int getSourceStartOffset(){
+		return high(getSourceOffsets());
+	}
+	
+	/**
+	 * @return The offset in the source right after the end of the span
+	 */
+	default int getSourceEndOffset(){
+		return low(getSourceOffsets());
+	}
+	
+	/**
+	 * @return The line (starting at 1) where the span starts, or 0 if there's no span
+	 */
+	default int getSourceStartLine(){
+		return high(getSourceStartPosition());
+	}
+	
+	/**
+	 * @return The column (starting at 1) where the span starts, or 0 if there's no span
+	 */
+	default int getSourceStartColumn(){
+		return low(getSourceStartPosition());
+	}
+	
+	/**
+	 * @return The line (starting at 1) right after the end of the span, or 0 if there's no span
+	 */
+	default int getSourceEndLine(){
+		return high(getSourceEndPosition());
+	}
+	
+	/**
+	 * @return The column (starting at 1) right after the end of the span, or 0 if there's no span
+	 */
+	default int getSourceEndColumn(){
+		return low(getSourceEndPosition());
+	}
+}
@@ -5,6 +5,7 @@ import com.github.tadukoo.util.StringUtil;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents a type in Java (e.g. {@code String} or {@code List<String>} or
@@ -99,16 +100,37 @@ public class JavaType implements JavaCodeType{
 			if(StringUtil.isBlank(baseType)){
 				throw new IllegalArgumentException("baseType can't be empty!");
 			}
-			return new JavaType(baseType, canonicalName, typeParameters);
+			return new JavaType(baseType, canonicalName, typeParameters, false);
+		}
+		
+		/**
+		 * Builds the {@link JavaType} and returns its canonical instance (see {@link JavaType#toCanonical()})
+		 *
+		 * @return The canonical {@link JavaType} using the given parameters
+		 */
+		public JavaType buildCanonical(){
+			return build().toCanonical();
 		}
 	}
 	
+	/** The cache of canonical {@link JavaType Java Types} */
+	private static final CanonicalCache<JavaType> CANONICAL_TYPES = new CanonicalCache<>(JavaType::sameStructure);
+	
 	/** The base type of the Java Type (e.g. {@code List} in {@code List<String>}) */
 	private final String baseType;
 	/** The canonical name (package.name.ClassName) of the base type */
 	private String canonicalName;
 	/** The type parameters of the Java Type (e.g. {@code String} in {@code List<String>}) */
 	private final List<JavaTypeParameter> typeParameters;
+	/** Whether this is the canonical instance of the Java Type or not */
+	private final boolean canonical;
+	/**
+	 * Passes on changes to the type parameters to the code types the Java Type is inside of (null for a
+	 * {@link #isCanonical() canonical} Java Type, since it can't be changed)
+	 */
+	private final RenderCache changes;
+	/** The cached hash code of the Java Type (0 if it hasn't been calculated yet) */
+	private int hashCode;
 	
 	/**
 	 * Constructs a new {@link JavaType} using the given parameters
@@ -116,11 +138,14 @@ public class JavaType implements JavaCodeType{
 	 * @param baseType The base type of the Java Type (e.g. {@code List} in {@code List<String>})
 	 * @param canonicalName The canonical name (package.name.ClassName) of the base type
 	 * @param typeParameters The type parameters of the Java Type (e.g. {@code String} in {@code List<String>})
+	 * @param canonical Whether this is the canonical instance of the Java Type or not
 	 */
-	private JavaType(String baseType, String canonicalName, List<JavaTypeParameter> typeParameters){
+	private JavaType(String baseType, String canonicalName, List<JavaTypeParameter> typeParameters, boolean canonical){
 		this.baseType = baseType;
 		this.canonicalName = canonicalName;
-		this.typeParameters = typeParameters;
+		this.canonical = canonical;
+		changes = canonical?null:new RenderCache(true);
+		this.typeParameters = canonical?typeParameters:changes.track(typeParameters);
 	}
 	
 	/**
@@ -152,8 +177,12 @@ public class JavaType implements JavaCodeType{
 	
 	/**
 	 * @param canonicalName The canonical name (package.name.ClassName) of the base type
+	 * @throws UnsupportedOperationException If this is a {@link #isCanonical() canonical} Java Type
 	 */
 	public void setCanonicalName(String canonicalName){
+		if(canonical){
+			throw new UnsupportedOperationException("Can't change the canonical name of a canonical JavaType");
+		}
 		this.canonicalName = canonicalName;
 	}
 	
@@ -164,17 +193,146 @@ public class JavaType implements JavaCodeType{
 		return typeParameters;
 	}
 	
-	/** {@inheritDoc} */
+	/**
+	 * @return Whether this is the canonical instance of the Java Type or not
+	 */
+	public boolean isCanonical(){
+		return canonical;
+	}
+	
+	/**
+	 * Gets the canonical instance of this Java Type. Structurally identical Java Types (including the canonical name)
+	 * share a single canonical instance, which can't be modified and whose type parameters are canonical as well.
+	 * Comparing a Java Type to itself is cheap, so comparing canonical instances is usually cheap. The canonical
+	 * instances are only weakly held, so they can be garbage collected once nothing else uses them
+	 *
+	 * @return The canonical instance of this Java Type
+	 */
+	public JavaType toCanonical(){
+		if(canonical){
+			return this;
+		}
+		List<JavaTypeParameter> canonicalTypeParameters;
+		if(typeParameters == null || typeParameters.isEmpty()){
+			canonicalTypeParameters = List.of();
+		}else{
+			JavaTypeParameter[] params = new JavaTypeParameter[typeParameters.size()];
+			for(int i = 0; i < params.length; i++){
+				params[i] = typeParameters.get(i).toCanonical();
+			}
+			canonicalTypeParameters = List.of(params);
+		}
+		return CANONICAL_TYPES.canonicalize(new JavaType(baseType, canonicalName, canonicalTypeParameters, true));
+	}
+	
+	/**
+	 * @return The number of canonical Java Types that are currently cached
+	 */
+	static int getNumCanonicalTypes(){
+		return CANONICAL_TYPES.size();
+	}
+	
+	/**
+	 * Checks if the given canonical Java Types have the same structure. Their type parameters are canonical, so
+	 * they only need to be compared by reference
+	 *
+	 * @param type1 The first canonical Java Type
+	 * @param type2 The second canonical Java Type
+	 * @return Whether the Java Types have the same structure or not
+	 */
+	private static boolean sameStructure(JavaType type1, JavaType type2){
+		if(!StringUtil.equals(type1.baseType, type2.baseType) ||
+				!StringUtil.equals(type1.canonicalName, type2.canonicalName) ||
+				type1.typeParameters.size() != type2.typeParameters.size()){
+			return false;
+		}
+		for(int i = 0; i < type1.typeParameters.size(); i++){
+			if(type1.typeParameters.get(i) != type2.typeParameters.get(i)){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * The same instance (e.g. a shared {@link #isCanonical() canonical} Java Type) is checked first as a fast path.
+	 * Only the canonical name of the Java Type itself is compared, the type parameters are compared by how they're
+	 * written (see {@link #equalsIgnoringCanonicalNames(JavaType)}), so two different canonical Java Types can still
+	 * be equal if their type parameters only differ by their canonical names
+	 */
 	@Override
 	public boolean equals(Object otherType){
-		if(otherType instanceof JavaType type){
-			return StringUtil.equals(this.toString(), type.toString()) &&
-					StringUtil.equals(this.getCanonicalName(), type.getCanonicalName());
+		if(this == otherType){
+			return true;
+		}else if(otherType instanceof JavaType type){
+			return StringUtil.equals(canonicalName, type.canonicalName) && equalsIgnoringCanonicalNames(type);
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * For a {@link #isCanonical() canonical} Java Type, the hash code is only calculated once and then cached.
+	 * Other Java Types calculate it each time, since their canonical name and type parameters can be changed
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = EqualityUtil.nonZeroHashCode(
+					31 * hashCodeIgnoringCanonicalNames() + Objects.hashCode(canonicalName));
+			if(canonical){
+				hashCode = hash;
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * Checks if the given Java Type is written the same as this one, ignoring the canonical names of it and its type
+	 * parameters. This is how Java Types are compared when they're part of other code types (e.g. the type of a
+	 * field), since only how the type is written matters there
+	 *
+	 * @param otherType The other Java Type to compare to
+	 * @return Whether the Java Types are written the same or not
+	 */
+	public boolean equalsIgnoringCanonicalNames(JavaType otherType){
+		return this == otherType || (otherType != null && StringUtil.equals(baseType, otherType.baseType) &&
+				EqualityUtil.listsEqual(typeParameters, otherType.typeParameters));
+	}
+	
+	/**
+	 * @return A hash code for this Java Type that ignores the canonical names of it and its type parameters, to
+	 * match {@link #equalsIgnoringCanonicalNames(JavaType)}
+	 */
+	public int hashCodeIgnoringCanonicalNames(){
+		return 31 * baseType.hashCode() + EqualityUtil.listHashCode(typeParameters);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * {@link #isCanonical() Canonical} Java Types can't be changed, so they don't keep the parent
+	 */
+	@Override
+	public void addParentCache(RenderCache parent){
+		if(changes != null){
+			changes.addParent(parent);
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		if(changes != null){
+			changes.removeParent(parent);
+		}
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
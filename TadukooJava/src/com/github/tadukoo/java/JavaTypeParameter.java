@@ -1,7 +1,5 @@
 package com.github.tadukoo.java;
 
-import com.github.tadukoo.util.StringUtil;
-
 /**
  * Represents a Type Parameter in Java (e.g. {@code String} in {@code List<String>})
  *
@@ -84,10 +82,24 @@ public class JavaTypeParameter implements JavaCodeType{
 			if(baseType == null){
 				throw new IllegalArgumentException("baseType can't be empty!");
 			}
-			return new JavaTypeParameter(baseType, extendsType);
+			return new JavaTypeParameter(baseType, extendsType, false);
+		}
+		
+		/**
+		 * Builds the {@link JavaTypeParameter} and returns its canonical instance
+		 * (see {@link JavaTypeParameter#toCanonical()})
+		 *
+		 * @return The canonical {@link JavaTypeParameter} using the given parameters
+		 */
+		public JavaTypeParameter buildCanonical(){
+			return build().toCanonical();
 		}
 	}
 	
+	/** The cache of canonical {@link JavaTypeParameter Java Type Parameters} */
+	private static final CanonicalCache<JavaTypeParameter> CANONICAL_TYPE_PARAMETERS =
+			new CanonicalCache<>(JavaTypeParameter::sameStructure);
+	
 	/** The base {@link JavaType type} of the type parameter (e.g.
 	 * {@code ?} in {@code List<? extends String>} or
 	 * {@code String} in {@code List<String>} or
@@ -97,6 +109,10 @@ public class JavaTypeParameter implements JavaCodeType{
 	 * {@code String} in {@code List<? extends String>} or
 	 * {@code List<String>} in {@code List<? extends List<String>}) */
 	private final JavaType extendsType;
+	/** Whether this is the canonical instance of the type parameter or not */
+	private final boolean canonical;
+	/** The cached hash code (0 if it hasn't been calculated yet) */
+	private int hashCode;
 	
 	/**
 	 * Constructs a new {@link JavaTypeParameter} with the given parameters
@@ -108,10 +124,12 @@ public class JavaTypeParameter implements JavaCodeType{
 	 * @param extendsType The {@link JavaType type} being extended in the type parameter (e.g.
 	 * {@code String} in {@code List<? extends String>} or
 	 * {@code List<String>} in {@code List<? extends List<String>})
+	 * @param canonical Whether this is the canonical instance of the type parameter or not
 	 */
-	private JavaTypeParameter(JavaType baseType, JavaType extendsType){
+	private JavaTypeParameter(JavaType baseType, JavaType extendsType, boolean canonical){
 		this.baseType = baseType;
 		this.extendsType = extendsType;
+		this.canonical = canonical;
 	}
 	
 	/**
@@ -146,16 +164,100 @@ public class JavaTypeParameter implements JavaCodeType{
 		return extendsType;
 	}
 	
-	/** {@inheritDoc} */
+	/**
+	 * @return Whether this is the canonical instance of the type parameter or not
+	 */
+	public boolean isCanonical(){
+		return canonical;
+	}
+	
+	/**
+	 * Gets the canonical instance of this type parameter. Structurally identical type parameters share a single
+	 * canonical instance, whose {@link JavaType types} are canonical as well (see {@link JavaType#toCanonical()})
+	 *
+	 * @return The canonical instance of this type parameter
+	 */
+	public JavaTypeParameter toCanonical(){
+		if(canonical){
+			return this;
+		}
+		return CANONICAL_TYPE_PARAMETERS.canonicalize(new JavaTypeParameter(baseType.toCanonical(),
+				extendsType == null?null:extendsType.toCanonical(), true));
+	}
+	
+	/**
+	 * Checks if the given canonical type parameters have the same structure. Their types are canonical, so
+	 * they only need to be compared by reference
+	 *
+	 * @param typeParam1 The first canonical type parameter
+	 * @param typeParam2 The second canonical type parameter
+	 * @return Whether the type parameters have the same structure or not
+	 */
+	private static boolean sameStructure(JavaTypeParameter typeParam1, JavaTypeParameter typeParam2){
+		return typeParam1.baseType == typeParam2.baseType && typeParam1.extendsType == typeParam2.extendsType;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * The same instance (e.g. a shared {@link #isCanonical() canonical} type parameter) is checked first as a fast
+	 * path. The {@link JavaType types} are compared by how they're written
+	 * (see {@link EqualityUtil#typesEqual(JavaType, JavaType)}), so two different canonical type parameters can
+	 * still be equal if their types only differ by their canonical names
+	 */
 	@Override
 	public boolean equals(Object otherTypeParam){
-		if(otherTypeParam instanceof JavaTypeParameter typeParam){
-			return StringUtil.equals(this.toString(), typeParam.toString());
+		if(this == otherTypeParam){
+			return true;
+		}else if(otherTypeParam instanceof JavaTypeParameter typeParam){
+			return EqualityUtil.typesEqual(baseType, typeParam.baseType) &&
+					EqualityUtil.typesEqual(extendsType, typeParam.extendsType);
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * For a {@link #isCanonical() canonical} type parameter, the hash code is only calculated once and then cached.
+	 * Other type parameters calculate it each time, since their {@link JavaType types} can be changed
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = EqualityUtil.nonZeroHashCode(
+					31 * EqualityUtil.typeHashCode(baseType) + EqualityUtil.typeHashCode(extendsType));
+			if(canonical){
+				hashCode = hash;
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * A type parameter can't be changed itself, so the parent is passed on to its {@link JavaType types}
+	 */
+	@Override
+	public void addParentCache(RenderCache parent){
+		baseType.addParentCache(parent);
+		if(extendsType != null){
+			extendsType.addParentCache(parent);
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		baseType.removeParentCache(parent);
+		if(extendsType != null){
+			extendsType.removeParentCache(parent);
+		}
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
@@ -0,0 +1,231 @@
+package com.github.tadukoo.java;
+
+import com.github.tadukoo.util.StringUtil;
+import com.github.tadukoo.util.functional.function.Function;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Render Cache is used by the {@link JavaCodeType Java code types} to cache the code they build in toString.
+ * <br><br>
+ * An uneditable code type can't be changed (and only contains uneditable code types, unmodifiable Lists, and
+ * {@link JavaType#toCanonical() canonical} {@link JavaType Java Types}), so it builds its code once.
+ * An editable code type clears its cached code whenever it's changed. Each change to the code type itself (through
+ * its setters) or to its Lists (which are {@link TrackedList Tracked Lists}) is passed on to the Render Caches of the
+ * code types it's inside of (its parents), so they clear their cached code as well. The code types inside an
+ * editable code type are {@link #track(JavaCodeType) tracked} when they're added to it, which makes it one of their
+ * parents. This way, checking the cached code never needs to look at anything inside the code type, and a change
+ * only clears the cached code of the code types it's actually inside of.
+ * <br><br>
+ * A Render Cache isn't thread-safe for editable code types, same as the rest of the editable code types.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class RenderCache{
+	
+	/** Whether the code type is editable or not */
+	private final boolean editable;
+	/** The Render Caches of the code types this one is inside of (null if there aren't any yet) */
+	private List<RenderCache> parents;
+	/** The cached code (null if it hasn't been built yet) */
+	private String rendered;
+	/** The cached code with all of its lines indented (null if it hasn't been built yet) */
+	private String indented;
+	
+	/**
+	 * Constructs a new {@link RenderCache} for a code type
+	 *
+	 * @param editable Whether the code type is editable or not
+	 */
+	public RenderCache(boolean editable){
+		this.editable = editable;
+	}
+	
+	/**
+	 * Adds the Render Cache of a code type this one is inside of, so that it's cleared whenever this code type is
+	 * changed. The same parent can be added more than once (e.g. if the code type is in one of its Lists twice), in
+	 * which case it needs to be removed as many times as well. Nothing is kept for an uneditable code type, since it
+	 * can't be changed
+	 *
+	 * @param parent The Render Cache of the code type this one is inside of
+	 */
+	public void addParent(RenderCache parent){
+		if(editable){
+			if(parents == null){
+				parents = new ArrayList<>(1);
+			}
+			parents.add(parent);
+		}
+	}
+	
+	/**
+	 * Removes the Render Cache of a code type this one was inside of (once), so that it's no longer cleared when this
+	 * code type is changed
+	 *
+	 * @param parent The Render Cache of the code type this one was inside of
+	 */
+	public void removeParent(RenderCache parent){
+		if(parents != null){
+			parents.remove(parent);
+		}
+	}
+	
+	/**
+	 * Tracks the given code type inside the code type, so that changes made to it clear the cached code. For an
+	 * uneditable code type, there's nothing to track, since the code types inside it can't be changed either
+	 *
+	 * @param codeType The {@link JavaCodeType code type} inside the code type (can be null)
+	 * @param <Type> The type of code type
+	 * @return The given code type
+	 */
+	public <Type extends JavaCodeType> Type track(Type codeType){
+		if(editable && codeType != null){
+			codeType.addParentCache(this);
+		}
+		return codeType;
+	}
+	
+	/**
+	 * Gets the {@link JavaType} to use in the code type. An editable code type {@link #track(JavaCodeType) tracks}
+	 * the {@link JavaType}, while an uneditable code type uses its {@link JavaType#toCanonical() canonical} instance
+	 * instead, so that it can't be changed
+	 *
+	 * @param type The {@link JavaType} of the code type (can be null)
+	 * @return The given {@link JavaType} for an editable code type, or its canonical instance for an uneditable one
+	 */
+	public JavaType track(JavaType type){
+		if(!editable){
+			return type == null?null:type.toCanonical();
+		}
+		if(type != null){
+			type.addParentCache(this);
+		}
+		return type;
+	}
+	
+	/**
+	 * Wraps the given List of the code type in a {@link TrackedList} if the code type is editable, so that changes
+	 * made to it directly (or to the code types in it) clear the cached code. For an uneditable code type, the List
+	 * is copied into an unmodifiable List instead, so that it can't be changed afterwards (by the code type or whoever
+	 * built it)
+	 *
+	 * @param list The List of the code type (can be null)
+	 * @param <Element> The type of elements in the List
+	 * @return The {@link TrackedList} for an editable code type, or an unmodifiable copy of the List for an
+	 * uneditable code type
+	 */
+	public <Element> List<Element> track(List<Element> list){
+		if(list == null){
+			return null;
+		}else if(editable){
+			TrackedList<Element> trackedList = TrackedList.track(list);
+			trackedList.addOwner(this);
+			return trackedList;
+		}
+		return Collections.unmodifiableList(new ArrayList<>(list));
+	}
+	
+	/**
+	 * Tracks the given List of the code type the same as {@link #track(List)}, but for an uneditable code type the
+	 * elements are also made unchangeable when they're copied (e.g. {@link JavaType Java Types} are swapped for their
+	 * {@link JavaType#toCanonical() canonical} instances)
+	 *
+	 * @param list The List of the code type (can be null)
+	 * @param unchangeable The function used to get an unchangeable version of an element
+	 * @param <Element> The type of elements in the List
+	 * @return The {@link TrackedList} for an editable code type, or an unmodifiable copy of the List with unchangeable
+	 * elements for an uneditable code type
+	 */
+	public <Element> List<Element> track(List<Element> list, Function<Element, Element> unchangeable){
+		if(editable || list == null){
+			return track(list);
+		}
+		List<Element> copy = new ArrayList<>(list.size());
+		for(Element element: list){
+			copy.add(element == null?null:unchangeable.apply(element));
+		}
+		return Collections.unmodifiableList(copy);
+	}
+	
+	/**
+	 * Stops tracking the given code type that was {@link #track(JavaCodeType) tracked} in the code type and tracks
+	 * the new one instead, for when the code type is swapped out (e.g. by a setter)
+	 *
+	 * @param oldCodeType The {@link JavaCodeType code type} that was inside the code type (can be null)
+	 * @param codeType The new {@link JavaCodeType code type} inside the code type (can be null)
+	 * @param <Type> The type of code type
+	 * @return The new code type
+	 */
+	public <Type extends JavaCodeType> Type replace(Type oldCodeType, Type codeType){
+		if(oldCodeType != null){
+			oldCodeType.removeParentCache(this);
+		}
+		return track(codeType);
+	}
+	
+	/**
+	 * Stops tracking the given List that was {@link #track(List) tracked} in the code type and tracks the new one
+	 * instead, for when the List is swapped out (e.g. by a setter)
+	 *
+	 * @param oldList The List that was inside the code type (can be null)
+	 * @param list The new List inside the code type (can be null)
+	 * @param <Element> The type of elements in the List
+	 * @return The new List, as a {@link TrackedList} (or null if it was null)
+	 */
+	public <Element> List<Element> replace(List<Element> oldList, List<Element> list){
+		if(oldList instanceof TrackedList<Element> trackedList){
+			trackedList.removeOwner(this);
+		}
+		return track(list);
+	}
+	
+	/**
+	 * Marks that the code type (or something inside it) was changed, so that its cached code (and the cached code
+	 * of the code types it's inside of) gets built again the next time it's needed
+	 */
+	public void modified(){
+		rendered = null;
+		indented = null;
+		if(parents != null){
+			for(RenderCache parent: parents){
+				parent.modified();
+			}
+		}
+	}
+	
+	/**
+	 * @return The cached code, or null if it hasn't been built since the code type was last changed
+	 */
+	public String getRendered(){
+		return rendered;
+	}
+	
+	/**
+	 * Caches the given code
+	 *
+	 * @param rendered The code to be cached
+	 */
+	public void setRendered(String rendered){
+		this.rendered = rendered;
+	}
+	
+	/**
+	 * Gets the code of the code type with all of its lines indented, for when it's inside another code type (e.g.
+	 * a field inside a class). This is cached as well, so unchanged code types don't need to be indented again
+	 *
+	 * @param codeType The {@link JavaCodeType code type} this is the Render Cache of
+	 * @return The code of the code type with all of its lines indented
+	 */
+	public String getIndented(JavaCodeType codeType){
+		String string = indented;
+		if(string == null){
+			string = StringUtil.indentAllLines(codeType.toString());
+			indented = string;
+		}
+		return string;
+	}
+}
@@ -0,0 +1,171 @@
+package com.github.tadukoo.java;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Tracked List wraps one of the Lists of an editable {@link JavaCodeType code type} (e.g. the lines of a method) so
+ * that changes to it are passed on to the {@link RenderCache} of the code type (its owner). The Lists of editable
+ * code types are returned by their getters and can be changed directly, so a Tracked List clears the cached code of
+ * its owners whenever it's changed. The code types in the List are {@link RenderCache#track(JavaCodeType) tracked}
+ * by its owners as well, so changes to them also clear the cached code of the owners.
+ * <br><br>
+ * Lists that need to work differently (e.g. lines that are only parsed when they're first used) can extend Tracked
+ * List and override {@link #getList()} to still be tracked. Such Lists can only contain Strings (or other elements
+ * that aren't code types), since the elements they start with aren't tracked.
+ *
+ * @param <Element> The type of elements in the List
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public class TrackedList<Element> extends AbstractList<Element> implements RandomAccess{
+	
+	/** The List being tracked (null if {@link #getList()} is overridden) */
+	private final List<Element> list;
+	/** The {@link RenderCache Render Caches} of the code types this List is in (null if there aren't any yet) */
+	private List<RenderCache> owners;
+	
+	/**
+	 * Constructs a new {@link TrackedList} to keep track of changes to the given List
+	 *
+	 * @param list The List to be tracked (can be null if {@link #getList()} is overridden)
+	 */
+	protected TrackedList(List<Element> list){
+		this.list = list;
+	}
+	
+	/**
+	 * Wraps the given List in a {@link TrackedList}, unless it's already one
+	 *
+	 * @param list The List to be tracked (can be null)
+	 * @param <Element> The type of elements in the List
+	 * @return The {@link TrackedList}, or null if the List was null
+	 */
+	public static <Element> TrackedList<Element> track(List<Element> list){
+		if(list == null){
+			return null;
+		}
+		return list instanceof TrackedList<Element> trackedList?trackedList:new TrackedList<>(list);
+	}
+	
+	/**
+	 * Adds the {@link RenderCache} of a code type this List is in, which is cleared whenever the List is changed and
+	 * tracks the code types in the List
+	 *
+	 * @param owner The {@link RenderCache} of the code type this List is in
+	 */
+	void addOwner(RenderCache owner){
+		if(owners == null){
+			owners = new ArrayList<>(1);
+		}
+		owners.add(owner);
+		if(list != null){
+			for(Element element: list){
+				if(element instanceof JavaCodeType codeType){
+					owner.track(codeType);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Removes the {@link RenderCache} of a code type this List was in, which stops tracking the code types in the List
+	 *
+	 * @param owner The {@link RenderCache} of the code type this List was in
+	 */
+	void removeOwner(RenderCache owner){
+		if(owners != null && owners.remove(owner) && list != null){
+			for(Element element: list){
+				if(element instanceof JavaCodeType codeType){
+					codeType.removeParentCache(owner);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @return The List being tracked
+	 */
+	protected List<Element> getList(){
+		return list;
+	}
+	
+	/**
+	 * Passes on a change to the List to its owners, tracking the element that was added and no longer tracking the
+	 * element that was removed
+	 *
+	 * @param added The element that was added to the List (can be null)
+	 * @param removed The element that was removed from the List (can be null)
+	 */
+	private void modified(Element added, Element removed){
+		if(owners != null){
+			for(RenderCache owner: owners){
+				if(removed instanceof JavaCodeType codeType){
+					codeType.removeParentCache(owner);
+				}
+				if(added instanceof JavaCodeType codeType){
+					owner.track(codeType);
+				}
+				owner.modified();
+			}
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Element get(int index){
+		return getList().get(index);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int size(){
+		return getList().size();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Element set(int index, Element element){
+		Element previous = getList().set(index, element);
+		modified(element, previous);
+		return previous;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void add(int index, Element element){
+		getList().add(index, element);
+		modCount++;
+		modified(element, null);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Element remove(int index){
+		Element removed = getList().remove(index);
+		modCount++;
+		modified(null, removed);
+		return removed;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void clear(){
+		if(owners != null){
+			for(Element element: getList()){
+				if(element instanceof JavaCodeType codeType){
+					for(RenderCache owner: owners){
+						codeType.removeParentCache(owner);
+					}
+				}
+			}
+		}
+		getList().clear();
+		modCount++;
+		modified(null, null);
+	}
+}
@@ -6,29 +6,33 @@ import com.github.tadukoo.util.StringUtil;
  * Visibility represents the visibility of a given Java class, method, etc.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
  * @since Alpha v.0.2
  */
 public enum Visibility implements JavaTokens{
 	/** Used for public visibility - anything can see it */
-	PUBLIC(PUBLIC_MODIFIER),
+	PUBLIC(PUBLIC_MODIFIER, JavaModifiers.PUBLIC),
 	/** Used for protected visibility - only the current class and subclasses can see it */
-	PROTECTED(PROTECTED_MODIFIER),
+	PROTECTED(PROTECTED_MODIFIER, JavaModifiers.PROTECTED),
 	/** Used for private visibility - only the current class can see it */
-	PRIVATE(PRIVATE_MODIFIER),
+	PRIVATE(PRIVATE_MODIFIER, JavaModifiers.PRIVATE),
 	/** Used when there's no specified visibility (e.g. interface methods, where public is implied) */
-	NONE("");
+	NONE("", JavaModifiers.NONE);
 	
 	/** The text to use for the visibility */
 	private final String token;
+	/** The {@link JavaModifiers} bit for the visibility */
+	private final int modifier;
 	
 	/**
-	 * Creates a new Visibility enum with the given text
+	 * Creates a new Visibility enum with the given text and modifier bit
 	 *
 	 * @param token The text to use for the visibility
+	 * @param modifier The {@link JavaModifiers} bit for the visibility
 	 */
-	Visibility(String token){
+	Visibility(String token, int modifier){
 		this.token = token;
+		this.modifier = modifier;
 	}
 	
 	/**
@@ -38,6 +42,13 @@ public enum Visibility implements JavaTokens{
 		return token;
 	}
 	
+	/**
+	 * @return The {@link JavaModifiers} bit for the visibility ({@link JavaModifiers#NONE} for {@link #NONE})
+	 */
+	public int getModifier(){
+		return modifier;
+	}
+	
 	/**
 	 * Grabs the {@link Visibility} that corresponds to the given token
 	 *
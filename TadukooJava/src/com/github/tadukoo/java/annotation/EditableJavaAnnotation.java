@@ -8,7 +8,7 @@ import java.util.List;
  * Represents an annotation in Java that can be modified
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
  * @since Alpha v.0.4
  */
 public class EditableJavaAnnotation extends JavaAnnotation{
@@ -58,6 +58,7 @@ public class EditableJavaAnnotation extends JavaAnnotation{
 	 */
 	public void setName(String name){
 		this.name = name;
+		clearCache();
 	}
 	
 	/**
@@ -65,6 +66,7 @@ public class EditableJavaAnnotation extends JavaAnnotation{
 	 */
 	public void setCanonicalName(String canonicalName){
 		this.canonicalName = canonicalName;
+		clearCache();
 	}
 	
 	/**
@@ -73,6 +75,7 @@ public class EditableJavaAnnotation extends JavaAnnotation{
 	 */
 	public void addParameter(String name, String value){
 		parameters.add(Pair.of(name, value));
+		clearCache();
 	}
 	
 	/**
@@ -80,6 +83,7 @@ public class EditableJavaAnnotation extends JavaAnnotation{
 	 */
 	public void addParameter(Pair<String, String> parameter){
 		parameters.add(parameter);
+		clearCache();
 	}
 	
 	/**
@@ -87,12 +91,14 @@ public class EditableJavaAnnotation extends JavaAnnotation{
 	 */
 	public void addParameters(List<Pair<String, String>> parameters){
 		this.parameters.addAll(parameters);
+		clearCache();
 	}
 	
 	/**
 	 * @param parameters The parameters of the annotation (as Pairs of name and value)
 	 */
 	public void setParameters(List<Pair<String, String>> parameters){
-		this.parameters = parameters;
+		this.parameters = renderCache.replace(this.parameters, parameters);
+		clearCache();
 	}
 }
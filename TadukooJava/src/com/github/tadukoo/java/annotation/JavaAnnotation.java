@@ -1,7 +1,9 @@
 package com.github.tadukoo.java.annotation;
 
-import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.EqualityUtil;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.RenderCache;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.StringUtil;
 import com.github.tadukoo.util.tuple.Pair;
@@ -9,6 +11,7 @@ import com.github.tadukoo.util.tuple.Pair;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Represents an annotation in Java.
@@ -17,7 +20,7 @@ import java.util.Map;
  * @version Beta v.0.6
  * @since Alpha v.0.3 (as old version that is now more like UneditableJavaAnnotation), Alpha v.0.4 (as newer version)
  */
-public abstract class JavaAnnotation implements JavaCodeType{
+public abstract class JavaAnnotation extends BaseJavaCodeType{
 	
 	/** Whether the annotation is editable or not */
 	private final boolean editable;
@@ -27,6 +30,10 @@ public abstract class JavaAnnotation implements JavaCodeType{
 	protected String canonicalName;
 	/** The parameters of the annotation (as Pairs of name and value) */
 	protected List<Pair<String, String>> parameters;
+	/** The cached hash code of the annotation (0 if it hasn't been calculated yet) */
+	private int hashCode;
+	/** The cache for the Java code of the annotation */
+	protected final RenderCache renderCache;
 	
 	/**
 	 * Constructs a new {@link JavaAnnotation} with the given parameters
@@ -38,9 +45,10 @@ public abstract class JavaAnnotation implements JavaCodeType{
 	 */
 	protected JavaAnnotation(boolean editable, String name, String canonicalName, List<Pair<String, String>> parameters){
 		this.editable = editable;
+		renderCache = new RenderCache(editable);
 		this.name = name;
 		this.canonicalName = canonicalName;
-		this.parameters = parameters;
+		this.parameters = renderCache.track(parameters);
 	}
 	
 	/** {@inheritDoc} */
@@ -93,6 +101,39 @@ public abstract class JavaAnnotation implements JavaCodeType{
 	 */
 	@Override
 	public String toString(){
+		// Re-use the cached code if the annotation wasn't changed since it was built
+		String string = renderCache.getRendered();
+		if(string == null){
+			string = buildString();
+			renderCache.setRendered(string);
+		}
+		return string;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toIndentedString(){
+		return renderCache.getIndented(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void addParentCache(RenderCache parent){
+		renderCache.addParent(parent);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		renderCache.removeParent(parent);
+	}
+	
+	/**
+	 * Builds the code for {@link #toString()}, which caches it
+	 *
+	 * @return This Java Annotation as a string, ready to be put in some Java code
+	 */
+	private String buildString(){
 		// Start with @Name
 		StringBuilder annotation = new StringBuilder(ANNOTATION_START_TOKEN).append(name);
 		
@@ -118,14 +159,64 @@ public abstract class JavaAnnotation implements JavaCodeType{
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object otherAnnotation){
-		if(otherAnnotation instanceof JavaAnnotation annotation){
-			return StringUtil.equals(this.toString(), annotation.toString()) &&
-					StringUtil.equals(this.getCanonicalName(), annotation.getCanonicalName());
+		if(this == otherAnnotation){
+			return true;
+		}else if(otherAnnotation instanceof JavaAnnotation annotation){
+			return StringUtil.equals(canonicalName, annotation.canonicalName) &&
+					equalsIgnoringCanonicalName(annotation);
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * For an uneditable annotation, the hash code is only calculated once and then cached. An editable annotation
+	 * calculates it each time, since its parameters can be changed through {@link #getParameters()}
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = 31 * hashCodeIgnoringCanonicalName() + Objects.hashCode(canonicalName);
+			hash = EqualityUtil.nonZeroHashCode(hash);
+			if(!editable){
+				hashCode = hash;
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * Checks if the given annotation is written the same as this one, ignoring the canonical names. This is how
+	 * annotations are compared when they're part of other code types (e.g. the annotations on a field), since only
+	 * how the annotation is written matters there
+	 *
+	 * @param otherAnnotation The other annotation to compare to
+	 * @return Whether the annotations are written the same or not
+	 */
+	public boolean equalsIgnoringCanonicalName(JavaAnnotation otherAnnotation){
+		return this == otherAnnotation || (otherAnnotation != null && StringUtil.equals(name, otherAnnotation.name) &&
+				EqualityUtil.pairListsEqual(parameters, otherAnnotation.parameters));
+	}
+	
+	/**
+	 * @return A hash code for this annotation that ignores the canonical name, to match
+	 * {@link #equalsIgnoringCanonicalName(JavaAnnotation)}
+	 */
+	public int hashCodeIgnoringCanonicalName(){
+		return 31 * Objects.hashCode(name) + EqualityUtil.pairListHashCode(parameters);
+	}
+	
+	/**
+	 * Clears the cached Java code so that it gets built again the next time it's needed - this must be called
+	 * whenever the annotation is changed
+	 */
+	protected void clearCache(){
+		renderCache.modified();
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toBuilderCode(){
@@ -50,7 +50,7 @@ public abstract class JavaAnnotationBuilder<AnnotationType extends JavaAnnotatio
 	public JavaAnnotationBuilder<AnnotationType> copy(JavaAnnotation annotation){
 		this.name = annotation.getName();
 		this.canonicalName = annotation.getCanonicalName();
-		this.parameters = annotation.getParameters();
+		this.parameters = new ArrayList<>(annotation.getParameters());
 		return this;
 	}
 	
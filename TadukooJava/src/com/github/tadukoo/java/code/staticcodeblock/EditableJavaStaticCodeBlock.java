@@ -1,5 +1,6 @@
 package com.github.tadukoo.java.code.staticcodeblock;
 
+
 import java.util.List;
 
 /**
@@ -50,6 +51,7 @@ public class EditableJavaStaticCodeBlock extends JavaStaticCodeBlock{
 	 */
 	public void addLine(String line){
 		lines.add(line);
+		clearCache();
 	}
 	
 	/**
@@ -57,12 +59,14 @@ public class EditableJavaStaticCodeBlock extends JavaStaticCodeBlock{
 	 */
 	public void addLines(List<String> lines){
 		this.lines.addAll(lines);
+		clearCache();
 	}
 	
 	/**
 	 * @param lines The actual lines of code in the static code block
 	 */
 	public void setLines(List<String> lines){
-		this.lines = lines;
+		this.lines = renderCache.replace(this.lines, lines);
+		clearCache();
 	}
 }
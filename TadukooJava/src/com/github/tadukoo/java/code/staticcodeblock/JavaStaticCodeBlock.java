@@ -1,7 +1,9 @@
 package com.github.tadukoo.java.code.staticcodeblock;
 
-import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.EqualityUtil;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.RenderCache;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.StringUtil;
 
@@ -13,12 +15,16 @@ import java.util.List;
  * @author Logan Ferree (Tadukoo)
  * @version Beta v.0.6
  */
-public abstract class JavaStaticCodeBlock implements JavaCodeType{
+public abstract class JavaStaticCodeBlock extends BaseJavaCodeType{
 	
 	/** Whether the static code block is editable or not */
 	private final boolean editable;
 	/** The actual content of the static code block */
 	protected List<String> lines;
+	/** The cached hash code of the static code block (0 if it hasn't been calculated yet) */
+	private int hashCode;
+	/** The cache for the Java code of the static code block */
+	protected final RenderCache renderCache;
 	
 	/**
 	 * Constructs a new Static Code Block with the given parameters.
@@ -28,7 +34,8 @@ public abstract class JavaStaticCodeBlock implements JavaCodeType{
 	 */
 	protected JavaStaticCodeBlock(boolean editable, List<String> lines){
 		this.editable = editable;
-		this.lines = lines;
+		renderCache = new RenderCache(editable);
+		this.lines = renderCache.track(lines);
 	}
 	
 	/** {@inheritDoc} */
@@ -56,6 +63,39 @@ public abstract class JavaStaticCodeBlock implements JavaCodeType{
 	 */
 	@Override
 	public String toString(){
+		// Re-use the cached code if the static code block wasn't changed since it was built
+		String string = renderCache.getRendered();
+		if(string == null){
+			string = buildString();
+			renderCache.setRendered(string);
+		}
+		return string;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toIndentedString(){
+		return renderCache.getIndented(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void addParentCache(RenderCache parent){
+		renderCache.addParent(parent);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		renderCache.removeParent(parent);
+	}
+	
+	/**
+	 * Builds the code for {@link #toString()}, which caches it
+	 *
+	 * @return This Java Static Code Block as a String, ready to be put in some Java code
+	 */
+	private String buildString(){
 		// Start with the static modifier and open the block
 		StringBuilder builder = new StringBuilder(STATIC_MODIFIER).append(BLOCK_OPEN_TOKEN);
 		
@@ -80,13 +120,42 @@ public abstract class JavaStaticCodeBlock implements JavaCodeType{
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object otherStaticCodeBlock){
-		if(otherStaticCodeBlock instanceof JavaStaticCodeBlock staticCodeBlock){
-			return StringUtil.equals(this.toString(), staticCodeBlock.toString());
+		if(this == otherStaticCodeBlock){
+			return true;
+		}else if(otherStaticCodeBlock instanceof JavaStaticCodeBlock staticCodeBlock){
+			return EqualityUtil.listsEqual(lines, staticCodeBlock.lines);
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * For an uneditable static code block, the hash code is only calculated once and then cached. An editable
+	 * static code block calculates it each time, since its lines can be changed through {@link #getLines()}
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = EqualityUtil.listHashCode(lines);
+			hash = EqualityUtil.nonZeroHashCode(hash);
+			if(!editable){
+				hashCode = hash;
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * Clears the cached Java code so that it gets built again the next time it's needed - this must be called
+	 * whenever the static code block is changed
+	 */
+	protected void clearCache(){
+		renderCache.modified();
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toBuilderCode(){
@@ -40,7 +40,7 @@ public abstract class JavaStaticCodeBlockBuilder<StaticCodeBlockType extends Jav
 	 * @return this, to continue building
 	 */
 	public JavaStaticCodeBlockBuilder<StaticCodeBlockType> copy(JavaStaticCodeBlock staticCodeBlock){
-		this.lines = staticCodeBlock.getLines();
+		this.lines = new ArrayList<>(staticCodeBlock.getLines());
 		return this;
 	}
 	
@@ -1,12 +1,14 @@
 package com.github.tadukoo.java.comment;
 
+
 import java.util.List;
 
 /**
  * Represents a {@link JavaMultiLineComment} that may be modified
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class EditableJavaMultiLineComment extends JavaMultiLineComment{
 	
@@ -50,6 +52,7 @@ public class EditableJavaMultiLineComment extends JavaMultiLineComment{
 	 */
 	public void addContent(String content){
 		this.content.add(content);
+		clearCache();
 	}
 	
 	/**
@@ -57,12 +60,14 @@ public class EditableJavaMultiLineComment extends JavaMultiLineComment{
 	 */
 	public void addContent(List<String> content){
 		this.content.addAll(content);
+		clearCache();
 	}
 	
 	/**
 	 * @param content The content of the comment
 	 */
 	public void setContent(List<String> content){
-		this.content = content;
+		this.content = renderCache.replace(this.content, content);
+		clearCache();
 	}
 }
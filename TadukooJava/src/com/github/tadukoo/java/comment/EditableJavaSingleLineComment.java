@@ -4,7 +4,8 @@ package com.github.tadukoo.java.comment;
  * Represents a {@link JavaSingleLineComment single-line comment} in Java that can be modified
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class EditableJavaSingleLineComment extends JavaSingleLineComment{
 	
@@ -48,5 +49,6 @@ public class EditableJavaSingleLineComment extends JavaSingleLineComment{
 	 */
 	public void setContent(String content){
 		this.content = content;
+		clearCache();
 	}
 }
@@ -1,7 +1,9 @@
 package com.github.tadukoo.java.comment;
 
-import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.EqualityUtil;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.RenderCache;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.StringUtil;
 
@@ -11,13 +13,18 @@ import java.util.List;
  * Represents a multi-line comment in Java code
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
-public abstract class JavaMultiLineComment implements JavaCodeType{
+public abstract class JavaMultiLineComment extends BaseJavaCodeType{
 	/** Whether this comment is editable or not */
 	private final boolean editable;
 	/** The content of the comment */
 	protected List<String> content;
+	/** The cached hash code of the comment (0 if it hasn't been calculated yet) */
+	private int hashCode;
+	/** The cache for the Java code of the comment */
+	protected final RenderCache renderCache;
 	
 	/**
 	 * Constructs a new {@link JavaMultiLineComment} with the given parameters
@@ -27,7 +34,8 @@ public abstract class JavaMultiLineComment implements JavaCodeType{
 	 */
 	protected JavaMultiLineComment(boolean editable, List<String> content){
 		this.editable = editable;
-		this.content = content;
+		renderCache = new RenderCache(editable);
+		this.content = renderCache.track(content);
 	}
 	
 	/** {@inheritDoc} */
@@ -55,6 +63,39 @@ public abstract class JavaMultiLineComment implements JavaCodeType{
 	 */
 	@Override
 	public String toString(){
+		// Re-use the cached code if the comment wasn't changed since it was built
+		String string = renderCache.getRendered();
+		if(string == null){
+			string = buildString();
+			renderCache.setRendered(string);
+		}
+		return string;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toIndentedString(){
+		return renderCache.getIndented(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void addParentCache(RenderCache parent){
+		renderCache.addParent(parent);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		renderCache.removeParent(parent);
+	}
+	
+	/**
+	 * Builds the code for {@link #toString()}, which caches it
+	 *
+	 * @return This multi-line comment as a string
+	 */
+	private String buildString(){
 		StringBuilder text = new StringBuilder(MULTI_LINE_COMMENT_START_TOKEN);
 		
 		// Add content if we have it
@@ -73,10 +114,40 @@ public abstract class JavaMultiLineComment implements JavaCodeType{
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object obj){
-		if(obj instanceof JavaMultiLineComment comment){
-			return StringUtil.equals(toString(), comment.toString());
+		if(this == obj){
+			return true;
+		}else if(obj instanceof JavaMultiLineComment comment){
+			return EqualityUtil.listsEqual(content, comment.content);
+		}else{
+			return false;
 		}
-		return false;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * For an uneditable comment, the hash code is only calculated once and then cached. An editable comment
+	 * calculates it each time, since its content can be changed through {@link #getContent()}
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = EqualityUtil.listHashCode(content);
+			hash = EqualityUtil.nonZeroHashCode(hash);
+			if(!editable){
+				hashCode = hash;
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * Clears the cached Java code so that it gets built again the next time it's needed - this must be called
+	 * whenever the comment is changed
+	 */
+	protected void clearCache(){
+		renderCache.modified();
 	}
 	
 	/** {@inheritDoc} */
@@ -39,7 +39,7 @@ public abstract class JavaMultiLineCommentBuilder<CommentType extends JavaMultiL
 	 * @return this, to continue building
 	 */
 	public JavaMultiLineCommentBuilder<CommentType> copy(JavaMultiLineComment comment){
-		this.content = comment.getContent();
+		this.content = new ArrayList<>(comment.getContent());
 		return this;
 	}
 	
@@ -1,20 +1,29 @@
 package com.github.tadukoo.java.comment;
 
-import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.EqualityUtil;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.RenderCache;
 import com.github.tadukoo.util.StringUtil;
 
+import java.util.Objects;
+
 /**
  * Represents a Single-Line Comment in Java
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
-public abstract class JavaSingleLineComment implements JavaCodeType{
+public abstract class JavaSingleLineComment extends BaseJavaCodeType{
 	/** Whether the comment is editable or not */
 	private final boolean editable;
 	/** The content of the comment */
 	protected String content;
+	/** The cached hash code of the comment (0 if it hasn't been calculated yet) */
+	private int hashCode;
+	/** The cache for the Java code of the comment */
+	protected final RenderCache renderCache;
 	
 	/**
 	 * Constructs a new {@link JavaSingleLineComment single-line comment} with the given parameters
@@ -24,6 +33,7 @@ public abstract class JavaSingleLineComment implements JavaCodeType{
 	 */
 	protected JavaSingleLineComment(boolean editable, String content){
 		this.editable = editable;
+		renderCache = new RenderCache(editable);
 		this.content = content;
 	}
 	
@@ -52,19 +62,80 @@ public abstract class JavaSingleLineComment implements JavaCodeType{
 	 */
 	@Override
 	public String toString(){
+		// Re-use the cached code if the comment wasn't changed since it was built
+		String string = renderCache.getRendered();
+		if(string == null){
+			string = buildString();
+			renderCache.setRendered(string);
+		}
+		return string;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toIndentedString(){
+		return renderCache.getIndented(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void addParentCache(RenderCache parent){
+		renderCache.addParent(parent);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		renderCache.removeParent(parent);
+	}
+	
+	/**
+	 * Builds the code for {@link #toString()}, which caches it
+	 *
+	 * @return The actual Java code this {@link JavaSingleLineComment comment} represents
+	 */
+	private String buildString(){
 		return SINGLE_LINE_COMMENT_TOKEN + " " + content;
 	}
 	
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object otherComment){
-		if(otherComment instanceof JavaSingleLineComment comment){
-			return StringUtil.equals(toString(), comment.toString());
+		if(this == otherComment){
+			return true;
+		}else if(otherComment instanceof JavaSingleLineComment comment){
+			return StringUtil.equals(content, comment.content);
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * The hash code is only calculated once and then cached (an editable comment clears the cached hash code
+	 * whenever it's changed)
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = Objects.hashCode(content);
+			hash = EqualityUtil.nonZeroHashCode(hash);
+			hashCode = hash;
+		}
+		return hash;
+	}
+	
+	/**
+	 * Clears the cached hash code and Java code so that they get calculated again the next time they're needed -
+	 * this must be called whenever the comment is changed
+	 */
+	protected void clearCache(){
+		hashCode = 0;
+		renderCache.modified();
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toBuilderCode(){
@@ -1,5 +1,6 @@
 package com.github.tadukoo.java.field;
 
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
 import com.github.tadukoo.java.javadoc.Javadoc;
@@ -52,8 +53,7 @@ public class EditableJavaField extends JavaField{
 		@Override
 		protected EditableJavaField constructField(){
 			return new EditableJavaField(javadoc, annotations,
-					visibility, isStatic, isFinal,
-					type, name, value);
+					modifiers, type, name, value);
 		}
 	}
 	
@@ -62,20 +62,16 @@ public class EditableJavaField extends JavaField{
 	 *
 	 * @param javadoc The {@link Javadoc} on the field
 	 * @param annotations The {@link JavaAnnotation annotations} on the field
-	 * @param visibility The {@link Visibility} of the field
-	 * @param isStatic Whether the field is static or not
-	 * @param isFinal Whether the field is final or not
+	 * @param modifiers The {@link JavaModifiers modifiers} on the field
 	 * @param type The {@link JavaType type} of the field
 	 * @param name The name of the field
 	 * @param value The value assigned to the field
 	 */
 	private EditableJavaField(
 			Javadoc javadoc, List<JavaAnnotation> annotations,
-			Visibility visibility, boolean isStatic, boolean isFinal,
-			JavaType type, String name, String value){
+			int modifiers, JavaType type, String name, String value){
 		super(true, javadoc, annotations,
-				visibility, isStatic, isFinal,
-				type, name, value);
+				modifiers, type, name, value);
 	}
 	
 	/**
@@ -92,7 +88,8 @@ public class EditableJavaField extends JavaField{
 		if(!javadoc.isEditable()){
 			throw new IllegalArgumentException("editable JavaField requires an editable Javadoc");
 		}
-		this.javadoc = javadoc;
+		this.javadoc = renderCache.replace(this.javadoc, javadoc);
+		clearCache();
 	}
 	
 	/**
@@ -103,6 +100,7 @@ public class EditableJavaField extends JavaField{
 			throw new IllegalArgumentException("editable JavaField requires editable Java Annotations");
 		}
 		annotations.add(annotation);
+		clearCache();
 	}
 	
 	/**
@@ -115,6 +113,7 @@ public class EditableJavaField extends JavaField{
 			}
 		}
 		this.annotations.addAll(annotations);
+		clearCache();
 	}
 	
 	/**
@@ -126,42 +125,59 @@ public class EditableJavaField extends JavaField{
 				throw new IllegalArgumentException("editable JavaField requires editable Java Annotations");
 			}
 		}
-		this.annotations = annotations;
+		this.annotations = renderCache.replace(this.annotations, annotations);
+		clearCache();
+	}
+	
+	/**
+	 * @param modifiers The {@link JavaModifiers modifiers} on the field (can't include abstract)
+	 */
+	public void setModifiers(int modifiers){
+		if(JavaModifiers.has(modifiers, JavaModifiers.ABSTRACT)){
+			throw new IllegalArgumentException("'" + ABSTRACT_MODIFIER + "' is not a valid modifier on field!");
+		}
+		this.modifiers = modifiers;
+		clearCache();
 	}
 	
 	/**
 	 * @param visibility The {@link Visibility} of the field
 	 */
 	public void setVisibility(Visibility visibility){
-		this.visibility = visibility;
+		modifiers = JavaModifiers.withVisibility(modifiers, visibility);
+		clearCache();
 	}
 	
 	/**
 	 * @param isStatic Whether the field is static or not
 	 */
 	public void setStatic(boolean isStatic){
-		this.isStatic = isStatic;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.STATIC, isStatic);
+		clearCache();
 	}
 	
 	/**
 	 * @param isFinal Whether the field is final or not
 	 */
 	public void setFinal(boolean isFinal){
-		this.isFinal = isFinal;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.FINAL, isFinal);
+		clearCache();
 	}
 	
 	/**
 	 * @param type The {@link JavaType type} of the field
 	 */
 	public void setType(JavaType type){
-		this.type = type;
+		this.type = renderCache.replace(this.type, type);
+		clearCache();
 	}
 	
 	/**
 	 * @param typeText The text to parse for the {@link JavaType type} of the field
 	 */
 	public void setType(String typeText){
-		this.type = FullJavaParser.parseJavaType(typeText);
+		this.type = renderCache.replace(this.type, FullJavaParser.parseJavaType(typeText));
+		clearCache();
 	}
 	
 	/**
@@ -169,6 +185,7 @@ public class EditableJavaField extends JavaField{
 	 */
 	public void setName(String name){
 		this.name = name;
+		clearCache();
 	}
 	
 	/**
@@ -176,5 +193,6 @@ public class EditableJavaField extends JavaField{
 	 */
 	public void setValue(String value){
 		this.value = value;
+		clearCache();
 	}
 }
@@ -1,8 +1,11 @@
 package com.github.tadukoo.java.field;
 
-import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.EqualityUtil;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.RenderCache;
 import com.github.tadukoo.java.javaclass.JavaClass;
 import com.github.tadukoo.java.Visibility;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
@@ -12,6 +15,7 @@ import com.github.tadukoo.util.StringUtil;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Java Field represents a field in a {@link JavaClass Java class}
@@ -20,7 +24,7 @@ import java.util.List;
  * @version Beta v.0.6
  * @since Alpha v.0.2 (as old version that is now more like UneditableJavaField), Alpha v.0.4 (as newer version)
  */
-public abstract class JavaField implements JavaCodeType{
+public abstract class JavaField extends BaseJavaCodeType{
 	
 	/** Whether the field is editable or not */
 	private final boolean editable;
@@ -28,18 +32,18 @@ public abstract class JavaField implements JavaCodeType{
 	protected Javadoc javadoc;
 	/** The {@link JavaAnnotation annotations} on the field */
 	protected List<JavaAnnotation> annotations;
-	/** The {@link Visibility} of the field */
-	protected Visibility visibility;
-	/** Whether the field is static or not */
-	protected boolean isStatic;
-	/** Whether the field is final or not */
-	protected boolean isFinal;
+	/** The {@link JavaModifiers modifiers} on the field (its {@link Visibility} and whether it's static and/or final) */
+	protected int modifiers;
 	/** The {@link JavaType type} of the field */
 	protected JavaType type;
 	/** The name of the field */
 	protected String name;
 	/** The value assigned to the field */
 	protected String value;
+	/** The cached hash code of the field (0 if it hasn't been calculated yet) */
+	private int hashCode;
+	/** The cache for the Java code of the field */
+	protected final RenderCache renderCache;
 	
 	/**
 	 * Constructs a Java Field with the given parameters
@@ -47,24 +51,20 @@ public abstract class JavaField implements JavaCodeType{
 	 * @param editable Whether the field is editable or not
 	 * @param javadoc The {@link Javadoc} on the field
 	 * @param annotations The {@link JavaAnnotation annotations} on the field
-	 * @param visibility The {@link Visibility} of the field
-	 * @param isStatic Whether the field is static or not
-	 * @param isFinal Whether the field is final or not
+	 * @param modifiers The {@link JavaModifiers modifiers} on the field
 	 * @param type The {@link JavaType type} of the field
 	 * @param name The name of the field
 	 * @param value The value assigned to the field
 	 */
 	protected JavaField(
 			boolean editable, Javadoc javadoc, List<JavaAnnotation> annotations,
-			Visibility visibility, boolean isStatic, boolean isFinal,
-			JavaType type, String name, String value){
+			int modifiers, JavaType type, String name, String value){
 		this.editable = editable;
-		this.javadoc = javadoc;
-		this.annotations = annotations;
-		this.visibility = visibility;
-		this.isStatic = isStatic;
-		this.isFinal = isFinal;
-		this.type = type;
+		renderCache = new RenderCache(editable);
+		this.javadoc = renderCache.track(javadoc);
+		this.annotations = renderCache.track(annotations);
+		this.modifiers = modifiers;
+		this.type = renderCache.track(type);
 		this.name = name;
 		this.value = value;
 	}
@@ -96,25 +96,32 @@ public abstract class JavaField implements JavaCodeType{
 		return annotations;
 	}
 	
+	/**
+	 * @return The {@link JavaModifiers modifiers} on the field
+	 */
+	public int getModifiers(){
+		return modifiers;
+	}
+	
 	/**
 	 * @return The {@link Visibility} of the field
 	 */
 	public Visibility getVisibility(){
-		return visibility;
+		return JavaModifiers.getVisibility(modifiers);
 	}
 	
 	/**
 	 * @return Whether the field is static or not
 	 */
 	public boolean isStatic(){
-		return isStatic;
+		return JavaModifiers.has(modifiers, JavaModifiers.STATIC);
 	}
 	
 	/**
 	 * @return Whether the field is final or not
 	 */
 	public boolean isFinal(){
-		return isFinal;
+		return JavaModifiers.has(modifiers, JavaModifiers.FINAL);
 	}
 	
 	/**
@@ -143,6 +150,21 @@ public abstract class JavaField implements JavaCodeType{
 	 */
 	@Override
 	public String toString(){
+		// Re-use the cached code if nothing in the field was changed since it was built
+		String string = renderCache.getRendered();
+		if(string == null){
+			string = buildString();
+			renderCache.setRendered(string);
+		}
+		return string;
+	}
+	
+	/**
+	 * Builds the code for {@link #toString()}, which caches it
+	 *
+	 * @return A string of the form "{visibility.getText()} {type} {name}", with javadoc and annotations on newlines above
+	 */
+	private String buildString(){
 		List<String> content = new ArrayList<>();
 		
 		// Javadoc
@@ -157,22 +179,8 @@ public abstract class JavaField implements JavaCodeType{
 			}
 		}
 		
-		// Add field declaration - starting with visibility
-		StringBuilder declaration = new StringBuilder(visibility.getToken());
-		if(!declaration.isEmpty()){
-			// Declaration could be empty if visibility is NONE
-			declaration.append(' ');
-		}
-		
-		// Add static to declaration optionally
-		if(isStatic){
-			declaration.append(STATIC_MODIFIER).append(' ');
-		}
-		
-		// Add final to declaration optionally
-		if(isFinal){
-			declaration.append(FINAL_MODIFIER).append(' ');
-		}
+		// Add field declaration - starting with the modifiers
+		StringBuilder declaration = JavaModifiers.append(new StringBuilder(), modifiers);
 		
 		// Add type and name to the declaration
 		declaration.append(type).append(' ').append(name);
@@ -188,16 +196,73 @@ public abstract class JavaField implements JavaCodeType{
 		return StringUtil.buildStringWithNewLines(content);
 	}
 	
+	/** {@inheritDoc} */
+	@Override
+	public String toIndentedString(){
+		return renderCache.getIndented(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void addParentCache(RenderCache parent){
+		renderCache.addParent(parent);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		renderCache.removeParent(parent);
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object otherField){
-		if(otherField instanceof JavaField field){
-			return StringUtil.equals(this.toString(), field.toString());
+		if(this == otherField){
+			return true;
+		}else if(otherField instanceof JavaField field){
+			return Objects.equals(javadoc, field.javadoc) &&
+					EqualityUtil.annotationListsEqual(annotations, field.annotations) && modifiers == field.modifiers &&
+					EqualityUtil.typesEqual(type, field.type) &&
+					StringUtil.equals(name, field.name) && StringUtil.equals(value, field.value);
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * For an uneditable field, the hash code is only calculated once and then cached (it can't be changed, since its
+	 * Lists are unmodifiable and its {@link JavaType types} are canonical). An editable field
+	 * calculates it each time, since the Javadoc and annotations on it can be edited separately
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = Objects.hashCode(javadoc);
+			hash = 31 * hash + EqualityUtil.annotationListHashCode(annotations);
+			hash = 31 * hash + modifiers;
+			hash = 31 * hash + EqualityUtil.typeHashCode(type);
+			hash = 31 * hash + Objects.hashCode(name);
+			hash = 31 * hash + Objects.hashCode(value);
+			hash = EqualityUtil.nonZeroHashCode(hash);
+			if(!editable){
+				hashCode = hash;
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * Clears the cached Java code so that it gets built again the next time it's needed - this must be called
+	 * whenever the field itself is changed (changes to its Lists and the code types inside it are passed on
+	 * automatically, once they're tracked by the {@link #renderCache})
+	 */
+	protected void clearCache(){
+		renderCache.modified();
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toBuilderCode(){
@@ -221,17 +286,17 @@ public abstract class JavaField implements JavaCodeType{
 		}
 		
 		// Add visibility
-		if(visibility != Visibility.NONE){
-			codeString.append(NEWLINE_WITH_2_TABS).append(".visibility(Visibility.").append(visibility).append(')');
+		if(JavaModifiers.has(modifiers, JavaModifiers.VISIBILITY_MASK)){
+			codeString.append(NEWLINE_WITH_2_TABS).append(".visibility(Visibility.").append(getVisibility()).append(')');
 		}
 		
 		// Add static if we have it
-		if(isStatic){
+		if(isStatic()){
 			codeString.append(NEWLINE_WITH_2_TABS).append(".isStatic()");
 		}
 		
 		// Add final if we have it
-		if(isFinal){
+		if(isFinal()){
 			codeString.append(NEWLINE_WITH_2_TABS).append(".isFinal()");
 		}
 		
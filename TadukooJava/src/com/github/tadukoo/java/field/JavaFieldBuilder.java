@@ -1,5 +1,7 @@
 package com.github.tadukoo.java.field;
 
+import com.github.tadukoo.java.JavaModifiers;
+import com.github.tadukoo.java.JavaTokens;
 import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.Visibility;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
@@ -31,19 +33,10 @@ import java.util.List;
  *         <td>An empty list</td>
  *     </tr>
  *     <tr>
- *         <td>visibility</td>
- *         <td>The {@link Visibility} of the field</td>
- *         <td>{@link Visibility#NONE}</td>
- *     </tr>
- *     <tr>
- *         <td>isStatic</td>
- *         <td>If the field is static or not</td>
- *         <td>false</td>
- *     </tr>
- *     <tr>
- *         <td>isFinal</td>
- *         <td>If the field is final or not</td>
- *         <td>false</td>
+ *         <td>modifiers</td>
+ *         <td>The {@link JavaModifiers modifiers} on the field - its {@link Visibility} and if it's static and/or
+ *         final (can also be set with visibility, isStatic, and isFinal)</td>
+ *         <td>{@link JavaModifiers#NONE} (with {@link Visibility#NONE})</td>
  *     </tr>
  *     <tr>
  *         <td>type</td>
@@ -71,12 +64,10 @@ public abstract class JavaFieldBuilder<FieldType extends JavaField>{
 	protected Javadoc javadoc = null;
 	/** The {@link JavaAnnotation annotations} on the field */
 	protected List<JavaAnnotation> annotations = new ArrayList<>();
-	/** The {@link Visibility} of the field */
-	protected Visibility visibility = Visibility.NONE;
-	/** Whether the field is static or not */
-	protected boolean isStatic = false;
-	/** Whether the field is final or not */
-	protected boolean isFinal = false;
+	/** The {@link JavaModifiers modifiers} on the field */
+	protected int modifiers = JavaModifiers.NONE;
+	/** Whether the {@link Visibility} of the field was set to null or not */
+	protected boolean missingVisibility = false;
 	/** The {@link JavaType type} of the field */
 	protected JavaType type = null;
 	/** The name of the field */
@@ -97,10 +88,9 @@ public abstract class JavaFieldBuilder<FieldType extends JavaField>{
 	 */
 	public JavaFieldBuilder<FieldType> copy(JavaField field){
 		this.javadoc = field.getJavadoc();
-		this.annotations = field.getAnnotations();
-		this.visibility = field.getVisibility();
-		this.isStatic = field.isStatic();
-		this.isFinal = field.isFinal();
+		this.annotations = new ArrayList<>(field.getAnnotations());
+		this.modifiers = field.getModifiers();
+		this.missingVisibility = false;
 		this.type = field.getType();
 		this.name = field.getName();
 		this.value = field.getValue();
@@ -134,12 +124,24 @@ public abstract class JavaFieldBuilder<FieldType extends JavaField>{
 		return this;
 	}
 	
+	/**
+	 * @param modifiers The {@link JavaModifiers modifiers} on the field (replacing any visibility, static, or final
+	 * set before)
+	 * @return this, to continue building
+	 */
+	public JavaFieldBuilder<FieldType> modifiers(int modifiers){
+		this.modifiers = modifiers;
+		missingVisibility = false;
+		return this;
+	}
+	
 	/**
 	 * @param visibility The {@link Visibility} of the field
 	 * @return this, to continue building
 	 */
 	public JavaFieldBuilder<FieldType> visibility(Visibility visibility){
-		this.visibility = visibility;
+		missingVisibility = visibility == null;
+		modifiers = JavaModifiers.withVisibility(modifiers, missingVisibility?Visibility.NONE:visibility);
 		return this;
 	}
 	
@@ -149,8 +151,7 @@ public abstract class JavaFieldBuilder<FieldType extends JavaField>{
 	 * @return this, to continue building
 	 */
 	public JavaFieldBuilder<FieldType> isStatic(){
-		isStatic = true;
-		return this;
+		return isStatic(true);
 	}
 	
 	/**
@@ -158,7 +159,7 @@ public abstract class JavaFieldBuilder<FieldType extends JavaField>{
 	 * @return this, to continue building
 	 */
 	public JavaFieldBuilder<FieldType> isStatic(boolean isStatic){
-		this.isStatic = isStatic;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.STATIC, isStatic);
 		return this;
 	}
 	
@@ -168,8 +169,7 @@ public abstract class JavaFieldBuilder<FieldType extends JavaField>{
 	 * @return this, to continue building
 	 */
 	public JavaFieldBuilder<FieldType> isFinal(){
-		isFinal = true;
-		return this;
+		return isFinal(true);
 	}
 	
 	/**
@@ -177,7 +177,7 @@ public abstract class JavaFieldBuilder<FieldType extends JavaField>{
 	 * @return this, to continue building
 	 */
 	public JavaFieldBuilder<FieldType> isFinal(boolean isFinal){
-		this.isFinal = isFinal;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.FINAL, isFinal);
 		return this;
 	}
 	
@@ -226,10 +226,20 @@ public abstract class JavaFieldBuilder<FieldType extends JavaField>{
 		List<String> errors = new ArrayList<>();
 		
 		// Visibility is required (none can be used)
-		if(visibility == null){
+		if(missingVisibility){
 			errors.add("Visibility is required!");
 		}
 		
+		// Can't have more than one visibility
+		if(JavaModifiers.hasMultipleVisibilities(modifiers)){
+			errors.add("Found multiple visibility modifiers");
+		}
+		
+		// Fields can't be abstract
+		if(JavaModifiers.has(modifiers, JavaModifiers.ABSTRACT)){
+			errors.add("'" + JavaTokens.ABSTRACT_MODIFIER + "' is not a valid modifier on field!");
+		}
+		
 		// Must specify type
 		if(type == null){
 			errors.add("Must specify type!");
@@ -1,9 +1,9 @@
 package com.github.tadukoo.java.field;
 
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
 import com.github.tadukoo.java.javadoc.Javadoc;
-import com.github.tadukoo.java.Visibility;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -57,8 +57,7 @@ public class UneditableJavaField extends JavaField{
 		@Override
 		protected UneditableJavaField constructField(){
 			return new UneditableJavaField(javadoc, annotations,
-					visibility, isStatic, isFinal,
-					type, name, value);
+					modifiers, type, name, value);
 		}
 	}
 	
@@ -67,20 +66,16 @@ public class UneditableJavaField extends JavaField{
 	 *
 	 * @param javadoc The {@link Javadoc} on the field
 	 * @param annotations The {@link JavaAnnotation annotations} on the field
-	 * @param visibility The {@link Visibility} of the field
-	 * @param isStatic Whether the field is static or not
-	 * @param isFinal Whether the field is final or not
+	 * @param modifiers The {@link JavaModifiers modifiers} on the field
 	 * @param type The {@link JavaType type} of the field
 	 * @param name The name of the field
 	 * @param value The value assigned to the field
 	 */
 	private UneditableJavaField(
 			Javadoc javadoc, List<JavaAnnotation> annotations,
-			Visibility visibility, boolean isStatic, boolean isFinal,
-			JavaType type, String name, String value){
+			int modifiers, JavaType type, String name, String value){
 		super(false, javadoc, annotations,
-				visibility, isStatic, isFinal,
-				type, name, value);
+				modifiers, type, name, value);
 	}
 	
 	/**
@@ -4,7 +4,8 @@ package com.github.tadukoo.java.importstatement;
  * Represents a {@link JavaImportStatement} that can be modified
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class EditableJavaImportStatement extends JavaImportStatement{
 	
@@ -49,6 +50,7 @@ public class EditableJavaImportStatement extends JavaImportStatement{
 	 */
 	public void setStatic(boolean isStatic){
 		this.isStatic = isStatic;
+		clearCache();
 	}
 	
 	/**
@@ -56,5 +58,6 @@ public class EditableJavaImportStatement extends JavaImportStatement{
 	 */
 	public void setImportName(String importName){
 		this.importName = importName;
+		clearCache();
 	}
 }
@@ -1,16 +1,21 @@
 package com.github.tadukoo.java.importstatement;
 
-import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.EqualityUtil;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.RenderCache;
 import com.github.tadukoo.util.StringUtil;
 
+import java.util.Objects;
+
 /**
  * Represents an import statement in Java
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
-public abstract class JavaImportStatement implements JavaCodeType{
+public abstract class JavaImportStatement extends BaseJavaCodeType{
 	
 	/** Whether this import statement is editable or not */
 	private final boolean editable;
@@ -18,6 +23,10 @@ public abstract class JavaImportStatement implements JavaCodeType{
 	protected boolean isStatic;
 	/** The name for the import */
 	protected String importName;
+	/** The cached hash code of the import statement (0 if it hasn't been calculated yet) */
+	private int hashCode;
+	/** The cache for the Java code of the import statement */
+	protected final RenderCache renderCache;
 	
 	/**
 	 * Constructs a new {@link JavaImportStatement} using the given parameters
@@ -28,6 +37,7 @@ public abstract class JavaImportStatement implements JavaCodeType{
 	 */
 	protected JavaImportStatement(boolean editable, boolean isStatic, String importName){
 		this.editable = editable;
+		renderCache = new RenderCache(editable);
 		this.isStatic = isStatic;
 		this.importName = importName;
 	}
@@ -64,6 +74,39 @@ public abstract class JavaImportStatement implements JavaCodeType{
 	 */
 	@Override
 	public String toString(){
+		// Re-use the cached code if the import statement wasn't changed since it was built
+		String string = renderCache.getRendered();
+		if(string == null){
+			string = buildString();
+			renderCache.setRendered(string);
+		}
+		return string;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toIndentedString(){
+		return renderCache.getIndented(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void addParentCache(RenderCache parent){
+		renderCache.addParent(parent);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		renderCache.removeParent(parent);
+	}
+	
+	/**
+	 * Builds the code for {@link #toString()}, which caches it
+	 *
+	 * @return The code represented by this import statement
+	 */
+	private String buildString(){
 		StringBuilder statement = new StringBuilder(IMPORT_TOKEN).append(' ');
 		
 		// Add "static" if it's static
@@ -80,13 +123,42 @@ public abstract class JavaImportStatement implements JavaCodeType{
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object o){
-		if(o instanceof JavaImportStatement importStatement){
-			return StringUtil.equals(toString(), importStatement.toString());
+		if(this == o){
+			return true;
+		}else if(o instanceof JavaImportStatement importStatement){
+			return isStatic == importStatement.isStatic && StringUtil.equals(importName, importStatement.importName);
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * The hash code is only calculated once and then cached (an editable import statement clears the cached hash code
+	 * whenever it's changed)
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = Boolean.hashCode(isStatic);
+			hash = 31 * hash + Objects.hashCode(importName);
+			hash = EqualityUtil.nonZeroHashCode(hash);
+			hashCode = hash;
+		}
+		return hash;
+	}
+	
+	/**
+	 * Clears the cached hash code and Java code so that they get calculated again the next time they're needed -
+	 * this must be called whenever the import statement is changed
+	 */
+	protected void clearCache(){
+		hashCode = 0;
+		renderCache.modified();
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toBuilderCode(){
@@ -1,6 +1,7 @@
 package com.github.tadukoo.java.javaclass;
 
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
 import com.github.tadukoo.java.code.staticcodeblock.EditableJavaStaticCodeBlock;
@@ -169,7 +170,7 @@ public class EditableJavaClass extends JavaClass{
 		protected EditableJavaClass constructClass(){
 			return new EditableJavaClass(isInnerClass, packageDeclaration, importStatements,
 					javadoc, annotations,
-					visibility, isAbstract, isStatic, isFinal, className,
+					modifiers, className,
 					superClassName, implementsInterfaceNames,
 					staticCodeBlocks,
 					singleLineComments, multiLineComments,
@@ -186,10 +187,7 @@ public class EditableJavaClass extends JavaClass{
 	 * @param importStatements The {@link JavaImportStatement import statements} of the class
 	 * @param javadoc The {@link Javadoc} for the class
 	 * @param annotations The {@link JavaAnnotation annotations} on the class
-	 * @param visibility The {@link Visibility} of the class
-	 * @param isAbstract Whether this is an abstract class or not
-	 * @param isStatic Whether this is a static class or not
-	 * @param isFinal Whether this is a final class or not
+	 * @param modifiers The {@link JavaModifiers modifiers} on the class
 	 * @param className The name of the class, along with type parameters to form a {@link JavaType}
 	 * @param superClassName The name of the class this one extends (can be null),
 	 * along with type parameters to form a {@link JavaType}
@@ -206,15 +204,14 @@ public class EditableJavaClass extends JavaClass{
 	private EditableJavaClass(
 			boolean isInnerClass, JavaPackageDeclaration packageDeclaration, List<JavaImportStatement> importStatements,
 			Javadoc javadoc, List<JavaAnnotation> annotations,
-			Visibility visibility, boolean isAbstract, boolean isStatic, boolean isFinal,
-			JavaType className, JavaType superClassName, List<JavaType> implementsInterfaceNames,
+			int modifiers, JavaType className, JavaType superClassName, List<JavaType> implementsInterfaceNames,
 			List<JavaStaticCodeBlock> staticCodeBlocks,
 			List<JavaSingleLineComment> singleLineComments, List<JavaMultiLineComment> multiLineComments,
 			List<JavaClass> innerClasses, List<JavaField> fields, List<JavaMethod> methods,
 			List<Pair<JavaCodeTypes, String>> innerElementsOrder){
 		super(true, isInnerClass, packageDeclaration, importStatements,
 				javadoc, annotations,
-				visibility, isAbstract, isStatic, isFinal, className,
+				modifiers, className,
 				superClassName, implementsInterfaceNames,
 				staticCodeBlocks,
 				singleLineComments, multiLineComments,
@@ -234,6 +231,7 @@ public class EditableJavaClass extends JavaClass{
 	 */
 	public void setInnerClass(boolean isInnerClass){
 		this.isInnerClass = isInnerClass;
+		clearCache();
 	}
 	
 	/**
@@ -243,16 +241,18 @@ public class EditableJavaClass extends JavaClass{
 		if(!packageDeclaration.isEditable()){
 			throw new IllegalArgumentException("editable Java Class requires editable package declaration");
 		}
-		this.packageDeclaration = packageDeclaration;
+		this.packageDeclaration = renderCache.replace(this.packageDeclaration, packageDeclaration);
+		clearCache();
 	}
 	
 	/**
 	 * @param packageName The package name of the class, which gets put in a {@link JavaPackageDeclaration}
 	 */
 	public void setPackageName(String packageName){
-		packageDeclaration = EditableJavaPackageDeclaration.builder()
+		packageDeclaration = renderCache.replace(packageDeclaration, EditableJavaPackageDeclaration.builder()
 				.packageName(packageName)
-				.build();
+				.build());
+		clearCache();
 	}
 	
 	/**
@@ -263,6 +263,7 @@ public class EditableJavaClass extends JavaClass{
 			throw new IllegalArgumentException("editable Java Class requires editable import statements");
 		}
 		importStatements.add(importStatement);
+		clearCache();
 	}
 	
 	/**
@@ -275,6 +276,7 @@ public class EditableJavaClass extends JavaClass{
 			}
 		}
 		this.importStatements.addAll(importStatements);
+		clearCache();
 	}
 	
 	/**
@@ -286,7 +288,8 @@ public class EditableJavaClass extends JavaClass{
 				throw new IllegalArgumentException("editable Java Class requires editable import statements");
 			}
 		}
-		this.importStatements = importStatements;
+		this.importStatements = renderCache.replace(this.importStatements, importStatements);
+		clearCache();
 	}
 	
 	/**
@@ -297,6 +300,7 @@ public class EditableJavaClass extends JavaClass{
 		importStatements.add(EditableJavaImportStatement.builder()
 				.isStatic(isStatic).importName(importName)
 				.build());
+		clearCache();
 	}
 	
 	/**
@@ -309,6 +313,7 @@ public class EditableJavaClass extends JavaClass{
 					.isStatic(isStatic).importName(importName)
 					.build());
 		}
+		clearCache();
 	}
 	
 	/**
@@ -316,8 +321,9 @@ public class EditableJavaClass extends JavaClass{
 	 * @param isStatic Whether the imports are static or not
 	 */
 	public void setImportNames(List<String> importNames, boolean isStatic){
-		importStatements = new ArrayList<>();
+		importStatements = renderCache.replace(importStatements, new ArrayList<>());
 		addImportNames(importNames, isStatic);
+		clearCache();
 	}
 	
 	/**
@@ -327,7 +333,8 @@ public class EditableJavaClass extends JavaClass{
 		if(!javadoc.isEditable()){
 			throw new IllegalArgumentException("editable Java Class requires editable Javadoc");
 		}
-		this.javadoc = javadoc;
+		this.javadoc = renderCache.replace(this.javadoc, javadoc);
+		clearCache();
 	}
 	
 	/**
@@ -338,6 +345,7 @@ public class EditableJavaClass extends JavaClass{
 			throw new IllegalArgumentException("editable Java Class requires editable Java Annotations");
 		}
 		annotations.add(annotation);
+		clearCache();
 	}
 	
 	/**
@@ -350,6 +358,7 @@ public class EditableJavaClass extends JavaClass{
 			}
 		}
 		this.annotations.addAll(annotations);
+		clearCache();
 	}
 	
 	/**
@@ -361,42 +370,56 @@ public class EditableJavaClass extends JavaClass{
 				throw new IllegalArgumentException("editable Java Class requires editable Java Annotations");
 			}
 		}
-		this.annotations = annotations;
+		this.annotations = renderCache.replace(this.annotations, annotations);
+		clearCache();
+	}
+	
+	/**
+	 * @param modifiers The {@link JavaModifiers modifiers} on the class
+	 */
+	public void setModifiers(int modifiers){
+		this.modifiers = modifiers;
+		clearCache();
 	}
 	
 	/**
 	 * @param visibility The {@link Visibility} of the class
 	 */
 	public void setVisibility(Visibility visibility){
-		this.visibility = visibility;
+		modifiers = JavaModifiers.withVisibility(modifiers, visibility);
+		clearCache();
 	}
 	
 	/**
 	 * @param isAbstract Whether this is an abstract class or not
 	 */
 	public void setAbstract(boolean isAbstract){
-		this.isAbstract = isAbstract;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.ABSTRACT, isAbstract);
+		clearCache();
 	}
 	
 	/**
 	 * @param isStatic Whether this is a static class or not
 	 */
 	public void setStatic(boolean isStatic){
-		this.isStatic = isStatic;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.STATIC, isStatic);
+		clearCache();
 	}
 	
 	/**
 	 * @param isFinal Whether this is a final class or not
 	 */
 	public void setFinal(boolean isFinal){
-		this.isFinal = isFinal;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.FINAL, isFinal);
+		clearCache();
 	}
 	
 	/**
 	 * @param className The name of the class, along with type parameters to form a {@link JavaType}
 	 */
 	public void setClassName(JavaType className){
-		this.className = className;
+		this.className = renderCache.replace(this.className, className);
+		clearCache();
 	}
 	
 	/**
@@ -404,7 +427,8 @@ public class EditableJavaClass extends JavaClass{
 	 * along with type parameters to form a {@link JavaType}
 	 */
 	public void setClassName(String classNameText){
-		this.className = FullJavaParser.parseJavaType(classNameText);
+		this.className = renderCache.replace(this.className, FullJavaParser.parseJavaType(classNameText));
+		clearCache();
 	}
 	
 	/**
@@ -412,7 +436,8 @@ public class EditableJavaClass extends JavaClass{
 	 * along with type parameters to form a {@link JavaType}
 	 */
 	public void setSuperClassName(JavaType superClassName){
-		this.superClassName = superClassName;
+		this.superClassName = renderCache.replace(this.superClassName, superClassName);
+		clearCache();
 	}
 	
 	/**
@@ -420,7 +445,8 @@ public class EditableJavaClass extends JavaClass{
 	 * along with type parameters to form a {@link JavaType}
 	 */
 	public void setSuperClassName(String superClassNameText){
-		this.superClassName = FullJavaParser.parseJavaType(superClassNameText);
+		this.superClassName = renderCache.replace(this.superClassName, FullJavaParser.parseJavaType(superClassNameText));
+		clearCache();
 	}
 	
 	/**
@@ -429,6 +455,7 @@ public class EditableJavaClass extends JavaClass{
 	 */
 	public void addImplementsInterfaceName(JavaType implementsInterfaceName){
 		implementsInterfaceNames.add(implementsInterfaceName);
+		clearCache();
 	}
 	
 	/**
@@ -437,6 +464,7 @@ public class EditableJavaClass extends JavaClass{
 	 */
 	public void addImplementsInterfaceName(String implementsInterfaceNameText){
 		implementsInterfaceNames.add(FullJavaParser.parseJavaType(implementsInterfaceNameText));
+		clearCache();
 	}
 	
 	/**
@@ -445,6 +473,7 @@ public class EditableJavaClass extends JavaClass{
 	 */
 	public void addImplementsInterfaceNames(List<JavaType> implementsInterfaceNames){
 		this.implementsInterfaceNames.addAll(implementsInterfaceNames);
+		clearCache();
 	}
 	
 	/**
@@ -454,6 +483,7 @@ public class EditableJavaClass extends JavaClass{
 	public void addImplementsInterfaceNameTexts(List<String> implementsInterfaceNameTexts){
 		this.implementsInterfaceNames.addAll(implementsInterfaceNameTexts.stream()
 				.map(FullJavaParser::parseJavaType).toList());
+		clearCache();
 	}
 	
 	/**
@@ -461,7 +491,8 @@ public class EditableJavaClass extends JavaClass{
 	 * along with type parameters to form a {@link JavaType}
 	 */
 	public void setImplementsInterfaceNames(List<JavaType> implementsInterfaceNames){
-		this.implementsInterfaceNames = implementsInterfaceNames;
+		this.implementsInterfaceNames = renderCache.replace(this.implementsInterfaceNames, implementsInterfaceNames);
+		clearCache();
 	}
 	
 	/**
@@ -469,8 +500,10 @@ public class EditableJavaClass extends JavaClass{
 	 * along with type parameters to form a {@link JavaType}
 	 */
 	public void setImplementsInterfaceNameTexts(List<String> implementsInterfaceNameTexts){
-		this.implementsInterfaceNames = implementsInterfaceNameTexts.stream()
-				.map(FullJavaParser::parseJavaType).collect(Collectors.toList());
+		this.implementsInterfaceNames = renderCache.replace(this.implementsInterfaceNames,
+				implementsInterfaceNameTexts.stream()
+						.map(FullJavaParser::parseJavaType).collect(Collectors.toList()));
+		clearCache();
 	}
 	
 	/**
@@ -482,6 +515,7 @@ public class EditableJavaClass extends JavaClass{
 			throw new IllegalArgumentException("editable Java Class requires editable static code blocks");
 		}
 		staticCodeBlocks.add(staticCodeBlock);
+		clearCache();
 	}
 	
 	/**
@@ -495,6 +529,7 @@ public class EditableJavaClass extends JavaClass{
 			}
 		}
 		this.staticCodeBlocks.addAll(staticCodeBlocks);
+		clearCache();
 	}
 	
 	/**
@@ -507,7 +542,8 @@ public class EditableJavaClass extends JavaClass{
 				throw new IllegalArgumentException("editable Java Class requires editable static code blocks");
 			}
 		}
-		this.staticCodeBlocks = staticCodeBlocks;
+		this.staticCodeBlocks = renderCache.replace(this.staticCodeBlocks, staticCodeBlocks);
+		clearCache();
 	}
 	
 	/**
@@ -519,6 +555,7 @@ public class EditableJavaClass extends JavaClass{
 			throw new IllegalArgumentException("editable Java Class requires editable single-line comments");
 		}
 		singleLineComments.add(singleLineComment);
+		clearCache();
 	}
 	
 	/**
@@ -532,6 +569,7 @@ public class EditableJavaClass extends JavaClass{
 			}
 		}
 		this.singleLineComments.addAll(singleLineComments);
+		clearCache();
 	}
 	
 	/**
@@ -543,7 +581,8 @@ public class EditableJavaClass extends JavaClass{
 				throw new IllegalArgumentException("editable Java Class requires editable single-line comments");
 			}
 		}
-		this.singleLineComments = singleLineComments;
+		this.singleLineComments = renderCache.replace(this.singleLineComments, singleLineComments);
+		clearCache();
 	}
 	
 	/**
@@ -555,6 +594,7 @@ public class EditableJavaClass extends JavaClass{
 			throw new IllegalArgumentException("editable Java Class requires editable multi-line comments");
 		}
 		multiLineComments.add(multiLineComment);
+		clearCache();
 	}
 	
 	/**
@@ -568,6 +608,7 @@ public class EditableJavaClass extends JavaClass{
 			}
 		}
 		this.multiLineComments.addAll(multiLineComments);
+		clearCache();
 	}
 	
 	/**
@@ -579,7 +620,8 @@ public class EditableJavaClass extends JavaClass{
 				throw new IllegalArgumentException("editable Java Class requires editable multi-line comments");
 			}
 		}
-		this.multiLineComments = multiLineComments;
+		this.multiLineComments = renderCache.replace(this.multiLineComments, multiLineComments);
+		clearCache();
 	}
 	
 	/**
@@ -590,6 +632,7 @@ public class EditableJavaClass extends JavaClass{
 			throw new IllegalArgumentException("editable Java Class requires editable inner classes");
 		}
 		innerClasses.add(innerClass);
+		clearCache();
 	}
 	
 	/**
@@ -602,6 +645,7 @@ public class EditableJavaClass extends JavaClass{
 			}
 		}
 		this.innerClasses.addAll(innerClasses);
+		clearCache();
 	}
 	
 	/**
@@ -613,7 +657,8 @@ public class EditableJavaClass extends JavaClass{
 				throw new IllegalArgumentException("editable Java Class requires editable inner classes");
 			}
 		}
-		this.innerClasses = innerClasses;
+		this.innerClasses = renderCache.replace(this.innerClasses, innerClasses);
+		clearCache();
 	}
 	
 	/**
@@ -624,6 +669,7 @@ public class EditableJavaClass extends JavaClass{
 			throw new IllegalArgumentException("editable Java Class requires editable Java Fields");
 		}
 		fields.add(field);
+		clearCache();
 	}
 	
 	/**
@@ -636,6 +682,7 @@ public class EditableJavaClass extends JavaClass{
 			}
 		}
 		this.fields.addAll(fields);
+		clearCache();
 	}
 	
 	/**
@@ -647,7 +694,8 @@ public class EditableJavaClass extends JavaClass{
 				throw new IllegalArgumentException("editable Java Class requires editable Java Fields");
 			}
 		}
-		this.fields = fields;
+		this.fields = renderCache.replace(this.fields, fields);
+		clearCache();
 	}
 	
 	/**
@@ -658,6 +706,7 @@ public class EditableJavaClass extends JavaClass{
 			throw new IllegalArgumentException("editable Java Class requires editable Java Methods");
 		}
 		methods.add(method);
+		clearCache();
 	}
 	
 	/**
@@ -670,6 +719,7 @@ public class EditableJavaClass extends JavaClass{
 			}
 		}
 		this.methods.addAll(methods);
+		clearCache();
 	}
 	
 	/**
@@ -681,13 +731,15 @@ public class EditableJavaClass extends JavaClass{
 				throw new IllegalArgumentException("editable Java Class requires editable Java Methods");
 			}
 		}
-		this.methods = methods;
+		this.methods = renderCache.replace(this.methods, methods);
+		clearCache();
 	}
 	
 	/**
 	 * @param innerElementsOrder The order of the elements inside the class
 	 */
 	public void setInnerElementsOrder(List<Pair<JavaCodeTypes, String>> innerElementsOrder){
-		this.innerElementsOrder = innerElementsOrder;
+		this.innerElementsOrder = renderCache.replace(this.innerElementsOrder, innerElementsOrder);
+		clearCache();
 	}
 }
@@ -1,8 +1,13 @@
 package com.github.tadukoo.java.javaclass;
 
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.EqualityUtil;
 import com.github.tadukoo.java.JavaClassType;
+import com.github.tadukoo.java.JavaCodeType;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.RenderCache;
 import com.github.tadukoo.java.Visibility;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
 import com.github.tadukoo.java.code.staticcodeblock.JavaStaticCodeBlock;
@@ -14,7 +19,6 @@ import com.github.tadukoo.java.javadoc.Javadoc;
 import com.github.tadukoo.java.method.JavaMethod;
 import com.github.tadukoo.java.packagedeclaration.JavaPackageDeclaration;
 import com.github.tadukoo.util.ListUtil;
-import com.github.tadukoo.util.StringUtil;
 import com.github.tadukoo.util.map.HashMultiMap;
 import com.github.tadukoo.util.map.MultiMap;
 import com.github.tadukoo.util.tuple.Pair;
@@ -23,6 +27,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Java Class is used to represent a class in Java.
@@ -31,7 +36,7 @@ import java.util.Map;
  * @version Beta v.0.6
  * @since Alpha v.0.2 (as old version that is now more like UneditableJavaClass), Alpha v.0.4 (as newer version)
  */
-public abstract class JavaClass implements JavaClassType{
+public abstract class JavaClass extends BaseJavaCodeType implements JavaClassType{
 	
 	/** Whether this class is editable or not */
 	private final boolean editable;
@@ -45,14 +50,8 @@ public abstract class JavaClass implements JavaClassType{
 	protected Javadoc javadoc;
 	/** The {@link JavaAnnotation annotations} on the class */
 	protected List<JavaAnnotation> annotations;
-	/** The {@link Visibility} of the class */
-	protected Visibility visibility;
-	/** Whether this is an abstract class or not */
-	protected boolean isAbstract;
-	/** Whether this is a static class or not */
-	protected boolean isStatic;
-	/** Whether this is a final class or not */
-	protected boolean isFinal;
+	/** The {@link JavaModifiers modifiers} on the class (its {@link Visibility} and if it's abstract, static, or final) */
+	protected int modifiers;
 	/** The name of the class, along with type parameters to form a {@link JavaType} */
 	protected JavaType className;
 	/** The name of the class this one extends (can be null), along with type parameters to form a {@link JavaType} */
@@ -73,6 +72,10 @@ public abstract class JavaClass implements JavaClassType{
 	protected List<JavaMethod> methods;
 	/** The order of the elements inside the class */
 	protected List<Pair<JavaCodeTypes, String>> innerElementsOrder;
+	/** The cached hash code of the class (0 if it hasn't been calculated yet) */
+	private int hashCode;
+	/** The cache for the Java code of the class */
+	protected final RenderCache renderCache;
 	
 	/**
 	 * Constructs a new Java Class with the given parameters
@@ -83,10 +86,7 @@ public abstract class JavaClass implements JavaClassType{
 	 * @param importStatements The {@link JavaImportStatement import statements} of the class
 	 * @param javadoc The {@link Javadoc} for the class
 	 * @param annotations The {@link JavaAnnotation annotations} on the class
-	 * @param visibility The {@link Visibility} of the class
-	 * @param isAbstract Whether this is an abstract class or not
-	 * @param isStatic Whether this is a static class or not
-	 * @param isFinal Whether this is a final class or not
+	 * @param modifiers The {@link JavaModifiers modifiers} on the class
 	 * @param className The name of the class, along with type parameters to form a {@link JavaType}
 	 * @param superClassName The name of the class this one extends (can be null), along with type parameters to form a {@link JavaType}
 	 * @param implementsInterfaceNames The names of interfaces this class implements, along with type parameters to form a {@link JavaType}
@@ -102,32 +102,30 @@ public abstract class JavaClass implements JavaClassType{
 			boolean editable, boolean isInnerClass,
 			JavaPackageDeclaration packageDeclaration, List<JavaImportStatement> importStatements,
 			Javadoc javadoc, List<JavaAnnotation> annotations,
-			Visibility visibility, boolean isAbstract, boolean isStatic, boolean isFinal, JavaType className,
+			int modifiers, JavaType className,
 			JavaType superClassName, List<JavaType> implementsInterfaceNames,
 			List<JavaStaticCodeBlock> staticCodeBlocks,
 			List<JavaSingleLineComment> singleLineComments, List<JavaMultiLineComment> multiLineComments,
 			List<JavaClass> innerClasses, List<JavaField> fields, List<JavaMethod> methods,
 			List<Pair<JavaCodeTypes, String>> innerElementsOrder){
 		this.editable = editable;
+		renderCache = new RenderCache(editable);
 		this.isInnerClass = isInnerClass;
-		this.packageDeclaration = packageDeclaration;
-		this.importStatements = importStatements;
-		this.javadoc = javadoc;
-		this.annotations = annotations;
-		this.visibility = visibility;
-		this.isAbstract = isAbstract;
-		this.isStatic = isStatic;
-		this.isFinal = isFinal;
-		this.className = className;
-		this.superClassName = superClassName;
-		this.implementsInterfaceNames = implementsInterfaceNames;
-		this.staticCodeBlocks = staticCodeBlocks;
-		this.singleLineComments = singleLineComments;
-		this.multiLineComments = multiLineComments;
-		this.innerClasses = innerClasses;
-		this.fields = fields;
-		this.methods = methods;
-		this.innerElementsOrder = innerElementsOrder;
+		this.packageDeclaration = renderCache.track(packageDeclaration);
+		this.importStatements = renderCache.track(importStatements);
+		this.javadoc = renderCache.track(javadoc);
+		this.annotations = renderCache.track(annotations);
+		this.modifiers = modifiers;
+		this.className = renderCache.track(className);
+		this.superClassName = renderCache.track(superClassName);
+		this.implementsInterfaceNames = renderCache.track(implementsInterfaceNames, JavaType::toCanonical);
+		this.staticCodeBlocks = renderCache.track(staticCodeBlocks);
+		this.singleLineComments = renderCache.track(singleLineComments);
+		this.multiLineComments = renderCache.track(multiLineComments);
+		this.innerClasses = renderCache.track(innerClasses);
+		this.fields = renderCache.track(fields);
+		this.methods = renderCache.track(methods);
+		this.innerElementsOrder = renderCache.track(innerElementsOrder);
 	}
 	
 	/** {@inheritDoc} */
@@ -178,32 +176,39 @@ public abstract class JavaClass implements JavaClassType{
 		return annotations;
 	}
 	
+	/**
+	 * @return The {@link JavaModifiers modifiers} on the class
+	 */
+	public int getModifiers(){
+		return modifiers;
+	}
+	
 	/**
 	 * @return The {@link Visibility} of the class
 	 */
 	public Visibility getVisibility(){
-		return visibility;
+		return JavaModifiers.getVisibility(modifiers);
 	}
 	
 	/**
 	 * @return Whether this class is abstract or not
 	 */
 	public boolean isAbstract(){
-		return isAbstract;
+		return JavaModifiers.has(modifiers, JavaModifiers.ABSTRACT);
 	}
 	
 	/**
 	 * @return Whether this class is static or not
 	 */
 	public boolean isStatic(){
-		return isStatic;
+		return JavaModifiers.has(modifiers, JavaModifiers.STATIC);
 	}
 	
 	/**
 	 * @return Whether this class is final or not
 	 */
 	public boolean isFinal(){
-		return isFinal;
+		return JavaModifiers.has(modifiers, JavaModifiers.FINAL);
 	}
 	
 	/**
@@ -321,14 +326,29 @@ public abstract class JavaClass implements JavaClassType{
 	 */
 	@Override
 	public String toString(){
-		// Create a list of the lines of the class
-		List<String> content = new ArrayList<>();
+		// Re-use the cached code if nothing in the class was changed since it was built
+		String string = renderCache.getRendered();
+		if(string == null){
+			string = buildString();
+			renderCache.setRendered(string);
+		}
+		return string;
+	}
+	
+	/**
+	 * Builds the code for {@link #toString()}, which caches it. The code types inside the class are added using
+	 * their cached {@link JavaCodeType#toIndentedString() indented code}, so only the ones that were changed since
+	 * the class was last built need to be built and indented again
+	 *
+	 * @return The actual Java code this {@link JavaClass} represents
+	 */
+	private String buildString(){
+		StringBuilder code = new StringBuilder();
 		
 		// Package Declaration
 		if(packageDeclaration != null){
-			content.add(packageDeclaration.toString());
 			// Newline between package declaration and whatever's next
-			content.add("");
+			code.append(packageDeclaration).append("\n\n");
 		}
 		
 		// Import Statements
@@ -346,94 +366,56 @@ public abstract class JavaClass implements JavaClassType{
 			
 			// Handle regular imports if we have them
 			if(ListUtil.isNotBlank(regularImports)){
-				MultiMap<String, JavaImportStatement> sortedImports = sortImports(regularImports);
-				List<String> alphabetizedKeys = sortedImports.keySet().stream().sorted().toList();
-				for(String key: alphabetizedKeys){
-					List<String> alphabetizedImports = sortedImports.get(key).stream()
-							.map(JavaImportStatement::toString)
-							.sorted().toList();
-					content.addAll(alphabetizedImports);
-					// Add newline after each section
-					content.add("");
-				}
+				appendImports(code, regularImports);
 			}
 			
 			// Handle static imports if we have them
 			if(ListUtil.isNotBlank(staticImports)){
-				MultiMap<String, JavaImportStatement> sortedImports = sortImports(staticImports);
-				List<String> alphabetizedKeys = sortedImports.keySet().stream().sorted().toList();
-				for(String key: alphabetizedKeys){
-					List<String> alphabetizedImports = sortedImports.get(key).stream()
-							.map(JavaImportStatement::toString)
-							.sorted().toList();
-					content.addAll(alphabetizedImports);
-					// Add newline after each section
-					content.add("");
-				}
+				appendImports(code, staticImports);
 			}
 		}
 		
 		// Javadoc
 		if(javadoc != null){
-			content.add(javadoc.toString());
+			code.append(javadoc).append('\n');
 		}
 		
 		// Annotations
 		if(ListUtil.isNotBlank(annotations)){
 			for(JavaAnnotation annotation: annotations){
-				content.add(annotation.toString());
+				code.append(annotation).append('\n');
 			}
 		}
 		
 		/*
 		 * Class Declaration
 		 */
-		// Start with visibility
-		StringBuilder declaration = new StringBuilder(visibility.getToken());
-		if(!declaration.isEmpty()){
-			// If visibility is not NONE, we need a space after it
-			declaration.append(' ');
-		}
-		
-		// Optionally add abstract to the class declaration
-		if(isAbstract){
-			declaration.append(ABSTRACT_MODIFIER).append(' ');
-		}
-		
-		// Optionally add static to the class declaration
-		if(isStatic){
-			declaration.append(STATIC_MODIFIER).append(' ');
-		}
-		
-		// Optionally add final to the class declaration
-		if(isFinal){
-			declaration.append(FINAL_MODIFIER).append(' ');
-		}
+		// Start with the modifiers
+		JavaModifiers.append(code, modifiers);
 		
 		// Append class token and name to the declaration
-		declaration.append(CLASS_TOKEN).append(' ').append(className);
+		code.append(CLASS_TOKEN).append(' ').append(className);
 		
 		// Optionally append super class name to the declaration
 		if(superClassName != null){
-			declaration.append(' ').append(EXTENDS_TOKEN).append(' ').append(superClassName);
+			code.append(' ').append(EXTENDS_TOKEN).append(' ').append(superClassName);
 		}
 		
 		// Optionally append implemented interfaces to the declaration
 		if(ListUtil.isNotBlank(implementsInterfaceNames)){
-			declaration.append(' ').append(IMPLEMENTS_TOKEN);
+			code.append(' ').append(IMPLEMENTS_TOKEN);
 			for(JavaType implementsInterfaceName: implementsInterfaceNames){
-				declaration.append(' ').append(implementsInterfaceName).append(',');
+				code.append(' ').append(implementsInterfaceName).append(',');
 			}
 			// Remove final comma
-			declaration.deleteCharAt(declaration.length()-1);
+			code.deleteCharAt(code.length()-1);
 		}
 		
 		// End the declaration by opening the code block
-		declaration.append(BLOCK_OPEN_TOKEN);
-		content.add(declaration.toString());
+		code.append(BLOCK_OPEN_TOKEN).append('\n');
 		
-		// Newline at start of class
-		content.add("\t");
+		// Newline at start of class (keeping track of where the last line starts if it's just a newline)
+		int newlineStart = appendNewline(code);
 		
 		if(ListUtil.isNotBlank(innerElementsOrder)){
 			int staticCodeBlockIndex = 0, singleLineCommentIndex = 0, multiLineCommentIndex = 0;
@@ -444,39 +426,35 @@ public abstract class JavaClass implements JavaClassType{
 			for(Pair<JavaCodeTypes, String> elementInfo: innerElementsOrder){
 				switch(elementInfo.getLeft()){
 					case STATIC_CODE_BLOCK -> {
-						content.add(StringUtil.indentAllLines(
-								staticCodeBlocks.get(staticCodeBlockIndex).toString()));
+						newlineStart = appendIndented(code, staticCodeBlocks.get(staticCodeBlockIndex));
 						staticCodeBlockIndex++;
 					}
 					case SINGLE_LINE_COMMENT -> {
-						content.add(StringUtil.indentAllLines(
-								singleLineComments.get(singleLineCommentIndex).toString()));
+						newlineStart = appendIndented(code, singleLineComments.get(singleLineCommentIndex));
 						singleLineCommentIndex++;
 					}
 					case MULTI_LINE_COMMENT -> {
-						content.add(StringUtil.indentAllLines(multiLineComments.get(multiLineCommentIndex).toString()));
-						content.add("\t");
+						appendIndented(code, multiLineComments.get(multiLineCommentIndex));
+						newlineStart = appendNewline(code);
 						multiLineCommentIndex++;
 					}
-					case CLASS -> content.add(StringUtil.indentAllLines(
-							innerClassesByName.get(elementInfo.getRight()).toString()));
-					case FIELD -> content.add(StringUtil.indentAllLines(
-							fieldsByName.get(elementInfo.getRight()).toString()));
+					case CLASS -> newlineStart = appendIndented(code, innerClassesByName.get(elementInfo.getRight()));
+					case FIELD -> newlineStart = appendIndented(code, fieldsByName.get(elementInfo.getRight()));
 					case METHOD -> {
 						// Add line before method if last item was a field
 						if(lastType == JavaCodeTypes.FIELD){
-							content.add("\t");
+							appendNewline(code);
 						}
-						content.add(StringUtil.indentAllLines(methodsByName.get(elementInfo.getRight()).toString()));
+						appendIndented(code, methodsByName.get(elementInfo.getRight()));
 						// Add line after method
-						content.add("\t");
+						newlineStart = appendNewline(code);
 					}
 				}
 				lastType = elementInfo.getLeft();
 			}
 			// Remove last line if it's just a newline from the method
-			if(StringUtil.equals(content.get(content.size() - 1), "\t")){
-				content.remove(content.size()-1);
+			if(newlineStart != -1){
+				code.setLength(newlineStart);
 			}
 		}else{
 			// Default order is inner classes, then fields, then methods
@@ -484,7 +462,7 @@ public abstract class JavaClass implements JavaClassType{
 			// Inner classes of the class
 			if(ListUtil.isNotBlank(innerClasses)){
 				for(JavaClass clazz: innerClasses){
-					content.add(StringUtil.indentAllLines(clazz.toString()));
+					appendIndented(code, clazz);
 				}
 			}
 			
@@ -492,7 +470,7 @@ public abstract class JavaClass implements JavaClassType{
 			if(ListUtil.isNotBlank(fields)){
 				for(JavaField field: fields){
 					// Use indent all lines because Javadoc may make it multiline
-					content.add(StringUtil.indentAllLines(field.toString()));
+					appendIndented(code, field);
 				}
 			}
 			
@@ -500,23 +478,84 @@ public abstract class JavaClass implements JavaClassType{
 			if(ListUtil.isNotBlank(methods)){
 				// Newline to separate fields from methods
 				if(ListUtil.isNotBlank(fields)){
-					content.add("\t");
+					appendNewline(code);
 				}
 				for(JavaMethod method: methods){
-					content.add(StringUtil.indentAllLines(method.toString()));
-					content.add("\t");
+					appendIndented(code, method);
+					newlineStart = appendNewline(code);
 				}
 				// Remove extra newline at the end
-				content.remove(content.size() - 1);
+				code.setLength(newlineStart);
 			}
 		}
 		
 		// Closing brace at end of class and empty newline at end of file
-		content.add(BLOCK_CLOSE_TOKEN);
-		content.add("");
-		
-		// Build the full string
-		return StringUtil.buildStringWithNewLines(content);
+		return code.append(BLOCK_CLOSE_TOKEN).append('\n').toString();
+	}
+	
+	/**
+	 * Appends the given {@link JavaImportStatement import statements} to the code, sorted into sections by the first
+	 * part of their package name, with a newline after each section
+	 *
+	 * @param code The code being built
+	 * @param importStatements The {@link JavaImportStatement import statements} to append
+	 */
+	private void appendImports(StringBuilder code, List<JavaImportStatement> importStatements){
+		MultiMap<String, JavaImportStatement> sortedImports = sortImports(importStatements);
+		List<String> alphabetizedKeys = sortedImports.keySet().stream().sorted().toList();
+		for(String key: alphabetizedKeys){
+			List<String> alphabetizedImports = sortedImports.get(key).stream()
+					.map(JavaImportStatement::toString)
+					.sorted().toList();
+			for(String importStatement: alphabetizedImports){
+				code.append(importStatement).append('\n');
+			}
+			// Add newline after each section
+			code.append('\n');
+		}
+	}
+	
+	/**
+	 * Appends the {@link JavaCodeType#toIndentedString() indented code} of the given code type inside the class
+	 * as a line of the code
+	 *
+	 * @param code The code being built
+	 * @param codeType The {@link JavaCodeType code type} inside the class
+	 * @return -1, since the last line isn't just a newline
+	 */
+	private static int appendIndented(StringBuilder code, JavaCodeType codeType){
+		code.append(codeType.toIndentedString()).append('\n');
+		return -1;
+	}
+	
+	/**
+	 * Appends a line that's just a newline (indented) to the code
+	 *
+	 * @param code The code being built
+	 * @return Where the newline starts in the code, so that it can be removed if it ends up being the last line
+	 */
+	private static int appendNewline(StringBuilder code){
+		int start = code.length();
+		code.append("\t\n");
+		return start;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toIndentedString(){
+		return renderCache.getIndented(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void addParentCache(RenderCache parent){
+		renderCache.addParent(parent);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		renderCache.removeParent(parent);
 	}
 	
 	/**
@@ -537,16 +576,110 @@ public abstract class JavaClass implements JavaClassType{
 		return mappedStatements;
 	}
 	
-	/** {@inheritDoc} */
+	/**
+	 * Gets the order the elements inside the class are built in. If no order was given, the elements are built in
+	 * the default order (inner classes, then fields, then methods)
+	 *
+	 * @return The order of elements inside the class, as they're built in the code
+	 */
+	private List<Pair<JavaCodeTypes, String>> getRenderedInnerElementsOrder(){
+		if(ListUtil.isNotBlank(innerElementsOrder)){
+			return innerElementsOrder;
+		}
+		List<Pair<JavaCodeTypes, String>> defaultOrder = new ArrayList<>();
+		if(innerClasses != null){
+			for(JavaClass clazz: innerClasses){
+				defaultOrder.add(Pair.of(JavaCodeTypes.CLASS, clazz.getSimpleClassName()));
+			}
+		}
+		if(fields != null){
+			for(JavaField field: fields){
+				defaultOrder.add(Pair.of(JavaCodeTypes.FIELD, field.getName()));
+			}
+		}
+		if(methods != null){
+			for(JavaMethod method: methods){
+				defaultOrder.add(Pair.of(JavaCodeTypes.METHOD, method.getUniqueName()));
+			}
+		}
+		return defaultOrder;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * The {@link JavaImportStatement import statements} are compared in any order, since they're sorted when the code
+	 * is built. The order of the elements inside the class is compared as they're built, so a class without an order
+	 * is equal to one with the default order (inner classes, then fields, then methods)
+	 */
 	@Override
 	public boolean equals(Object otherClass){
-		if(otherClass instanceof JavaClass clazz){
-			return StringUtil.equals(toString(), clazz.toString());
+		if(this == otherClass){
+			return true;
+		}else if(otherClass instanceof JavaClass clazz){
+			return isInnerClass == clazz.isInnerClass &&
+					Objects.equals(packageDeclaration, clazz.packageDeclaration) &&
+					EqualityUtil.unorderedListsEqual(importStatements, clazz.importStatements) &&
+					Objects.equals(javadoc, clazz.javadoc) &&
+					EqualityUtil.annotationListsEqual(annotations, clazz.annotations) &&
+					modifiers == clazz.modifiers && EqualityUtil.typesEqual(className, clazz.className) &&
+					EqualityUtil.typesEqual(superClassName, clazz.superClassName) &&
+					EqualityUtil.typeListsEqual(implementsInterfaceNames, clazz.implementsInterfaceNames) &&
+					EqualityUtil.listsEqual(staticCodeBlocks, clazz.staticCodeBlocks) &&
+					EqualityUtil.listsEqual(singleLineComments, clazz.singleLineComments) &&
+					EqualityUtil.listsEqual(multiLineComments, clazz.multiLineComments) &&
+					EqualityUtil.listsEqual(innerClasses, clazz.innerClasses) &&
+					EqualityUtil.listsEqual(fields, clazz.fields) && EqualityUtil.listsEqual(methods, clazz.methods) &&
+					EqualityUtil.pairListsEqual(getRenderedInnerElementsOrder(), clazz.getRenderedInnerElementsOrder());
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * For an uneditable class, the hash code is only calculated once and then cached (it can't be changed, since its
+	 * Lists are unmodifiable and its {@link JavaType types} are canonical). An editable class
+	 * calculates it each time, since the elements inside of it can be edited separately
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = Boolean.hashCode(isInnerClass);
+			hash = 31 * hash + Objects.hashCode(packageDeclaration);
+			hash = 31 * hash + EqualityUtil.unorderedListHashCode(importStatements);
+			hash = 31 * hash + Objects.hashCode(javadoc);
+			hash = 31 * hash + EqualityUtil.annotationListHashCode(annotations);
+			hash = 31 * hash + modifiers;
+			hash = 31 * hash + EqualityUtil.typeHashCode(className);
+			hash = 31 * hash + EqualityUtil.typeHashCode(superClassName);
+			hash = 31 * hash + EqualityUtil.typeListHashCode(implementsInterfaceNames);
+			hash = 31 * hash + EqualityUtil.listHashCode(staticCodeBlocks);
+			hash = 31 * hash + EqualityUtil.listHashCode(singleLineComments);
+			hash = 31 * hash + EqualityUtil.listHashCode(multiLineComments);
+			hash = 31 * hash + EqualityUtil.listHashCode(innerClasses);
+			hash = 31 * hash + EqualityUtil.listHashCode(fields);
+			hash = 31 * hash + EqualityUtil.listHashCode(methods);
+			hash = 31 * hash + EqualityUtil.pairListHashCode(getRenderedInnerElementsOrder());
+			hash = EqualityUtil.nonZeroHashCode(hash);
+			if(!editable){
+				hashCode = hash;
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * Clears the cached Java code so that it gets built again the next time it's needed - this must be called
+	 * whenever the class itself is changed (changes to its Lists and the code types inside it are passed on
+	 * automatically, once they're tracked by the {@link #renderCache})
+	 */
+	protected void clearCache(){
+		renderCache.modified();
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toBuilderCode(){
@@ -625,22 +758,22 @@ public abstract class JavaClass implements JavaClassType{
 		}
 		
 		// Add Visibility
-		if(visibility != Visibility.NONE){
-			codeString.append(NEWLINE_WITH_2_TABS).append(".visibility(Visibility.").append(visibility).append(')');
+		if(JavaModifiers.has(modifiers, JavaModifiers.VISIBILITY_MASK)){
+			codeString.append(NEWLINE_WITH_2_TABS).append(".visibility(Visibility.").append(getVisibility()).append(')');
 		}
 		
 		// Add abstract if we have it
-		if(isAbstract){
+		if(isAbstract()){
 			codeString.append(NEWLINE_WITH_2_TABS).append(".isAbstract()");
 		}
 		
 		// Add static if we have it
-		if(isStatic){
+		if(isStatic()){
 			codeString.append(NEWLINE_WITH_2_TABS).append(".isStatic()");
 		}
 		
 		// Add final if we have it
-		if(isFinal){
+		if(isFinal()){
 			codeString.append(NEWLINE_WITH_2_TABS).append(".isFinal()");
 		}
 		
@@ -1,6 +1,7 @@
 package com.github.tadukoo.java.javaclass;
 
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.Visibility;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
@@ -65,24 +66,10 @@ import java.util.stream.Collectors;
  *         <td>An empty list</td>
  *     </tr>
  *     <tr>
- *         <td>visibility</td>
- *         <td>The {@link Visibility} of the class</td>
- *         <td>{@link Visibility#NONE}</td>
- *     </tr>
- *     <tr>
- *         <td>isAbstract</td>
- *         <td>Whether the class is abstract or not</td>
- *         <td>false</td>
- *     </tr>
- *     <tr>
- *         <td>isStatic</td>
- *         <td>Whether the class is static or not</td>
- *         <td>false</td>
- *     </tr>
- *     <tr>
- *         <td>isFinal</td>
- *         <td>Whether the class is final or not</td>
- *         <td>false</td>
+ *         <td>modifiers</td>
+ *         <td>The {@link JavaModifiers modifiers} on the class - its {@link Visibility} and if it's abstract,
+ *         static, and/or final (can also be set with visibility, isAbstract, isStatic, and isFinal)</td>
+ *         <td>{@link JavaModifiers#NONE} (with {@link Visibility#NONE})</td>
  *     </tr>
  *     <tr>
  *         <td>className</td>
@@ -152,14 +139,10 @@ public abstract class JavaClassBuilder<ClassType extends JavaClass>{
 	protected Javadoc javadoc = null;
 	/** The {@link JavaAnnotation annotations} on the class */
 	protected List<JavaAnnotation> annotations = new ArrayList<>();
-	/** The {@link Visibility} of the class */
-	protected Visibility visibility = Visibility.NONE;
-	/** Whether the class is abstract or not */
-	protected boolean isAbstract = false;
-	/** Whether the class is static or not */
-	protected boolean isStatic = false;
-	/** Whether the class is final or not */
-	protected boolean isFinal = false;
+	/** The {@link JavaModifiers modifiers} on the class */
+	protected int modifiers = JavaModifiers.NONE;
+	/** Whether the {@link Visibility} of the class was set to null or not */
+	protected boolean missingVisibility = false;
 	/** The name of the class, along with type parameters to form a {@link JavaType} */
 	protected JavaType className = null;
 	/** The name of the class this one extends (can be null), along with type parameters to form a {@link JavaType} */
@@ -195,23 +178,21 @@ public abstract class JavaClassBuilder<ClassType extends JavaClass>{
 	public JavaClassBuilder<ClassType> copy(JavaClass clazz){
 		this.isInnerClass = clazz.isInnerClass();
 		this.packageDeclaration = clazz.getPackageDeclaration();
-		this.importStatements = clazz.getImportStatements();
+		this.importStatements = new ArrayList<>(clazz.getImportStatements());
 		this.javadoc = clazz.getJavadoc();
-		this.annotations = clazz.getAnnotations();
-		this.visibility = clazz.getVisibility();
-		this.isAbstract = clazz.isAbstract();
-		this.isStatic = clazz.isStatic();
-		this.isFinal = clazz.isFinal();
+		this.annotations = new ArrayList<>(clazz.getAnnotations());
+		this.modifiers = clazz.getModifiers();
+		this.missingVisibility = false;
 		this.className = clazz.getClassName();
 		this.superClassName = clazz.getSuperClassName();
-		this.implementsInterfaceNames = clazz.getImplementsInterfaceNames();
-		this.staticCodeBlocks = clazz.getStaticCodeBlocks();
-		this.singleLineComments = clazz.getSingleLineComments();
-		this.multiLineComments = clazz.getMultiLineComments();
-		this.innerClasses = clazz.getInnerClasses();
-		this.fields = clazz.getFields();
-		this.methods = clazz.getMethods();
-		this.innerElementsOrder = clazz.getInnerElementsOrder();
+		this.implementsInterfaceNames = new ArrayList<>(clazz.getImplementsInterfaceNames());
+		this.staticCodeBlocks = new ArrayList<>(clazz.getStaticCodeBlocks());
+		this.singleLineComments = new ArrayList<>(clazz.getSingleLineComments());
+		this.multiLineComments = new ArrayList<>(clazz.getMultiLineComments());
+		this.innerClasses = new ArrayList<>(clazz.getInnerClasses());
+		this.fields = new ArrayList<>(clazz.getFields());
+		this.methods = new ArrayList<>(clazz.getMethods());
+		this.innerElementsOrder = new ArrayList<>(clazz.getInnerElementsOrder());
 		return this;
 	}
 	
@@ -333,12 +314,24 @@ public abstract class JavaClassBuilder<ClassType extends JavaClass>{
 		return this;
 	}
 	
+	/**
+	 * @param modifiers The {@link JavaModifiers modifiers} on the class (replacing any visibility, abstract, static,
+	 * or final set before)
+	 * @return this, to continue building
+	 */
+	public JavaClassBuilder<ClassType> modifiers(int modifiers){
+		this.modifiers = modifiers;
+		missingVisibility = false;
+		return this;
+	}
+	
 	/**
 	 * @param visibility The {@link Visibility} of the class
 	 * @return this, to continue building
 	 */
 	public JavaClassBuilder<ClassType> visibility(Visibility visibility){
-		this.visibility = visibility;
+		missingVisibility = visibility == null;
+		modifiers = JavaModifiers.withVisibility(modifiers, missingVisibility?Visibility.NONE:visibility);
 		return this;
 	}
 	
@@ -348,8 +341,7 @@ public abstract class JavaClassBuilder<ClassType extends JavaClass>{
 	 * @return this, to continue building
 	 */
 	public JavaClassBuilder<ClassType> isAbstract(){
-		isAbstract = true;
-		return this;
+		return isAbstract(true);
 	}
 	
 	/**
@@ -357,7 +349,7 @@ public abstract class JavaClassBuilder<ClassType extends JavaClass>{
 	 * @return this, to continue building
 	 */
 	public JavaClassBuilder<ClassType> isAbstract(boolean isAbstract){
-		this.isAbstract = isAbstract;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.ABSTRACT, isAbstract);
 		return this;
 	}
 	
@@ -367,8 +359,7 @@ public abstract class JavaClassBuilder<ClassType extends JavaClass>{
 	 * @return this, to continue building
 	 */
 	public JavaClassBuilder<ClassType> isStatic(){
-		this.isStatic = true;
-		return this;
+		return isStatic(true);
 	}
 	
 	/**
@@ -376,7 +367,7 @@ public abstract class JavaClassBuilder<ClassType extends JavaClass>{
 	 * @return this, to continue building
 	 */
 	public JavaClassBuilder<ClassType> isStatic(boolean isStatic){
-		this.isStatic = isStatic;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.STATIC, isStatic);
 		return this;
 	}
 	
@@ -386,8 +377,7 @@ public abstract class JavaClassBuilder<ClassType extends JavaClass>{
 	 * @return this, to continue building
 	 */
 	public JavaClassBuilder<ClassType> isFinal(){
-		this.isFinal = true;
-		return this;
+		return isFinal(true);
 	}
 	
 	/**
@@ -395,7 +385,7 @@ public abstract class JavaClassBuilder<ClassType extends JavaClass>{
 	 * @return this, to continue building
 	 */
 	public JavaClassBuilder<ClassType> isFinal(boolean isFinal){
-		this.isFinal = isFinal;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.FINAL, isFinal);
 		return this;
 	}
 	
@@ -679,24 +669,29 @@ public abstract class JavaClassBuilder<ClassType extends JavaClass>{
 		List<String> errors = new ArrayList<>();
 		
 		// Visibility required
-		if(visibility == null){
+		if(missingVisibility){
 			errors.add("Visibility is required!");
 		}
 		
+		// Can't have more than one visibility
+		if(JavaModifiers.hasMultipleVisibilities(modifiers)){
+			errors.add("Found multiple visibility modifiers");
+		}
+		
 		// ClassName required
 		if(className == null){
 			errors.add("Must specify className!");
 		}
 		
 		// Abstract errors
-		if(isAbstract){
+		if(JavaModifiers.has(modifiers, JavaModifiers.ABSTRACT)){
 			// Can't be abstract + static
-			if(isStatic){
+			if(JavaModifiers.has(modifiers, JavaModifiers.STATIC)){
 				errors.add("Can't be abstract and static!");
 			}
 			
 			// Can't be abstract + final
-			if(isFinal){
+			if(JavaModifiers.has(modifiers, JavaModifiers.FINAL)){
 				errors.add("Can't be abstract and final!");
 			}
 		}
@@ -833,7 +828,7 @@ public abstract class JavaClassBuilder<ClassType extends JavaClass>{
 			}
 		}else{
 			// Regular class problems
-			if(isStatic){
+			if(JavaModifiers.has(modifiers, JavaModifiers.STATIC)){
 				errors.add("Only inner classes can be static!");
 			}
 		}
@@ -1,6 +1,7 @@
 package com.github.tadukoo.java.javaclass;
 
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
 import com.github.tadukoo.java.code.staticcodeblock.JavaStaticCodeBlock;
@@ -18,7 +19,6 @@ import com.github.tadukoo.java.importstatement.JavaImportStatementBuilder;
 import com.github.tadukoo.java.importstatement.UneditableJavaImportStatement;
 import com.github.tadukoo.java.method.JavaMethod;
 import com.github.tadukoo.java.javadoc.Javadoc;
-import com.github.tadukoo.java.Visibility;
 import com.github.tadukoo.java.packagedeclaration.JavaPackageDeclaration;
 import com.github.tadukoo.java.packagedeclaration.JavaPackageDeclarationBuilder;
 import com.github.tadukoo.java.packagedeclaration.UneditableJavaPackageDeclaration;
@@ -167,7 +167,7 @@ public class UneditableJavaClass extends JavaClass{
 		protected UneditableJavaClass constructClass(){
 			return new UneditableJavaClass(isInnerClass, packageDeclaration, importStatements,
 					javadoc, annotations,
-					visibility, isAbstract, isStatic, isFinal, className,
+					modifiers, className,
 					superClassName, implementsInterfaceNames,
 					staticCodeBlocks,
 					singleLineComments, multiLineComments,
@@ -184,10 +184,7 @@ public class UneditableJavaClass extends JavaClass{
 	 * @param importStatements The {@link JavaImportStatement import statements} of the class
 	 * @param javadoc The {@link Javadoc} for the class
 	 * @param annotations The {@link JavaAnnotation annotations} on the class
-	 * @param visibility The {@link Visibility} of the class
-	 * @param isAbstract Whether this is an abstract class or not
-	 * @param isStatic Whether this is a static class or not
-	 * @param isFinal Whether this is a final class or not
+	 * @param modifiers The {@link JavaModifiers modifiers} on the class
 	 * @param className The name of the class, along with type parameters to form a {@link JavaType}
 	 * @param superClassName The name of the class this one extends (can be null),
 	 * along with type parameters to form a {@link JavaType}
@@ -204,15 +201,14 @@ public class UneditableJavaClass extends JavaClass{
 	private UneditableJavaClass(
 			boolean isInnerClass, JavaPackageDeclaration packageDeclaration, List<JavaImportStatement> importStatements,
 			Javadoc javadoc, List<JavaAnnotation> annotations,
-			Visibility visibility, boolean isAbstract, boolean isStatic, boolean isFinal,
-			JavaType className, JavaType superClassName, List<JavaType> implementsInterfaceNames,
+			int modifiers, JavaType className, JavaType superClassName, List<JavaType> implementsInterfaceNames,
 			List<JavaStaticCodeBlock> staticCodeBlocks,
 			List<JavaSingleLineComment> singleLineComments, List<JavaMultiLineComment> multiLineComments,
 			List<JavaClass> innerClasses, List<JavaField> fields, List<JavaMethod> methods,
 			List<Pair<JavaCodeTypes, String>> innerElementsOrder){
 		super(false, isInnerClass, packageDeclaration, importStatements,
 				javadoc, annotations,
-				visibility, isAbstract, isStatic, isFinal, className,
+				modifiers, className,
 				superClassName, implementsInterfaceNames,
 				staticCodeBlocks,
 				singleLineComments, multiLineComments,
@@ -61,6 +61,7 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void setCondensed(boolean condensed){
 		this.condensed = condensed;
+		clearCache();
 	}
 	
 	/**
@@ -68,6 +69,7 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void addContent(String content){
 		this.content.add(content);
+		clearCache();
 	}
 	
 	/**
@@ -75,13 +77,15 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void addContent(List<String> content){
 		this.content.addAll(content);
+		clearCache();
 	}
 	
 	/**
 	 * @param content The content of the {@link Javadoc}
 	 */
 	public void setContent(List<String> content){
-		this.content = content;
+		this.content = renderCache.replace(this.content, content);
+		clearCache();
 	}
 	
 	/**
@@ -89,6 +93,7 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void setAuthor(String author){
 		this.author = author;
+		clearCache();
 	}
 	
 	/**
@@ -96,6 +101,7 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void setVersion(String version){
 		this.version = version;
+		clearCache();
 	}
 	
 	/**
@@ -103,6 +109,7 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void setSince(String since){
 		this.since = since;
+		clearCache();
 	}
 	
 	/**
@@ -111,6 +118,7 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void addParam(String name, String description){
 		params.add(Pair.of(name, description));
+		clearCache();
 	}
 	
 	/**
@@ -118,6 +126,7 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void addParam(Pair<String, String> param){
 		params.add(param);
+		clearCache();
 	}
 	
 	/**
@@ -125,13 +134,15 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void addParams(List<Pair<String, String>> params){
 		this.params.addAll(params);
+		clearCache();
 	}
 	
 	/**
 	 * @param params The parameters in the {@link Javadoc}
 	 */
 	public void setParams(List<Pair<String, String>> params){
-		this.params = params;
+		this.params = renderCache.replace(this.params, params);
+		clearCache();
 	}
 	
 	/**
@@ -139,6 +150,7 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void setReturnVal(String returnVal){
 		this.returnVal = returnVal;
+		clearCache();
 	}
 	
 	/**
@@ -147,6 +159,7 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void addThrowsInfo(String throwable, String explanation){
 		throwsInfos.add(Pair.of(throwable, explanation));
+		clearCache();
 	}
 	
 	/**
@@ -154,6 +167,7 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void addThrowsInfo(Pair<String, String> throwsInfo){
 		throwsInfos.add(throwsInfo);
+		clearCache();
 	}
 	
 	/**
@@ -161,12 +175,14 @@ public class EditableJavadoc extends Javadoc{
 	 */
 	public void addThrowsInfos(List<Pair<String, String>> throwsInfos){
 		this.throwsInfos.addAll(throwsInfos);
+		clearCache();
 	}
 	
 	/**
 	 * @param throwsInfos The throws info for the {@link Javadoc}
 	 */
 	public void setThrowsInfos(List<Pair<String, String>> throwsInfos){
-		this.throwsInfos = throwsInfos;
+		this.throwsInfos = renderCache.replace(this.throwsInfos, throwsInfos);
+		clearCache();
 	}
 }
@@ -1,21 +1,24 @@
 package com.github.tadukoo.java.javadoc;
 
-import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.EqualityUtil;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.RenderCache;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.StringUtil;
 import com.github.tadukoo.util.tuple.Pair;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Javadoc represents a Javadoc in Java.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
  * @since Alpha v.0.3.3 (as old version that is now more like UneditableJavadoc), Alpha v.0.4 (as newer version)
  */
-public abstract class Javadoc implements JavaCodeType{
+public abstract class Javadoc extends BaseJavaCodeType{
 	
 	/** Whether the {@link Javadoc} is editable or not */
 	private final boolean editable;
@@ -35,6 +38,10 @@ public abstract class Javadoc implements JavaCodeType{
 	protected String returnVal;
 	/** The throws info in the {@link Javadoc} */
 	protected List<Pair<String, String>> throwsInfos;
+	/** The cached hash code of the Javadoc (0 if it hasn't been calculated yet) */
+	private int hashCode;
+	/** The cache for the Java code of the Javadoc */
+	protected final RenderCache renderCache;
 	
 	/**
 	 * Constructs a new {@link Javadoc} using the given parameters
@@ -53,14 +60,15 @@ public abstract class Javadoc implements JavaCodeType{
 			boolean editable, boolean condensed, List<String> content, String author, String version, String since,
 			List<Pair<String, String>> params, String returnVal, List<Pair<String, String>> throwsInfos){
 		this.editable = editable;
+		renderCache = new RenderCache(editable);
 		this.condensed = condensed;
-		this.content = content;
+		this.content = renderCache.track(content);
 		this.author = author;
 		this.version = version;
 		this.since = since;
-		this.params = params;
+		this.params = renderCache.track(params);
 		this.returnVal = returnVal;
-		this.throwsInfos = throwsInfos;
+		this.throwsInfos = renderCache.track(throwsInfos);
 	}
 	
 	/** {@inheritDoc} */
@@ -137,6 +145,39 @@ public abstract class Javadoc implements JavaCodeType{
 	 */
 	@Override
 	public String toString(){
+		// Re-use the cached code if the Javadoc wasn't changed since it was built
+		String string = renderCache.getRendered();
+		if(string == null){
+			string = buildString();
+			renderCache.setRendered(string);
+		}
+		return string;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toIndentedString(){
+		return renderCache.getIndented(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void addParentCache(RenderCache parent){
+		renderCache.addParent(parent);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		renderCache.removeParent(parent);
+	}
+	
+	/**
+	 * Builds the code for {@link #toString()}, which caches it
+	 *
+	 * @return The actual Javadoc text this class represents
+	 */
+	private String buildString(){
 		// Start with the opening
 		StringBuilder doc = new StringBuilder(JAVADOC_START_TOKEN);
 		
@@ -247,13 +288,54 @@ public abstract class Javadoc implements JavaCodeType{
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object otherJavadoc){
-		if(otherJavadoc instanceof Javadoc doc){
-			return StringUtil.equals(this.toString(), doc.toString());
+		if(this == otherJavadoc){
+			return true;
+		}else if(otherJavadoc instanceof Javadoc doc){
+			return condensed == doc.condensed && EqualityUtil.listsEqual(content, doc.content) &&
+					StringUtil.equals(author, doc.author) && StringUtil.equals(version, doc.version) &&
+					StringUtil.equals(since, doc.since) && EqualityUtil.pairListsEqual(params, doc.params) &&
+					StringUtil.equals(returnVal, doc.returnVal) &&
+					EqualityUtil.pairListsEqual(throwsInfos, doc.throwsInfos);
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * For an uneditable Javadoc, the hash code is only calculated once and then cached. An editable Javadoc
+	 * calculates it each time, since its content, params, and throws
+	 * infos can be changed through their getters
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = Boolean.hashCode(condensed);
+			hash = 31 * hash + EqualityUtil.listHashCode(content);
+			hash = 31 * hash + Objects.hashCode(author);
+			hash = 31 * hash + Objects.hashCode(version);
+			hash = 31 * hash + Objects.hashCode(since);
+			hash = 31 * hash + EqualityUtil.pairListHashCode(params);
+			hash = 31 * hash + Objects.hashCode(returnVal);
+			hash = 31 * hash + EqualityUtil.pairListHashCode(throwsInfos);
+			hash = EqualityUtil.nonZeroHashCode(hash);
+			if(!editable){
+				hashCode = hash;
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * Clears the cached Java code so that it gets built again the next time it's needed - this must be called
+	 * whenever the Javadoc is changed
+	 */
+	protected void clearCache(){
+		renderCache.modified();
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toBuilderCode(){
@@ -92,13 +92,13 @@ public abstract class JavadocBuilder<JavadocType extends Javadoc>{
 	 */
 	public JavadocBuilder<JavadocType> copy(Javadoc javadoc){
 		this.condensed = javadoc.isCondensed();
-		this.content = javadoc.getContent();
+		this.content = new ArrayList<>(javadoc.getContent());
 		this.author = javadoc.getAuthor();
 		this.version = javadoc.getVersion();
 		this.since = javadoc.getSince();
-		this.params = javadoc.getParams();
+		this.params = new ArrayList<>(javadoc.getParams());
 		this.returnVal = javadoc.getReturnVal();
-		this.throwsInfos = javadoc.getThrowsInfos();
+		this.throwsInfos = new ArrayList<>(javadoc.getThrowsInfos());
 		return this;
 	}
 	
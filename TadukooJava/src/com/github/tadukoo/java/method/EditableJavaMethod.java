@@ -1,5 +1,6 @@
 package com.github.tadukoo.java.method;
 
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaParameter;
 import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.JavaTypeParameter;
@@ -59,8 +60,7 @@ public class EditableJavaMethod extends JavaMethod{
 		@Override
 		protected EditableJavaMethod constructMethod(){
 			return new EditableJavaMethod(javadoc, annotations,
-					visibility, isAbstract, isStatic, isFinal,
-					typeParameters, returnType, name,
+					modifiers, typeParameters, returnType, name,
 					parameters, throwTypes, lines);
 		}
 	}
@@ -70,10 +70,7 @@ public class EditableJavaMethod extends JavaMethod{
 	 *
 	 * @param javadoc The {@link Javadoc} on the method
 	 * @param annotations The {@link JavaAnnotation annotations} on the method
-	 * @param visibility The {@link Visibility} of the method
-	 * @param isAbstract Whether the method is abstract or not
-	 * @param isStatic Whether the method is static or not
-	 * @param isFinal Whether the method is final or not
+	 * @param modifiers The {@link JavaModifiers modifiers} on the method
 	 * @param typeParameters Any {@link JavaTypeParameter type parameters} for the method
 	 * @param returnType The return {@link JavaType type} of the method
 	 * @param name The name of the method
@@ -83,12 +80,10 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	private EditableJavaMethod(
 			Javadoc javadoc, List<JavaAnnotation> annotations,
-			Visibility visibility, boolean isAbstract, boolean isStatic, boolean isFinal,
-			List<JavaTypeParameter> typeParameters, JavaType returnType, String name,
+			int modifiers, List<JavaTypeParameter> typeParameters, JavaType returnType, String name,
 			List<JavaParameter> parameters, List<String> throwTypes, List<String> lines){
 		super(true, javadoc, annotations,
-				visibility, isAbstract, isStatic, isFinal,
-				typeParameters, returnType, name,
+				modifiers, typeParameters, returnType, name,
 				parameters, throwTypes, lines);
 	}
 	
@@ -106,7 +101,8 @@ public class EditableJavaMethod extends JavaMethod{
 		if(!javadoc.isEditable()){
 			throw new IllegalArgumentException("editable Java Method requires editable Javadoc");
 		}
-		this.javadoc = javadoc;
+		this.javadoc = renderCache.replace(this.javadoc, javadoc);
+		clearCache();
 	}
 	
 	/**
@@ -117,6 +113,7 @@ public class EditableJavaMethod extends JavaMethod{
 			throw new IllegalArgumentException("editable Java Method requires editable Java Annotations");
 		}
 		annotations.add(annotation);
+		clearCache();
 	}
 	
 	/**
@@ -129,6 +126,7 @@ public class EditableJavaMethod extends JavaMethod{
 			}
 		}
 		this.annotations.addAll(annotations);
+		clearCache();
 	}
 	
 	/**
@@ -140,49 +138,65 @@ public class EditableJavaMethod extends JavaMethod{
 				throw new IllegalArgumentException("editable Java Method requires editable Java Annotations");
 			}
 		}
-		this.annotations = annotations;
+		this.annotations = renderCache.replace(this.annotations, annotations);
+		clearCache();
+	}
+	
+	/**
+	 * @param modifiers The {@link JavaModifiers modifiers} on the method
+	 */
+	public void setModifiers(int modifiers){
+		this.modifiers = modifiers;
+		clearCache();
 	}
 	
 	/**
 	 * @param visibility The {@link Visibility} of the method
 	 */
 	public void setVisibility(Visibility visibility){
-		this.visibility = visibility;
+		modifiers = JavaModifiers.withVisibility(modifiers, visibility);
+		clearCache();
 	}
 	
 	/**
 	 * @param isAbstract Whether the method is abstract or not
 	 */
 	public void setAbstract(boolean isAbstract){
-		this.isAbstract = isAbstract;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.ABSTRACT, isAbstract);
+		clearCache();
 	}
 	
 	/**
 	 * @param isStatic Whether the method is static or not
 	 */
 	public void setStatic(boolean isStatic){
-		this.isStatic = isStatic;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.STATIC, isStatic);
+		clearCache();
 	}
 	
 	/**
 	 * @param isFinal Whether the method is final or not
 	 */
 	public void setFinal(boolean isFinal){
-		this.isFinal = isFinal;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.FINAL, isFinal);
+		clearCache();
 	}
 	
 	/**
 	 * @param typeParameters Any {@link JavaTypeParameter type parameters} for the method
 	 */
 	public void setTypeParameters(List<JavaTypeParameter> typeParameters){
-		this.typeParameters = typeParameters;
+		this.typeParameters = renderCache.replace(this.typeParameters, typeParameters);
+		clearCache();
 	}
 	
 	/**
 	 * @param typeParametersString A String representing any {@link JavaTypeParameter type parameters} for the method
 	 */
 	public void setTypeParameters(String typeParametersString){
-		this.typeParameters = FullJavaParser.parseJavaTypeParameters(typeParametersString);
+		this.typeParameters = renderCache.replace(this.typeParameters,
+				FullJavaParser.parseJavaTypeParameters(typeParametersString));
+		clearCache();
 	}
 	
 	/**
@@ -190,6 +204,7 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	public void addTypeParameters(List<JavaTypeParameter> typeParameters){
 		this.typeParameters.addAll(typeParameters);
+		clearCache();
 	}
 	
 	/**
@@ -197,6 +212,7 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	public void addTypeParameters(String typeParametersString){
 		this.typeParameters.addAll(FullJavaParser.parseJavaTypeParameters(typeParametersString));
+		clearCache();
 	}
 	
 	/**
@@ -204,20 +220,23 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	public void addTypeParameter(JavaTypeParameter typeParameter){
 		typeParameters.add(typeParameter);
+		clearCache();
 	}
 	
 	/**
 	 * @param returnType The return {@link JavaType type} of the method
 	 */
 	public void setReturnType(JavaType returnType){
-		this.returnType = returnType;
+		this.returnType = renderCache.replace(this.returnType, returnType);
+		clearCache();
 	}
 	
 	/**
 	 * @param returnTypeText The text of the return {@link JavaType type} of the method to be parsed
 	 */
 	public void setReturnType(String returnTypeText){
-		this.returnType = FullJavaParser.parseJavaType(returnTypeText);
+		this.returnType = renderCache.replace(this.returnType, FullJavaParser.parseJavaType(returnTypeText));
+		clearCache();
 	}
 	
 	/**
@@ -225,6 +244,7 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	public void setName(String name){
 		this.name = name;
+		clearCache();
 	}
 	
 	/**
@@ -232,6 +252,7 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	public void addParameter(String parameterText){
 		parameters.add(FullJavaParser.parseJavaParameter(parameterText));
+		clearCache();
 	}
 	
 	/**
@@ -239,6 +260,7 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	public void addParameter(JavaParameter parameter){
 		parameters.add(parameter);
+		clearCache();
 	}
 	
 	/**
@@ -246,13 +268,15 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	public void addParameters(List<JavaParameter> parameters){
 		this.parameters.addAll(parameters);
+		clearCache();
 	}
 	
 	/**
 	 * @param parameters The {@link JavaParameter parameters} used in the method
 	 */
 	public void setParameters(List<JavaParameter> parameters){
-		this.parameters = parameters;
+		this.parameters = renderCache.replace(this.parameters, parameters);
+		clearCache();
 	}
 	
 	/**
@@ -260,6 +284,7 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	public void addThrowType(String throwType){
 		throwTypes.add(throwType);
+		clearCache();
 	}
 	
 	/**
@@ -267,13 +292,15 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	public void addThrowTypes(List<String> throwTypes){
 		this.throwTypes.addAll(throwTypes);
+		clearCache();
 	}
 	
 	/**
 	 * @param throwTypes The types that can be thrown by the method
 	 */
 	public void setThrowTypes(List<String> throwTypes){
-		this.throwTypes = throwTypes;
+		this.throwTypes = renderCache.replace(this.throwTypes, throwTypes);
+		clearCache();
 	}
 	
 	/**
@@ -281,6 +308,7 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	public void addLine(String line){
 		lines.add(line);
+		clearCache();
 	}
 	
 	/**
@@ -288,12 +316,14 @@ public class EditableJavaMethod extends JavaMethod{
 	 */
 	public void addLines(List<String> lines){
 		this.lines.addAll(lines);
+		clearCache();
 	}
 	
 	/**
 	 * @param lines The actual lines of code in the method
 	 */
 	public void setLines(List<String> lines){
-		this.lines = lines;
+		this.lines = renderCache.replace(this.lines, lines);
+		clearCache();
 	}
 }
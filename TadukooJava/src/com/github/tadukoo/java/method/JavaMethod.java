@@ -1,9 +1,12 @@
 package com.github.tadukoo.java.method;
 
-import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.EqualityUtil;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaParameter;
 import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.RenderCache;
 import com.github.tadukoo.java.JavaTypeParameter;
 import com.github.tadukoo.java.Visibility;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
@@ -13,6 +16,7 @@ import com.github.tadukoo.util.StringUtil;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Java Method represents a method in a Java class or interface, etc.
@@ -21,7 +25,7 @@ import java.util.List;
  * @version Beta v.0.6
  * @since Alpha v.0.2 (as old version that is now more like UneditableJavaMethod), Alpha v.0.4 (as newer version)
  */
-public abstract class JavaMethod implements JavaCodeType{
+public abstract class JavaMethod extends BaseJavaCodeType{
 	
 	/** Whether the method is editable or not */
 	private final boolean editable;
@@ -29,14 +33,8 @@ public abstract class JavaMethod implements JavaCodeType{
 	protected Javadoc javadoc;
 	/** The {@link JavaAnnotation annotations} on the method */
 	protected List<JavaAnnotation> annotations;
-	/** The {@link Visibility} of the method */
-	protected Visibility visibility;
-	/** Whether the method is abstract or not */
-	protected boolean isAbstract;
-	/** Whether the method is static or not */
-	protected boolean isStatic;
-	/** Whether the method is final or not */
-	protected boolean isFinal;
+	/** The {@link JavaModifiers modifiers} on the method (its {@link Visibility} and if it's abstract, static, or final) */
+	protected int modifiers;
 	/** Any {@link JavaTypeParameter type parameters} on the method */
 	protected List<JavaTypeParameter> typeParameters;
 	/** The return {@link JavaType type} of the method */
@@ -49,6 +47,10 @@ public abstract class JavaMethod implements JavaCodeType{
 	protected List<String> throwTypes;
 	/** The actual lines of code in the method */
 	protected List<String> lines;
+	/** The cached hash code of the method (0 if it hasn't been calculated yet) */
+	private int hashCode;
+	/** The cache for the Java code of the method */
+	protected final RenderCache renderCache;
 	
 	/**
 	 * Constructs a new Java Method with the given parameters
@@ -56,10 +58,7 @@ public abstract class JavaMethod implements JavaCodeType{
 	 * @param editable Whether the method is editable or not
 	 * @param javadoc The {@link Javadoc} on the method
 	 * @param annotations The {@link JavaAnnotation annotations} on the method
-	 * @param visibility The {@link Visibility} of the method
-	 * @param isAbstract Whether the method is abstract or not
-	 * @param isStatic Whether the method is static or not
-	 * @param isFinal Whether the method is final or not
+	 * @param modifiers The {@link JavaModifiers modifiers} on the method
 	 * @param typeParameters Any {@link JavaTypeParameter type parameters} on the method
 	 * @param returnType The return {@link JavaType type} of the method
 	 * @param name The name of the method
@@ -69,22 +68,19 @@ public abstract class JavaMethod implements JavaCodeType{
 	 */
 	protected JavaMethod(
 			boolean editable, Javadoc javadoc, List<JavaAnnotation> annotations,
-			Visibility visibility, boolean isAbstract, boolean isStatic, boolean isFinal,
-			List<JavaTypeParameter> typeParameters, JavaType returnType, String name,
+			int modifiers, List<JavaTypeParameter> typeParameters, JavaType returnType, String name,
 			List<JavaParameter> parameters, List<String> throwTypes, List<String> lines){
 		this.editable = editable;
-		this.javadoc = javadoc;
-		this.annotations = annotations;
-		this.visibility = visibility;
-		this.isAbstract = isAbstract;
-		this.isStatic = isStatic;
-		this.isFinal = isFinal;
-		this.typeParameters = typeParameters;
-		this.returnType = returnType;
+		renderCache = new RenderCache(editable);
+		this.javadoc = renderCache.track(javadoc);
+		this.annotations = renderCache.track(annotations);
+		this.modifiers = modifiers;
+		this.typeParameters = renderCache.track(typeParameters, JavaTypeParameter::toCanonical);
+		this.returnType = renderCache.track(returnType);
 		this.name = name;
-		this.parameters = parameters;
-		this.throwTypes = throwTypes;
-		this.lines = lines;
+		this.parameters = renderCache.track(parameters, JavaParameter::withCanonicalType);
+		this.throwTypes = renderCache.track(throwTypes);
+		this.lines = renderCache.track(lines);
 	}
 	
 	/** {@inheritDoc} */
@@ -114,32 +110,39 @@ public abstract class JavaMethod implements JavaCodeType{
 		return annotations;
 	}
 	
+	/**
+	 * @return The {@link JavaModifiers modifiers} on the method
+	 */
+	public int getModifiers(){
+		return modifiers;
+	}
+	
 	/**
 	 * @return The {@link Visibility} of the method
 	 */
 	public Visibility getVisibility(){
-		return visibility;
+		return JavaModifiers.getVisibility(modifiers);
 	}
 	
 	/**
 	 * @return Whether the method is abstract or not
 	 */
 	public boolean isAbstract(){
-		return isAbstract;
+		return JavaModifiers.has(modifiers, JavaModifiers.ABSTRACT);
 	}
 	
 	/**
 	 * @return Whether the method is static or not
 	 */
 	public boolean isStatic(){
-		return isStatic;
+		return JavaModifiers.has(modifiers, JavaModifiers.STATIC);
 	}
 	
 	/**
 	 * @return Whether the method is final or not
 	 */
 	public boolean isFinal(){
-		return isFinal;
+		return JavaModifiers.has(modifiers, JavaModifiers.FINAL);
 	}
 	
 	/**
@@ -222,6 +225,21 @@ public abstract class JavaMethod implements JavaCodeType{
 	 */
 	@Override
 	public String toString(){
+		// Re-use the cached code if nothing in the method was changed since it was built
+		String string = renderCache.getRendered();
+		if(string == null){
+			string = buildString();
+			renderCache.setRendered(string);
+		}
+		return string;
+	}
+	
+	/**
+	 * Builds the code for {@link #toString()}, which caches it
+	 *
+	 * @return This Java Method as a String, ready to be put in some Java code
+	 */
+	private String buildString(){
 		List<String> content = new ArrayList<>();
 		
 		// Javadoc
@@ -239,27 +257,8 @@ public abstract class JavaMethod implements JavaCodeType{
 		/*
 		 * Declaration
 		 */
-		// Start with the visibility
-		StringBuilder declaration = new StringBuilder(visibility.getToken());
-		if(!declaration.isEmpty()){
-			// Add a space is visibility is not empty
-			declaration.append(' ');
-		}
-		
-		// Optionally add abstract to the declaration
-		if(isAbstract){
-			declaration.append(ABSTRACT_MODIFIER).append(' ');
-		}
-		
-		// Optionally add static to the declaration
-		if(isStatic){
-			declaration.append(STATIC_MODIFIER).append(' ');
-		}
-		
-		// Optionally add final to the declaration
-		if(isFinal){
-			declaration.append(FINAL_MODIFIER).append(' ');
-		}
+		// Start with the modifiers
+		StringBuilder declaration = JavaModifiers.append(new StringBuilder(), modifiers);
 		
 		// Optionally add type parameters to the declaration
 		if(ListUtil.isNotBlank(typeParameters)){
@@ -323,7 +322,7 @@ public abstract class JavaMethod implements JavaCodeType{
 			declaration.append(PARAMETER_CLOSE_TOKEN);
 		}
 		
-		if(isAbstract){
+		if(isAbstract()){
 			// If abstract, end with a semicolon
 			declaration.append(SEMICOLON);
 			content.add(declaration.toString());
@@ -352,16 +351,79 @@ public abstract class JavaMethod implements JavaCodeType{
 		return StringUtil.buildStringWithNewLines(content);
 	}
 	
+	/** {@inheritDoc} */
+	@Override
+	public String toIndentedString(){
+		return renderCache.getIndented(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void addParentCache(RenderCache parent){
+		renderCache.addParent(parent);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		renderCache.removeParent(parent);
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object otherMethod){
-		if(otherMethod instanceof JavaMethod method){
-			return StringUtil.equals(this.toString(), method.toString());
+		if(this == otherMethod){
+			return true;
+		}else if(otherMethod instanceof JavaMethod method){
+			return Objects.equals(javadoc, method.javadoc) &&
+					EqualityUtil.annotationListsEqual(annotations, method.annotations) &&
+					modifiers == method.modifiers &&
+					EqualityUtil.listsEqual(typeParameters, method.typeParameters) &&
+					EqualityUtil.typesEqual(returnType, method.returnType) && StringUtil.equals(name, method.name) &&
+					EqualityUtil.listsEqual(parameters, method.parameters) &&
+					EqualityUtil.listsEqual(throwTypes, method.throwTypes) && EqualityUtil.listsEqual(lines, method.lines);
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * For an uneditable method, the hash code is only calculated once and then cached (it can't be changed, since its
+	 * Lists are unmodifiable and its {@link JavaType types} are canonical). An editable method
+	 * calculates it each time, since the Javadoc and annotations on it can be edited separately
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = Objects.hashCode(javadoc);
+			hash = 31 * hash + EqualityUtil.annotationListHashCode(annotations);
+			hash = 31 * hash + modifiers;
+			hash = 31 * hash + EqualityUtil.listHashCode(typeParameters);
+			hash = 31 * hash + EqualityUtil.typeHashCode(returnType);
+			hash = 31 * hash + Objects.hashCode(name);
+			hash = 31 * hash + EqualityUtil.listHashCode(parameters);
+			hash = 31 * hash + EqualityUtil.listHashCode(throwTypes);
+			hash = 31 * hash + EqualityUtil.listHashCode(lines);
+			hash = EqualityUtil.nonZeroHashCode(hash);
+			if(!editable){
+				hashCode = hash;
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * Clears the cached Java code so that it gets built again the next time it's needed - this must be called
+	 * whenever the method itself is changed (changes to its Lists and the code types inside it are passed on
+	 * automatically, once they're tracked by the {@link #renderCache})
+	 */
+	protected void clearCache(){
+		renderCache.modified();
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toBuilderCode(){
@@ -385,22 +447,22 @@ public abstract class JavaMethod implements JavaCodeType{
 		}
 		
 		// Add visibility
-		if(visibility != Visibility.NONE){
-			codeString.append(NEWLINE_WITH_2_TABS).append(".visibility(Visibility.").append(visibility).append(')');
+		if(JavaModifiers.has(modifiers, JavaModifiers.VISIBILITY_MASK)){
+			codeString.append(NEWLINE_WITH_2_TABS).append(".visibility(Visibility.").append(getVisibility()).append(')');
 		}
 		
 		// Add abstract if we have it
-		if(isAbstract){
+		if(isAbstract()){
 			codeString.append(NEWLINE_WITH_2_TABS).append(".isAbstract()");
 		}
 		
 		// Add static if we have it
-		if(isStatic){
+		if(isStatic()){
 			codeString.append(NEWLINE_WITH_2_TABS).append(".isStatic()");
 		}
 		
 		// Add final if we have it
-		if(isFinal){
+		if(isFinal()){
 			codeString.append(NEWLINE_WITH_2_TABS).append(".isFinal()");
 		}
 		
@@ -1,5 +1,6 @@
 package com.github.tadukoo.java.method;
 
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaParameter;
 import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.JavaTypeParameter;
@@ -34,24 +35,10 @@ import java.util.List;
  *         <td>An empty list</td>
  *     </tr>
  *     <tr>
- *         <td>visibility</td>
- *         <td>The {@link Visibility} of the method</td>
- *         <td>{@link Visibility#NONE}</td>
- *     </tr>
- *     <tr>
- *         <td>isAbstract</td>
- *         <td>Whether the method is abstract or not</td>
- *         <td>Defaults to false</td>
- *     </tr>
- *     <tr>
- *         <td>isStatic</td>
- *         <td>Whether the method is static or not</td>
- *         <td>Defaults to false</td>
- *     </tr>
- *     <tr>
- *         <td>isFinal</td>
- *         <td>Whether the method is final or not</td>
- *         <td>Defaults to false</td>
+ *         <td>modifiers</td>
+ *         <td>The {@link JavaModifiers modifiers} on the method - its {@link Visibility} and if it's abstract,
+ *         static, and/or final (can also be set with visibility, isAbstract, isStatic, and isFinal)</td>
+ *         <td>{@link JavaModifiers#NONE} (with {@link Visibility#NONE})</td>
  *     </tr>
  *     <tr>
  *         <td>typeParameters</td>
@@ -95,14 +82,10 @@ public abstract class JavaMethodBuilder<MethodType extends JavaMethod>{
 	protected Javadoc javadoc = null;
 	/** The {@link JavaAnnotation annotations} on the method */
 	protected List<JavaAnnotation> annotations = new ArrayList<>();
-	/** The {@link Visibility} of the method */
-	protected Visibility visibility = Visibility.NONE;
-	/** Whether the method is abstract or not */
-	protected boolean isAbstract = false;
-	/** Whether the method is static or not */
-	protected boolean isStatic = false;
-	/** Whether the method is final or not */
-	protected boolean isFinal = false;
+	/** The {@link JavaModifiers modifiers} on the method */
+	protected int modifiers = JavaModifiers.NONE;
+	/** Whether the {@link Visibility} of the method was set to null or not */
+	protected boolean missingVisibility = false;
 	/** Any {@link JavaTypeParameter type parameters} for the method */
 	protected List<JavaTypeParameter> typeParameters = new ArrayList<>();
 	/** The return {@link JavaType type} of the method */
@@ -129,17 +112,15 @@ public abstract class JavaMethodBuilder<MethodType extends JavaMethod>{
 	 */
 	public JavaMethodBuilder<MethodType> copy(JavaMethod method){
 		this.javadoc = method.getJavadoc();
-		this.annotations = method.getAnnotations();
-		this.visibility = method.getVisibility();
-		this.isAbstract = method.isAbstract();
-		this.isStatic = method.isStatic();
-		this.isFinal = method.isFinal();
-		this.typeParameters = method.getTypeParameters();
+		this.annotations = new ArrayList<>(method.getAnnotations());
+		this.modifiers = method.getModifiers();
+		this.missingVisibility = false;
+		this.typeParameters = new ArrayList<>(method.getTypeParameters());
 		this.returnType = method.getReturnType();
 		this.name = method.getName();
-		this.parameters = method.getParameters();
-		this.throwTypes = method.getThrowTypes();
-		this.lines = method.getLines();
+		this.parameters = new ArrayList<>(method.getParameters());
+		this.throwTypes = new ArrayList<>(method.getThrowTypes());
+		this.lines = new ArrayList<>(method.getLines());
 		return this;
 	}
 	
@@ -170,12 +151,24 @@ public abstract class JavaMethodBuilder<MethodType extends JavaMethod>{
 		return this;
 	}
 	
+	/**
+	 * @param modifiers The {@link JavaModifiers modifiers} on the method (replacing any visibility, abstract, static,
+	 * or final set before)
+	 * @return this, to continue building
+	 */
+	public JavaMethodBuilder<MethodType> modifiers(int modifiers){
+		this.modifiers = modifiers;
+		missingVisibility = false;
+		return this;
+	}
+	
 	/**
 	 * @param visibility The {@link Visibility} of the method
 	 * @return this, to continue building
 	 */
 	public JavaMethodBuilder<MethodType> visibility(Visibility visibility){
-		this.visibility = visibility;
+		missingVisibility = visibility == null;
+		modifiers = JavaModifiers.withVisibility(modifiers, missingVisibility?Visibility.NONE:visibility);
 		return this;
 	}
 	
@@ -185,8 +178,7 @@ public abstract class JavaMethodBuilder<MethodType extends JavaMethod>{
 	 * @return this, to continue building
 	 */
 	public JavaMethodBuilder<MethodType> isAbstract(){
-		isAbstract = true;
-		return this;
+		return isAbstract(true);
 	}
 	
 	/**
@@ -194,7 +186,7 @@ public abstract class JavaMethodBuilder<MethodType extends JavaMethod>{
 	 * @return this, to continue building
 	 */
 	public JavaMethodBuilder<MethodType> isAbstract(boolean isAbstract){
-		this.isAbstract = isAbstract;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.ABSTRACT, isAbstract);
 		return this;
 	}
 	
@@ -204,8 +196,7 @@ public abstract class JavaMethodBuilder<MethodType extends JavaMethod>{
 	 * @return this, to continue building
 	 */
 	public JavaMethodBuilder<MethodType> isStatic(){
-		isStatic = true;
-		return this;
+		return isStatic(true);
 	}
 	
 	/**
@@ -213,7 +204,7 @@ public abstract class JavaMethodBuilder<MethodType extends JavaMethod>{
 	 * @return this, to continue building
 	 */
 	public JavaMethodBuilder<MethodType> isStatic(boolean isStatic){
-		this.isStatic = isStatic;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.STATIC, isStatic);
 		return this;
 	}
 	
@@ -223,8 +214,7 @@ public abstract class JavaMethodBuilder<MethodType extends JavaMethod>{
 	 * @return this, to continue building
 	 */
 	public JavaMethodBuilder<MethodType> isFinal(){
-		isFinal = true;
-		return this;
+		return isFinal(true);
 	}
 	
 	/**
@@ -232,7 +222,7 @@ public abstract class JavaMethodBuilder<MethodType extends JavaMethod>{
 	 * @return this, to continue building
 	 */
 	public JavaMethodBuilder<MethodType> isFinal(boolean isFinal){
-		this.isFinal = isFinal;
+		modifiers = JavaModifiers.with(modifiers, JavaModifiers.FINAL, isFinal);
 		return this;
 	}
 	
@@ -362,24 +352,29 @@ public abstract class JavaMethodBuilder<MethodType extends JavaMethod>{
 		List<String> errors = new ArrayList<>();
 		
 		// Visibility is required
-		if(visibility == null){
+		if(missingVisibility){
 			errors.add("Visibility is required!");
 		}
 		
+		// Can't have more than one visibility
+		if(JavaModifiers.hasMultipleVisibilities(modifiers)){
+			errors.add("Found multiple visibility modifiers");
+		}
+		
 		// Abstract errors
-		if(isAbstract){
+		if(JavaModifiers.has(modifiers, JavaModifiers.ABSTRACT)){
 			// Can't be abstract + private (protected, public, and none fine)
-			if(visibility == Visibility.PRIVATE){
+			if(JavaModifiers.has(modifiers, JavaModifiers.PRIVATE)){
 				errors.add("Can't be abstract and private!");
 			}
 			
 			// Can't be abstract + static
-			if(isStatic){
+			if(JavaModifiers.has(modifiers, JavaModifiers.STATIC)){
 				errors.add("Can't be abstract and static!");
 			}
 			
 			// Can't be abstract + final
-			if(isFinal){
+			if(JavaModifiers.has(modifiers, JavaModifiers.FINAL)){
 				errors.add("Can't be abstract and final!");
 			}
 			
@@ -1,11 +1,11 @@
 package com.github.tadukoo.java.method;
 
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaParameter;
 import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.JavaTypeParameter;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
 import com.github.tadukoo.java.javadoc.Javadoc;
-import com.github.tadukoo.java.Visibility;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -59,8 +59,7 @@ public class UneditableJavaMethod extends JavaMethod{
 		@Override
 		protected UneditableJavaMethod constructMethod(){
 			return new UneditableJavaMethod(javadoc, annotations,
-					visibility, isAbstract, isStatic, isFinal,
-					typeParameters, returnType, name,
+					modifiers, typeParameters, returnType, name,
 					parameters, throwTypes, lines);
 		}
 	}
@@ -70,10 +69,7 @@ public class UneditableJavaMethod extends JavaMethod{
 	 *
 	 * @param javadoc The {@link Javadoc} on the method
 	 * @param annotations The {@link JavaAnnotation annotations} on the method
-	 * @param visibility The {@link Visibility} of the method
-	 * @param isAbstract Whether the method is abstract or not
-	 * @param isStatic Whether the method is static or not
-	 * @param isFinal Whether the method is final or not
+	 * @param modifiers The {@link JavaModifiers modifiers} on the method
 	 * @param typeParameters Any {@link JavaTypeParameter type parameters} for the method
 	 * @param returnType The return {@link JavaType type} of the method
 	 * @param name The name of the method
@@ -83,12 +79,10 @@ public class UneditableJavaMethod extends JavaMethod{
 	 */
 	private UneditableJavaMethod(
 			Javadoc javadoc, List<JavaAnnotation> annotations,
-			Visibility visibility, boolean isAbstract, boolean isStatic, boolean isFinal,
-			List<JavaTypeParameter> typeParameters, JavaType returnType, String name,
+			int modifiers, List<JavaTypeParameter> typeParameters, JavaType returnType, String name,
 			List<JavaParameter> parameters, List<String> throwTypes, List<String> lines){
 		super(false, javadoc, annotations,
-				visibility, isAbstract, isStatic, isFinal,
-				typeParameters, returnType, name,
+				modifiers, typeParameters, returnType, name,
 				parameters, throwTypes, lines);
 	}
 	
@@ -4,7 +4,8 @@ package com.github.tadukoo.java.packagedeclaration;
  * Represents a {@link JavaPackageDeclaration} that can be edited
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class EditableJavaPackageDeclaration extends JavaPackageDeclaration{
 	
@@ -48,5 +49,6 @@ public class EditableJavaPackageDeclaration extends JavaPackageDeclaration{
 	 */
 	public void setPackageName(String packageName){
 		this.packageName = packageName;
+		clearCache();
 	}
 }
@@ -1,21 +1,30 @@
 package com.github.tadukoo.java.packagedeclaration;
 
-import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.EqualityUtil;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.RenderCache;
 import com.github.tadukoo.util.StringUtil;
 
+import java.util.Objects;
+
 /**
  * Represents a package declaration in Java
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
-public abstract class JavaPackageDeclaration implements JavaCodeType{
+public abstract class JavaPackageDeclaration extends BaseJavaCodeType{
 	
 	/** Whether this {@link JavaPackageDeclaration package declaration} is editable or not */
 	private final boolean editable;
 	/** The name of the package in this declaration */
 	protected String packageName;
+	/** The cached hash code of the package declaration (0 if it hasn't been calculated yet) */
+	private int hashCode;
+	/** The cache for the Java code of the package declaration */
+	protected final RenderCache renderCache;
 	
 	/** {@inheritDoc} */
 	@Override
@@ -31,6 +40,7 @@ public abstract class JavaPackageDeclaration implements JavaCodeType{
 	 */
 	protected JavaPackageDeclaration(boolean editable, String packageName){
 		this.editable = editable;
+		renderCache = new RenderCache(editable);
 		this.packageName = packageName;
 	}
 	
@@ -53,19 +63,80 @@ public abstract class JavaPackageDeclaration implements JavaCodeType{
 	 */
 	@Override
 	public String toString(){
+		// Re-use the cached code if the package declaration wasn't changed since it was built
+		String string = renderCache.getRendered();
+		if(string == null){
+			string = buildString();
+			renderCache.setRendered(string);
+		}
+		return string;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toIndentedString(){
+		return renderCache.getIndented(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void addParentCache(RenderCache parent){
+		renderCache.addParent(parent);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeParentCache(RenderCache parent){
+		renderCache.removeParent(parent);
+	}
+	
+	/**
+	 * Builds the code for {@link #toString()}, which caches it
+	 *
+	 * @return The Java code represented by this {@link JavaPackageDeclaration package declaration}
+	 */
+	private String buildString(){
 		return PACKAGE_TOKEN + " " + packageName + SEMICOLON;
 	}
 	
 	/** {@inheritDoc} */
 	@Override
 	public boolean equals(Object o){
-		if(o instanceof JavaPackageDeclaration packageDeclaration){
-			return StringUtil.equals(toString(), packageDeclaration.toString());
+		if(this == o){
+			return true;
+		}else if(o instanceof JavaPackageDeclaration packageDeclaration){
+			return StringUtil.equals(packageName, packageDeclaration.packageName);
 		}else{
 			return false;
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <br>
+	 * The hash code is only calculated once and then cached (an editable package declaration clears the cached hash code
+	 * whenever it's changed)
+	 */
+	@Override
+	public int hashCode(){
+		int hash = hashCode;
+		if(hash == 0){
+			hash = Objects.hashCode(packageName);
+			hash = EqualityUtil.nonZeroHashCode(hash);
+			hashCode = hash;
+		}
+		return hash;
+	}
+	
+	/**
+	 * Clears the cached hash code and Java code so that they get calculated again the next time they're needed -
+	 * this must be called whenever the package declaration is changed
+	 */
+	protected void clearCache(){
+		hashCode = 0;
+		renderCache.modified();
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toBuilderCode(){
@@ -1,7 +1,11 @@
 package com.github.tadukoo.java.parsing;
 
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.JavaCodeType;
 import com.github.tadukoo.java.JavaCodeTypes;
 import com.github.tadukoo.java.JavaParameter;
+import com.github.tadukoo.java.JavaSourceSpan;
+import com.github.tadukoo.java.JavaSourceSpanned;
 import com.github.tadukoo.java.JavaTokens;
 import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.JavaTypeParameter;
@@ -10,8 +14,6 @@ import com.github.tadukoo.util.tuple.Pair;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A base parser for Java parsing that contains any shared logic
@@ -28,38 +30,212 @@ public abstract class AbstractJavaParser implements JavaTokens{
 	/** A regular expression used for all the modifiers */
 	protected static final String MODIFIERS_REGEX = SINGLE_MODIFIER_REGEX + SINGLE_MODIFIER_REGEX + SINGLE_MODIFIER_REGEX;
 	
-	/** A regular expression used for tokens to match on when splitting tokens from a content String */
-	protected static final String TOKEN_REGEX = "\n|\\(|\\)|\\{|}|<|>|=|,|[^\\S\n]+|[^\\s(){}=,]+";
-	/** A matcher to use to find whitespace (usually to skip it) */
-	protected static final Matcher WHITESPACE_MATCHER = Pattern.compile("\\s+").matcher("");
-	
 	/** A regular expression for a {@link JavaTypeParameter} */
-	protected static final String TYPE_PARAMETER_REGEX = "\\s*([^\\s)]+)(?:\\s*extends\\s*([^\\s)]*))?\\s*";
-	/** A {@link Pattern} to use for parsing {@link JavaTypeParameter type parameters} */
-	protected static final Pattern TYPE_PARAMETER_PATTERN = Pattern.compile(TYPE_PARAMETER_REGEX);
+	private static final String TYPE_PARAMETER_REGEX = "\\s*([^\\s)]+)(?:\\s*extends\\s*([^\\s)]*))?\\s*";
 	/** A regular expression for a {@link JavaType} */
 	protected static final String TYPE_REGEX = "\\s*([^<.\\s)]+)(?:\\s*<((?:" +
-			TYPE_PARAMETER_REGEX + ",)*" + TYPE_PARAMETER_PATTERN + ")>)?\\s*";
-	/** A {@link Pattern} to use for parsing a {@link JavaType} */
-	protected static final Pattern TYPE_PATTERN = Pattern.compile(TYPE_REGEX);
-	/** A regular expression for a {@link JavaParameter} */
-	protected static final String PARAMETER_REGEX = "(" + TYPE_REGEX + ")(?:\\s+|\\s*(\\.\\.\\.)\\s*)([^\\s)]*)\\s*";
-	/** A {@link Pattern} to use for parsing a {@link JavaParameter} */
-	protected static final Pattern PARAMETER_PATTERN = Pattern.compile(PARAMETER_REGEX);
+			TYPE_PARAMETER_REGEX + ",)*" + TYPE_PARAMETER_REGEX + ")>)?\\s*";
+	
+	/** The {@link ParseMemo} used in front of {@link #parseJavaParameter(String)} */
+	private static final ParseMemo<JavaParameter> PARAMETER_MEMO = new ParseMemo<>();
+	/** The {@link ParseMemo} used in front of {@link #parseJavaType(String)} */
+	private static final ParseMemo<JavaType> TYPE_MEMO = new ParseMemo<>();
+	/** The {@link ParseMemo} used in front of {@link #parseJavaTypeParameters(String)} */
+	private static final ParseMemo<List<JavaTypeParameter>> TYPE_PARAMETERS_MEMO = new ParseMemo<>();
 	
 	/** Not allowed to instantiate {@link AbstractJavaParser} */
 	protected AbstractJavaParser(){ }
 	
 	/**
-	 * Takes the given String content and splits it into a List of tokens to be parsed
+	 * Takes the given content and splits it into a List of tokens to be parsed
+	 *
+	 * @param content The content to be split into tokens
+	 * @return The List of tokens to be parsed
+	 */
+	protected static JavaTokenList splitContentIntoTokens(CharSequence content){
+		return JavaLexer.tokenize(content);
+	}
+	
+	/**
+	 * Takes the given content and splits it into a List of tokens to be parsed using the given {@link ParseMode}
+	 *
+	 * @param content The content to be split into tokens
+	 * @param parseMode The {@link ParseMode} to use in parsing the tokens
+	 * @return The List of tokens to be parsed
+	 */
+	protected static JavaTokenList splitContentIntoTokens(CharSequence content, ParseMode parseMode){
+		JavaTokenList tokens = JavaLexer.tokenize(content);
+		tokens.setParseMode(parseMode);
+		return tokens;
+	}
+	
+	/**
+	 * Takes the given content and splits it into a List of tokens to be parsed using the given {@link ParseMode},
+	 * sharing the identifiers that get parsed through the given {@link SymbolTable}
 	 *
 	 * @param content The content to be split into tokens
+	 * @param parseMode The {@link ParseMode} to use in parsing the tokens
+	 * @param symbolTable The {@link SymbolTable} to share identifiers through (can be null to not share them)
 	 * @return The List of tokens to be parsed
 	 */
-	protected static List<String> splitContentIntoTokens(String content){
-		return StringUtil.parseListFromStringWithPattern(content, TOKEN_REGEX, false).stream()
-				.filter(StringUtil::isNotBlank)
-				.toList();
+	protected static JavaTokenList splitContentIntoTokens(
+			CharSequence content, ParseMode parseMode, SymbolTable symbolTable){
+		JavaTokenList tokens = splitContentIntoTokens(content, parseMode);
+		tokens.setSymbolTable(symbolTable);
+		return tokens;
+	}
+	
+	/**
+	 * Gets the {@link ParseMode} being used for the given tokens
+	 *
+	 * @param tokens The List of tokens being parsed
+	 * @return The {@link ParseMode} set on the tokens if they're a {@link JavaTokenList}, otherwise
+	 * {@link ParseMode#FULL}
+	 */
+	protected static ParseMode getParseMode(List<String> tokens){
+		return tokens instanceof JavaTokenList tokenList?tokenList.getParseMode():ParseMode.FULL;
+	}
+	
+	/**
+	 * Gets the {@link SymbolTable} being used for the given tokens
+	 *
+	 * @param tokens The List of tokens being parsed
+	 * @return The {@link SymbolTable} set on the tokens if they're a {@link JavaTokenList}, otherwise null
+	 */
+	protected static SymbolTable getSymbolTable(List<String> tokens){
+		return tokens instanceof JavaTokenList tokenList?tokenList.getSymbolTable():null;
+	}
+	
+	/**
+	 * Gets the shared instance of the given identifier from the given {@link SymbolTable}
+	 *
+	 * @param symbolTable The {@link SymbolTable} to use (can be null to not share identifiers)
+	 * @param identifier The identifier to share (can be null)
+	 * @return The shared instance of the identifier, or the identifier itself if there's no {@link SymbolTable}
+	 */
+	protected static String intern(SymbolTable symbolTable, String identifier){
+		return symbolTable == null?identifier:symbolTable.intern(identifier);
+	}
+	
+	/**
+	 * Gets the {@link JavaTokenKind kind} of the token at the given index. For a {@link JavaTokenList}, this was
+	 * already worked out by the {@link JavaLexer}, otherwise the token is classified the same way the lexer would
+	 *
+	 * @param tokens The List of tokens
+	 * @param index The index of the token
+	 * @return The {@link JavaTokenKind kind} of the token
+	 */
+	protected static JavaTokenKind getTokenKind(List<String> tokens, int index){
+		return tokens instanceof JavaTokenList tokenList?tokenList.getKind(index):
+				JavaLexer.classifyToken(tokens.get(index));
+	}
+	
+	/**
+	 * Checks if the given text is entirely whitespace (in the sense of a regex {@code \s+}). This is a simple
+	 * character test, so it doesn't allocate anything and is safe to call from multiple threads at once
+	 *
+	 * @param text The text to check
+	 * @return Whether the text is non-empty and made up of only whitespace or not
+	 */
+	protected static boolean isWhitespace(CharSequence text){
+		int length = text.length();
+		if(length == 0){
+			return false;
+		}
+		for(int i = 0; i < length; i++){
+			if(!JavaLexer.isWhitespace(text.charAt(i))){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Joins the given range of tokens back together into a String. If the tokens are a {@link JavaTokenList},
+	 * this is just a single slice of the original content, rather than concatenating the individual tokens
+	 *
+	 * @param tokens The List of tokens being parsed
+	 * @param startToken The index of the first token to include
+	 * @param endToken The index after the last token to include
+	 * @return The text of the tokens in the given range
+	 */
+	protected static String joinTokens(List<String> tokens, int startToken, int endToken){
+		if(startToken >= endToken){
+			return "";
+		}
+		if(tokens instanceof JavaTokenList tokenList){
+			return tokenList.getContent().subSequence(tokenList.getStartOffset(startToken),
+					tokenList.getEndOffset(endToken - 1)).toString();
+		}
+		StringBuilder text = new StringBuilder();
+		for(int i = startToken; i < endToken; i++){
+			text.append(tokens.get(i));
+		}
+		return text.toString();
+	}
+	
+	/**
+	 * Skips over the block that's opened at the given token by counting block open and close tokens, without
+	 * building anything from the tokens inside it (used to skip content in {@link ParseMode#skipsBodies() outlines})
+	 *
+	 * @param tokens The List of tokens being parsed
+	 * @param blockOpenToken The index of the {@link #BLOCK_OPEN_TOKEN block open token}
+	 * @return The index right after the matching {@link #BLOCK_CLOSE_TOKEN block close token}, or -1 if the block
+	 * is never closed
+	 */
+	protected static int skipBlock(List<String> tokens, int blockOpenToken){
+		if(tokens instanceof JavaTokenList tokenList){
+			return tokenList.findBlockEnd(blockOpenToken);
+		}
+		int openBlocks = 0;
+		for(int currentToken = blockOpenToken; currentToken < tokens.size(); currentToken++){
+			String token = tokens.get(currentToken);
+			if(StringUtil.equals(token, BLOCK_OPEN_TOKEN)){
+				openBlocks++;
+			}else if(StringUtil.equals(token, BLOCK_CLOSE_TOKEN)){
+				openBlocks--;
+				if(openBlocks == 0){
+					return currentToken + 1;
+				}
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Skips over the comment or Javadoc that starts at the given token, without building anything from it (used to
+	 * skip {@link ParseMode#skipsComments() comments in outlines}). A single-line comment ends after the next
+	 * newline, while multi-line comments and Javadocs end after the next token ending in
+	 * {@link #MULTI_LINE_COMMENT_CLOSE_TOKEN}, the same as in their parsers
+	 *
+	 * @param tokens The List of tokens being parsed
+	 * @param startToken The index of the first token of the comment
+	 * @return The index of the next token after the comment
+	 * @throws JavaParsingException If a multi-line comment or Javadoc is never closed
+	 */
+	protected static int skipComment(List<String> tokens, int startToken) throws JavaParsingException{
+		JavaTokenList tokenList = tokens instanceof JavaTokenList list?list:null;
+		boolean singleLine = tokens.get(startToken).startsWith(SINGLE_LINE_COMMENT_TOKEN);
+		for(int currentToken = startToken + 1; currentToken < tokens.size(); currentToken++){
+			if(singleLine){
+				boolean newline = tokenList != null?tokenList.getKind(currentToken) == JavaTokenKind.NEWLINE:
+						StringUtil.equals(tokens.get(currentToken), "\n");
+				if(newline){
+					return currentToken + 1;
+				}
+			}else{
+				boolean closing = tokenList != null?tokenList.endsWith(currentToken, MULTI_LINE_COMMENT_CLOSE_TOKEN):
+						tokens.get(currentToken).endsWith(MULTI_LINE_COMMENT_CLOSE_TOKEN);
+				if(closing){
+					return currentToken + 1;
+				}
+			}
+		}
+		if(!singleLine){
+			throw new JavaParsingException(JavaCodeTypes.MULTI_LINE_COMMENT,
+					"Failed to find closing multi-line comment token!");
+		}
+		return tokens.size();
 	}
 	
 	/**
@@ -70,7 +246,7 @@ public abstract class AbstractJavaParser implements JavaTokens{
 	 */
 	protected static int skipLeadingWhitespace(List<String> tokens){
 		int startToken = 0;
-		while(WHITESPACE_MATCHER.reset(tokens.get(startToken)).matches()){
+		while(isWhitespace(tokens.get(startToken))){
 			startToken++;
 		}
 		return startToken;
@@ -91,7 +267,7 @@ public abstract class AbstractJavaParser implements JavaTokens{
 		if(result.nextTokenIndex() != tokens.size()){
 			// Check if the remaining stuff is just newlines (they don't matter)
 			int lastTokenIndex = result.nextTokenIndex();
-			while(lastTokenIndex < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(lastTokenIndex)).matches()){
+			while(lastTokenIndex < tokens.size() && isWhitespace(tokens.get(lastTokenIndex))){
 				lastTokenIndex++;
 			}
 			if(lastTokenIndex != tokens.size()){
@@ -100,6 +276,123 @@ public abstract class AbstractJavaParser implements JavaTokens{
 		}
 	}
 	
+	/**
+	 * Builds the {@link ParsingPojo} for a parsed type and records the span of source it was parsed from on the type
+	 * (see {@link JavaSourceSpanned}). The span goes from the first non-whitespace token at or after the start token
+	 * to the end of the last non-whitespace token before the next token. Spans can only be found when the tokens are
+	 * a {@link JavaTokenList}, since that's where the offsets come from
+	 *
+	 * @param tokens The List of tokens being parsed
+	 * @param startToken The index of the token where parsing the type started
+	 * @param nextToken The index of the next token to be parsed
+	 * @param parsedType The {@link JavaCodeType type} that was parsed
+	 * @return A {@link ParsingPojo} for the parsed type
+	 */
+	protected static ParsingPojo buildParsingPojo(List<String> tokens, int startToken, int nextToken,
+			JavaCodeType parsedType){
+		if(tokens instanceof JavaTokenList tokenList && parsedType instanceof BaseJavaCodeType spannedType){
+			int firstToken = startToken;
+			while(firstToken < nextToken && tokenList.isWhitespace(firstToken)){
+				firstToken++;
+			}
+			int lastToken = nextToken - 1;
+			while(lastToken > firstToken && tokenList.isWhitespace(lastToken)){
+				lastToken--;
+			}
+			if(firstToken <= lastToken){
+				int startOffset = tokenList.getStartOffset(firstToken);
+				int endOffset = tokenList.getEndOffset(lastToken);
+				spannedType.setSourceSpan(JavaSourceSpanned.pack(startOffset, endOffset),
+						tokenList.getPosition(startOffset), tokenList.getPosition(endOffset));
+			}
+		}
+		return new ParsingPojo(startToken, nextToken, parsedType);
+	}
+	
+	/**
+	 * Builds a {@link JavaParsingError} whose source span covers the given tokens (without any whitespace at the
+	 * start or end of them, like the spans in {@link #buildParsingPojo(List, int, int, JavaCodeType)}). When there
+	 * are no tokens in the range (e.g. something was expected past the end of the tokens), the span is empty and
+	 * sits where the missing token would be. Spans can only be found when the tokens are a {@link JavaTokenList},
+	 * so otherwise the error has no span
+	 *
+	 * @param tokens The List of tokens being parsed
+	 * @param startToken The index of the first token the error is about
+	 * @param endToken The index right after the last token the error is about
+	 * @param code The {@link JavaParsingErrorCode code} of the error
+	 * @param message The error message
+	 * @return The {@link JavaParsingError} for the given tokens
+	 */
+	protected static JavaParsingError buildError(List<String> tokens, int startToken, int endToken,
+			JavaParsingErrorCode code, String message){
+		if(!(tokens instanceof JavaTokenList tokenList)){
+			return new JavaParsingError(code, message);
+		}
+		int firstToken = Math.max(0, Math.min(startToken, tokenList.size()));
+		int lastToken = Math.min(endToken, tokenList.size()) - 1;
+		while(firstToken < lastToken && tokenList.isWhitespace(firstToken)){
+			firstToken++;
+		}
+		while(lastToken > firstToken && tokenList.isWhitespace(lastToken)){
+			lastToken--;
+		}
+		int startOffset = firstToken < tokenList.size()?
+				tokenList.getStartOffset(firstToken):tokenList.getContent().length();
+		int endOffset = firstToken <= lastToken?tokenList.getEndOffset(lastToken):startOffset;
+		return new JavaParsingError(code, message, new JavaSourceSpan(JavaSourceSpanned.pack(startOffset, endOffset),
+				tokenList.getPosition(startOffset), tokenList.getPosition(endOffset)));
+	}
+	
+	/**
+	 * Handles parsing failing with the given {@link JavaParsingError error}. In diagnostics mode (when there's a
+	 * {@link JavaParseResult}), the error is added to the result and null is returned for the parser to return,
+	 * otherwise a {@link JavaParsingException} is thrown
+	 *
+	 * @param diagnostics The {@link JavaParseResult} to add the error to (null to throw it instead)
+	 * @param type The {@link JavaCodeTypes type} that failed to parse
+	 * @param error The {@link JavaParsingError error} found while parsing
+	 * @param <T> The type the parser returns
+	 * @return null, for the parser to return
+	 * @throws JavaParsingException If not in diagnostics mode
+	 */
+	protected static <T> T failParsing(JavaParseResult<?> diagnostics, JavaCodeTypes type, JavaParsingError error)
+			throws JavaParsingException{
+		if(diagnostics == null){
+			throw new JavaParsingException(type, error);
+		}
+		diagnostics.fail(type, error);
+		return null;
+	}
+	
+	/**
+	 * Handles parsing failing with the given {@link JavaParsingError errors} (see
+	 * {@link #failParsing(JavaParseResult, JavaCodeTypes, JavaParsingError)})
+	 *
+	 * @param diagnostics The {@link JavaParseResult} to add the errors to (null to throw them instead)
+	 * @param type The {@link JavaCodeTypes type} that failed to parse
+	 * @param errors The {@link JavaParsingError errors} found while parsing
+	 * @param <T> The type the parser returns
+	 * @return null, for the parser to return
+	 * @throws JavaParsingException If not in diagnostics mode
+	 */
+	protected static <T> T failParsing(JavaParseResult<?> diagnostics, JavaCodeTypes type,
+			List<JavaParsingError> errors) throws JavaParsingException{
+		if(diagnostics == null){
+			throw new JavaParsingException(type, errors);
+		}
+		diagnostics.fail(type, errors);
+		return null;
+	}
+	
+	/**
+	 * @param diagnostics The {@link JavaParseResult} used in diagnostics mode (can be null)
+	 * @return Whether parsing failed in diagnostics mode or not, for parsers to stop when something they parsed
+	 * failed
+	 */
+	protected static boolean failed(JavaParseResult<?> diagnostics){
+		return diagnostics != null && !diagnostics.isSuccess();
+	}
+	
 	/**
 	 * Parse the tokens from {@code currentToken} onward to get a {@link JavaType} string, where we have all the
 	 * type parameters in the String for it. We leave the parsing of that type to the caller, but return the
@@ -116,11 +409,12 @@ public abstract class AbstractJavaParser implements JavaTokens{
 		}
 		
 		// Start grabbing type
-		String type = tokens.get(currentToken);
+		String firstToken = tokens.get(currentToken);
+		StringBuilder type = new StringBuilder(firstToken);
 		int thisToken = currentToken + 1;
 		
 		// Skip any whitespace
-		while(thisToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(thisToken)).matches()){
+		while(thisToken < tokens.size() && isWhitespace(tokens.get(thisToken))){
 			thisToken++;
 		}
 		
@@ -130,34 +424,96 @@ public abstract class AbstractJavaParser implements JavaTokens{
 		}
 		
 		// Have to handle type parameters potential
-		if(!type.contains(TYPE_PARAMETER_OPEN_TOKEN)){
+		int depth = typeParameterDepthChange(firstToken);
+		boolean hasTypeParameters = firstToken.contains(TYPE_PARAMETER_OPEN_TOKEN);
+		if(!hasTypeParameters){
 			// Check for next token being open token
 			String nextToken = tokens.get(thisToken);
 			if(nextToken.startsWith(TYPE_PARAMETER_OPEN_TOKEN)){
-				type += nextToken;
+				type.append(nextToken);
+				depth += typeParameterDepthChange(nextToken);
+				hasTypeParameters = true;
 				thisToken++;
 			}
 		}
 		
-		// If we have type parameters, have to make sure we get to the end of it
-		if(type.contains(TYPE_PARAMETER_OPEN_TOKEN)){
-			int openTokens = StringUtil.countSubstringInstances(type, TYPE_PARAMETER_OPEN_TOKEN);
-			int closeTokens = StringUtil.countSubstringInstances(type, TYPE_PARAMETER_CLOSE_TOKEN);
-			while(openTokens != closeTokens){
-				// Check if we hit end of tokens
-				if(thisToken >= tokens.size()){
-					return null;
+		// If we have type parameters, have to make sure we get to the end of it (only counting the < and >'s in
+		// each new token, so this stays linear)
+		while(hasTypeParameters && depth != 0){
+			// Check if we hit end of tokens
+			if(thisToken >= tokens.size()){
+				return null;
+			}
+			
+			String nextToken = tokens.get(thisToken);
+			type.append(nextToken);
+			depth += typeParameterDepthChange(nextToken);
+			thisToken++;
+		}
+		
+		return Pair.of(type.toString(), thisToken);
+	}
+	
+	/**
+	 * @param token The token to check
+	 * @return The number of type parameter open tokens minus the number of type parameter close tokens in the token
+	 */
+	private static int typeParameterDepthChange(String token){
+		int change = 0;
+		for(int i = 0; i < token.length(); i++){
+			char c = token.charAt(i);
+			if(c == '<'){
+				change++;
+			}else if(c == '>'){
+				change--;
+			}
+		}
+		return change;
+	}
+	
+	/**
+	 * Parses a {@link JavaType} from the tokens starting at {@code currentToken}, returning the type along with the
+	 * index of the next non-whitespace token after it. When the tokens are a {@link JavaTokenList}, the type
+	 * is parsed in a single pass straight from the content behind the tokens by a {@link JavaTypeParser}, without
+	 * joining any tokens together. Otherwise, the type String is found using {@link #parseOutType(List, int)}
+	 * and then parsed
+	 *
+	 * @param tokens The List of tokens to parse a type from
+	 * @param currentToken The current token index to start at to get a type
+	 * @return A Pair of the {@link JavaType} and the next token index, or null if the tokens ran out
+	 * @throws IllegalArgumentException If the type that was found isn't valid
+	 */
+	protected static Pair<JavaType, Integer> parseOutJavaType(List<String> tokens, int currentToken){
+		// Check that we're not already at end of tokens
+		if(currentToken >= tokens.size()){
+			return null;
+		}
+		
+		if(tokens instanceof JavaTokenList tokenList){
+			CharSequence content = tokenList.getContent();
+			JavaTypeParser parser = new JavaTypeParser(content, tokenList.getStartOffset(currentToken), content.length(),
+					tokenList.getSymbolTable());
+			JavaType type = parser.readType();
+			// The type has to end where a token starts - otherwise, fall back to joining the tokens below
+			int nextToken = type == null?-1:tokenList.indexOfStartOffset(parser.getPosition());
+			if(nextToken != -1){
+				// Skip any whitespace
+				while(nextToken < tokens.size() && tokenList.isWhitespace(nextToken)){
+					nextToken++;
 				}
-				
-				String nextToken = tokens.get(thisToken);
-				type += nextToken;
-				thisToken++;
-				openTokens = StringUtil.countSubstringInstances(type, TYPE_PARAMETER_OPEN_TOKEN);
-				closeTokens = StringUtil.countSubstringInstances(type, TYPE_PARAMETER_CLOSE_TOKEN);
+				return nextToken < tokens.size()?Pair.of(type, nextToken):null;
 			}
 		}
 		
-		return Pair.of(type, thisToken);
+		Pair<String, Integer> typeStringAndNextToken = parseOutType(tokens, currentToken);
+		if(typeStringAndNextToken == null){
+			return null;
+		}
+		int nextToken = typeStringAndNextToken.getRight();
+		while(nextToken < tokens.size() && isWhitespace(tokens.get(nextToken))){
+			nextToken++;
+		}
+		return Pair.of(parseJavaType(typeStringAndNextToken.getLeft(), getSymbolTable(tokens)), nextToken);
 	}
 	
 	/**
@@ -183,7 +539,7 @@ public abstract class AbstractJavaParser implements JavaTokens{
 		int thisToken = typeStringAndNextToken.getRight();
 		
 		// Skip whitespace
-		while(thisToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(thisToken)).matches()){
+		while(thisToken < tokens.size() && isWhitespace(tokens.get(thisToken))){
 			thisToken++;
 		}
 		// Check we're not at the end of tokens
@@ -203,7 +559,7 @@ public abstract class AbstractJavaParser implements JavaTokens{
 		// Move to next token and skip whitespace again
 		do{
 			thisToken++;
-		}while(thisToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(thisToken)).matches());
+		}while(thisToken < tokens.size() && isWhitespace(tokens.get(thisToken)));
 		// Check we're not at the end of tokens
 		if(thisToken >= tokens.size()){
 			return JavaCodeTypes.UNKNOWN;
@@ -222,112 +578,245 @@ public abstract class AbstractJavaParser implements JavaTokens{
 	}
 	
 	/**
-	 * Parses a {@link JavaParameter} from the given String
+	 * Reads the start of a field or method (its type parameters, type, and name) from the tokens starting at
+	 * {@code currentToken} in a single pass, and decides which it is from the tokens after the name, so the field
+	 * or method can be parsed from there without reading the same tokens again. This only works on a
+	 * {@link JavaTokenList}, where the types are parsed straight from the content behind the tokens by a
+	 * {@link JavaTypeParser}. When the tokens aren't in a shape this understands (e.g. the type isn't valid),
+	 * they're not a field or method, so null is returned. For other Lists of tokens, use
+	 * {@link #determineFieldOrMethod(List, int)} instead
+	 *
+	 * @param tokens The tokens we're parsing
+	 * @param currentToken The index of the first token after any modifiers
+	 * @return The {@link MemberHeader} that was read, or null if the tokens aren't a field or method (or aren't a
+	 * {@link JavaTokenList})
+	 */
+	protected static MemberHeader parseOutMemberHeader(List<String> tokens, int currentToken){
+		if(!(tokens instanceof JavaTokenList tokenList) || currentToken >= tokens.size()){
+			return null;
+		}
+		CharSequence content = tokenList.getContent();
+		JavaTypeParser parser = new JavaTypeParser(content, tokenList.getStartOffset(currentToken), content.length(),
+				tokenList.getSymbolTable());
+		
+		// Start could be type parameters, making it a method
+		List<JavaTypeParameter> typeParameters = new ArrayList<>();
+		if(tokens.get(currentToken).startsWith(TYPE_PARAMETER_OPEN_TOKEN)){
+			typeParameters = parser.readTypeParameterList();
+			if(typeParameters == null){
+				return null;
+			}
+		}
+		
+		// Then the type, which has to end where a token starts
+		JavaType type = parser.readType();
+		int nextToken = type == null?-1:tokenList.indexOfStartOffset(parser.getPosition());
+		if(nextToken == -1){
+			return null;
+		}
+		nextToken = skipWhitespaceTokens(tokenList, nextToken);
+		if(nextToken >= tokens.size()){
+			return null;
+		}
+		
+		// Constructors go straight to the parameters
+		String token = tokens.get(nextToken);
+		if(StringUtil.equals(token, PARAMETER_OPEN_TOKEN)){
+			return new MemberHeader(JavaCodeTypes.METHOD, typeParameters, type, -1, nextToken);
+		}
+		
+		// Otherwise we have the name, which can end with a semicolon for a field
+		if(StringUtil.equalsAny(token, PARAMETER_CLOSE_TOKEN, BLOCK_OPEN_TOKEN, BLOCK_CLOSE_TOKEN,
+				ASSIGNMENT_OPERATOR_TOKEN, LIST_SEPARATOR_TOKEN)){
+			return null;
+		}
+		int nameToken = nextToken;
+		int semicolonIndex = token.indexOf(SEMICOLON);
+		if(semicolonIndex != -1){
+			return semicolonIndex == token.length() - 1 && typeParameters.isEmpty()?
+					new MemberHeader(JavaCodeTypes.FIELD, typeParameters, type, nameToken, nameToken + 1):null;
+		}
+		
+		// Next token is either parameter open token, or assignment operator token or semicolon for a field
+		nextToken = skipWhitespaceTokens(tokenList, nameToken + 1);
+		if(nextToken >= tokens.size()){
+			return null;
+		}
+		token = tokens.get(nextToken);
+		if(StringUtil.equals(token, PARAMETER_OPEN_TOKEN)){
+			return new MemberHeader(JavaCodeTypes.METHOD, typeParameters, type, nameToken, nextToken);
+		}else if(StringUtil.equalsAny(token, ASSIGNMENT_OPERATOR_TOKEN, SEMICOLON) && typeParameters.isEmpty()){
+			return new MemberHeader(JavaCodeTypes.FIELD, typeParameters, type, nameToken, nextToken);
+		}else{
+			return null;
+		}
+	}
+	
+	/**
+	 * @param tokenList The tokens we're parsing
+	 * @param currentToken The index of the token to start at
+	 * @return The index of the first non-whitespace token at or after the given index (or the number of tokens)
+	 */
+	private static int skipWhitespaceTokens(JavaTokenList tokenList, int currentToken){
+		while(currentToken < tokenList.size() && tokenList.isWhitespace(currentToken)){
+			currentToken++;
+		}
+		return currentToken;
+	}
+	
+	/**
+	 * @return The {@link ParseMemo} used in front of {@link #parseJavaParameter(String)}
+	 */
+	public static ParseMemo<JavaParameter> getParameterMemo(){
+		return PARAMETER_MEMO;
+	}
+	
+	/**
+	 * @return The {@link ParseMemo} used in front of {@link #parseJavaType(String)}
+	 */
+	public static ParseMemo<JavaType> getTypeMemo(){
+		return TYPE_MEMO;
+	}
+	
+	/**
+	 * @return The {@link ParseMemo} used in front of {@link #parseJavaTypeParameters(String)}
+	 */
+	public static ParseMemo<List<JavaTypeParameter>> getTypeParametersMemo(){
+		return TYPE_PARAMETERS_MEMO;
+	}
+	
+	/**
+	 * Parses a {@link JavaParameter} from the given String. The result is memoized in the
+	 * {@link #getParameterMemo() parameter memo}, and a new {@link JavaParameter} is copied from it each time, with a
+	 * modifiable copy of its {@link JavaType} (see {@link #parseJavaType(String)})
 	 *
 	 * @param parameterContent The String to parse
 	 * @return The {@link JavaParameter} that was parsed
 	 */
 	public static JavaParameter parseJavaParameter(String parameterContent){
-		// Use a pattern to ensure we have a parameter and to get the relevant info for it
-		Matcher paramMatch = PARAMETER_PATTERN.matcher(parameterContent);
-		if(paramMatch.matches()){
-			// Actually create the parameter with the parts of the pattern
-			String typeContent = paramMatch.group(1);
-			JavaType type = parseJavaType(typeContent);
-			boolean vararg = StringUtil.isNotBlank(StringUtil.trim(paramMatch.group(8)));
-			String name = paramMatch.group(9);
-			return JavaParameter.builder()
-					.type(type)
-					.name(name)
-					.vararg(vararg)
+		return parseJavaParameter(parameterContent, null);
+	}
+	
+	/**
+	 * Parses a {@link JavaParameter} from the given String, sharing its type names and name through the given
+	 * {@link SymbolTable}. Without a {@link SymbolTable}, the result is memoized in the
+	 * {@link #getParameterMemo() parameter memo}
+	 *
+	 * @param parameterContent The String to parse
+	 * @param symbolTable The {@link SymbolTable} to share identifiers through (can be null to not share them)
+	 * @return The {@link JavaParameter} that was parsed
+	 */
+	public static JavaParameter parseJavaParameter(String parameterContent, SymbolTable symbolTable){
+		if(symbolTable != null){
+			return JavaTypeParser.parseParameter(parameterContent, symbolTable);
+		}
+		
+		JavaParameter parameter = PARAMETER_MEMO.get(parameterContent);
+		if(parameter == null){
+			// Java Parameters can't be edited, so the only thing to do is make sure the memoized type can't be either
+			JavaParameter parsedParameter = JavaTypeParser.parseParameter(parameterContent, null);
+			parameter = JavaParameter.builder()
+					.type(parsedParameter.getType().toCanonical())
+					.name(parsedParameter.getName())
+					.vararg(parsedParameter.isVararg())
 					.build();
-		}else{
-			throw new IllegalArgumentException("'" + parameterContent + "' is not a valid parameter");
+			PARAMETER_MEMO.put(parameterContent, parameter);
 		}
+		return JavaParameter.builder()
+				.type(copyType(parameter.getType()))
+				.name(parameter.getName())
+				.vararg(parameter.isVararg())
+				.build();
 	}
 	
 	/**
-	 * Parses a {@link JavaType} from the given String
+	 * Parses a {@link JavaType} from the given String. The result is memoized in the {@link #getTypeMemo() type memo}
+	 * as a {@link JavaType#toCanonical() canonical} {@link JavaType}, and a new modifiable {@link JavaType} is copied
+	 * from it each time (sharing its canonical {@link JavaTypeParameter type parameters})
 	 *
 	 * @param typeContent The String to parse
 	 * @return The {@link JavaType} that was parsed
 	 */
 	public static JavaType parseJavaType(String typeContent){
-		// Use a pattern to ensure we have a type and to get the relevant info for it
-		Matcher typeMatch = TYPE_PATTERN.matcher(typeContent);
-		if(typeMatch.matches()){
-			// Actually create the type with the parts of the pattern
-			String baseType = typeMatch.group(1);
-			String typeParamsContent = typeMatch.group(2);
-			List<JavaTypeParameter> typeParams = parseJavaTypeParameters(typeParamsContent);
-			return JavaType.builder()
-					.baseType(baseType)
-					.typeParameters(typeParams)
-					.build();
-		}else{
-			throw new IllegalArgumentException("'" + typeContent + "' is not a valid type");
+		return parseJavaType(typeContent, null);
+	}
+	
+	/**
+	 * Parses a {@link JavaType} from the given String, sharing its type names through the given
+	 * {@link SymbolTable}. When a {@link SymbolTable} is given, the {@link JavaTypeParameter type parameters} of the
+	 * {@link JavaType} are {@link JavaTypeParameter#toCanonical() canonical}, so identical ones share a single
+	 * instance as well, but the {@link JavaType} itself is a new modifiable one (the same as the copies made from the
+	 * {@link #getTypeMemo() type memo}, which is used without a {@link SymbolTable})
+	 *
+	 * @param typeContent The String to parse
+	 * @param symbolTable The {@link SymbolTable} to share identifiers through (can be null to not share them)
+	 * @return The {@link JavaType} that was parsed
+	 */
+	public static JavaType parseJavaType(String typeContent, SymbolTable symbolTable){
+		if(symbolTable != null){
+			return JavaTypeParser.parseType(typeContent, symbolTable);
 		}
+		
+		JavaType type = TYPE_MEMO.get(typeContent);
+		if(type == null){
+			type = JavaTypeParser.parseType(typeContent, null).toCanonical();
+			TYPE_MEMO.put(typeContent, type);
+		}
+		return copyType(type);
 	}
 	
 	/**
-	 * Parses the given String into a List of {@link JavaTypeParameter Java Type Parameters}
+	 * Copies the given memoized {@link JavaType} into a new modifiable {@link JavaType}. The
+	 * {@link JavaTypeParameter type parameters} are canonical, so only the List of them needs to be copied
+	 *
+	 * @param type The memoized {@link JavaType#toCanonical() canonical} {@link JavaType} to be copied
+	 * @return A new modifiable {@link JavaType} equal to the given one
+	 */
+	private static JavaType copyType(JavaType type){
+		return JavaType.builder()
+				.baseType(type.getBaseType())
+				.canonicalName(type.getCanonicalName())
+				.typeParameters(new ArrayList<>(type.getTypeParameters()))
+				.build();
+	}
+	
+	/**
+	 * Parses the given String into a List of {@link JavaTypeParameter Java Type Parameters}. The result is memoized
+	 * in the {@link #getTypeParametersMemo() type parameters memo}, so the List is a new copy each time, but the
+	 * {@link JavaTypeParameter#toCanonical() canonical} {@link JavaTypeParameter Java Type Parameters} in it are shared
 	 *
 	 * @param typeParametersContent The String to be parsed
 	 * @return The List of {@link JavaTypeParameter Java Type Parameters} that were parsed from the String
 	 */
 	public static List<JavaTypeParameter> parseJavaTypeParameters(String typeParametersContent){
-		List<JavaTypeParameter> typeParams = new ArrayList<>();
-		
-		// Check for an empty string / only whitespace
-		if(StringUtil.isBlank(StringUtil.trim(typeParametersContent))){
-			return typeParams;
-		}
-		
-		// Split type parameters on comma
-		String[] paramSplit = typeParametersContent.split(",");
-		String paramContent = "";
-		for(String paramPiece: paramSplit){
-			// Logic to make sure we have the full type with < and >'s
-			if(StringUtil.isNotBlank(paramContent)){
-				paramContent += ",";
-			}
-			paramContent += StringUtil.trim(paramPiece);
-			int startTokenCount = StringUtil.countSubstringInstances(paramContent, TYPE_PARAMETER_OPEN_TOKEN);
-			int endTokenCount = StringUtil.countSubstringInstances(paramContent, TYPE_PARAMETER_CLOSE_TOKEN);
-			if(startTokenCount != endTokenCount){
-				continue;
-			}
-			
-			// Use a pattern to ensure we have a type parameter and to get the relevant info for it
-			Matcher typeParamMatch = TYPE_PARAMETER_PATTERN.matcher(paramContent);
-			if(typeParamMatch.matches()){
-				// Actually create the type parameter with the parts of the pattern
-				JavaType baseType = null, extendsType = null;
-				String baseTypeStr = typeParamMatch.group(1);
-				if(StringUtil.isNotBlank(baseTypeStr)){
-					baseType = parseJavaType(baseTypeStr);
-				}
-				String extendsTypeStr = typeParamMatch.group(2);
-				if(StringUtil.isNotBlank(extendsTypeStr)){
-					extendsType = parseJavaType(extendsTypeStr);
-				}
-				typeParams.add(JavaTypeParameter.builder()
-						.baseType(baseType)
-						.extendsType(extendsType)
-						.build());
-			}else{
-				throw new IllegalArgumentException("'" + paramContent + "' is not a valid type parameter");
-			}
-			// Reset param content
-			paramContent = "";
+		return parseJavaTypeParameters(typeParametersContent, null);
+	}
+	
+	/**
+	 * Parses the given String into a List of {@link JavaTypeParameter Java Type Parameters}, sharing their type
+	 * names through the given {@link SymbolTable}. When a {@link SymbolTable} is given, the
+	 * {@link JavaTypeParameter#toCanonical() canonical} {@link JavaTypeParameter Java Type Parameters} are returned.
+	 * Without a {@link SymbolTable}, the result is memoized in the
+	 * {@link #getTypeParametersMemo() type parameters memo}
+	 *
+	 * @param typeParametersContent The String to be parsed
+	 * @param symbolTable The {@link SymbolTable} to share identifiers through (can be null to not share them)
+	 * @return The List of {@link JavaTypeParameter Java Type Parameters} that were parsed from the String
+	 */
+	public static List<JavaTypeParameter> parseJavaTypeParameters(
+			String typeParametersContent, SymbolTable symbolTable){
+		if(symbolTable != null){
+			return JavaTypeParser.parseTypeParameters(typeParametersContent, symbolTable);
 		}
 		
-		// Check if we didn't parse some param content
-		if(StringUtil.isNotBlank(paramContent)){
-			throw new IllegalArgumentException("Failed to parse remaining type parameter content: '" + paramContent + "'");
+		List<JavaTypeParameter> typeParameters = TYPE_PARAMETERS_MEMO.get(typeParametersContent);
+		if(typeParameters == null){
+			typeParameters = JavaTypeParser.parseTypeParameters(typeParametersContent, null).stream()
+					.map(JavaTypeParameter::toCanonical)
+					.toList();
+			TYPE_PARAMETERS_MEMO.put(typeParametersContent, typeParameters);
 		}
-		
-		// Return all the type parameters we parsed
-		return typeParams;
+		// The List is copied, since callers can add to it
+		return new ArrayList<>(typeParameters);
 	}
 }
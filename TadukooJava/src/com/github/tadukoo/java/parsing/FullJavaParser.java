@@ -14,17 +14,18 @@ import com.github.tadukoo.java.javaclass.EditableJavaClass;
 import com.github.tadukoo.java.field.EditableJavaField;
 import com.github.tadukoo.java.parsing.classtypes.JavaClassParser;
 import com.github.tadukoo.java.parsing.codetypes.JavaAnnotationParser;
-import com.github.tadukoo.java.parsing.codetypes.JavaFieldParser;
 import com.github.tadukoo.java.parsing.codetypes.JavaImportStatementParser;
-import com.github.tadukoo.java.parsing.codetypes.JavaMethodParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaMemberParser;
 import com.github.tadukoo.java.parsing.codetypes.JavaPackageDeclarationParser;
 import com.github.tadukoo.java.parsing.codetypes.JavaTypeWithModifiersParser;
 import com.github.tadukoo.java.parsing.comment.JavaMultiLineCommentParser;
 import com.github.tadukoo.java.parsing.comment.JavaSingleLineCommentParser;
 import com.github.tadukoo.java.parsing.comment.JavadocParser;
-import com.github.tadukoo.util.StringUtil;
 import com.github.tadukoo.util.functional.function.ThrowingFunction2;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -32,13 +33,63 @@ import java.util.List;
  * Java Parser is used to parse Java code
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class FullJavaParser extends AbstractJavaParser{
 	
 	/** Not allowed to instantiate {@link FullJavaParser} */
 	private FullJavaParser(){ }
 	
+	/**
+	 * Parses the given Java file (as UTF-8) and returns it as the proper {@link JavaCodeType}. The file is
+	 * memory-mapped as a {@link MappedJavaSource} instead of being read into a String, so only the Strings
+	 * for the tokens that get parsed are ever made
+	 *
+	 * @param file The Java file to be parsed
+	 * @return The parsed {@link JavaCodeType} from the given file
+	 * @throws IOException If anything goes wrong in reading the file (including it not being valid UTF-8)
+	 * @throws JavaParsingException If anything goes wrong while parsing
+	 */
+	public static JavaCodeType parseType(Path file) throws IOException, JavaParsingException{
+		return parseType(file, ParseMode.FULL);
+	}
+	
+	/**
+	 * Parses the given Java file (as UTF-8) using the given {@link ParseMode} and returns it as the proper
+	 * {@link JavaCodeType}. The file is memory-mapped (see {@link #parseType(Path)})
+	 *
+	 * @param file The Java file to be parsed
+	 * @param parseMode The {@link ParseMode} to use
+	 * @return The parsed {@link JavaCodeType} from the given file
+	 * @throws IOException If anything goes wrong in reading the file (including it not being valid UTF-8)
+	 * @throws JavaParsingException If anything goes wrong while parsing
+	 */
+	public static JavaCodeType parseType(Path file, ParseMode parseMode) throws IOException, JavaParsingException{
+		return parseType(file, parseMode, null);
+	}
+	
+	/**
+	 * Parses the given Java file (as UTF-8) using the given {@link ParseMode} and returns it as the proper
+	 * {@link JavaCodeType}, sharing the identifiers that get parsed through the given {@link SymbolTable}.
+	 * The file is memory-mapped (see {@link #parseType(Path)})
+	 *
+	 * @param file The Java file to be parsed
+	 * @param parseMode The {@link ParseMode} to use
+	 * @param symbolTable The {@link SymbolTable} to share identifiers through (can be null to not share them)
+	 * @return The parsed {@link JavaCodeType} from the given file
+	 * @throws IOException If anything goes wrong in reading the file (including it not being valid UTF-8)
+	 * @throws JavaParsingException If anything goes wrong while parsing
+	 */
+	public static JavaCodeType parseType(
+			Path file, ParseMode parseMode, SymbolTable symbolTable) throws IOException, JavaParsingException{
+		try{
+			return parseType(new MappedJavaSource(file), parseMode, symbolTable);
+		}catch(UncheckedIOException e){
+			throw e.getCause();
+		}
+	}
+	
 	/**
 	 * Parses the given text as Java code and returns it as the proper {@link JavaCodeType}
 	 *
@@ -46,9 +97,39 @@ public class FullJavaParser extends AbstractJavaParser{
 	 * @return The parsed {@link JavaCodeType} from the given text
 	 * @throws JavaParsingException If anything goes wrong while parsing
 	 */
-	public static JavaCodeType parseType(String content) throws JavaParsingException{
+	public static JavaCodeType parseType(CharSequence content) throws JavaParsingException{
+		return parseType(content, ParseMode.FULL);
+	}
+	
+	/**
+	 * Parses the given text as Java code using the given {@link ParseMode} and returns it as the proper
+	 * {@link JavaCodeType}
+	 *
+	 * @param content The text to be parsed as Java code
+	 * @param parseMode The {@link ParseMode} to use
+	 * @return The parsed {@link JavaCodeType} from the given text
+	 * @throws JavaParsingException If anything goes wrong while parsing
+	 */
+	public static JavaCodeType parseType(CharSequence content, ParseMode parseMode) throws JavaParsingException{
+		return parseType(content, parseMode, null);
+	}
+	
+	/**
+	 * Parses the given text as Java code using the given {@link ParseMode} and returns it as the proper
+	 * {@link JavaCodeType}, sharing the identifiers that get parsed through the given {@link SymbolTable}.
+	 * Using the same {@link SymbolTable} for many parses means that names like {@code String} or {@code Override}
+	 * share a single instance between all the parsed models
+	 *
+	 * @param content The text to be parsed as Java code
+	 * @param parseMode The {@link ParseMode} to use
+	 * @param symbolTable The {@link SymbolTable} to share identifiers through (can be null to not share them)
+	 * @return The parsed {@link JavaCodeType} from the given text
+	 * @throws JavaParsingException If anything goes wrong while parsing
+	 */
+	public static JavaCodeType parseType(
+			CharSequence content, ParseMode parseMode, SymbolTable symbolTable) throws JavaParsingException{
 		// Split the content into "tokens"
-		List<String> tokens = splitContentIntoTokens(content);
+		List<String> tokens = splitContentIntoTokens(content, parseMode, symbolTable);
 		
 		// The Java types we've collected in order while parsing
 		List<JavaCodeType> types = new ArrayList<>();
@@ -56,49 +137,50 @@ public class FullJavaParser extends AbstractJavaParser{
 		// Iterate over the tokens
 		int currentToken = 0;
 		while(currentToken < tokens.size()){
-			// Grab the current token
-			String token = tokens.get(currentToken);
+			// Grab the kind of the current token
+			JavaTokenKind kind = getTokenKind(tokens, currentToken);
 			
-			ThrowingFunction2<List<String>, Integer, ParsingPojo, JavaParsingException> parseMethod;
-			
-			if(WHITESPACE_MATCHER.reset(token).matches()){
+			if(kind.isWhitespace()){
 				// Skip whitespace tokens
 				currentToken++;
 				continue;
-			}else if(StringUtil.equals(token, PACKAGE_TOKEN)){
+			}else if(parseMode.skipsComments() && kind.isCommentStart()){
+				// Skip the comment or javadoc
+				currentToken = skipComment(tokens, currentToken);
+				continue;
+			}
+			
+			ThrowingFunction2<List<String>, Integer, ParsingPojo, JavaParsingException> parseMethod = switch(kind){
 				// Parse a package declaration
-				parseMethod = JavaPackageDeclarationParser::parsePackageDeclaration;
-			}else if(StringUtil.equals(token, IMPORT_TOKEN)){
+				case PACKAGE -> JavaPackageDeclarationParser::parsePackageDeclaration;
 				// Parse an import statement
-				parseMethod = JavaImportStatementParser::parseImportStatement;
-			}else if(StringUtil.equals(token, CLASS_TOKEN)){
+				case IMPORT -> JavaImportStatementParser::parseImportStatement;
 				// Parse a class
-				parseMethod = JavaClassParser::parseClass;
-			}else if(token.startsWith(JAVADOC_START_TOKEN)){
+				case CLASS -> JavaClassParser::parseClass;
 				// Parse a javadoc
-				parseMethod = JavadocParser::parseJavadoc;
-			}else if(token.startsWith(MULTI_LINE_COMMENT_START_TOKEN)){
+				case JAVADOC_START -> JavadocParser::parseJavadoc;
 				// Parse a multi-line comment
-				parseMethod = JavaMultiLineCommentParser::parseMultiLineComment;
-			}else if(token.startsWith(SINGLE_LINE_COMMENT_TOKEN)){
+				case MULTI_LINE_COMMENT_START -> JavaMultiLineCommentParser::parseMultiLineComment;
 				// Parse a single-line comment
-				parseMethod = JavaSingleLineCommentParser::parseSingleLineComment;
-			}else if(token.startsWith(ANNOTATION_START_TOKEN)){
+				case SINGLE_LINE_COMMENT_START -> JavaSingleLineCommentParser::parseSingleLineComment;
 				// Parse an annotation
-				parseMethod = JavaAnnotationParser::parseAnnotation;
-			}else if(MODIFIERS.contains(token)){
+				case ANNOTATION_START -> JavaAnnotationParser::parseAnnotation;
 				// Parse a type with modifiers (could be field, method, class, etc.)
-				parseMethod = JavaTypeWithModifiersParser::parseTypeWithModifiers;
-			}else{
-				JavaCodeTypes typeToParse = determineFieldOrMethod(tokens, currentToken);
-				if(typeToParse == JavaCodeTypes.FIELD){
-					parseMethod = JavaFieldParser::parseField;
-				}else if(typeToParse == JavaCodeTypes.METHOD){
-					parseMethod = JavaMethodParser::parseMethod;
-				}else{
+				case PRIVATE, PROTECTED, PUBLIC, ABSTRACT, STATIC, FINAL ->
+						JavaTypeWithModifiersParser::parseTypeWithModifiers;
+				default -> null;
+			};
+			
+			if(parseMethod == null){
+				// Parse a field or method
+				ParsingPojo result = JavaMemberParser.parseMember(tokens, currentToken);
+				if(result == null){
 					throw new JavaParsingException(JavaCodeTypes.UNKNOWN, "Failed to determine type from token '" +
-							token + "'");
+							tokens.get(currentToken) + "'");
 				}
+				types.add(result.parsedType());
+				currentToken = result.nextTokenIndex();
+				continue;
 			}
 			
 			// Use the parse method and handle its results
@@ -0,0 +1,299 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.importstatement.JavaImportStatement;
+import com.github.tadukoo.java.packagedeclaration.JavaPackageDeclaration;
+import com.github.tadukoo.java.parsing.codetypes.JavaImportStatementParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaPackageDeclarationParser;
+import com.github.tadukoo.util.StringUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Java File Header Scanner is used to quickly find the {@link JavaPackageDeclaration package declaration} and
+ * {@link JavaImportStatement import statements} of a Java file (e.g. to build a dependency graph of files), without
+ * parsing the rest of it. Files are read through a {@link FileChannel} a small buffer at a time, and reading stops
+ * as soon as the header is over, which is at the first token that isn't part of a package declaration, an import
+ * statement, or a comment (usually the {@code class} token, a modifier, or an annotation). Only the header is
+ * split into tokens, and the package declaration and import statements are parsed by the
+ * {@link JavaPackageDeclarationParser} and {@link JavaImportStatementParser}. Comments in the header are skipped.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public class JavaFileHeaderScanner extends AbstractJavaParser{
+	
+	/** The number of bytes read from a file at a time */
+	private static final int BUFFER_SIZE = 8 * 1024;
+	
+	/**
+	 * The header of a Java file
+	 *
+	 * @param packageDeclaration The {@link JavaPackageDeclaration package declaration} of the file (or null if it
+	 * doesn't have one)
+	 * @param importStatements The {@link JavaImportStatement import statements} of the file
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Beta v.0.6
+	 * @since Beta v.0.6
+	 */
+	public record Header(JavaPackageDeclaration packageDeclaration, List<JavaImportStatement> importStatements){
+		
+		/**
+		 * @return The name of the package of the file, or null if it doesn't have a package declaration
+		 */
+		public String getPackageName(){
+			return packageDeclaration != null?packageDeclaration.getPackageName():null;
+		}
+	}
+	
+	/** Not allowed to instantiate {@link JavaFileHeaderScanner} */
+	private JavaFileHeaderScanner(){ }
+	
+	/**
+	 * Scans the header of the given Java file (as UTF-8), only reading as much of the file as is needed
+	 *
+	 * @param file The {@link Path} to the Java file
+	 * @return The {@link Header} of the file
+	 * @throws IOException If anything goes wrong in reading the file
+	 * @throws JavaParsingException If anything goes wrong in parsing the header
+	 */
+	public static Header scanHeader(Path file) throws IOException, JavaParsingException{
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+			CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPORT)
+					.onUnmappableCharacter(CodingErrorAction.REPORT);
+			ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+			// UTF-8 never decodes to more characters than it has bytes, so the characters always fit
+			CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+			StringBuilder text = new StringBuilder();
+			
+			while(true){
+				// Read and decode the next piece of the file
+				boolean endOfInput = channel.read(bytes) == -1;
+				bytes.flip();
+				CoderResult result = decoder.decode(bytes, chars, endOfInput);
+				if(!result.isError() && endOfInput){
+					result = decoder.flush(chars);
+				}
+				if(result.isError()){
+					result.throwException();
+				}
+				bytes.compact();
+				chars.flip();
+				text.append(chars);
+				chars.clear();
+				
+				// Stop once we've found the end of the header
+				int headerEnd = findHeaderEnd(text, endOfInput);
+				if(headerEnd != -1){
+					return parseHeader(text, headerEnd);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Scans the header of the given Java code
+	 *
+	 * @param content The Java code to scan the header of
+	 * @return The {@link Header} of the code
+	 * @throws JavaParsingException If anything goes wrong in parsing the header
+	 */
+	public static Header scanHeader(CharSequence content) throws JavaParsingException{
+		return parseHeader(content, findHeaderEnd(content, true));
+	}
+	
+	/**
+	 * Finds where the header ends in the given text, which is at the start of the first thing that isn't a
+	 * package declaration, import statement, comment, or whitespace
+	 *
+	 * @param text The text to find the end of the header in
+	 * @param endOfInput Whether the text is the whole file, or there may be more of it to be read
+	 * @return The index where the header ends, or -1 if more of the file is needed to find it
+	 */
+	private static int findHeaderEnd(CharSequence text, boolean endOfInput){
+		int length = text.length();
+		int index = 0;
+		while(true){
+			// Skip whitespace
+			while(index < length && JavaLexer.isWhitespace(text.charAt(index))){
+				index++;
+			}
+			if(index >= length){
+				return endOfInput?length:-1;
+			}
+			
+			// Find the end of the next piece of the header
+			int pieceEnd;
+			if(startsWith(text, index, SINGLE_LINE_COMMENT_TOKEN) ||
+					startsWith(text, index, MULTI_LINE_COMMENT_START_TOKEN)){
+				pieceEnd = findCommentEnd(text, index);
+			}else if(startsWithWord(text, index, PACKAGE_TOKEN) || startsWithWord(text, index, IMPORT_TOKEN)){
+				pieceEnd = indexOf(text, SEMICOLON.charAt(0), index);
+				if(pieceEnd != -1){
+					pieceEnd++;
+				}
+			}else if(!endOfInput && isAtEndOfWord(text, index)){
+				// The next word may be cut off, so we need more of the file to know what it is
+				return -1;
+			}else{
+				// Anything else starts the rest of the file
+				return index;
+			}
+			
+			// If the piece isn't done, we need more of the file (or the parsers will report it's not done)
+			if(pieceEnd == -1){
+				return endOfInput?length:-1;
+			}
+			index = pieceEnd;
+		}
+	}
+	
+	/**
+	 * Parses the header out of the given text
+	 *
+	 * @param text The text containing the header
+	 * @param headerEnd The index where the header ends in the text
+	 * @return The parsed {@link Header}
+	 * @throws JavaParsingException If anything goes wrong in parsing the header
+	 */
+	private static Header parseHeader(CharSequence text, int headerEnd) throws JavaParsingException{
+		JavaTokenList tokens = JavaLexer.tokenize(text.subSequence(0, headerEnd));
+		
+		JavaPackageDeclaration packageDeclaration = null;
+		List<JavaImportStatement> importStatements = new ArrayList<>();
+		int currentToken = 0;
+		while(currentToken < tokens.size()){
+			if(tokens.isWhitespace(currentToken)){
+				// Skip whitespace
+				currentToken++;
+				continue;
+			}
+			
+			String token = tokens.get(currentToken);
+			if(StringUtil.equals(token, PACKAGE_TOKEN)){
+				// Can't have multiple package declarations or a package declaration after import statements
+				if(packageDeclaration != null){
+					throw new JavaParsingException(JavaCodeTypes.PACKAGE_DECLARATION,
+							"Encountered two package declarations!");
+				}else if(!importStatements.isEmpty()){
+					throw new JavaParsingException(JavaCodeTypes.PACKAGE_DECLARATION,
+							"Encountered package declaration after import statements!");
+				}
+				ParsingPojo result = JavaPackageDeclarationParser.parsePackageDeclaration(tokens, currentToken);
+				packageDeclaration = (JavaPackageDeclaration) result.parsedType();
+				currentToken = result.nextTokenIndex();
+			}else if(StringUtil.equals(token, IMPORT_TOKEN)){
+				ParsingPojo result = JavaImportStatementParser.parseImportStatement(tokens, currentToken);
+				importStatements.add((JavaImportStatement) result.parsedType());
+				currentToken = result.nextTokenIndex();
+			}else{
+				// Skip comments
+				int commentEnd = findCommentEnd(text, tokens.getStartOffset(currentToken));
+				if(commentEnd == -1){
+					if(token.startsWith(MULTI_LINE_COMMENT_START_TOKEN)){
+						throw new JavaParsingException(JavaCodeTypes.MULTI_LINE_COMMENT,
+								"Failed to find closing multi-line comment token!");
+					}
+					commentEnd = headerEnd;
+				}
+				while(currentToken < tokens.size() && tokens.getStartOffset(currentToken) < commentEnd){
+					currentToken++;
+				}
+			}
+		}
+		
+		return new Header(packageDeclaration, Collections.unmodifiableList(importStatements));
+	}
+	
+	/**
+	 * Finds the end of the comment (or Javadoc) starting at the given index
+	 *
+	 * @param text The text containing the comment
+	 * @param start The index where the comment starts
+	 * @return The index right after the comment (after the newline for a single-line comment), or -1 if the
+	 * comment isn't finished in the text
+	 */
+	private static int findCommentEnd(CharSequence text, int start){
+		if(startsWith(text, start, SINGLE_LINE_COMMENT_TOKEN)){
+			int newline = indexOf(text, '\n', start);
+			return newline != -1?newline + 1:-1;
+		}
+		for(int i = start + MULTI_LINE_COMMENT_START_TOKEN.length(); i + 1 < text.length(); i++){
+			if(startsWith(text, i, MULTI_LINE_COMMENT_CLOSE_TOKEN)){
+				return i + MULTI_LINE_COMMENT_CLOSE_TOKEN.length();
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * @param text The text to check
+	 * @param index The index to check at
+	 * @param prefix The prefix to check for
+	 * @return Whether the text has the prefix at the given index or not
+	 */
+	private static boolean startsWith(CharSequence text, int index, String prefix){
+		if(index + prefix.length() > text.length()){
+			return false;
+		}
+		for(int i = 0; i < prefix.length(); i++){
+			if(text.charAt(index + i) != prefix.charAt(i)){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @param text The text to check
+	 * @param index The index to check at
+	 * @param word The word to check for
+	 * @return Whether the text has the word at the given index, followed by whitespace
+	 */
+	private static boolean startsWithWord(CharSequence text, int index, String word){
+		int end = index + word.length();
+		return startsWith(text, index, word) && end < text.length() && JavaLexer.isWhitespace(text.charAt(end));
+	}
+	
+	/**
+	 * @param text The text to check
+	 * @param index The index of the start of a word
+	 * @return Whether the word runs to the end of the text (so it may be cut off) or not
+	 */
+	private static boolean isAtEndOfWord(CharSequence text, int index){
+		while(index < text.length() && !JavaLexer.isWhitespace(text.charAt(index))){
+			index++;
+		}
+		return index == text.length();
+	}
+	
+	/**
+	 * @param text The text to search
+	 * @param c The character to search for
+	 * @param start The index to start searching at
+	 * @return The index of the first instance of the character at or after the start, or -1 if there isn't one
+	 */
+	private static int indexOf(CharSequence text, char c, int start){
+		for(int i = start; i < text.length(); i++){
+			if(text.charAt(i) == c){
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,210 @@
+package com.github.tadukoo.java.parsing;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+/**
+ * A hand-written lexer that splits Java content into tokens in a single pass over the characters, without
+ * using regular expressions. The tokens produced are:
+ * <ul>
+ *     <li>A single newline</li>
+ *     <li>A single one of {@code ( ) { } < > = ,}</li>
+ *     <li>A run of whitespace that doesn't include newlines</li>
+ *     <li>A run of any other characters (note that {@code <} and {@code >} can be part of this, e.g.
+ *     {@code List<String>} is a single token)</li>
+ * </ul>
+ * Words are classified as they're found, so the keywords and modifiers from {@link com.github.tadukoo.java.JavaTokens}
+ * and the starts of comments and annotations get their own {@link JavaTokenKind kinds} (see {@link KeywordTable}),
+ * and the parsers can switch on the kind instead of comparing Strings.
+ * Together, the tokens always cover the entire content, so joining them back together gives the original content.
+ * <br><br>
+ * {@link #tokenize(CharSequence)} looks at the characters one at a time. {@link #tokenizeVectorized(CharSequence)}
+ * produces the same tokens, but classifies the characters in blocks using the (incubating) Vector API when the
+ * Vector API backend was compiled in (with the {@code vector} Maven profile) and the {@code jdk.incubator.vector}
+ * module is available (e.g. with {@code --add-modules jdk.incubator.vector}), and falls back to looking at one
+ * character at a time when it isn't. The backend is loaded reflectively, so nothing else needs the module.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class JavaLexer{
+	
+	/** The name of the module needed for {@link #tokenizeVectorized(CharSequence)} to use the Vector API */
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+	/** The name of the Vector API backend class, which is only there when built with the {@code vector} profile */
+	private static final String VECTOR_LEXER_CLASS = "com.github.tadukoo.java.parsing.VectorJavaLexer";
+	/** The {@link MethodHandle} for tokenizing with the Vector API, or null if it can't be used */
+	private static final MethodHandle VECTOR_TOKENIZE = findVectorTokenize();
+	
+	/** Not allowed to instantiate {@link JavaLexer} */
+	private JavaLexer(){ }
+	
+	/**
+	 * @return Whether {@link #tokenizeVectorized(CharSequence)} is able to use the Vector API or not (if not, it
+	 * falls back to {@link #tokenize(CharSequence)})
+	 */
+	public static boolean isVectorizedAvailable(){
+		return VECTOR_TOKENIZE != null;
+	}
+	
+	/**
+	 * Finds the Vector API backend, checking that it was compiled in, that the Vector API module is available, and
+	 * that it works on this machine
+	 *
+	 * @return The {@link MethodHandle} for tokenizing with the Vector API, or null if it can't be used
+	 */
+	private static MethodHandle findVectorTokenize(){
+		if(ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()){
+			return null;
+		}
+		try{
+			Class<?> vectorLexer = Class.forName(VECTOR_LEXER_CLASS);
+			if(!(boolean) vectorLexer.getDeclaredMethod("isSupported").invoke(null)){
+				return null;
+			}
+			Method tokenize = vectorLexer.getDeclaredMethod("tokenize", CharSequence.class);
+			return MethodHandles.lookup().unreflect(tokenize);
+		}catch(ReflectiveOperationException | LinkageError e){
+			return null;
+		}
+	}
+	
+	/**
+	 * Splits the given content into tokens
+	 *
+	 * @param content The content to be split into tokens
+	 * @return A {@link JavaTokenList} of the tokens in the content
+	 */
+	public static JavaTokenList tokenize(CharSequence content){
+		return tokenize(content, new JavaTokenList(content));
+	}
+	
+	/**
+	 * Splits the given content into tokens, adding them to the given (empty) {@link JavaTokenList}
+	 *
+	 * @param content The content to be split into tokens
+	 * @param tokens The {@link JavaTokenList} to add the tokens to
+	 * @return The given {@link JavaTokenList}, now with the tokens of the content
+	 */
+	static JavaTokenList tokenize(CharSequence content, JavaTokenList tokens){
+		int length = content.length();
+		int index = 0;
+		while(index < length){
+			int start = index;
+			char c = content.charAt(index++);
+			JavaTokenKind kind = singleCharKind(c);
+			if(kind == null){
+				if(isInlineWhitespace(c)){
+					kind = JavaTokenKind.WHITESPACE;
+					while(index < length && isInlineWhitespace(content.charAt(index))){
+						index++;
+					}
+				}else{
+					while(index < length && isWordChar(content.charAt(index))){
+						index++;
+					}
+					kind = KeywordTable.classifyWord(content, start, index);
+				}
+			}
+			tokens.addToken(kind, start);
+		}
+		return tokens;
+	}
+	
+	/**
+	 * Splits the given content into tokens, classifying the characters in blocks with the Vector API if it's
+	 * {@link #isVectorizedAvailable() available}, or one at a time if it isn't. Either way, the tokens are the same as
+	 * those from {@link #tokenize(CharSequence)}
+	 *
+	 * @param content The content to be split into tokens
+	 * @return A {@link JavaTokenList} of the tokens in the content
+	 */
+	public static JavaTokenList tokenizeVectorized(CharSequence content){
+		if(VECTOR_TOKENIZE == null){
+			return tokenize(content);
+		}
+		try{
+			return (JavaTokenList) VECTOR_TOKENIZE.invokeExact(content);
+		}catch(RuntimeException | Error e){
+			throw e;
+		}catch(Throwable t){
+			// The Vector API backend doesn't throw any checked exceptions
+			throw new IllegalStateException(t);
+		}
+	}
+	
+	/**
+	 * Classifies a single token that wasn't produced by this lexer (e.g. from a plain List of tokens)
+	 *
+	 * @param token The token to classify
+	 * @return The {@link JavaTokenKind kind} the token would have if it was produced by this lexer
+	 */
+	static JavaTokenKind classifyToken(CharSequence token){
+		int length = token.length();
+		if(length == 0){
+			return JavaTokenKind.WORD;
+		}
+		if(length == 1){
+			JavaTokenKind kind = singleCharKind(token.charAt(0));
+			if(kind != null){
+				return kind;
+			}
+		}
+		boolean whitespace = true;
+		for(int i = 0; i < length && whitespace; i++){
+			whitespace = isWhitespace(token.charAt(i));
+		}
+		return whitespace?JavaTokenKind.WHITESPACE:KeywordTable.classifyWord(token, 0, length);
+	}
+	
+	/**
+	 * Determines the {@link JavaTokenKind kind} for the given character if it's always a token by itself
+	 * or starts a token (which is the case for {@code <} and {@code >})
+	 *
+	 * @param c The character to check
+	 * @return The {@link JavaTokenKind} for the character, or {@code null} if it doesn't have a single character kind
+	 */
+	static JavaTokenKind singleCharKind(char c){
+		return switch(c){
+			case '\n' -> JavaTokenKind.NEWLINE;
+			case '(' -> JavaTokenKind.PARAMETER_OPEN;
+			case ')' -> JavaTokenKind.PARAMETER_CLOSE;
+			case '{' -> JavaTokenKind.BLOCK_OPEN;
+			case '}' -> JavaTokenKind.BLOCK_CLOSE;
+			case '<' -> JavaTokenKind.TYPE_PARAMETER_OPEN;
+			case '>' -> JavaTokenKind.TYPE_PARAMETER_CLOSE;
+			case '=' -> JavaTokenKind.ASSIGNMENT_OPERATOR;
+			case ',' -> JavaTokenKind.LIST_SEPARATOR;
+			default -> null;
+		};
+	}
+	
+	/**
+	 * @param c The character to check
+	 * @return Whether the character is whitespace (in the sense of a regex {@code \s}) or not
+	 */
+	public static boolean isWhitespace(char c){
+		return c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f' || c == '\u000B';
+	}
+	
+	/**
+	 * @param c The character to check
+	 * @return Whether the character is whitespace that isn't a newline or not
+	 */
+	private static boolean isInlineWhitespace(char c){
+		return c != '\n' && isWhitespace(c);
+	}
+	
+	/**
+	 * @param c The character to check
+	 * @return Whether the character can continue a {@link JavaTokenKind#WORD word} token or not
+	 */
+	private static boolean isWordChar(char c){
+		return switch(c){
+			case '(', ')', '{', '}', '=', ',' -> false;
+			default -> !isWhitespace(c);
+		};
+	}
+}
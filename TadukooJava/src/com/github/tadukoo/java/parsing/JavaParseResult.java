@@ -0,0 +1,106 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaCodeTypes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Java Parse Result is the result of parsing in diagnostics mode (e.g.
+ * {@link com.github.tadukoo.java.parsing.classtypes.JavaClassParser#tryParseClass(CharSequence)}). Instead of
+ * throwing a {@link JavaParsingException} when parsing fails, the parsers add the {@link JavaParsingError errors}
+ * (with their {@link JavaParsingErrorCode codes} and source spans) straight to the result and stop, so that code
+ * trying to parse a lot of possibly invalid code can just check {@link #isSuccess()} and move on.
+ * <br><br>
+ * The parsers for classes, methods, and types with modifiers report their errors here directly. The parsers for
+ * the other parts (e.g. fields or annotations) still throw, and their errors are added to the result by the
+ * diagnostics mode methods.
+ *
+ * @param <T> The type of result that's being parsed
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class JavaParseResult<T>{
+	
+	/** The parsed result (null if parsing failed or isn't done yet) */
+	private T result;
+	/** The {@link JavaCodeTypes type} that failed to parse (null if parsing hasn't failed) */
+	private JavaCodeTypes failedType;
+	/** The {@link JavaParsingError errors} found while parsing (null if there aren't any) */
+	private List<JavaParsingError> errors;
+	
+	/**
+	 * Constructs a new empty {@link JavaParseResult} for the parsers to fill in
+	 */
+	public JavaParseResult(){ }
+	
+	/**
+	 * Sets the parsed result - this is meant to be used by the parsers once parsing is done
+	 *
+	 * @param result The parsed result
+	 */
+	public void setResult(T result){
+		this.result = result;
+	}
+	
+	/**
+	 * Marks that parsing failed with the given {@link JavaParsingError error} - this is meant to be used by the
+	 * parsers
+	 *
+	 * @param type The {@link JavaCodeTypes type} that failed to parse
+	 * @param error The {@link JavaParsingError error} found while parsing
+	 */
+	public void fail(JavaCodeTypes type, JavaParsingError error){
+		fail(type, Collections.singletonList(error));
+	}
+	
+	/**
+	 * Marks that parsing failed with the given {@link JavaParsingError errors} - this is meant to be used by the
+	 * parsers. If parsing already failed, the first {@link JavaCodeTypes type} that failed is kept
+	 *
+	 * @param type The {@link JavaCodeTypes type} that failed to parse
+	 * @param errors The {@link JavaParsingError errors} found while parsing
+	 */
+	public void fail(JavaCodeTypes type, List<JavaParsingError> errors){
+		if(failedType == null){
+			failedType = type;
+		}
+		if(this.errors == null){
+			this.errors = new ArrayList<>(errors.size());
+		}
+		this.errors.addAll(errors);
+		result = null;
+	}
+	
+	/**
+	 * @return Whether parsing succeeded (or hasn't failed yet) or not
+	 */
+	public boolean isSuccess(){
+		return failedType == null;
+	}
+	
+	/**
+	 * @return The parsed result (null if parsing failed)
+	 */
+	public T getResult(){
+		return result;
+	}
+	
+	/**
+	 * @return The {@link JavaCodeTypes type} that failed to parse (which may be a part of the type being parsed,
+	 * e.g. a method in a class), or null if parsing succeeded
+	 */
+	public JavaCodeTypes getFailedType(){
+		return failedType;
+	}
+	
+	/**
+	 * @return The {@link JavaParsingError errors} found while parsing (empty if parsing succeeded)
+	 */
+	public List<JavaParsingError> getErrors(){
+		return errors == null?Collections.emptyList():Collections.unmodifiableList(errors);
+	}
+}
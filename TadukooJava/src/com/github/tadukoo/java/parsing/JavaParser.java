@@ -0,0 +1,390 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaTokens;
+import com.github.tadukoo.java.annotation.JavaAnnotation;
+import com.github.tadukoo.java.field.EditableJavaField;
+import com.github.tadukoo.java.field.JavaField;
+import com.github.tadukoo.java.javadoc.Javadoc;
+import com.github.tadukoo.java.method.EditableJavaMethod;
+import com.github.tadukoo.java.method.JavaMethod;
+import com.github.tadukoo.java.parsing.codetypes.JavaAnnotationParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaFieldParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaMethodParser;
+import com.github.tadukoo.java.parsing.comment.JavadocParser;
+import com.github.tadukoo.util.functional.function.ThrowingFunction2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Java Parser is a reusable parser for parsing a lot of small snippets of Java code (e.g. single fields or
+ * methods). A Java Parser keeps its {@link JavaTokenList} (with its token arrays) and scratch List, and resets
+ * them between calls, so once they've grown to fit the snippets being parsed, parsing mostly only allocates the
+ * Strings of the tokens and the parsed result. The static parsers for snippets (e.g.
+ * {@link JavaFieldParser#parseField(String)}) use the parser from {@link #forCurrentThread()}, so they get the
+ * same reuse.
+ * <br><br>
+ * A Java Parser is not thread-safe, so each thread should use its own, either by making one per thread, or by
+ * using {@link #forCurrentThread()}. The results are the same as those of the static parsers.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class JavaParser{
+	
+	/** The {@link JavaParser} for each thread, used by {@link #forCurrentThread()} */
+	private static final ThreadLocal<JavaParser> THREAD_PARSERS = ThreadLocal.withInitial(JavaParser::new);
+	
+	/** The {@link ParseMode} to use in parsing */
+	private final ParseMode parseMode;
+	/** The {@link SymbolTable} to share identifiers through (can be null to not share them) */
+	private final SymbolTable symbolTable;
+	/** The {@link JavaTokenList} that's refilled with the tokens of each snippet */
+	private final JavaTokenList tokens;
+	/** The List the parsed {@link JavaCodeType types} of each snippet are collected into */
+	private final List<JavaCodeType> types;
+	
+	/**
+	 * Constructs a new {@link JavaParser} that uses {@link ParseMode#FULL} and doesn't share identifiers
+	 */
+	public JavaParser(){
+		this(ParseMode.FULL, null);
+	}
+	
+	/**
+	 * Constructs a new {@link JavaParser} with the given settings
+	 *
+	 * @param parseMode The {@link ParseMode} to use in parsing
+	 * @param symbolTable The {@link SymbolTable} to share identifiers through (can be null to not share them)
+	 */
+	public JavaParser(ParseMode parseMode, SymbolTable symbolTable){
+		this.parseMode = parseMode;
+		this.symbolTable = symbolTable;
+		tokens = new JavaTokenList("");
+		types = new ArrayList<>();
+	}
+	
+	/**
+	 * @return The {@link JavaParser} for the current thread (using {@link ParseMode#FULL} and no
+	 * {@link SymbolTable}), made the first time it's requested on the thread
+	 */
+	public static JavaParser forCurrentThread(){
+		return THREAD_PARSERS.get();
+	}
+	
+	/**
+	 * @return The {@link ParseMode} used in parsing
+	 */
+	public ParseMode getParseMode(){
+		return parseMode;
+	}
+	
+	/**
+	 * @return The {@link SymbolTable} identifiers are shared through (can be null)
+	 */
+	public SymbolTable getSymbolTable(){
+		return symbolTable;
+	}
+	
+	/**
+	 * Parses a {@link JavaField field} from the given content String
+	 *
+	 * @param content The String of content to parse into a {@link JavaField field}
+	 * @return The {@link JavaField field} parsed from the given String
+	 * @throws JavaParsingException If anything goes wrong in parsing
+	 */
+	public JavaField parseField(String content) throws JavaParsingException{
+		try{
+			return parseField(tokenize(content), null);
+		}finally{
+			reset();
+		}
+	}
+	
+	/**
+	 * Parses a {@link JavaMethod method} from the given content String
+	 *
+	 * @param content The String of content to parse into a {@link JavaMethod method}
+	 * @return The {@link JavaMethod method} parsed from the given String
+	 * @throws JavaParsingException If anything goes wrong in parsing
+	 */
+	public JavaMethod parseMethod(String content) throws JavaParsingException{
+		try{
+			return parseMethod(tokenize(content), null);
+		}finally{
+			reset();
+		}
+	}
+	
+	/**
+	 * Parses a {@link JavaField field} from the given content String in diagnostics mode, where any problems found
+	 * are returned as the {@link JavaParsingError errors} of the {@link JavaParseResult} instead of being thrown
+	 *
+	 * @param content The String of content to parse into a {@link JavaField field}
+	 * @return A {@link JavaParseResult} with the {@link JavaField field} parsed from the given String, or the
+	 * {@link JavaParsingError errors} found while parsing it
+	 */
+	public JavaParseResult<JavaField> tryParseField(String content){
+		JavaParseResult<JavaField> result = new JavaParseResult<>();
+		try{
+			JavaField field = parseField(tokenize(content), result);
+			if(result.isSuccess()){
+				result.setResult(field);
+			}
+		}catch(JavaParsingException e){
+			// The parsers for the parts of a field still throw their errors
+			result.fail(e.getType(), e.getErrors());
+		}finally{
+			reset();
+		}
+		return result;
+	}
+	
+	/**
+	 * Parses a {@link JavaMethod method} from the given content String in diagnostics mode, where any problems
+	 * found are returned as the {@link JavaParsingError errors} of the {@link JavaParseResult} instead of being thrown
+	 *
+	 * @param content The String of content to parse into a {@link JavaMethod method}
+	 * @return A {@link JavaParseResult} with the {@link JavaMethod method} parsed from the given String, or the
+	 * {@link JavaParsingError errors} found while parsing it
+	 */
+	public JavaParseResult<JavaMethod> tryParseMethod(String content){
+		JavaParseResult<JavaMethod> result = new JavaParseResult<>();
+		try{
+			JavaMethod method = parseMethod(tokenize(content), result);
+			if(result.isSuccess()){
+				result.setResult(method);
+			}
+		}catch(JavaParsingException e){
+			// The parsers for the Javadoc and annotations of a method still throw their errors
+			result.fail(e.getType(), e.getErrors());
+		}finally{
+			reset();
+		}
+		return result;
+	}
+	
+	/**
+	 * Parses a {@link JavaAnnotation annotation} from the given content String. Annotations are already
+	 * memoized by {@link JavaAnnotationParser#parseAnnotation(String, SymbolTable)}, so this just uses that
+	 * with this parser's {@link SymbolTable}
+	 *
+	 * @param content The String of content to parse into a {@link JavaAnnotation annotation}
+	 * @return The {@link JavaAnnotation annotation} parsed from the given String
+	 * @throws JavaParsingException If anything goes wrong in parsing
+	 */
+	public JavaAnnotation parseAnnotation(String content) throws JavaParsingException{
+		return JavaAnnotationParser.parseAnnotation(content, symbolTable);
+	}
+	
+	/**
+	 * Parses a {@link JavaField field} from all the given tokens, which may start with a {@link Javadoc} and
+	 * {@link JavaAnnotation annotations}
+	 *
+	 * @param tokens The List of tokens to parse into a {@link JavaField field}
+	 * @param diagnostics The {@link JavaParseResult} to add any errors to (can be null to throw them instead)
+	 * @return The {@link JavaField field} parsed from the given tokens, or null if parsing failed in diagnostics mode
+	 * @throws JavaParsingException If anything goes wrong in parsing (and not in diagnostics mode)
+	 */
+	private JavaField parseField(List<String> tokens, JavaParseResult<?> diagnostics) throws JavaParsingException{
+		parseTypes(tokens, JavaFieldParser::parseField);
+		
+		// Combine the types
+		Javadoc doc = null;
+		List<JavaAnnotation> annotations = null;
+		JavaField field = null;
+		for(JavaCodeType type: types){
+			if(type instanceof Javadoc javadoc){
+				if(doc != null){
+					// Can't have multiple Javadocs
+					return AbstractJavaParser.failParsing(diagnostics, JavaCodeTypes.FIELD,
+							new JavaParsingError(JavaParsingErrorCode.OTHER, "Only one Javadoc allowed on a field!"));
+				}else if(field != null){
+					// Can't have Javadoc after the field
+					return AbstractJavaParser.failParsing(diagnostics, JavaCodeTypes.FIELD,
+							new JavaParsingError(JavaParsingErrorCode.OTHER, "Encountered Javadoc after field!"));
+				}
+				doc = javadoc;
+			}else if(type instanceof JavaAnnotation annotation){
+				// Can't have annotations after the field
+				if(field != null){
+					return AbstractJavaParser.failParsing(diagnostics, JavaCodeTypes.FIELD,
+							new JavaParsingError(JavaParsingErrorCode.OTHER, "Encountered annotation after field!"));
+				}
+				if(annotations == null){
+					annotations = new ArrayList<>();
+				}
+				annotations.add(annotation);
+			}else if(type instanceof EditableJavaField javaField){
+				// Can't have multiple fields
+				if(field != null){
+					return AbstractJavaParser.failParsing(diagnostics, JavaCodeTypes.FIELD,
+							new JavaParsingError(JavaParsingErrorCode.OTHER, "Encountered multiple fields!"));
+				}
+				// Set Javadoc if we have it
+				if(doc != null){
+					javaField.setJavadoc(doc);
+				}
+				// Set annotations if we have them
+				if(annotations != null){
+					javaField.setAnnotations(annotations);
+				}
+				field = javaField;
+			}
+		}
+		
+		// Error if we didn't find a field
+		if(field == null){
+			return AbstractJavaParser.failParsing(diagnostics, JavaCodeTypes.FIELD,
+					new JavaParsingError(JavaParsingErrorCode.OTHER, "Failed to parse an actual field!"));
+		}
+		
+		return field;
+	}
+	
+	/**
+	 * Parses a {@link JavaMethod method} from all the given tokens, which may start with a {@link Javadoc} and
+	 * {@link JavaAnnotation annotations}
+	 *
+	 * @param tokens The List of tokens to parse into a {@link JavaMethod method}
+	 * @param diagnostics The {@link JavaParseResult} to add any errors to (can be null to throw them instead)
+	 * @return The {@link JavaMethod method} parsed from the given tokens, or null if parsing failed in diagnostics
+	 * mode
+	 * @throws JavaParsingException If anything goes wrong in parsing (and not in diagnostics mode)
+	 */
+	private JavaMethod parseMethod(List<String> tokens, JavaParseResult<?> diagnostics) throws JavaParsingException{
+		parseTypes(tokens, (methodTokens, startToken) ->
+				JavaMethodParser.parseMethod(methodTokens, startToken, diagnostics));
+		if(AbstractJavaParser.failed(diagnostics)){
+			return null;
+		}
+		
+		// Combine the types
+		Javadoc doc = null;
+		List<JavaAnnotation> annotations = null;
+		JavaMethod method = null;
+		for(JavaCodeType type: types){
+			if(type instanceof Javadoc javadoc){
+				if(doc != null){
+					// Can't have multiple Javadocs
+					return AbstractJavaParser.failParsing(diagnostics, JavaCodeTypes.METHOD,
+							new JavaParsingError(JavaParsingErrorCode.DUPLICATE,
+									"Only one Javadoc allowed on a method!", type));
+				}else if(method != null){
+					// Can't have Javadoc after the method
+					return AbstractJavaParser.failParsing(diagnostics, JavaCodeTypes.METHOD,
+							new JavaParsingError(JavaParsingErrorCode.OUT_OF_ORDER,
+									"Encountered Javadoc after method!", type));
+				}
+				doc = javadoc;
+			}else if(type instanceof JavaAnnotation annotation){
+				// Can't have annotations after the method
+				if(method != null){
+					return AbstractJavaParser.failParsing(diagnostics, JavaCodeTypes.METHOD,
+							new JavaParsingError(JavaParsingErrorCode.OUT_OF_ORDER,
+									"Encountered annotation after method!", type));
+				}
+				if(annotations == null){
+					annotations = new ArrayList<>();
+				}
+				annotations.add(annotation);
+			}else if(type instanceof EditableJavaMethod javaMethod){
+				// Can't have multiple methods
+				if(method != null){
+					return AbstractJavaParser.failParsing(diagnostics, JavaCodeTypes.METHOD,
+							new JavaParsingError(JavaParsingErrorCode.DUPLICATE,
+									"Encountered multiple methods!", type));
+				}
+				// Set Javadoc if we have it
+				if(doc != null){
+					javaMethod.setJavadoc(doc);
+				}
+				// Set annotations if we have them
+				if(annotations != null){
+					javaMethod.setAnnotations(annotations);
+				}
+				method = javaMethod;
+			}
+		}
+		
+		// Error if we didn't find a method
+		if(method == null){
+			return AbstractJavaParser.failParsing(diagnostics, JavaCodeTypes.METHOD,
+					AbstractJavaParser.buildError(tokens, 0, tokens.size(), JavaParsingErrorCode.MISSING,
+							"Failed to parse an actual method!"));
+		}
+		
+		return method;
+	}
+	
+	/**
+	 * Parses the {@link JavaCodeType types} in the given tokens into the scratch List, where the tokens may be
+	 * {@link Javadoc Javadocs}, {@link JavaAnnotation annotations}, and the member parsed by the given parse method
+	 *
+	 * @param tokens The List of tokens to parse
+	 * @param parseMember The parse method to use for anything that's not a {@link Javadoc} or
+	 * {@link JavaAnnotation annotation}
+	 * @throws JavaParsingException If anything goes wrong in parsing
+	 */
+	private void parseTypes(
+			List<String> tokens,
+			ThrowingFunction2<List<String>, Integer, ParsingPojo, JavaParsingException> parseMember)
+			throws JavaParsingException{
+		// Iterate over the tokens to parse stuff - we could get Javadocs, Annotations, and the member itself
+		int currentToken = 0;
+		while(currentToken < tokens.size()){
+			String token = tokens.get(currentToken);
+			
+			ThrowingFunction2<List<String>, Integer, ParsingPojo, JavaParsingException> parseMethod;
+			
+			if(AbstractJavaParser.isWhitespace(token)){
+				// Skip whitespace
+				currentToken++;
+				continue;
+			}else if(token.startsWith(JavaTokens.JAVADOC_START_TOKEN)){
+				// Parse a javadoc
+				parseMethod = JavadocParser::parseJavadoc;
+			}else if(token.startsWith(JavaTokens.ANNOTATION_START_TOKEN)){
+				// Parse an annotation
+				parseMethod = JavaAnnotationParser::parseAnnotation;
+			}else{
+				// Assume it's the member
+				parseMethod = parseMember;
+			}
+			
+			// Use the parse method and handle its results
+			ParsingPojo pojo = parseMethod.apply(tokens, currentToken);
+			if(pojo == null){
+				// Parsing failed in diagnostics mode
+				return;
+			}
+			types.add(pojo.parsedType());
+			currentToken = pojo.nextTokenIndex();
+		}
+	}
+	
+	/**
+	 * Refills the {@link JavaTokenList} with the tokens of the given content
+	 *
+	 * @param content The content to be split into tokens
+	 * @return The {@link JavaTokenList} of the tokens in the content
+	 */
+	private JavaTokenList tokenize(String content){
+		tokens.reset(content);
+		JavaLexer.tokenize(content, tokens);
+		tokens.setParseMode(parseMode);
+		tokens.setSymbolTable(symbolTable);
+		return tokens;
+	}
+	
+	/**
+	 * Lets go of the last snippet and its parsed {@link JavaCodeType types}, keeping the buffers for the next call
+	 */
+	private void reset(){
+		tokens.reset("");
+		types.clear();
+	}
+}
@@ -0,0 +1,87 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaSourceSpan;
+import com.github.tadukoo.java.JavaSourceSpanned;
+
+/**
+ * Java Parsing Error is a single problem found while parsing, with a {@link JavaParsingErrorCode code} to classify
+ * it, the error message, and the span of source code it was found in (see {@link JavaSourceSpanned}). The span
+ * is only known when the content was split into a {@link JavaTokenList}, and some errors (e.g. those about the
+ * content as a whole) don't have one.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class JavaParsingError implements JavaSourceSpanned{
+	
+	/** The {@link JavaParsingErrorCode code} of the error */
+	private final JavaParsingErrorCode code;
+	/** The error message */
+	private final String message;
+	/** The {@link JavaSourceSpan source span} the error was found in (null if it's not known) */
+	private final JavaSourceSpan sourceSpan;
+	
+	/**
+	 * Constructs a new {@link JavaParsingError} with no source span
+	 *
+	 * @param code The {@link JavaParsingErrorCode code} of the error
+	 * @param message The error message
+	 */
+	public JavaParsingError(JavaParsingErrorCode code, String message){
+		this(code, message, (JavaSourceSpan) null);
+	}
+	
+	/**
+	 * Constructs a new {@link JavaParsingError} with the same source span as the given {@link JavaSourceSpanned}
+	 *
+	 * @param code The {@link JavaParsingErrorCode code} of the error
+	 * @param message The error message
+	 * @param spanned The {@link JavaSourceSpanned} (e.g. a parsed code type) to take the source span from
+	 */
+	public JavaParsingError(JavaParsingErrorCode code, String message, JavaSourceSpanned spanned){
+		this(code, message, spanned.getSourceSpan());
+	}
+	
+	/**
+	 * Constructs a new {@link JavaParsingError}
+	 *
+	 * @param code The {@link JavaParsingErrorCode code} of the error
+	 * @param message The error message
+	 * @param sourceSpan The {@link JavaSourceSpan source span} the error was found in (can be null)
+	 */
+	public JavaParsingError(JavaParsingErrorCode code, String message, JavaSourceSpan sourceSpan){
+		this.code = code;
+		this.message = message;
+		this.sourceSpan = sourceSpan;
+	}
+	
+	/**
+	 * @return The {@link JavaParsingErrorCode code} of the error
+	 */
+	public JavaParsingErrorCode getCode(){
+		return code;
+	}
+	
+	/**
+	 * @return The error message
+	 */
+	public String getMessage(){
+		return message;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public JavaSourceSpan getSourceSpan(){
+		return sourceSpan;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		if(!hasSourceSpan()){
+			return code + ": " + message;
+		}
+		return code + " at " + getSourceStartLine() + ":" + getSourceStartColumn() + ": " + message;
+	}
+}
@@ -0,0 +1,30 @@
+package com.github.tadukoo.java.parsing;
+
+/**
+ * Java Parsing Error Code is used to classify the {@link JavaParsingError errors} found while parsing, so that
+ * code handling a failed parse can tell what kind of problem it was without looking at the error message
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public enum JavaParsingErrorCode{
+	/** An error that isn't classified any further */
+	OTHER,
+	/** Something that's only allowed once was found more than once (e.g. multiple Javadocs on a class) */
+	DUPLICATE,
+	/** Something was found after the part of the code it has to come before (e.g. a Javadoc after a method) */
+	OUT_OF_ORDER,
+	/** Something required wasn't found (e.g. a class name or a method return type) */
+	MISSING,
+	/** Something was started but never finished (e.g. method parameters without a closing parenthesis) */
+	INCOMPLETE,
+	/** Content was found where it doesn't make sense (e.g. extra content in a method signature) */
+	UNEXPECTED_CONTENT,
+	/** A modifier isn't allowed where it was found (e.g. multiple visibility modifiers, or an abstract field) */
+	INVALID_MODIFIER,
+	/** A type, type parameter, or parameter couldn't be parsed */
+	INVALID_TYPE,
+	/** A Javadoc or annotations were found with nothing after them to attach them to */
+	UNATTACHED
+}
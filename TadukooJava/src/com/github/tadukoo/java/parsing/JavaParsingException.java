@@ -1,15 +1,30 @@
 package com.github.tadukoo.java.parsing;
 
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * An exception encountered while parsing Java code
+ * An exception encountered while parsing Java code. Along with the message, it keeps the
+ * {@link JavaParsingError errors} that caused it (with their {@link JavaParsingErrorCode codes} and source spans).
+ * <br><br>
+ * Parsing errors are expected when parsing a lot of possibly invalid code, so these exceptions don't capture a
+ * stack trace (which is most of the cost of making an exception). The errors say where in the source the problem
+ * is, which is more useful than where in the parser it was found anyway.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class JavaParsingException extends Exception{
 	
+	/** The {@link JavaCodeTypes Java type} encountered during parsing */
+	private final JavaCodeTypes type;
+	/** The {@link JavaParsingError errors} found during parsing */
+	private final List<JavaParsingError> errors;
+	
 	/**
 	 * Makes a new {@link JavaParsingException} with no underlying other cause
 	 *
@@ -17,6 +32,66 @@ public class JavaParsingException extends Exception{
 	 * @param message The error message
 	 */
 	public JavaParsingException(JavaCodeTypes type, String message){
-		super("Failed parsing JavaType: '" + type + "': " + message);
+		this(type, message, List.of(new JavaParsingError(JavaParsingErrorCode.OTHER, message)));
+	}
+	
+	/**
+	 * Makes a new {@link JavaParsingException} for the given {@link JavaParsingError error}
+	 *
+	 * @param type The {@link JavaCodeTypes Java type} encountered during parsing
+	 * @param error The {@link JavaParsingError error} found during parsing
+	 */
+	public JavaParsingException(JavaCodeTypes type, JavaParsingError error){
+		this(type, error.getMessage(), List.of(error));
+	}
+	
+	/**
+	 * Makes a new {@link JavaParsingException} for the given {@link JavaParsingError errors}, using each of their
+	 * messages on its own line as the error message
+	 *
+	 * @param type The {@link JavaCodeTypes Java type} encountered during parsing
+	 * @param errors The {@link JavaParsingError errors} found during parsing
+	 */
+	public JavaParsingException(JavaCodeTypes type, List<JavaParsingError> errors){
+		this(type, buildMessage(errors), errors);
+	}
+	
+	/**
+	 * Makes a new {@link JavaParsingException} without capturing a stack trace
+	 *
+	 * @param type The {@link JavaCodeTypes Java type} encountered during parsing
+	 * @param message The error message
+	 * @param errors The {@link JavaParsingError errors} found during parsing
+	 */
+	private JavaParsingException(JavaCodeTypes type, String message, List<JavaParsingError> errors){
+		super("Failed parsing JavaType: '" + type + "': " + message, null, true, false);
+		this.type = type;
+		this.errors = errors;
+	}
+	
+	/**
+	 * @param errors The {@link JavaParsingError errors} found during parsing
+	 * @return The messages of the errors, each on its own line
+	 */
+	private static String buildMessage(List<JavaParsingError> errors){
+		List<String> messages = new ArrayList<>(errors.size());
+		for(JavaParsingError error: errors){
+			messages.add(error.getMessage());
+		}
+		return StringUtil.buildStringWithNewLines(messages);
+	}
+	
+	/**
+	 * @return The {@link JavaCodeTypes Java type} encountered during parsing
+	 */
+	public JavaCodeTypes getType(){
+		return type;
+	}
+	
+	/**
+	 * @return The {@link JavaParsingError errors} found during parsing
+	 */
+	public List<JavaParsingError> getErrors(){
+		return errors;
 	}
 }
@@ -0,0 +1,146 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaCodeType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * Java Source Tree Parser is used to parse a whole directory tree of Java files at once. Files are read using NIO
+ * and parsed in parallel on a {@link ForkJoinPool}, and any file that fails to be read or parsed is recorded in the
+ * errors of the {@link Result} rather than stopping the rest of the files from being parsed.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class JavaSourceTreeParser{
+	
+	/** The file extension for Java files */
+	private static final String JAVA_FILE_EXTENSION = ".java";
+	/** Files at least this large (in bytes) are memory-mapped instead of being read into a String */
+	private static final long MAPPED_FILE_SIZE = 1024 * 1024;
+	
+	/**
+	 * The result of parsing a source tree
+	 *
+	 * @param parsedTypes The {@link JavaCodeType types} that were successfully parsed, mapped by the file they
+	 * came from (sorted by path)
+	 * @param errors The errors that were encountered, mapped by the file they came from (sorted by path)
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Beta v.0.6
+	 * @since Beta v.0.6
+	 */
+	public record Result(Map<Path, JavaCodeType> parsedTypes, Map<Path, Exception> errors){
+		
+		/**
+		 * @return Whether any errors were encountered while parsing or not
+		 */
+		public boolean hasErrors(){
+			return !errors.isEmpty();
+		}
+	}
+	
+	/** Not allowed to instantiate {@link JavaSourceTreeParser} */
+	private JavaSourceTreeParser(){ }
+	
+	/**
+	 * Parses all the Java files found under the given root directory, using the common {@link ForkJoinPool}
+	 *
+	 * @param root The root directory to search for Java files in (or a single Java file)
+	 * @return The {@link Result} of parsing the files
+	 * @throws IOException If anything goes wrong in walking the directory tree
+	 */
+	public static Result parseSourceTree(Path root) throws IOException{
+		return parseSourceTree(root, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Parses all the Java files found under the given root directory, using the given {@link ForkJoinPool}
+	 *
+	 * @param root The root directory to search for Java files in (or a single Java file)
+	 * @param pool The {@link ForkJoinPool} to run the parsing on
+	 * @return The {@link Result} of parsing the files
+	 * @throws IOException If anything goes wrong in walking the directory tree
+	 */
+	public static Result parseSourceTree(Path root, ForkJoinPool pool) throws IOException{
+		List<Path> files = findJavaFiles(root);
+		return parseFiles(files, pool);
+	}
+	
+	/**
+	 * Parses all the given Java files, using the given {@link ForkJoinPool}
+	 *
+	 * @param files The Java files to be parsed
+	 * @param pool The {@link ForkJoinPool} to run the parsing on
+	 * @return The {@link Result} of parsing the files
+	 */
+	public static Result parseFiles(List<Path> files, ForkJoinPool pool){
+		Map<Path, JavaCodeType> parsedTypes = new ConcurrentHashMap<>();
+		Map<Path, Exception> errors = new ConcurrentHashMap<>();
+		
+		try{
+			pool.submit(() -> files.parallelStream().forEach(file -> {
+				try{
+					parsedTypes.put(file, parseFile(file));
+				}catch(IOException | JavaParsingException | RuntimeException e){
+					errors.put(file, e);
+				}
+			})).get();
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while parsing source tree", e);
+		}catch(ExecutionException e){
+			// Individual file errors are caught above, so this would only be an unexpected error
+			throw new IllegalStateException("Failed parsing source tree", e.getCause());
+		}
+		
+		return new Result(Collections.unmodifiableMap(new TreeMap<>(parsedTypes)),
+				Collections.unmodifiableMap(new TreeMap<>(errors)));
+	}
+	
+	/**
+	 * Reads the given Java file (as UTF-8) and parses it. Large files are memory-mapped rather than read into
+	 * a String (see {@link FullJavaParser#parseType(Path)})
+	 *
+	 * @param file The Java file to be parsed
+	 * @return The parsed {@link JavaCodeType} from the file
+	 * @throws IOException If anything goes wrong in reading the file
+	 * @throws JavaParsingException If anything goes wrong in parsing the file
+	 */
+	public static JavaCodeType parseFile(Path file) throws IOException, JavaParsingException{
+		if(Files.size(file) >= MAPPED_FILE_SIZE){
+			return FullJavaParser.parseType(file);
+		}
+		return FullJavaParser.parseType(Files.readString(file, StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Finds all the Java files under the given root directory
+	 *
+	 * @param root The root directory to search for Java files in (or a single Java file)
+	 * @return A List of the Java files found
+	 * @throws IOException If anything goes wrong in walking the directory tree
+	 */
+	private static List<Path> findJavaFiles(Path root) throws IOException{
+		try(Stream<Path> paths = Files.walk(root)){
+			return paths.filter(Files::isRegularFile)
+					.filter(path -> path.getFileName().toString().endsWith(JAVA_FILE_EXTENSION))
+					.toList();
+		}catch(UncheckedIOException e){
+			throw e.getCause();
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaModifiers;
+import com.github.tadukoo.java.JavaTokens;
+
+/**
+ * An enum for the kinds of tokens that the {@link JavaLexer} splits content into
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public enum JavaTokenKind{
+	
+	/** A single newline character */
+	NEWLINE("\n"),
+	/** A run of whitespace characters that doesn't include any newlines */
+	WHITESPACE(null),
+	/** {@link JavaTokens#PARAMETER_OPEN_TOKEN} */
+	PARAMETER_OPEN(JavaTokens.PARAMETER_OPEN_TOKEN),
+	/** {@link JavaTokens#PARAMETER_CLOSE_TOKEN} */
+	PARAMETER_CLOSE(JavaTokens.PARAMETER_CLOSE_TOKEN),
+	/** {@link JavaTokens#BLOCK_OPEN_TOKEN} */
+	BLOCK_OPEN(JavaTokens.BLOCK_OPEN_TOKEN),
+	/** {@link JavaTokens#BLOCK_CLOSE_TOKEN} */
+	BLOCK_CLOSE(JavaTokens.BLOCK_CLOSE_TOKEN),
+	/** {@link JavaTokens#TYPE_PARAMETER_OPEN_TOKEN} (only when it starts a token) */
+	TYPE_PARAMETER_OPEN(JavaTokens.TYPE_PARAMETER_OPEN_TOKEN),
+	/** {@link JavaTokens#TYPE_PARAMETER_CLOSE_TOKEN} (only when it starts a token) */
+	TYPE_PARAMETER_CLOSE(JavaTokens.TYPE_PARAMETER_CLOSE_TOKEN),
+	/** {@link JavaTokens#ASSIGNMENT_OPERATOR_TOKEN} */
+	ASSIGNMENT_OPERATOR(JavaTokens.ASSIGNMENT_OPERATOR_TOKEN),
+	/** {@link JavaTokens#LIST_SEPARATOR_TOKEN} */
+	LIST_SEPARATOR(JavaTokens.LIST_SEPARATOR_TOKEN),
+	/** Any other run of characters (names, types, values, etc.) that isn't one of the kinds below */
+	WORD(null),
+	/*
+	 * Words the lexer recognizes - these are still words (see isWord), but are classified once while lexing
+	 */
+	/** {@link JavaTokens#PACKAGE_TOKEN} */
+	PACKAGE(JavaTokens.PACKAGE_TOKEN),
+	/** {@link JavaTokens#IMPORT_TOKEN} */
+	IMPORT(JavaTokens.IMPORT_TOKEN),
+	/** {@link JavaTokens#CLASS_TOKEN} */
+	CLASS(JavaTokens.CLASS_TOKEN),
+	/** {@link JavaTokens#THROWS_TOKEN} */
+	THROWS(JavaTokens.THROWS_TOKEN),
+	/** {@link JavaTokens#EXTENDS_TOKEN} */
+	EXTENDS(JavaTokens.EXTENDS_TOKEN),
+	/** {@link JavaTokens#IMPLEMENTS_TOKEN} */
+	IMPLEMENTS(JavaTokens.IMPLEMENTS_TOKEN),
+	/** {@link JavaTokens#PRIVATE_MODIFIER} */
+	PRIVATE(JavaTokens.PRIVATE_MODIFIER),
+	/** {@link JavaTokens#PROTECTED_MODIFIER} */
+	PROTECTED(JavaTokens.PROTECTED_MODIFIER),
+	/** {@link JavaTokens#PUBLIC_MODIFIER} */
+	PUBLIC(JavaTokens.PUBLIC_MODIFIER),
+	/** {@link JavaTokens#ABSTRACT_MODIFIER} */
+	ABSTRACT(JavaTokens.ABSTRACT_MODIFIER),
+	/** {@link JavaTokens#STATIC_MODIFIER} */
+	STATIC(JavaTokens.STATIC_MODIFIER),
+	/** {@link JavaTokens#FINAL_MODIFIER} */
+	FINAL(JavaTokens.FINAL_MODIFIER),
+	/** A word that starts with {@link JavaTokens#JAVADOC_START_TOKEN} */
+	JAVADOC_START(null),
+	/** A word that starts with {@link JavaTokens#MULTI_LINE_COMMENT_START_TOKEN} (but isn't a Javadoc start) */
+	MULTI_LINE_COMMENT_START(null),
+	/** A word that starts with {@link JavaTokens#SINGLE_LINE_COMMENT_TOKEN} */
+	SINGLE_LINE_COMMENT_START(null),
+	/** A word that starts with {@link JavaTokens#ANNOTATION_START_TOKEN} */
+	ANNOTATION_START(null);
+	
+	/** The text that every token of this kind has, or null if it varies */
+	private final String fixedText;
+	
+	/**
+	 * Constructs a new {@link JavaTokenKind} with the given fixed text
+	 *
+	 * @param fixedText The text that every token of this kind has, or null if it varies
+	 */
+	JavaTokenKind(String fixedText){
+		this.fixedText = fixedText;
+	}
+	
+	/**
+	 * @return The text that every token of this kind has, or null if it varies
+	 */
+	public String getFixedText(){
+		return fixedText;
+	}
+	
+	/**
+	 * @return Whether this kind of token is whitespace (including newlines) or not
+	 */
+	public boolean isWhitespace(){
+		return this == NEWLINE || this == WHITESPACE;
+	}
+	
+	/**
+	 * @return Whether this kind of token is a run of characters that continues up to whitespace or one of
+	 * {@code ( ) { } = ,} (either a plain {@link #WORD} or one of the words the lexer recognizes) or not
+	 */
+	public boolean isWord(){
+		return ordinal() >= WORD.ordinal();
+	}
+	
+	/**
+	 * @return Whether this kind of token is one of {@link JavaTokens#MODIFIERS} or not
+	 */
+	public boolean isModifier(){
+		return getModifier() != JavaModifiers.NONE;
+	}
+	
+	/**
+	 * @return The {@link JavaModifiers} bit for this kind of token, or {@link JavaModifiers#NONE} if it isn't a
+	 * modifier
+	 */
+	public int getModifier(){
+		return switch(this){
+			case PRIVATE -> JavaModifiers.PRIVATE;
+			case PROTECTED -> JavaModifiers.PROTECTED;
+			case PUBLIC -> JavaModifiers.PUBLIC;
+			case ABSTRACT -> JavaModifiers.ABSTRACT;
+			case STATIC -> JavaModifiers.STATIC;
+			case FINAL -> JavaModifiers.FINAL;
+			default -> JavaModifiers.NONE;
+		};
+	}
+	
+	/**
+	 * @return Whether this kind of token is the start of a Javadoc, multi-line comment, or single-line comment or not
+	 */
+	public boolean isCommentStart(){
+		return this == JAVADOC_START || this == MULTI_LINE_COMMENT_START || this == SINGLE_LINE_COMMENT_START;
+	}
+}
@@ -0,0 +1,322 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaSourceSpanned;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A List of tokens produced by the {@link JavaLexer}. Each token is stored as its {@link JavaTokenKind kind}
+ * and its start offset into the original content, so no Strings are made while lexing. Tokens cover the
+ * content completely and in order, so a token's end offset is the start offset of the next token (or the
+ * end of the content for the last token). The String for a token is only made the first time it's requested
+ * through {@link #get(int)}, and is then reused. Tokens whose {@link JavaTokenKind kind} always has the same text
+ * (e.g. {@code (} or a newline) and single spaces use constant Strings instead, so they're never copied out of the
+ * content.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public class JavaTokenList extends AbstractList<String> implements RandomAccess{
+	
+	/** The kinds of tokens, used to look up a kind by its ordinal */
+	private static final JavaTokenKind[] KINDS = JavaTokenKind.values();
+	/** The ordinal of {@link JavaTokenKind#NEWLINE}, used to find the lines */
+	private static final byte NEWLINE_ORDINAL = (byte) JavaTokenKind.NEWLINE.ordinal();
+	/** The ordinal of {@link JavaTokenKind#BLOCK_OPEN}, used to skip blocks */
+	private static final byte BLOCK_OPEN_ORDINAL = (byte) JavaTokenKind.BLOCK_OPEN.ordinal();
+	/** The ordinal of {@link JavaTokenKind#BLOCK_CLOSE}, used to skip blocks */
+	private static final byte BLOCK_CLOSE_ORDINAL = (byte) JavaTokenKind.BLOCK_CLOSE.ordinal();
+	/** A single space, used for single space tokens so they don't each need their own String */
+	private static final String SPACE = " ";
+	
+	/** The content that was split into tokens */
+	private CharSequence content;
+	/** The ordinals of the {@link JavaTokenKind kinds} of the tokens */
+	private byte[] kinds;
+	/** The start offsets of the tokens in the content */
+	private int[] startOffsets;
+	/** The Strings of the tokens that have been requested so far */
+	private String[] texts;
+	/** The number of tokens */
+	private int size;
+	/** The offsets where each line starts in the content (made the first time a position is requested) */
+	private int[] lineStarts;
+	/** The index of the line found by the last call to {@link #getPosition(int)}, checked first on the next call */
+	private int lastLine;
+	/** The {@link ParseMode} used to parse these tokens */
+	private ParseMode parseMode = ParseMode.FULL;
+	/** The {@link SymbolTable} to share identifiers through while parsing these tokens (can be null) */
+	private SymbolTable symbolTable;
+	
+	/**
+	 * Constructs a new empty {@link JavaTokenList} for the given content
+	 *
+	 * @param content The content that is being split into tokens
+	 */
+	JavaTokenList(CharSequence content){
+		this.content = content;
+		int initialCapacity = Math.max(16, content.length() / 4);
+		kinds = new byte[initialCapacity];
+		startOffsets = new int[initialCapacity];
+	}
+	
+	/**
+	 * Empties this list so it can be refilled with the tokens of the given content, keeping its arrays so that
+	 * they don't need to be allocated again - only used by the {@link JavaLexer} for a {@link JavaParser}
+	 *
+	 * @param content The content that is being split into tokens
+	 */
+	void reset(CharSequence content){
+		this.content = content;
+		if(texts != null){
+			Arrays.fill(texts, 0, Math.min(size, texts.length), null);
+		}
+		size = 0;
+		lineStarts = null;
+		lastLine = 0;
+		parseMode = ParseMode.FULL;
+		symbolTable = null;
+	}
+	
+	/**
+	 * Adds a token to the end of this list - only used by the {@link JavaLexer}
+	 *
+	 * @param kind The {@link JavaTokenKind kind} of the token
+	 * @param startOffset The start offset of the token in the content
+	 */
+	void addToken(JavaTokenKind kind, int startOffset){
+		if(size == kinds.length){
+			int newCapacity = size * 2;
+			kinds = Arrays.copyOf(kinds, newCapacity);
+			startOffsets = Arrays.copyOf(startOffsets, newCapacity);
+		}
+		kinds[size] = (byte) kind.ordinal();
+		startOffsets[size] = startOffset;
+		size++;
+	}
+	
+	/**
+	 * @return The content that was split into tokens
+	 */
+	public CharSequence getContent(){
+		return content;
+	}
+	
+	/**
+	 * @return The {@link ParseMode} used to parse these tokens
+	 */
+	public ParseMode getParseMode(){
+		return parseMode;
+	}
+	
+	/**
+	 * @param parseMode The {@link ParseMode} to use to parse these tokens
+	 */
+	void setParseMode(ParseMode parseMode){
+		this.parseMode = parseMode;
+	}
+	
+	/**
+	 * @return The {@link SymbolTable} to share identifiers through while parsing these tokens (can be null)
+	 */
+	public SymbolTable getSymbolTable(){
+		return symbolTable;
+	}
+	
+	/**
+	 * @param symbolTable The {@link SymbolTable} to share identifiers through while parsing these tokens
+	 */
+	void setSymbolTable(SymbolTable symbolTable){
+		this.symbolTable = symbolTable;
+	}
+	
+	/**
+	 * @param index The index of the token
+	 * @return The {@link JavaTokenKind kind} of the token at the given index
+	 */
+	public JavaTokenKind getKind(int index){
+		checkIndex(index);
+		return KINDS[kinds[index]];
+	}
+	
+	/**
+	 * @param index The index of the token
+	 * @return The offset in the content where the token at the given index starts
+	 */
+	public int getStartOffset(int index){
+		checkIndex(index);
+		return startOffsets[index];
+	}
+	
+	/**
+	 * @param index The index of the token
+	 * @return The offset in the content right after the end of the token at the given index
+	 */
+	public int getEndOffset(int index){
+		checkIndex(index);
+		return index + 1 < size?startOffsets[index + 1]:content.length();
+	}
+	
+	/**
+	 * Finds the token that starts at the given offset in the content
+	 *
+	 * @param offset The offset in the content
+	 * @return The index of the token that starts at the offset, or -1 if no token starts there
+	 */
+	public int indexOfStartOffset(int offset){
+		int index = Arrays.binarySearch(startOffsets, 0, size, offset);
+		return index < 0?-1:index;
+	}
+	
+	/**
+	 * Finds the line and column of the given offset in the content, packed into a long as described in
+	 * {@link JavaSourceSpanned}
+	 *
+	 * @param offset The offset in the content
+	 * @return The packed line and column (both starting at 1) of the offset
+	 */
+	public long getPosition(int offset){
+		if(offset < 0 || offset > content.length()){
+			throw new IndexOutOfBoundsException("Offset " + offset + " out of bounds for length " + content.length());
+		}
+		int[] starts = getLineStarts();
+		int line = lastLine;
+		// Positions are mostly requested in order, so check the last line (and the one after it) before searching
+		if(starts[line] > offset || (line + 1 < starts.length && starts[line + 1] <= offset)){
+			if(line + 2 < starts.length && starts[line + 1] <= offset && offset < starts[line + 2]){
+				line++;
+			}else{
+				line = Arrays.binarySearch(starts, offset);
+				if(line < 0){
+					line = -line - 2;
+				}
+			}
+			lastLine = line;
+		}
+		return JavaSourceSpanned.pack(line + 1, offset - starts[line] + 1);
+	}
+	
+	/**
+	 * Gets the offsets where each line starts, finding them from the newline tokens the first time they're needed
+	 *
+	 * @return The offsets where each line starts in the content
+	 */
+	private int[] getLineStarts(){
+		if(lineStarts == null){
+			int numLines = 1;
+			for(int i = 0; i < size; i++){
+				if(kinds[i] == NEWLINE_ORDINAL){
+					numLines++;
+				}
+			}
+			int[] starts = new int[numLines];
+			int line = 1;
+			for(int i = 0; i < size; i++){
+				if(kinds[i] == NEWLINE_ORDINAL){
+					starts[line++] = startOffsets[i] + 1;
+				}
+			}
+			lineStarts = starts;
+		}
+		return lineStarts;
+	}
+	
+	/**
+	 * Finds the end of the block that's opened at the given index by counting the block open and close tokens.
+	 * Only the kinds of the tokens are looked at, so no Strings are made for the tokens inside the block
+	 *
+	 * @param blockOpenIndex The index of the {@link JavaTokenKind#BLOCK_OPEN block open} token
+	 * @return The index right after the matching {@link JavaTokenKind#BLOCK_CLOSE block close} token,
+	 * or -1 if the block is never closed
+	 */
+	public int findBlockEnd(int blockOpenIndex){
+		checkIndex(blockOpenIndex);
+		int openBlocks = 0;
+		for(int i = blockOpenIndex; i < size; i++){
+			byte kind = kinds[i];
+			if(kind == BLOCK_OPEN_ORDINAL){
+				openBlocks++;
+			}else if(kind == BLOCK_CLOSE_ORDINAL){
+				openBlocks--;
+				if(openBlocks == 0){
+					return i + 1;
+				}
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Checks if the token at the given index ends with the given suffix, without making a String for the token
+	 *
+	 * @param index The index of the token
+	 * @param suffix The suffix to check for
+	 * @return Whether the token at the given index ends with the suffix or not
+	 */
+	public boolean endsWith(int index, String suffix){
+		int startOffset = getStartOffset(index);
+		int endOffset = getEndOffset(index);
+		int suffixStart = endOffset - suffix.length();
+		if(suffixStart < startOffset){
+			return false;
+		}
+		for(int i = 0; i < suffix.length(); i++){
+			if(content.charAt(suffixStart + i) != suffix.charAt(i)){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @param index The index of the token
+	 * @return Whether the token at the given index is whitespace (including newlines) or not
+	 */
+	public boolean isWhitespace(int index){
+		return getKind(index).isWhitespace();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String get(int index){
+		checkIndex(index);
+		if(texts == null || texts.length < size){
+			texts = new String[size];
+		}
+		String text = texts[index];
+		if(text == null){
+			text = KINDS[kinds[index]].getFixedText();
+			if(text == null){
+				int startOffset = startOffsets[index];
+				int endOffset = getEndOffset(index);
+				if(endOffset - startOffset == 1 && content.charAt(startOffset) == ' '){
+					text = SPACE;
+				}else{
+					text = content.subSequence(startOffset, endOffset).toString();
+				}
+			}
+			texts[index] = text;
+		}
+		return text;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * Checks that the given index is a valid token index
+	 *
+	 * @param index The index of the token
+	 */
+	private void checkIndex(int index){
+		if(index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+		}
+	}
+}
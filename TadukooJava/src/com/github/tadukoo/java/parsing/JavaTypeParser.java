@@ -0,0 +1,418 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaParameter;
+import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.JavaTypeParameter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Java Type Parser is a recursive-descent parser used to parse {@link JavaType types},
+ * {@link JavaTypeParameter type parameters}, and {@link JavaParameter parameters} straight from the text they're in.
+ * It reads the text once from left to right, building the nested {@link JavaType types} and
+ * {@link JavaTypeParameter type parameters} as it goes (e.g. {@code Map<String, List<Pair<A, B>>>}), so it takes
+ * linear time and never makes any Strings other than the names it finds. It can start from any offset in the text,
+ * which lets the parsers parse a type right out of the content behind a {@link JavaTokenList}.
+ * <br><br>
+ * The grammar it uses is:
+ * <pre>
+ * type          = name [ "&lt;" typeParameter { "," typeParameter } "&gt;" ]
+ * typeParameter = type [ "extends" type ]
+ * parameter     = type ( whitespace | "..." ) name
+ * </pre>
+ * with whitespace allowed between any of the pieces. A type name is any run of characters that aren't whitespace,
+ * {@code <}, {@code >}, {@code ,}, {@code .}, {@code ;}, {@code =}, or brackets/parentheses (other than {@code []}).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+final class JavaTypeParser{
+	/** The "extends" keyword used in type parameters */
+	private static final String EXTENDS = "extends";
+	/** The "..." used for vararg parameters */
+	private static final String VARARG = "...";
+	
+	/** The text being parsed */
+	private final CharSequence content;
+	/** The offset in the text to stop parsing at */
+	private final int end;
+	/** The {@link SymbolTable} to share names through (can be null) */
+	private final SymbolTable symbolTable;
+	/** The current offset in the text */
+	private int position;
+	/** The offset where the last top-level type parameter started, used in error messages */
+	private int typeParameterStart;
+	/** Whether the parser hit the end of the text while inside type parameters or not */
+	private boolean unclosed;
+	
+	/**
+	 * Constructs a new {@link JavaTypeParser} to parse the given range of text
+	 *
+	 * @param content The text to be parsed
+	 * @param start The offset to start parsing at
+	 * @param end The offset to stop parsing at
+	 * @param symbolTable The {@link SymbolTable} to share names through (can be null to not share them). When there
+	 * is one, the {@link JavaTypeParameter type parameters} (and the {@link JavaType types} in them) are made
+	 * {@link JavaType#toCanonical() canonical}, but the outermost {@link JavaType types} that are read are not, since
+	 * they end up in models that can be edited
+	 */
+	JavaTypeParser(CharSequence content, int start, int end, SymbolTable symbolTable){
+		this.content = content;
+		this.end = end;
+		this.symbolTable = symbolTable;
+		position = start;
+	}
+	
+	/**
+	 * @return The current offset in the text (right after whatever was parsed last)
+	 */
+	int getPosition(){
+		return position;
+	}
+	
+	/**
+	 * Parses the given text as a {@link JavaType}
+	 *
+	 * @param typeContent The text to be parsed
+	 * @param symbolTable The {@link SymbolTable} to share names through (can be null to not share them)
+	 * @return The {@link JavaType} that was parsed
+	 * @throws IllegalArgumentException If the text isn't a valid type
+	 */
+	static JavaType parseType(String typeContent, SymbolTable symbolTable){
+		JavaTypeParser parser = new JavaTypeParser(typeContent, 0, typeContent.length(), symbolTable);
+		JavaType type = parser.readType();
+		if(type == null || !parser.skipWhitespaceToEnd()){
+			throw new IllegalArgumentException("'" + typeContent + "' is not a valid type");
+		}
+		return type;
+	}
+	
+	/**
+	 * Parses the given text as a {@link JavaParameter}
+	 *
+	 * @param parameterContent The text to be parsed
+	 * @param symbolTable The {@link SymbolTable} to share names through (can be null to not share them)
+	 * @return The {@link JavaParameter} that was parsed
+	 * @throws IllegalArgumentException If the text isn't a valid parameter
+	 */
+	static JavaParameter parseParameter(String parameterContent, SymbolTable symbolTable){
+		JavaTypeParser parser = new JavaTypeParser(parameterContent, 0, parameterContent.length(), symbolTable);
+		JavaParameter parameter = parser.readParameter();
+		if(parameter == null || !parser.skipWhitespaceToEnd()){
+			throw new IllegalArgumentException("'" + parameterContent + "' is not a valid parameter");
+		}
+		return parameter;
+	}
+	
+	/**
+	 * Parses the given text as a comma-separated List of {@link JavaTypeParameter type parameters} (without the
+	 * surrounding {@code <} and {@code >})
+	 *
+	 * @param typeParametersContent The text to be parsed (can be blank for no type parameters)
+	 * @param symbolTable The {@link SymbolTable} to share names through (can be null to not share them)
+	 * @return The List of {@link JavaTypeParameter type parameters} that were parsed
+	 * @throws IllegalArgumentException If the text isn't a valid List of type parameters
+	 */
+	static List<JavaTypeParameter> parseTypeParameters(String typeParametersContent, SymbolTable symbolTable){
+		JavaTypeParser parser = new JavaTypeParser(typeParametersContent, 0, typeParametersContent.length(),
+				symbolTable);
+		if(parser.skipWhitespaceToEnd()){
+			return new ArrayList<>();
+		}
+		List<JavaTypeParameter> typeParameters = parser.readTypeParameters(false);
+		if(typeParameters == null || !parser.skipWhitespaceToEnd()){
+			throw new IllegalArgumentException(parser.typeParametersErrorMessage());
+		}
+		return typeParameters;
+	}
+	
+	/**
+	 * Reads a {@link JavaType} starting at the current position (skipping any whitespace before it). Whitespace
+	 * after the type isn't skipped
+	 *
+	 * @return The {@link JavaType} that was read, or null if there isn't a valid type here
+	 */
+	JavaType readType(){
+		return readType(false);
+	}
+	
+	/**
+	 * Reads a {@link JavaType} starting at the current position (skipping any whitespace before it). Whitespace
+	 * after the type isn't skipped
+	 *
+	 * @param nested Whether the type is inside {@link JavaTypeParameter type parameters} or not. Nested types are
+	 * made {@link JavaType#toCanonical() canonical} when there's a {@link SymbolTable}
+	 * @return The {@link JavaType} that was read, or null if there isn't a valid type here
+	 */
+	private JavaType readType(boolean nested){
+		skipWhitespace();
+		int nameStart = position;
+		while(position < end && isNameChar(content.charAt(position))){
+			position++;
+		}
+		if(position == nameStart){
+			return null;
+		}
+		String baseType = makeName(nameStart, position);
+		
+		// Check for type parameters
+		int nameEnd = position;
+		List<JavaTypeParameter> typeParameters;
+		skipWhitespace();
+		if(position < end && content.charAt(position) == '<'){
+			position++;
+			typeParameters = readTypeParameters(true);
+			if(typeParameters == null){
+				return null;
+			}
+		}else{
+			position = nameEnd;
+			typeParameters = new ArrayList<>();
+		}
+		
+		JavaType.JavaTypeBuilder builder = JavaType.builder()
+				.baseType(baseType)
+				.typeParameters(typeParameters);
+		if(symbolTable == null){
+			return builder.build();
+		}
+		JavaType type = builder.buildCanonical();
+		if(nested){
+			return type;
+		}
+		// Copy the outermost type, so it shares the names and type parameters of the canonical one but can be edited
+		return JavaType.builder()
+				.baseType(type.getBaseType())
+				.typeParameters(new ArrayList<>(type.getTypeParameters()))
+				.build();
+	}
+	
+	/**
+	 * Reads {@link JavaTypeParameter type parameters} inside {@code <} and {@code >} starting at the current
+	 * position (skipping any whitespace before the {@code <}), e.g. the type parameters at the start of a method
+	 *
+	 * @return The {@link JavaTypeParameter type parameters} that were read, or null if there aren't valid type
+	 * parameters here
+	 */
+	List<JavaTypeParameter> readTypeParameterList(){
+		skipWhitespace();
+		if(position >= end || content.charAt(position) != '<'){
+			return null;
+		}
+		position++;
+		return readTypeParameters(true);
+	}
+	
+	/**
+	 * Reads comma-separated {@link JavaTypeParameter type parameters} starting at the current position
+	 *
+	 * @param closed Whether the type parameters are inside {@code <} and {@code >} (in which case the {@code >}
+	 * is read too) or they go until the end of the text
+	 * @return The {@link JavaTypeParameter type parameters} that were read, or null if they aren't valid
+	 */
+	private List<JavaTypeParameter> readTypeParameters(boolean closed){
+		List<JavaTypeParameter> typeParameters = new ArrayList<>();
+		while(true){
+			skipWhitespace();
+			if(!closed){
+				typeParameterStart = position;
+			}
+			JavaTypeParameter typeParameter = readTypeParameter();
+			if(typeParameter == null){
+				return null;
+			}
+			typeParameters.add(typeParameter);
+			
+			// Next is either a comma for another type parameter, or the end of the type parameters
+			skipWhitespace();
+			if(position >= end){
+				unclosed |= closed;
+				return closed?null:typeParameters;
+			}
+			char c = content.charAt(position);
+			if(c == ','){
+				position++;
+			}else if(c == '>' && closed){
+				position++;
+				return typeParameters;
+			}else{
+				return null;
+			}
+		}
+	}
+	
+	/**
+	 * Reads a {@link JavaTypeParameter} starting at the current position
+	 *
+	 * @return The {@link JavaTypeParameter} that was read, or null if there isn't a valid type parameter here
+	 */
+	private JavaTypeParameter readTypeParameter(){
+		JavaType baseType = readType(true);
+		if(baseType == null){
+			return null;
+		}
+		
+		// Check for an extends type
+		JavaType extendsType = null;
+		int baseTypeEnd = position;
+		skipWhitespace();
+		if(matchesKeyword(EXTENDS)){
+			position += EXTENDS.length();
+			extendsType = readType(true);
+			if(extendsType == null){
+				return null;
+			}
+		}else{
+			position = baseTypeEnd;
+		}
+		
+		JavaTypeParameter.JavaTypeParameterBuilder builder = JavaTypeParameter.builder()
+				.baseType(baseType)
+				.extendsType(extendsType);
+		return symbolTable == null?builder.build():builder.buildCanonical();
+	}
+	
+	/**
+	 * Reads a {@link JavaParameter} starting at the current position
+	 *
+	 * @return The {@link JavaParameter} that was read, or null if there isn't a valid parameter here
+	 */
+	private JavaParameter readParameter(){
+		JavaType type = readType();
+		if(type == null){
+			return null;
+		}
+		
+		// The type is followed by whitespace or ... for a vararg
+		int typeEnd = position;
+		skipWhitespace();
+		boolean vararg = false;
+		if(position + VARARG.length() <= end && matches(VARARG)){
+			vararg = true;
+			position += VARARG.length();
+			skipWhitespace();
+		}else if(position == typeEnd){
+			return null;
+		}
+		
+		// Then the name
+		int nameStart = position;
+		while(position < end && content.charAt(position) != ')' && !JavaLexer.isWhitespace(content.charAt(position))){
+			position++;
+		}
+		return JavaParameter.builder()
+				.type(type)
+				.name(makeName(nameStart, position))
+				.vararg(vararg)
+				.build();
+	}
+	
+	/**
+	 * Skips over any whitespace at the current position
+	 */
+	private void skipWhitespace(){
+		while(position < end && JavaLexer.isWhitespace(content.charAt(position))){
+			position++;
+		}
+	}
+	
+	/**
+	 * Skips over any whitespace at the current position
+	 *
+	 * @return Whether we reached the end of the text or not
+	 */
+	private boolean skipWhitespaceToEnd(){
+		skipWhitespace();
+		return position == end;
+	}
+	
+	/**
+	 * @param text The text to check for
+	 * @return Whether the given text is at the current position or not
+	 */
+	private boolean matches(String text){
+		for(int i = 0; i < text.length(); i++){
+			if(content.charAt(position + i) != text.charAt(i)){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @param keyword The keyword to check for
+	 * @return Whether the given keyword is at the current position (and isn't just the start of a longer name)
+	 */
+	private boolean matchesKeyword(String keyword){
+		int keywordEnd = position + keyword.length();
+		return keywordEnd <= end && matches(keyword) && (keywordEnd == end || !isNameChar(content.charAt(keywordEnd)));
+	}
+	
+	/**
+	 * Makes the String for the name in the given range of the text, using the {@link SymbolTable} if there is one
+	 *
+	 * @param start The start offset of the name
+	 * @param nameEnd The end offset of the name
+	 * @return The name
+	 */
+	private String makeName(int start, int nameEnd){
+		return symbolTable == null?content.subSequence(start, nameEnd).toString():
+				symbolTable.intern(content, start, nameEnd);
+	}
+	
+	/**
+	 * Makes the error message for when parsing a List of type parameters fails. It shows the type parameter that
+	 * failed to be parsed, with its pieces trimmed and joined by commas
+	 *
+	 * @return The error message to use
+	 */
+	private String typeParametersErrorMessage(){
+		if(unclosed){
+			return "Failed to parse remaining type parameter content: '" +
+					trimPieces(typeParameterStart, end) + "'";
+		}
+		// Find the end of the type parameter that failed (the next comma that isn't inside < and >)
+		int depth = 0;
+		int paramEnd = typeParameterStart;
+		for(; paramEnd < end; paramEnd++){
+			char c = content.charAt(paramEnd);
+			if(c == '<'){
+				depth++;
+			}else if(c == '>'){
+				depth--;
+			}else if(c == ',' && depth <= 0){
+				break;
+			}
+		}
+		return "'" + trimPieces(typeParameterStart, paramEnd) + "' is not a valid type parameter";
+	}
+	
+	/**
+	 * @param start The start offset of the text
+	 * @param textEnd The end offset of the text
+	 * @return The given range of text, with each comma-separated piece trimmed and then joined by commas again
+	 */
+	private String trimPieces(int start, int textEnd){
+		StringBuilder text = new StringBuilder();
+		for(String piece: content.subSequence(start, textEnd).toString().split(",", -1)){
+			if(!text.isEmpty()){
+				text.append(',');
+			}
+			text.append(piece.trim());
+		}
+		return text.toString();
+	}
+	
+	/**
+	 * @param c The character to check
+	 * @return Whether the character can be part of a type name or not
+	 */
+	private static boolean isNameChar(char c){
+		return switch(c){
+			case '<', '>', ',', '.', ';', '=', '(', ')', '{', '}' -> false;
+			default -> !JavaLexer.isWhitespace(c);
+		};
+	}
+}
@@ -0,0 +1,103 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaTokens;
+
+/**
+ * Keyword Table is used by the {@link JavaLexer} to classify words as one of the keywords and modifiers in
+ * {@link JavaTokens} (e.g. {@link JavaTokenKind#CLASS} or {@link JavaTokenKind#PUBLIC}), or as the start of
+ * a comment or annotation. Keywords are found with a perfect hash on the second character and the length of
+ * the word, so each word is checked against at most one keyword, straight from the content without making a
+ * String for it. The hash is checked to have no collisions when the table is built.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+final class KeywordTable{
+	
+	/** The number of slots in the table (a power of 2, so the hash can be masked into it) */
+	private static final int TABLE_SIZE = 32;
+	/** The multiplier for the second character in the hash */
+	private static final int SECOND_CHAR_MULTIPLIER = 3;
+	/** The keyword {@link JavaTokenKind kinds} by their hash (null for empty slots) */
+	private static final JavaTokenKind[] KEYWORDS = new JavaTokenKind[TABLE_SIZE];
+	/** The length of the shortest keyword */
+	private static final int MIN_LENGTH;
+	/** The length of the longest keyword */
+	private static final int MAX_LENGTH;
+	static{
+		int minLength = Integer.MAX_VALUE, maxLength = 0;
+		for(JavaTokenKind kind: JavaTokenKind.values()){
+			String keyword = kind.getFixedText();
+			if(!kind.isWord() || keyword == null){
+				continue;
+			}
+			int slot = hash(keyword, 0, keyword.length());
+			if(KEYWORDS[slot] != null){
+				throw new IllegalStateException("Keyword '" + keyword + "' collides with '" +
+						KEYWORDS[slot].getFixedText() + "'");
+			}
+			KEYWORDS[slot] = kind;
+			minLength = Math.min(minLength, keyword.length());
+			maxLength = Math.max(maxLength, keyword.length());
+		}
+		MIN_LENGTH = minLength;
+		MAX_LENGTH = maxLength;
+	}
+	
+	/** Not allowed to instantiate {@link KeywordTable} */
+	private KeywordTable(){ }
+	
+	/**
+	 * Classifies the word between the given offsets in the content
+	 *
+	 * @param content The content the word is in
+	 * @param start The offset where the word starts
+	 * @param end The offset right after the end of the word
+	 * @return The {@link JavaTokenKind kind} of the word - {@link JavaTokenKind#WORD} if it's not one of the words
+	 * the lexer recognizes
+	 */
+	static JavaTokenKind classifyWord(CharSequence content, int start, int end){
+		int length = end - start;
+		char first = content.charAt(start);
+		if(first == '/'){
+			if(length >= 2 && content.charAt(start + 1) == '*'){
+				return length >= 3 && content.charAt(start + 2) == '*'?
+						JavaTokenKind.JAVADOC_START:JavaTokenKind.MULTI_LINE_COMMENT_START;
+			}else if(length >= 2 && content.charAt(start + 1) == '/'){
+				return JavaTokenKind.SINGLE_LINE_COMMENT_START;
+			}
+			return JavaTokenKind.WORD;
+		}else if(first == '@'){
+			return JavaTokenKind.ANNOTATION_START;
+		}else if(length < MIN_LENGTH || length > MAX_LENGTH){
+			return JavaTokenKind.WORD;
+		}
+		JavaTokenKind keyword = KEYWORDS[hash(content, start, length)];
+		if(keyword == null){
+			return JavaTokenKind.WORD;
+		}
+		String text = keyword.getFixedText();
+		if(text.length() != length){
+			return JavaTokenKind.WORD;
+		}
+		for(int i = 0; i < length; i++){
+			if(content.charAt(start + i) != text.charAt(i)){
+				return JavaTokenKind.WORD;
+			}
+		}
+		return keyword;
+	}
+	
+	/**
+	 * Hashes the word with the given start offset and length in the content (which must be at least 2 characters)
+	 *
+	 * @param content The content the word is in
+	 * @param start The offset where the word starts
+	 * @param length The length of the word
+	 * @return The slot in the table for the word
+	 */
+	private static int hash(CharSequence content, int start, int length){
+		return (content.charAt(start + 1) * SECOND_CHAR_MULTIPLIER + length) & (TABLE_SIZE - 1);
+	}
+}
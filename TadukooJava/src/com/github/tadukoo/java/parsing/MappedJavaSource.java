@@ -0,0 +1,254 @@
+package com.github.tadukoo.java.parsing;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Mapped Java Source is a {@link CharSequence} view of a UTF-8 Java source file that is memory-mapped instead of
+ * being read into a String, so that very large (e.g. generated) files don't need a full UTF-16 copy on the heap.
+ * <br><br>
+ * The bytes are decoded lazily in chunks as characters are requested. Only the start of each chunk is remembered,
+ * along with whether the chunk is plain ASCII (in which case characters are read straight from the mapped bytes).
+ * Other chunks are decoded again when they're needed, with the most recently used chunk kept around, so reading
+ * through the source in order (as the {@link JavaLexer} does) decodes each chunk once.
+ * <br><br>
+ * Malformed UTF-8 causes an {@link UncheckedIOException} wrapping the {@link CharacterCodingException}, since
+ * the {@link CharSequence} methods can't throw checked exceptions. Files must be smaller than 2 GB.
+ * <br><br>
+ * Like most {@link CharSequence CharSequences}, this is not safe to use from multiple threads at once.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class MappedJavaSource implements CharSequence{
+	/** The number of characters in each chunk that's decoded at once */
+	private static final int CHUNK_SIZE = 1 << 16;
+	
+	/** The memory-mapped bytes of the file */
+	private final ByteBuffer bytes;
+	/** The decoder used to decode the bytes */
+	private final CharsetDecoder decoder;
+	/** The index of the first character of each chunk that's been found so far (plus the end of the last one) */
+	private int[] chunkCharStarts;
+	/** The byte offset of each chunk that's been found so far (plus the end of the last one) */
+	private int[] chunkByteStarts;
+	/** Whether each chunk that's been found so far is plain ASCII */
+	private boolean[] chunkIsAscii;
+	/** The number of chunks found so far */
+	private int numChunks;
+	/** Whether all the chunks have been found (so the length is known) */
+	private boolean fullyIndexed;
+	/** The buffer used to decode a chunk */
+	private final CharBuffer chunkBuffer;
+	/** The number of bytes consumed in the last call to {@link #decode(int)} */
+	private int decodedBytes;
+	/** The index of the chunk that's currently decoded in {@link #chunkBuffer} (-1 if none) */
+	private int decodedChunk;
+	/** The index of the last chunk that was used in {@link #charAt(int)} */
+	private int lastChunk;
+	
+	/**
+	 * Memory-maps the given UTF-8 Java source file
+	 *
+	 * @param file The {@link Path} to the Java source file
+	 * @throws IOException If anything goes wrong in mapping the file
+	 */
+	public MappedJavaSource(Path file) throws IOException{
+		this(map(file));
+	}
+	
+	/**
+	 * Creates a view of the given UTF-8 encoded bytes (which would usually be memory-mapped)
+	 *
+	 * @param bytes The UTF-8 encoded bytes of the Java source
+	 */
+	public MappedJavaSource(ByteBuffer bytes){
+		this.bytes = bytes.slice();
+		decoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPORT)
+				.onUnmappableCharacter(CodingErrorAction.REPORT);
+		chunkCharStarts = new int[8];
+		chunkByteStarts = new int[chunkCharStarts.length];
+		chunkIsAscii = new boolean[chunkCharStarts.length];
+		fullyIndexed = !this.bytes.hasRemaining();
+		chunkBuffer = CharBuffer.allocate(Math.min(CHUNK_SIZE, Math.max(16, this.bytes.remaining())));
+		decodedChunk = -1;
+	}
+	
+	/**
+	 * Memory-maps the given file in read-only mode
+	 *
+	 * @param file The {@link Path} to the file to be mapped
+	 * @return The mapped bytes of the file
+	 * @throws IOException If anything goes wrong in mapping the file
+	 */
+	private static ByteBuffer map(Path file) throws IOException{
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+			long size = channel.size();
+			if(size > Integer.MAX_VALUE){
+				throw new IOException("File is too large to be mapped: " + file);
+			}
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int length(){
+		while(!fullyIndexed){
+			indexNextChunk();
+		}
+		return chunkCharStarts[numChunks];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public char charAt(int index){
+		if(index < 0){
+			throw new IndexOutOfBoundsException("Index " + index + " is negative");
+		}
+		int chunk = findChunk(index);
+		int offset = index - chunkCharStarts[chunk];
+		if(chunkIsAscii[chunk]){
+			return (char) bytes.get(chunkByteStarts[chunk] + offset);
+		}
+		return decodeChunk(chunk).get(offset);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public CharSequence subSequence(int start, int end){
+		if(start < 0 || start > end){
+			throw new IndexOutOfBoundsException("Invalid sub sequence from " + start + " to " + end);
+		}
+		char[] chars = new char[end - start];
+		int index = start;
+		while(index < end){
+			int chunk = findChunk(index);
+			int offset = index - chunkCharStarts[chunk];
+			int count = Math.min(end, chunkCharStarts[chunk + 1]) - index;
+			if(chunkIsAscii[chunk]){
+				int byteStart = chunkByteStarts[chunk] + offset;
+				for(int i = 0; i < count; i++){
+					chars[index - start + i] = (char) bytes.get(byteStart + i);
+				}
+			}else{
+				decodeChunk(chunk).get(offset, chars, index - start, count);
+			}
+			index += count;
+		}
+		return new String(chars);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		return subSequence(0, length()).toString();
+	}
+	
+	/**
+	 * Finds the chunk containing the character at the given index, indexing more chunks if needed
+	 *
+	 * @param index The index of the character
+	 * @return The index of the chunk containing the character
+	 */
+	private int findChunk(int index){
+		// Most lookups are in the same chunk as the last one
+		if(lastChunk < numChunks && chunkCharStarts[lastChunk] <= index && index < chunkCharStarts[lastChunk + 1]){
+			return lastChunk;
+		}
+		while(!fullyIndexed && chunkCharStarts[numChunks] <= index){
+			indexNextChunk();
+		}
+		if(index >= chunkCharStarts[numChunks]){
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " +
+					chunkCharStarts[numChunks]);
+		}
+		int chunk = Arrays.binarySearch(chunkCharStarts, 0, numChunks + 1, index);
+		if(chunk < 0){
+			chunk = -chunk - 2;
+		}
+		lastChunk = chunk;
+		return chunk;
+	}
+	
+	/**
+	 * Decodes the next chunk to find where it ends and whether it's plain ASCII, keeping the decoded characters
+	 * around in case they're used right away
+	 */
+	private void indexNextChunk(){
+		int chunk = numChunks;
+		int byteStart = chunkByteStarts[chunk];
+		decode(byteStart);
+		int byteEnd = byteStart + decodedBytes;
+		int charEnd = chunkCharStarts[chunk] + chunkBuffer.remaining();
+		
+		// Make room for the chunk end
+		if(chunk + 2 > chunkCharStarts.length){
+			int newLength = chunkCharStarts.length * 2;
+			chunkCharStarts = Arrays.copyOf(chunkCharStarts, newLength);
+			chunkByteStarts = Arrays.copyOf(chunkByteStarts, newLength);
+			chunkIsAscii = Arrays.copyOf(chunkIsAscii, newLength);
+		}
+		
+		// For UTF-8, the chunk is plain ASCII if each byte became one character
+		chunkIsAscii[chunk] = byteEnd - byteStart == chunkBuffer.remaining();
+		chunkCharStarts[chunk + 1] = charEnd;
+		chunkByteStarts[chunk + 1] = byteEnd;
+		numChunks++;
+		decodedChunk = chunk;
+		fullyIndexed = byteEnd == bytes.limit();
+	}
+	
+	/**
+	 * Gets the decoded characters of the given chunk, decoding it again if it's not the current one
+	 *
+	 * @param chunk The index of the chunk
+	 * @return The {@link CharBuffer} of the decoded characters in the chunk
+	 */
+	private CharBuffer decodeChunk(int chunk){
+		if(decodedChunk != chunk){
+			decode(chunkByteStarts[chunk]);
+			decodedChunk = chunk;
+		}
+		return chunkBuffer;
+	}
+	
+	/**
+	 * Decodes as many characters as fit in the {@link #chunkBuffer} starting from the given byte offset, leaving
+	 * the characters ready to be read in the buffer and the number of bytes consumed in {@link #decodedBytes}
+	 *
+	 * @param byteStart The byte offset to start decoding from
+	 */
+	private void decode(int byteStart){
+		ByteBuffer input = bytes.duplicate();
+		input.position(byteStart);
+		chunkBuffer.clear();
+		decoder.reset();
+		CoderResult result = decoder.decode(input, chunkBuffer, true);
+		if(result.isUnderflow()){
+			result = decoder.flush(chunkBuffer);
+		}
+		if(result.isError()){
+			try{
+				result.throwException();
+			}catch(CharacterCodingException e){
+				throw new UncheckedIOException(e);
+			}
+		}
+		decodedBytes = input.position() - byteStart;
+		chunkBuffer.flip();
+	}
+}
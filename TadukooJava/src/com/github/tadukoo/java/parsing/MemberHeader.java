@@ -0,0 +1,28 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.JavaTypeParameter;
+
+import java.util.List;
+
+/**
+ * Used as a pojo for the start of a field or method (everything after the modifiers and before the value or
+ * parameters), as read by {@link AbstractJavaParser#parseOutMemberHeader(List, int)}, so that the
+ * field and method parsers can pick up where it left off instead of reading the same tokens again
+ *
+ * @param memberType Either {@link JavaCodeTypes#FIELD} or {@link JavaCodeTypes#METHOD}
+ * @param typeParameters The {@link JavaTypeParameter type parameters} at the start of a method (empty for a field)
+ * @param type The {@link JavaType} of a field, or the return type of a method (the class name for a constructor)
+ * @param nameToken The index of the token with the name in it (which may end with a semicolon for a field),
+ * or -1 for a constructor
+ * @param nextToken The index of the next non-whitespace token after the name (or after the type for a
+ * constructor) - for a method, this is the parameter open token
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public record MemberHeader(JavaCodeTypes memberType, List<JavaTypeParameter> typeParameters, JavaType type,
+                           int nameToken, int nextToken){
+}
@@ -0,0 +1,475 @@
+package com.github.tadukoo.java.parsing;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.serialization.JavaCodeTypeCodec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parse Cache is a persistent cache in front of {@link FullJavaParser#parseType}, so that files that haven't
+ * changed don't need to be parsed again on later runs (e.g. in incremental builds or IDE indexing). Entries are
+ * stored in a local directory and are found by a 128-bit hash of the content of the file, along with the
+ * {@link #PARSER_VERSION} and the {@link ParseMode}, so a file that's moved or renamed (or copied) is still found,
+ * and changing the content or the parsers makes new entries instead of using stale ones. On a hit, the content
+ * is only hashed and the {@link JavaCodeType} is decoded from the entry with the {@link JavaCodeTypeCodec},
+ * skipping splitting into tokens and parsing entirely.
+ * <br><br>
+ * The total size of the entries is kept under the given maximum by evicting the least recently used entries
+ * (using the last modified time of the entries, which is updated on each hit). Entries are written to a temporary
+ * file and then moved into place, so a parse cache can be used by multiple threads (or processes) sharing the
+ * same directory. Entries that can't be read (e.g. from being cut off or written by a different version) are
+ * treated as misses and replaced.
+ * <br><br>
+ * {@link JavaCodeType Code types} loaded from the cache are new instances each time, so they can be edited
+ * freely. Methods parsed using {@link ParseMode#LAZY_METHOD_BODIES} have their lines parsed when they're saved
+ * to the cache, so they're loaded with their lines already parsed.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public class ParseCache{
+	
+	/**
+	 * The version of the parsers, which is part of the key of every entry. This must be changed whenever a change
+	 * to the parsers changes what's parsed, so that old entries aren't used
+	 */
+	public static final int PARSER_VERSION = 2;
+	/** The file extension used for entries in the cache */
+	private static final String ENTRY_EXTENSION = ".jparse";
+	/** The magic number at the start of every entry */
+	private static final int MAGIC = 0x4A504331;
+	/** The size of the header of every entry: the magic number, parser version, and length of the content */
+	private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+	/** The fraction of the maximum size that the cache is evicted down to once it's over the maximum */
+	private static final double EVICTION_TARGET = 0.9;
+	
+	/** The directory the entries are stored in */
+	private final Path directory;
+	/** The maximum total size of the entries in bytes */
+	private final long maxSizeBytes;
+	/** The total size of the entries in bytes (as far as this cache knows) */
+	private final AtomicLong currentSizeBytes;
+	/** The number of lookups that were found in the cache */
+	private final LongAdder hits = new LongAdder();
+	/** The number of lookups that weren't found in the cache (and had to be parsed) */
+	private final LongAdder misses = new LongAdder();
+	/** Used to only run one eviction at a time */
+	private final Object evictionLock = new Object();
+	
+	/**
+	 * Constructs a new {@link ParseCache} using the given directory, which is created if it doesn't exist. Any
+	 * entries already in the directory (e.g. from a previous build) are used
+	 *
+	 * @param directory The directory to store the entries in
+	 * @param maxSizeBytes The maximum total size of the entries in bytes
+	 * @throws IOException If anything goes wrong in creating or reading the directory
+	 */
+	public ParseCache(Path directory, long maxSizeBytes) throws IOException{
+		if(maxSizeBytes <= 0){
+			throw new IllegalArgumentException("The maximum size must be positive, but was " + maxSizeBytes);
+		}
+		this.directory = Files.createDirectories(directory);
+		this.maxSizeBytes = maxSizeBytes;
+		long size = 0;
+		for(EntryInfo entry: listEntries()){
+			size += entry.size();
+		}
+		currentSizeBytes = new AtomicLong(size);
+	}
+	
+	/**
+	 * Information about an entry in the cache, used in eviction
+	 *
+	 * @param file The {@link Path} to the entry
+	 * @param size The size of the entry in bytes
+	 * @param lastUsed The last time the entry was used (its last modified time)
+	 */
+	private record EntryInfo(Path file, long size, FileTime lastUsed){ }
+	
+	/*
+	 * Getters
+	 */
+	
+	/**
+	 * @return The directory the entries are stored in
+	 */
+	public Path getDirectory(){
+		return directory;
+	}
+	
+	/**
+	 * @return The maximum total size of the entries in bytes
+	 */
+	public long getMaxSizeBytes(){
+		return maxSizeBytes;
+	}
+	
+	/**
+	 * @return The total size of the entries in bytes (as far as this cache knows)
+	 */
+	public long getCurrentSizeBytes(){
+		return currentSizeBytes.get();
+	}
+	
+	/**
+	 * @return The number of lookups that were found in the cache
+	 */
+	public long getHits(){
+		return hits.sum();
+	}
+	
+	/**
+	 * @return The number of lookups that weren't found in the cache (and had to be parsed)
+	 */
+	public long getMisses(){
+		return misses.sum();
+	}
+	
+	/*
+	 * Parsing
+	 */
+	
+	/**
+	 * Parses the given Java file (as UTF-8), using the cache if the same content has been parsed before
+	 *
+	 * @param file The Java file to be parsed
+	 * @return The parsed {@link JavaCodeType} from the given file
+	 * @throws IOException If anything goes wrong in reading the file (including it not being valid UTF-8) or in
+	 * writing to the cache
+	 * @throws JavaParsingException If anything goes wrong while parsing
+	 */
+	public JavaCodeType parseType(Path file) throws IOException, JavaParsingException{
+		return parseType(file, ParseMode.FULL);
+	}
+	
+	/**
+	 * Parses the given Java file (as UTF-8) using the given {@link ParseMode}, using the cache if the same content
+	 * has been parsed before with the same {@link ParseMode}
+	 *
+	 * @param file The Java file to be parsed
+	 * @param parseMode The {@link ParseMode} to use
+	 * @return The parsed {@link JavaCodeType} from the given file
+	 * @throws IOException If anything goes wrong in reading the file (including it not being valid UTF-8) or in
+	 * writing to the cache
+	 * @throws JavaParsingException If anything goes wrong while parsing
+	 */
+	public JavaCodeType parseType(Path file, ParseMode parseMode) throws IOException, JavaParsingException{
+		byte[] content = Files.readAllBytes(file);
+		Path entry = getEntryFile(content, parseMode);
+		JavaCodeType type = readEntry(entry, content.length);
+		if(type != null){
+			return type;
+		}
+		
+		try{
+			type = FullJavaParser.parseType(new MappedJavaSource(ByteBuffer.wrap(content)), parseMode);
+		}catch(UncheckedIOException e){
+			throw e.getCause();
+		}
+		writeEntry(entry, content.length, type);
+		return type;
+	}
+	
+	/**
+	 * Parses the given text as Java code using the given {@link ParseMode}, using the cache if the same text has
+	 * been parsed before with the same {@link ParseMode}
+	 *
+	 * @param content The text to be parsed as Java code
+	 * @param parseMode The {@link ParseMode} to use
+	 * @return The parsed {@link JavaCodeType} from the given text
+	 * @throws IOException If anything goes wrong in writing to the cache
+	 * @throws JavaParsingException If anything goes wrong while parsing
+	 */
+	public JavaCodeType parseType(CharSequence content, ParseMode parseMode) throws IOException, JavaParsingException{
+		byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+		Path entry = getEntryFile(bytes, parseMode);
+		JavaCodeType type = readEntry(entry, bytes.length);
+		if(type != null){
+			return type;
+		}
+		
+		type = FullJavaParser.parseType(content, parseMode);
+		writeEntry(entry, bytes.length, type);
+		return type;
+	}
+	
+	/**
+	 * Removes all the entries from the cache
+	 *
+	 * @throws IOException If anything goes wrong in removing the entries
+	 */
+	public void clear() throws IOException{
+		synchronized(evictionLock){
+			for(EntryInfo entry: listEntries()){
+				deleteEntry(entry.file(), entry.size());
+			}
+		}
+	}
+	
+	/*
+	 * Entries
+	 */
+	
+	/**
+	 * Finds the file for the entry of the given content and {@link ParseMode}
+	 *
+	 * @param content The UTF-8 bytes of the content
+	 * @param parseMode The {@link ParseMode} used
+	 * @return The {@link Path} to the entry for the content
+	 */
+	private Path getEntryFile(byte[] content, ParseMode parseMode){
+		long[] hash = murmur3Hash128(content, PARSER_VERSION);
+		return directory.resolve(String.format("%016x%016x-%d-%s%s", hash[0], hash[1], PARSER_VERSION,
+				parseMode.name().toLowerCase(), ENTRY_EXTENSION));
+	}
+	
+	/**
+	 * Reads the {@link JavaCodeType} stored in the given entry, counting a hit or a miss. An entry that can't be
+	 * read is deleted and counted as a miss
+	 *
+	 * @param entry The {@link Path} to the entry
+	 * @param contentLength The length in bytes of the content the entry should be for
+	 * @return The {@link JavaCodeType} stored in the entry, or null if it's not in the cache
+	 */
+	private JavaCodeType readEntry(Path entry, long contentLength){
+		try(FileChannel channel = FileChannel.open(entry, StandardOpenOption.READ)){
+			long size = channel.size();
+			if(size < HEADER_SIZE || size > Integer.MAX_VALUE){
+				throw new IOException("Entry doesn't match");
+			}
+			ByteBuffer buffer = ByteBuffer.allocate((int) size);
+			while(buffer.hasRemaining()){
+				if(channel.read(buffer) == -1){
+					throw new EOFException("Entry was cut off");
+				}
+			}
+			buffer.flip();
+			if(buffer.getInt() != MAGIC || buffer.getInt() != PARSER_VERSION || buffer.getLong() != contentLength){
+				throw new IOException("Entry doesn't match");
+			}
+			JavaCodeType type = JavaCodeTypeCodec.decode(buffer);
+			if(type == null || buffer.hasRemaining()){
+				throw new IOException("Entry doesn't match");
+			}
+			
+			// Mark the entry as used for eviction (it's fine if it was evicted in the meantime)
+			try{
+				Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+			}catch(IOException ignored){ }
+			hits.increment();
+			return type;
+		}catch(NoSuchFileException e){
+			misses.increment();
+			return null;
+		}catch(IOException e){
+			// The entry is broken, so it'll be replaced
+			try{
+				Files.deleteIfExists(entry);
+			}catch(IOException ignored){ }
+			misses.increment();
+			return null;
+		}
+	}
+	
+	/**
+	 * Writes the given {@link JavaCodeType} to the given entry, evicting old entries if the cache is now too big.
+	 * The entry is written to a temporary file first and then moved into place, so it's never seen half-written
+	 *
+	 * @param entry The {@link Path} to the entry
+	 * @param contentLength The length in bytes of the content the entry is for
+	 * @param type The {@link JavaCodeType} to be stored
+	 * @throws IOException If anything goes wrong in writing the entry
+	 */
+	private void writeEntry(Path entry, long contentLength, JavaCodeType type) throws IOException{
+		Path tempFile = Files.createTempFile(directory, "entry", ".tmp");
+		try{
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+					.putInt(MAGIC)
+					.putInt(PARSER_VERSION)
+					.putLong(contentLength)
+					.flip();
+			ByteBuffer body = JavaCodeTypeCodec.encode(type);
+			long size = header.remaining() + body.remaining();
+			try(FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)){
+				ByteBuffer[] buffers = {header, body};
+				while(body.hasRemaining()){
+					channel.write(buffers);
+				}
+			}
+			
+			// Another thread may have written the same entry, in which case this one replaces it
+			long replacedSize = 0;
+			try{
+				replacedSize = Files.size(entry);
+			}catch(NoSuchFileException ignored){ }
+			try{
+				Files.move(tempFile, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}catch(AtomicMoveNotSupportedException e){
+				Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING);
+			}
+			if(currentSizeBytes.addAndGet(size - replacedSize) > maxSizeBytes){
+				evict();
+			}
+		}finally{
+			Files.deleteIfExists(tempFile);
+		}
+	}
+	
+	/**
+	 * Deletes the least recently used entries until the cache is back under {@link #EVICTION_TARGET} of the
+	 * maximum size. The size of the cache is recounted from the directory while doing so, in case other
+	 * processes have changed it
+	 *
+	 * @throws IOException If anything goes wrong in listing the entries
+	 */
+	private void evict() throws IOException{
+		synchronized(evictionLock){
+			List<EntryInfo> entries = listEntries();
+			long size = 0;
+			for(EntryInfo entry: entries){
+				size += entry.size();
+			}
+			currentSizeBytes.set(size);
+			
+			long targetSize = (long) (maxSizeBytes * EVICTION_TARGET);
+			entries.sort(Comparator.comparing(EntryInfo::lastUsed));
+			for(EntryInfo entry: entries){
+				if(currentSizeBytes.get() <= targetSize){
+					break;
+				}
+				deleteEntry(entry.file(), entry.size());
+			}
+		}
+	}
+	
+	/**
+	 * Deletes the given entry, if it's still there
+	 *
+	 * @param entry The {@link Path} to the entry
+	 * @param size The size of the entry in bytes
+	 * @throws IOException If anything goes wrong in deleting the entry
+	 */
+	private void deleteEntry(Path entry, long size) throws IOException{
+		if(Files.deleteIfExists(entry)){
+			currentSizeBytes.addAndGet(-size);
+		}
+	}
+	
+	/**
+	 * @return Information about all the entries currently in the directory
+	 * @throws IOException If anything goes wrong in listing the entries
+	 */
+	private List<EntryInfo> listEntries() throws IOException{
+		List<EntryInfo> entries = new ArrayList<>();
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + ENTRY_EXTENSION)){
+			for(Path file: stream){
+				try{
+					BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+					entries.add(new EntryInfo(file, attributes.size(), attributes.lastModifiedTime()));
+				}catch(NoSuchFileException ignored){
+					// Deleted while listing
+				}
+			}
+		}
+		return entries;
+	}
+	
+	/*
+	 * Hashing
+	 */
+	
+	/**
+	 * Hashes the given bytes using the 128-bit x64 version of MurmurHash3
+	 *
+	 * @param bytes The bytes to be hashed
+	 * @param seed The seed of the hash
+	 * @return The two longs of the 128-bit hash
+	 */
+	static long[] murmur3Hash128(byte[] bytes, long seed){
+		final long c1 = 0x87c37b91114253d5L;
+		final long c2 = 0x4cf5ad432745937fL;
+		long h1 = seed;
+		long h2 = seed;
+		ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+		
+		// Mix in 16 bytes at a time
+		int numBlocks = bytes.length / 16;
+		for(int i = 0; i < numBlocks; i++){
+			long k1 = buffer.getLong(i * 16);
+			long k2 = buffer.getLong(i * 16 + 8);
+			
+			h1 ^= Long.rotateLeft(k1 * c1, 31) * c2;
+			h1 = Long.rotateLeft(h1, 27) + h2;
+			h1 = h1 * 5 + 0x52dce729;
+			
+			h2 ^= Long.rotateLeft(k2 * c2, 33) * c1;
+			h2 = Long.rotateLeft(h2, 31) + h1;
+			h2 = h2 * 5 + 0x38495ab5;
+		}
+		
+		// Mix in the remaining bytes
+		long k1 = 0, k2 = 0;
+		int tail = numBlocks * 16;
+		for(int i = bytes.length - 1; i >= tail; i--){
+			long b = bytes[i] & 0xFFL;
+			if(i - tail >= 8){
+				k2 |= b << ((i - tail - 8) * 8);
+			}else{
+				k1 |= b << ((i - tail) * 8);
+			}
+		}
+		if(bytes.length - tail > 8){
+			h2 ^= Long.rotateLeft(k2 * c2, 33) * c1;
+		}
+		if(bytes.length > tail){
+			h1 ^= Long.rotateLeft(k1 * c1, 31) * c2;
+		}
+		
+		// Finalize
+		h1 ^= bytes.length;
+		h2 ^= bytes.length;
+		h1 += h2;
+		h2 += h1;
+		h1 = fmix64(h1);
+		h2 = fmix64(h2);
+		h1 += h2;
+		h2 += h1;
+		return new long[]{h1, h2};
+	}
+	
+	/**
+	 * The finalization mix of MurmurHash3, which makes every bit of the input affect every bit of the output
+	 *
+	 * @param k The value to mix
+	 * @return The mixed value
+	 */
+	private static long fmix64(long k){
+		k ^= k >>> 33;
+		k *= 0xff51afd7ed558ccdL;
+		k ^= k >>> 33;
+		k *= 0xc4ceb9fe1a85ec53L;
+		k ^= k >>> 33;
+		return k;
+	}
+}
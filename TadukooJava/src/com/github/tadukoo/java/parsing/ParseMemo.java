@@ -0,0 +1,166 @@
+package com.github.tadukoo.java.parsing;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parse Memo is a bounded, in-memory memoization of the results of parsing small Strings that show up over and
+ * over across files (e.g. {@code String name}, {@code List<String>}, or {@code @Override}), so they only need to be
+ * parsed once. It's used in front of {@link AbstractJavaParser#parseJavaType(String)},
+ * {@link AbstractJavaParser#parseJavaParameter(String)}, {@link AbstractJavaParser#parseJavaTypeParameters(String)},
+ * and {@link com.github.tadukoo.java.parsing.codetypes.JavaAnnotationParser#parseAnnotation(String)}.
+ * <br><br>
+ * Once it holds the maximum number of results, the least recently used result is evicted to make room for a new
+ * one. It's safe to use from multiple threads at once. The number of hits and misses are kept so that the maximum
+ * size can be tuned, and a maximum size of 0 turns the memo off. The results kept in a memo are shared between
+ * everyone who parses the same String, so the parsers only keep results that can't be edited, and hand out cheap
+ * copies of any that can be.
+ *
+ * @param <Value> The type of results being memoized
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class ParseMemo<Value>{
+	
+	/** The default maximum number of results to keep */
+	public static final int DEFAULT_MAX_SIZE = 4096;
+	
+	/** The results, by the String they were parsed from, in order from least to most recently used */
+	private final LinkedHashMap<String, Value> results = new LinkedHashMap<>(16, 0.75f, true);
+	/** The number of lookups that were found in the memo */
+	private final LongAdder hits = new LongAdder();
+	/** The number of lookups that weren't found in the memo (and had to be parsed) */
+	private final LongAdder misses = new LongAdder();
+	/** The maximum number of results to keep */
+	private int maxSize;
+	
+	/**
+	 * Constructs a new empty {@link ParseMemo} with the {@link #DEFAULT_MAX_SIZE default maximum size}
+	 */
+	public ParseMemo(){
+		this(DEFAULT_MAX_SIZE);
+	}
+	
+	/**
+	 * Constructs a new empty {@link ParseMemo} with the given maximum size
+	 *
+	 * @param maxSize The maximum number of results to keep (0 to not keep any)
+	 */
+	public ParseMemo(int maxSize){
+		checkMaxSize(maxSize);
+		this.maxSize = maxSize;
+	}
+	
+	/**
+	 * @return The maximum number of results to keep
+	 */
+	public synchronized int getMaxSize(){
+		return maxSize;
+	}
+	
+	/**
+	 * Sets the maximum number of results to keep, evicting the least recently used results if there are too many
+	 *
+	 * @param maxSize The maximum number of results to keep (0 to not keep any)
+	 */
+	public synchronized void setMaxSize(int maxSize){
+		checkMaxSize(maxSize);
+		this.maxSize = maxSize;
+		evictDownToMaxSize();
+	}
+	
+	/**
+	 * @return The number of results currently kept
+	 */
+	public synchronized int size(){
+		return results.size();
+	}
+	
+	/**
+	 * @return The number of lookups that were found in the memo
+	 */
+	public long getHits(){
+		return hits.sum();
+	}
+	
+	/**
+	 * @return The number of lookups that weren't found in the memo
+	 */
+	public long getMisses(){
+		return misses.sum();
+	}
+	
+	/**
+	 * @return The fraction of lookups that were found in the memo (0 if there haven't been any lookups)
+	 */
+	public double getHitRate(){
+		long numHits = getHits();
+		long lookups = numHits + getMisses();
+		return lookups == 0?0:(double) numHits / lookups;
+	}
+	
+	/**
+	 * Looks up the result of parsing the given String, counting it as a hit or a miss
+	 *
+	 * @param key The String that was parsed
+	 * @return The result of parsing it, or null if it's not in the memo
+	 */
+	public Value get(String key){
+		Value result;
+		synchronized(this){
+			result = results.get(key);
+		}
+		if(result == null){
+			misses.increment();
+		}else{
+			hits.increment();
+		}
+		return result;
+	}
+	
+	/**
+	 * Adds the result of parsing the given String, evicting the least recently used result if there are too many
+	 *
+	 * @param key The String that was parsed
+	 * @param result The result of parsing it (which will be shared, so it shouldn't be editable)
+	 */
+	public synchronized void put(String key, Value result){
+		if(maxSize > 0){
+			results.put(key, result);
+			evictDownToMaxSize();
+		}
+	}
+	
+	/**
+	 * Removes all the results and resets the hit and miss counts
+	 */
+	public synchronized void clear(){
+		results.clear();
+		hits.reset();
+		misses.reset();
+	}
+	
+	/**
+	 * Evicts the least recently used results until there are no more than the maximum size
+	 */
+	private void evictDownToMaxSize(){
+		Iterator<String> keys = results.keySet().iterator();
+		while(results.size() > maxSize && keys.hasNext()){
+			keys.next();
+			keys.remove();
+		}
+	}
+	
+	/**
+	 * @param maxSize The maximum size to check
+	 * @throws IllegalArgumentException If the maximum size is negative
+	 */
+	private static void checkMaxSize(int maxSize){
+		if(maxSize < 0){
+			throw new IllegalArgumentException("maxSize must not be negative, but was " + maxSize);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.github.tadukoo.java.parsing;
+
+/**
+ * Parse Mode is used to choose how much of the code gets parsed up front (or at all)
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public enum ParseMode{
+	/** Everything is parsed right away */
+	FULL(false, false),
+	/**
+	 * Everything is parsed, except the content of methods is kept as an unparsed slice of the source until the
+	 * lines of the method are first used (e.g. by {@link com.github.tadukoo.java.method.JavaMethod#getLines()}).
+	 * This saves all the work on the lines when only the signatures are needed, but note that the slices keep the
+	 * whole source alive until their lines are parsed
+	 */
+	LAZY_METHOD_BODIES(false, false),
+	/**
+	 * Only the outline of the code is parsed: package declarations, import statements, annotations, classes,
+	 * fields, and method signatures. The content of methods and static code blocks is skipped over by counting
+	 * braces (so they have no lines), and comments and Javadocs are skipped entirely. This is meant for indexing,
+	 * where only the names and signatures are needed
+	 */
+	OUTLINE(true, true),
+	/** The same as {@link #OUTLINE}, except comments and Javadocs are kept */
+	OUTLINE_WITH_COMMENTS(true, false);
+	
+	/** Whether the content of methods and static code blocks is skipped */
+	private final boolean skipsBodies;
+	/** Whether comments and Javadocs are skipped */
+	private final boolean skipsComments;
+	
+	/**
+	 * Constructs a new {@link ParseMode}
+	 *
+	 * @param skipsBodies Whether the content of methods and static code blocks is skipped
+	 * @param skipsComments Whether comments and Javadocs are skipped
+	 */
+	ParseMode(boolean skipsBodies, boolean skipsComments){
+		this.skipsBodies = skipsBodies;
+		this.skipsComments = skipsComments;
+	}
+	
+	/**
+	 * @return Whether the content of methods and static code blocks is skipped
+	 */
+	public boolean skipsBodies(){
+		return skipsBodies;
+	}
+	
+	/**
+	 * @return Whether comments and Javadocs are skipped
+	 */
+	public boolean skipsComments(){
+		return skipsComments;
+	}
+}
@@ -5,11 +5,13 @@ import com.github.tadukoo.java.JavaCodeType;
 /**
  * Used as a pojo for a return type of the various parsing sub-methods
  *
+ * @param startTokenIndex The index of the token where parsing started
  * @param nextTokenIndex The index of the next token to be parsed
  * @param parsedType A {@link JavaCodeType} that was parsed by the method
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
-public record ParsingPojo(int nextTokenIndex, JavaCodeType parsedType){
+public record ParsingPojo(int startTokenIndex, int nextTokenIndex, JavaCodeType parsedType){
 }
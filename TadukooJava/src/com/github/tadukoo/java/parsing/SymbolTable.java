@@ -0,0 +1,245 @@
+package com.github.tadukoo.java.parsing;
+
+/**
+ * A Symbol Table is used to share a single String instance between every identifier with the same text that gets
+ * parsed (e.g. class names, {@link com.github.tadukoo.java.JavaType#getBaseType() base types}, import names,
+ * annotation names, and parameter names). Parsing a large number of files otherwise makes a new String for every
+ * {@code String}, {@code List}, or {@code Override} it comes across, so sharing one Symbol Table between the parses
+ * of a whole corpus can save a lot of heap when the parsed models are kept around. The parsers also use the
+ * {@link com.github.tadukoo.java.JavaTypeParameter#toCanonical() canonical}
+ * {@link com.github.tadukoo.java.JavaTypeParameter type parameters} when parsing with a Symbol Table, so identical
+ * type parameters share a single instance too. The outermost {@link com.github.tadukoo.java.JavaType types} (e.g.
+ * the type of a field) are still new instances, since they can be edited through the models they're in.
+ * <br><br>
+ * The table is split into a number of stripes, each of which is its own small open-addressing hash table guarded
+ * by its own lock, so it's safe to share between threads without them all contending on one lock. Symbols are
+ * never removed except by {@link #clear()}, so a Symbol Table should only be kept as long as the parsed models
+ * that use it.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class SymbolTable{
+	
+	/** The default number of stripes to use */
+	private static final int DEFAULT_NUM_STRIPES = 16;
+	/** The initial capacity of each stripe's table */
+	private static final int INITIAL_STRIPE_CAPACITY = 64;
+	
+	/** The stripes of the table - a symbol's stripe is picked using its hash code */
+	private final Stripe[] stripes;
+	/** A mask used to pick a stripe from a hash code */
+	private final int stripeMask;
+	
+	/**
+	 * Constructs a new empty {@link SymbolTable} with the default number of stripes
+	 */
+	public SymbolTable(){
+		this(DEFAULT_NUM_STRIPES);
+	}
+	
+	/**
+	 * Constructs a new empty {@link SymbolTable} with (at least) the given number of stripes. More stripes allow
+	 * more threads to intern symbols at once without waiting on each other
+	 *
+	 * @param numStripes The number of stripes to use (rounded up to a power of 2)
+	 */
+	public SymbolTable(int numStripes){
+		if(numStripes <= 0){
+			throw new IllegalArgumentException("numStripes must be positive, but was " + numStripes);
+		}
+		int stripeCount = Integer.highestOneBit(numStripes);
+		if(stripeCount < numStripes){
+			stripeCount <<= 1;
+		}
+		stripes = new Stripe[stripeCount];
+		for(int i = 0; i < stripeCount; i++){
+			stripes[i] = new Stripe();
+		}
+		stripeMask = stripeCount - 1;
+	}
+	
+	/**
+	 * @return The number of stripes being used
+	 */
+	public int getNumStripes(){
+		return stripes.length;
+	}
+	
+	/**
+	 * @return The number of distinct symbols in this table
+	 */
+	public int size(){
+		int size = 0;
+		for(Stripe stripe: stripes){
+			size += stripe.size();
+		}
+		return size;
+	}
+	
+	/**
+	 * Gets the shared instance of the given symbol, adding it to this table if it isn't already in it
+	 *
+	 * @param symbol The symbol to intern (can be null)
+	 * @return The shared instance with the same text as the given symbol (or null if it was null)
+	 */
+	public String intern(String symbol){
+		if(symbol == null){
+			return null;
+		}
+		int hash = symbol.hashCode();
+		return stripes[stripeIndex(hash)].intern(symbol, 0, symbol.length(), hash, symbol);
+	}
+	
+	/**
+	 * Gets the shared instance of the symbol from the start offset to the end offset of the given text, adding it
+	 * to this table if it isn't already in it. No String is made if the symbol is already in the table
+	 *
+	 * @param text The text the symbol is in
+	 * @param start The start offset of the symbol in the text (inclusive)
+	 * @param end The end offset of the symbol in the text (exclusive)
+	 * @return The shared instance with the same text as the symbol
+	 */
+	public String intern(CharSequence text, int start, int end){
+		if(start < 0 || end > text.length() || start > end){
+			throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " +
+					text.length());
+		}
+		// Same as String.hashCode, so a symbol gets the same hash either way it's interned
+		int hash = 0;
+		for(int i = start; i < end; i++){
+			hash = 31 * hash + text.charAt(i);
+		}
+		return stripes[stripeIndex(hash)].intern(text, start, end, hash, null);
+	}
+	
+	/**
+	 * Removes all the symbols from this table
+	 */
+	public void clear(){
+		for(Stripe stripe: stripes){
+			stripe.clear();
+		}
+	}
+	
+	/**
+	 * Picks the stripe to use for the given hash code. The high bits are used, as the low bits are used for the
+	 * slot within the stripe
+	 *
+	 * @param hash The hash code of the symbol
+	 * @return The index of the stripe to use for the symbol
+	 */
+	private int stripeIndex(int hash){
+		return (hash ^ (hash >>> 16) ^ (hash >>> 24)) >>> 8 & stripeMask;
+	}
+	
+	/**
+	 * A single stripe of a {@link SymbolTable}: an open-addressing (linear probing) hash table of symbols, which
+	 * is only used while holding its lock
+	 */
+	private static final class Stripe{
+		/** The slots of the table (null for an empty slot) */
+		private String[] table = new String[INITIAL_STRIPE_CAPACITY];
+		/** The hash codes of the symbols in the table, so they don't have to be checked unless the hash matches */
+		private int[] hashes = new int[INITIAL_STRIPE_CAPACITY];
+		/** The number of symbols in the table */
+		private int size;
+		
+		/**
+		 * @return The number of symbols in this stripe
+		 */
+		synchronized int size(){
+			return size;
+		}
+		
+		/**
+		 * Gets the shared instance of the given symbol, adding it to this stripe if it isn't already in it
+		 *
+		 * @param text The text the symbol is in
+		 * @param start The start offset of the symbol in the text
+		 * @param end The end offset of the symbol in the text
+		 * @param hash The hash code of the symbol
+		 * @param symbol The symbol as a String if it already is one (or null to make one if needed)
+		 * @return The shared instance of the symbol
+		 */
+		synchronized String intern(CharSequence text, int start, int end, int hash, String symbol){
+			int mask = table.length - 1;
+			int slot = hash & mask;
+			String existing;
+			while((existing = table[slot]) != null){
+				if(hashes[slot] == hash && matches(existing, text, start, end)){
+					return existing;
+				}
+				slot = (slot + 1) & mask;
+			}
+			
+			// Not found, so add it
+			if(symbol == null){
+				symbol = text.subSequence(start, end).toString();
+			}
+			table[slot] = symbol;
+			hashes[slot] = hash;
+			size++;
+			if(size * 2 > table.length){
+				resize();
+			}
+			return symbol;
+		}
+		
+		/**
+		 * Removes all the symbols from this stripe
+		 */
+		synchronized void clear(){
+			table = new String[INITIAL_STRIPE_CAPACITY];
+			hashes = new int[INITIAL_STRIPE_CAPACITY];
+			size = 0;
+		}
+		
+		/**
+		 * Doubles the size of the table, moving all the symbols into their new slots
+		 */
+		private void resize(){
+			String[] oldTable = table;
+			int[] oldHashes = hashes;
+			table = new String[oldTable.length * 2];
+			hashes = new int[oldTable.length * 2];
+			int mask = table.length - 1;
+			for(int i = 0; i < oldTable.length; i++){
+				if(oldTable[i] != null){
+					int slot = oldHashes[i] & mask;
+					while(table[slot] != null){
+						slot = (slot + 1) & mask;
+					}
+					table[slot] = oldTable[i];
+					hashes[slot] = oldHashes[i];
+				}
+			}
+		}
+		
+		/**
+		 * Checks if the given symbol has the same text as the given range of text
+		 *
+		 * @param symbol The symbol in the table
+		 * @param text The text the other symbol is in
+		 * @param start The start offset of the other symbol in the text
+		 * @param end The end offset of the other symbol in the text
+		 * @return Whether the symbol matches the range of text or not
+		 */
+		private static boolean matches(String symbol, CharSequence text, int start, int end){
+			int length = end - start;
+			if(symbol.length() != length){
+				return false;
+			}
+			if(text instanceof String string){
+				return symbol.regionMatches(0, string, start, length);
+			}
+			for(int i = 0; i < length; i++){
+				if(symbol.charAt(i) != text.charAt(start + i)){
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -2,6 +2,9 @@ package com.github.tadukoo.java.parsing.classtypes;
 
 import com.github.tadukoo.java.JavaCodeType;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaSourceSpan;
+import com.github.tadukoo.java.JavaSourceSpanned;
+import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
 import com.github.tadukoo.java.code.staticcodeblock.JavaStaticCodeBlock;
 import com.github.tadukoo.java.comment.JavaMultiLineComment;
@@ -15,12 +18,17 @@ import com.github.tadukoo.java.javadoc.Javadoc;
 import com.github.tadukoo.java.method.EditableJavaMethod;
 import com.github.tadukoo.java.packagedeclaration.JavaPackageDeclaration;
 import com.github.tadukoo.java.parsing.AbstractJavaParser;
+import com.github.tadukoo.java.parsing.JavaParseResult;
+import com.github.tadukoo.java.parsing.JavaParsingError;
+import com.github.tadukoo.java.parsing.JavaParsingErrorCode;
 import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.JavaTokenKind;
+import com.github.tadukoo.java.parsing.MappedJavaSource;
+import com.github.tadukoo.java.parsing.ParseMode;
 import com.github.tadukoo.java.parsing.ParsingPojo;
 import com.github.tadukoo.java.parsing.codetypes.JavaAnnotationParser;
-import com.github.tadukoo.java.parsing.codetypes.JavaFieldParser;
 import com.github.tadukoo.java.parsing.codetypes.JavaImportStatementParser;
-import com.github.tadukoo.java.parsing.codetypes.JavaMethodParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaMemberParser;
 import com.github.tadukoo.java.parsing.codetypes.JavaPackageDeclarationParser;
 import com.github.tadukoo.java.parsing.codetypes.JavaTypeWithModifiersParser;
 import com.github.tadukoo.java.parsing.comment.JavaMultiLineCommentParser;
@@ -47,51 +55,119 @@ public class JavaClassParser extends AbstractJavaParser{
 	private JavaClassParser(){ }
 	
 	/**
-	 * Parses a {@link JavaClass class} from the given content String
+	 * Parses a {@link JavaClass class} from the given content (a String, or e.g. a {@link MappedJavaSource})
 	 *
-	 * @param content The String of content to parse into a {@link JavaClass class}
-	 * @return The {@link JavaClass class} parsed from the given String
+	 * @param content The content to parse into a {@link JavaClass class}
+	 * @return The {@link JavaClass class} parsed from the given content
 	 * @throws JavaParsingException If anything goes wrong in parsing
 	 */
-	public static JavaClass parseClass(String content) throws JavaParsingException{
+	public static JavaClass parseClass(CharSequence content) throws JavaParsingException{
+		return parseClass(content, ParseMode.FULL);
+	}
+	
+	/**
+	 * Parses a {@link JavaClass class} from the given content using the given {@link ParseMode}
+	 *
+	 * @param content The content to parse into a {@link JavaClass class}
+	 * @param parseMode The {@link ParseMode} to use
+	 * @return The {@link JavaClass class} parsed from the given content
+	 * @throws JavaParsingException If anything goes wrong in parsing
+	 */
+	public static JavaClass parseClass(CharSequence content, ParseMode parseMode) throws JavaParsingException{
+		return parseClass(content, parseMode, null);
+	}
+	
+	/**
+	 * Parses a {@link JavaClass class} from the given content in diagnostics mode, where any problems found are
+	 * returned as the {@link JavaParsingError errors} of the {@link JavaParseResult} instead of being thrown
+	 *
+	 * @param content The content to parse into a {@link JavaClass class}
+	 * @return A {@link JavaParseResult} with the {@link JavaClass class} parsed from the given content, or the
+	 * {@link JavaParsingError errors} found while parsing it
+	 */
+	public static JavaParseResult<JavaClass> tryParseClass(CharSequence content){
+		return tryParseClass(content, ParseMode.FULL);
+	}
+	
+	/**
+	 * Parses a {@link JavaClass class} from the given content using the given {@link ParseMode} in diagnostics
+	 * mode (see {@link #tryParseClass(CharSequence)})
+	 *
+	 * @param content The content to parse into a {@link JavaClass class}
+	 * @param parseMode The {@link ParseMode} to use
+	 * @return A {@link JavaParseResult} with the {@link JavaClass class} parsed from the given content, or the
+	 * {@link JavaParsingError errors} found while parsing it
+	 */
+	public static JavaParseResult<JavaClass> tryParseClass(CharSequence content, ParseMode parseMode){
+		JavaParseResult<JavaClass> result = new JavaParseResult<>();
+		try{
+			JavaClass clazz = parseClass(content, parseMode, result);
+			if(result.isSuccess()){
+				result.setResult(clazz);
+			}
+		}catch(JavaParsingException e){
+			// The parsers for the other parts of a class (e.g. fields) still throw their errors
+			result.fail(e.getType(), e.getErrors());
+		}
+		return result;
+	}
+	
+	/**
+	 * Parses a {@link JavaClass class} from the given content using the given {@link ParseMode}. In diagnostics
+	 * mode (when there's a {@link JavaParseResult}), any problems found are added to the result instead of being
+	 * thrown
+	 *
+	 * @param content The content to parse into a {@link JavaClass class}
+	 * @param parseMode The {@link ParseMode} to use
+	 * @param diagnostics The {@link JavaParseResult} to add any errors to (can be null to throw them instead)
+	 * @return The {@link JavaClass class} parsed from the given content, or null if parsing failed in diagnostics
+	 * mode
+	 * @throws JavaParsingException If anything goes wrong in parsing (and not in diagnostics mode)
+	 */
+	private static JavaClass parseClass(
+			CharSequence content, ParseMode parseMode, JavaParseResult<?> diagnostics) throws JavaParsingException{
 		// Split the content into "tokens"
-		List<String> tokens = splitContentIntoTokens(content);
+		List<String> tokens = splitContentIntoTokens(content, parseMode);
 		
 		// Iterate over the tokens to parse stuff - we could get Package Declarations, Import Statements,
 		// Javadocs, Annotations, and the class itself
 		int currentToken = 0;
 		List<JavaCodeType> types = new ArrayList<>();
 		while(currentToken < tokens.size()){
-			String token = tokens.get(currentToken);
-			
-			ThrowingFunction2<List<String>, Integer, ParsingPojo, JavaParsingException> parseMethod;
+			JavaTokenKind kind = getTokenKind(tokens, currentToken);
 			
-			if(WHITESPACE_MATCHER.reset(token).matches()){
+			if(kind.isWhitespace()){
 				// Skip whitespace
 				currentToken++;
 				continue;
-			}else if(token.startsWith(PACKAGE_TOKEN)){
+			}else if(parseMode.skipsComments() && kind == JavaTokenKind.JAVADOC_START){
+				// Skip the javadoc
+				currentToken = skipComment(tokens, currentToken);
+				continue;
+			}
+			
+			ThrowingFunction2<List<String>, Integer, ParsingPojo, JavaParsingException> parseMethod = switch(kind){
 				// Parse a package declaration
-				parseMethod = JavaPackageDeclarationParser::parsePackageDeclaration;
-			}else if(token.startsWith(IMPORT_TOKEN)){
+				case PACKAGE -> JavaPackageDeclarationParser::parsePackageDeclaration;
 				// Parse an import statement
-				parseMethod = JavaImportStatementParser::parseImportStatement;
-			}else if(token.startsWith(JAVADOC_START_TOKEN)){
+				case IMPORT -> JavaImportStatementParser::parseImportStatement;
 				// Parse a javadoc
-				parseMethod = JavadocParser::parseJavadoc;
-			}else if(token.startsWith(ANNOTATION_START_TOKEN)){
+				case JAVADOC_START -> JavadocParser::parseJavadoc;
 				// Parse an annotation
-				parseMethod = JavaAnnotationParser::parseAnnotation;
-			}else if(MODIFIERS.contains(token)){
+				case ANNOTATION_START -> JavaAnnotationParser::parseAnnotation;
 				// If it's modifiers, send it to the type with modifiers parser
-				parseMethod = JavaTypeWithModifiersParser::parseTypeWithModifiers;
-			}else{
+				case PRIVATE, PROTECTED, PUBLIC, ABSTRACT, STATIC, FINAL ->
+						(typeTokens, startToken) ->
+								JavaTypeWithModifiersParser.parseTypeWithModifiers(typeTokens, startToken, diagnostics);
 				// Assume it's a class
-				parseMethod = JavaClassParser::parseClass;
-			}
+				default -> (classTokens, startToken) -> parseClass(classTokens, startToken, diagnostics);
+			};
 			
 			// Use the parse method and handle its results
 			ParsingPojo pojo = parseMethod.apply(tokens, currentToken);
+			if(failed(diagnostics)){
+				return null;
+			}
 			types.add(pojo.parsedType());
 			currentToken = pojo.nextTokenIndex();
 		}
@@ -106,37 +182,51 @@ public class JavaClassParser extends AbstractJavaParser{
 			if(type instanceof JavaPackageDeclaration javaPackageDeclaration){
 				if(packageDeclaration != null){
 					// Can't have multiple package declarations
-					throw new JavaParsingException(JavaCodeTypes.CLASS, "Only one package declaration allowed on a class!");
+					return failParsing(diagnostics, JavaCodeTypes.CLASS,
+							new JavaParsingError(JavaParsingErrorCode.DUPLICATE,
+									"Only one package declaration allowed on a class!", type));
 				}else if(clazz != null){
 					// Can't have package declaration after the class
-					throw new JavaParsingException(JavaCodeTypes.CLASS, "Encountered package declaration after class!");
+					return failParsing(diagnostics, JavaCodeTypes.CLASS,
+							new JavaParsingError(JavaParsingErrorCode.OUT_OF_ORDER,
+									"Encountered package declaration after class!", type));
 				}
 				packageDeclaration = javaPackageDeclaration;
 			}else if(type instanceof JavaImportStatement importStatement){
 				// Can't have import statements after the class
 				if(clazz != null){
-					throw new JavaParsingException(JavaCodeTypes.CLASS, "Encountered import statement after class!");
+					return failParsing(diagnostics, JavaCodeTypes.CLASS,
+							new JavaParsingError(JavaParsingErrorCode.OUT_OF_ORDER,
+									"Encountered import statement after class!", type));
 				}
 				importStatements.add(importStatement);
 			}else if(type instanceof Javadoc javadoc){
 				if(doc != null){
 					// Can't have multiple Javadocs
-					throw new JavaParsingException(JavaCodeTypes.CLASS, "Only one Javadoc allowed on a class!");
+					return failParsing(diagnostics, JavaCodeTypes.CLASS,
+							new JavaParsingError(JavaParsingErrorCode.DUPLICATE,
+									"Only one Javadoc allowed on a class!", type));
 				}else if(clazz != null){
 					// Can't have Javadoc after the class
-					throw new JavaParsingException(JavaCodeTypes.CLASS, "Encountered Javadoc after class!");
+					return failParsing(diagnostics, JavaCodeTypes.CLASS,
+							new JavaParsingError(JavaParsingErrorCode.OUT_OF_ORDER,
+									"Encountered Javadoc after class!", type));
 				}
 				doc = javadoc;
 			}else if(type instanceof JavaAnnotation annotation){
 				// Can't have annotations after the class
 				if(clazz != null){
-					throw new JavaParsingException(JavaCodeTypes.CLASS, "Encountered annotation after class!");
+					return failParsing(diagnostics, JavaCodeTypes.CLASS,
+							new JavaParsingError(JavaParsingErrorCode.OUT_OF_ORDER,
+									"Encountered annotation after class!", type));
 				}
 				annotations.add(annotation);
 			}else if(type instanceof EditableJavaClass javaClass){
 				// Can't have multiple classes
 				if(clazz != null){
-					throw new JavaParsingException(JavaCodeTypes.CLASS, "Encountered multiple classes!");
+					return failParsing(diagnostics, JavaCodeTypes.CLASS,
+							new JavaParsingError(JavaParsingErrorCode.DUPLICATE,
+									"Encountered multiple classes!", type));
 				}
 				// Set package declaration if we have it
 				if(packageDeclaration != null){
@@ -160,7 +250,8 @@ public class JavaClassParser extends AbstractJavaParser{
 		
 		// Error if we didn't find a class
 		if(clazz == null){
-			throw new JavaParsingException(JavaCodeTypes.CLASS, "Failed to parse an actual class!");
+			return failParsing(diagnostics, JavaCodeTypes.CLASS, buildError(tokens, 0, tokens.size(),
+					JavaParsingErrorCode.MISSING, "Failed to parse an actual class!"));
 		}
 		
 		return clazz;
@@ -175,168 +266,207 @@ public class JavaClassParser extends AbstractJavaParser{
 	 * @throws JavaParsingException If anything goes wrong during parsing
 	 */
 	public static ParsingPojo parseClass(List<String> tokens, int startToken) throws JavaParsingException{
+		return parseClass(tokens, startToken, null);
+	}
+	
+	/**
+	 * Parses a {@link JavaClass class} from the given tokens and starting index. In diagnostics mode (when there's
+	 * a {@link JavaParseResult}), any problems found are added to the result instead of being thrown
+	 *
+	 * @param tokens The List of tokens to be parsed
+	 * @param startToken The index of the token to start parsing at
+	 * @param diagnostics The {@link JavaParseResult} to add any errors to (can be null to throw them instead)
+	 * @return A {@link ParsingPojo} containing where we stopped parsing and the {@link JavaClass class}, or null if
+	 * parsing failed in diagnostics mode
+	 * @throws JavaParsingException If anything goes wrong during parsing (and not in diagnostics mode)
+	 */
+	public static ParsingPojo parseClass(
+			List<String> tokens, int startToken, JavaParseResult<?> diagnostics) throws JavaParsingException{
 		// Keep track of errors
-		List<String> errors = new ArrayList<>();
+		List<JavaParsingError> errors = new ArrayList<>();
 		
 		// First token of class must be "class"
 		if(StringUtil.notEquals(tokens.get(startToken), CLASS_TOKEN)){
-			errors.add("The first token of a class must be '" + CLASS_TOKEN + "'");
+			errors.add(buildError(tokens, startToken, startToken + 1, JavaParsingErrorCode.MISSING,
+					"The first token of a class must be '" + CLASS_TOKEN + "'"));
 		}
 		
 		// Start parsing tokens after "class"
 		int currentToken = startToken+1;
 		
 		// Skip any whitespace
-		while(currentToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(currentToken)).matches()){
+		while(currentToken < tokens.size() && isWhitespace(tokens.get(currentToken))){
 			currentToken++;
 		}
 		
 		// Next token is class name
-		Pair<String, Integer> typeAndNextToken = parseOutType(tokens, currentToken);
+		JavaType className = null;
+		Pair<JavaType, Integer> typeAndNextToken;
+		try{
+			typeAndNextToken = parseOutJavaType(tokens, currentToken);
+		}catch(IllegalArgumentException e){
+			// Keep going to find any other errors, skipping past the invalid class name (which is only reported
+			// if "class" was found, since otherwise this isn't really a class name)
+			if(errors.isEmpty()){
+				errors.add(buildError(tokens, currentToken, currentToken + 1, JavaParsingErrorCode.INVALID_TYPE,
+						e.getMessage()));
+			}
+			Pair<String, Integer> typeStringAndNextToken = parseOutType(tokens, currentToken);
+			typeAndNextToken = typeStringAndNextToken == null?null:
+					Pair.of(null, typeStringAndNextToken.getRight());
+		}
 		if(currentToken >= tokens.size() || typeAndNextToken == null){
-			throw new JavaParsingException(JavaCodeTypes.CLASS, "Failed to find class name!");
+			return failParsing(diagnostics, JavaCodeTypes.CLASS, buildError(tokens, currentToken, currentToken + 1,
+					JavaParsingErrorCode.MISSING, "Failed to find class name!"));
 		}
-		String className = typeAndNextToken.getLeft();
+		className = typeAndNextToken.getLeft();
 		currentToken = typeAndNextToken.getRight();
 		
 		// Parse the rest for items within the class
+		boolean skipComments = getParseMode(tokens).skipsComments();
 		boolean hitBlockOpenToken = false;
 		boolean endReached = false;
-		String superClassName = null;
-		List<String> implementsInterfaces = new ArrayList<>();
+		JavaType superClassName = null;
+		List<JavaType> implementsInterfaces = new ArrayList<>();
 		List<JavaCodeType> itemsInClass = new ArrayList<>();
 		while(currentToken < tokens.size() && !endReached){
-			String token = tokens.get(currentToken);
+			JavaTokenKind kind = getTokenKind(tokens, currentToken);
 			
-			ThrowingFunction2<List<String>, Integer, ParsingPojo, JavaParsingException> parseMethod;
-			if(StringUtil.equals(token, EXTENDS_TOKEN)){
-				// If we already hit the block open token, there's a problem
-				if(hitBlockOpenToken){
-					throw new JavaParsingException(JavaCodeTypes.CLASS,
-							"found '" + EXTENDS_TOKEN + "' after hitting the block open token!");
-				}
-				
+			if(kind.isWhitespace()){
 				// Skip whitespace
 				currentToken++;
-				while(currentToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(currentToken)).matches()){
-					currentToken++;
-				}
-				
-				// Class has a super class
-				Pair<String, Integer> extendsTypeAndNextToken = parseOutType(tokens, currentToken);
-				if(currentToken >= tokens.size() || extendsTypeAndNextToken == null){
-					throw new JavaParsingException(JavaCodeTypes.CLASS, "Failed to find super class name after '" +
-							EXTENDS_TOKEN + "'!");
-				}
-				superClassName = extendsTypeAndNextToken.getLeft();
-				currentToken = extendsTypeAndNextToken.getRight();
 				continue;
-			}else if(StringUtil.equals(token, IMPLEMENTS_TOKEN)){
-				// If we already hit the block open token, there's a problem
-				if(hitBlockOpenToken){
-					throw new JavaParsingException(JavaCodeTypes.CLASS,
-							"found '" + IMPLEMENTS_TOKEN + "' after hitting the block open token!");
-				}
-				
-				// Skip whitespace
-				currentToken++;
-				while(currentToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(currentToken)).matches()){
-					currentToken++;
-				}
-				
-				boolean continueInterfaces = true;
-				while(continueInterfaces){
-					// Class has an interface it implements
-					Pair<String, Integer> interfaceTypeAndNextToken = parseOutType(tokens, currentToken);
-					if(currentToken >= tokens.size() || interfaceTypeAndNextToken == null){
-						throw new JavaParsingException(JavaCodeTypes.CLASS, "Failed to find implements interface name " +
-								"after '" + IMPLEMENTS_TOKEN + "' or '" + LIST_SEPARATOR_TOKEN + "'!");
+			}else if(skipComments && kind.isCommentStart()){
+				// Skip the comment or javadoc
+				currentToken = skipComment(tokens, currentToken);
+				continue;
+			}
+			
+			ThrowingFunction2<List<String>, Integer, ParsingPojo, JavaParsingException> parseMethod;
+			switch(kind){
+				case EXTENDS -> {
+					// If we already hit the block open token, there's a problem
+					if(hitBlockOpenToken){
+						return failParsing(diagnostics, JavaCodeTypes.CLASS, buildError(tokens, currentToken,
+								currentToken + 1, JavaParsingErrorCode.OUT_OF_ORDER,
+								"found '" + EXTENDS_TOKEN + "' after hitting the block open token!"));
 					}
-					String interfaceName = interfaceTypeAndNextToken.getLeft();
-					currentToken = interfaceTypeAndNextToken.getRight();
-					// Remove starting comma if it has it (unless first one, in which case it's an error)
-					if(interfaceName.startsWith(LIST_SEPARATOR_TOKEN)){
-						if(implementsInterfaces.isEmpty()){
-							throw new JavaParsingException(JavaCodeTypes.CLASS, "Encountered '" + LIST_SEPARATOR_TOKEN +
-									"' before any interface names!");
-						}else{
-							interfaceName = interfaceName.substring(LIST_SEPARATOR_TOKEN.length());
-						}
+					
+					// Skip whitespace
+					currentToken++;
+					while(currentToken < tokens.size() && isWhitespace(tokens.get(currentToken))){
+						currentToken++;
 					}
 					
-					// Check if interface name has an ending comma
-					continueInterfaces = false;
-					if(interfaceName.endsWith(LIST_SEPARATOR_TOKEN)){
-						continueInterfaces = true;
-						interfaceName = interfaceName.substring(0, interfaceName.length() - LIST_SEPARATOR_TOKEN.length());
+					// Class has a super class
+					Pair<JavaType, Integer> extendsTypeAndNextToken = parseOutJavaType(tokens, currentToken);
+					if(currentToken >= tokens.size() || extendsTypeAndNextToken == null){
+						return failParsing(diagnostics, JavaCodeTypes.CLASS, buildError(tokens, currentToken,
+								currentToken + 1, JavaParsingErrorCode.MISSING,
+								"Failed to find super class name after '" + EXTENDS_TOKEN + "'!"));
+					}
+					superClassName = extendsTypeAndNextToken.getLeft();
+					currentToken = extendsTypeAndNextToken.getRight();
+					continue;
+				}
+				case IMPLEMENTS -> {
+					// If we already hit the block open token, there's a problem
+					if(hitBlockOpenToken){
+						return failParsing(diagnostics, JavaCodeTypes.CLASS, buildError(tokens, currentToken,
+								currentToken + 1, JavaParsingErrorCode.OUT_OF_ORDER,
+								"found '" + IMPLEMENTS_TOKEN + "' after hitting the block open token!"));
 					}
-					// Actually add the interface to the list
-					implementsInterfaces.add(interfaceName);
 					
-					// Proceed through whitespace to check for next token being comma
-					while(currentToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(currentToken)).matches()){
+					// Skip whitespace
+					currentToken++;
+					while(currentToken < tokens.size() && isWhitespace(tokens.get(currentToken))){
 						currentToken++;
 					}
-					if(currentToken < tokens.size()){
-						if(StringUtil.equals(tokens.get(currentToken), LIST_SEPARATOR_TOKEN)){
+					
+					boolean continueInterfaces = true;
+					while(continueInterfaces){
+						// Can't start with a comma
+						if(implementsInterfaces.isEmpty() && currentToken < tokens.size() &&
+								StringUtil.equals(tokens.get(currentToken), LIST_SEPARATOR_TOKEN)){
+							return failParsing(diagnostics, JavaCodeTypes.CLASS, buildError(tokens, currentToken,
+									currentToken + 1, JavaParsingErrorCode.UNEXPECTED_CONTENT,
+									"Encountered '" + LIST_SEPARATOR_TOKEN + "' before any interface names!"));
+						}
+						
+						// Class has an interface it implements
+						Pair<JavaType, Integer> interfaceTypeAndNextToken = parseOutJavaType(tokens, currentToken);
+						if(currentToken >= tokens.size() || interfaceTypeAndNextToken == null){
+							return failParsing(diagnostics, JavaCodeTypes.CLASS, buildError(tokens, currentToken,
+									currentToken + 1, JavaParsingErrorCode.MISSING,
+									"Failed to find implements interface name after '" + IMPLEMENTS_TOKEN +
+											"' or '" + LIST_SEPARATOR_TOKEN + "'!"));
+						}
+						implementsInterfaces.add(interfaceTypeAndNextToken.getLeft());
+						currentToken = interfaceTypeAndNextToken.getRight();
+						
+						// Check for a comma, meaning there's another interface
+						continueInterfaces = false;
+						if(currentToken < tokens.size() &&
+								StringUtil.equals(tokens.get(currentToken), LIST_SEPARATOR_TOKEN)){
 							continueInterfaces = true;
 							currentToken++;
 							// Skip any whitespace
-							while(currentToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(currentToken)).matches()){
+							while(currentToken < tokens.size() && isWhitespace(tokens.get(currentToken))){
 								currentToken++;
 							}
-						}else if(tokens.get(currentToken).startsWith(LIST_SEPARATOR_TOKEN)){
-							continueInterfaces = true;
 						}
 					}
+					continue;
 				}
-				continue;
-			}else if(StringUtil.equals(token, BLOCK_OPEN_TOKEN)){
-				if(hitBlockOpenToken){
-					errors.add("We hit the block open token twice for the same class!");
+				case BLOCK_OPEN -> {
+					if(hitBlockOpenToken){
+						errors.add(buildError(tokens, currentToken, currentToken + 1, JavaParsingErrorCode.DUPLICATE,
+								"We hit the block open token twice for the same class!"));
+					}
+					hitBlockOpenToken = true;
+					currentToken++;
+					continue;
+				}
+				case BLOCK_CLOSE -> {
+					endReached = true;
+					currentToken++;
+					continue;
 				}
-				hitBlockOpenToken = true;
-				currentToken++;
-				continue;
-			}else if(StringUtil.equals(token, BLOCK_CLOSE_TOKEN)){
-				endReached = true;
-				currentToken++;
-				continue;
-			}else if(StringUtil.equals(token, CLASS_TOKEN)){
 				// Parse a class
-				parseMethod = JavaClassParser::parseClass;
-			}else if(token.startsWith(JAVADOC_START_TOKEN)){
+				case CLASS -> parseMethod = (classTokens, classStartToken) ->
+						parseClass(classTokens, classStartToken, diagnostics);
 				// Parse a javadoc
-				parseMethod = JavadocParser::parseJavadoc;
-			}else if(token.startsWith(MULTI_LINE_COMMENT_START_TOKEN)){
+				case JAVADOC_START -> parseMethod = JavadocParser::parseJavadoc;
 				// Parse a multi-line comment
-				parseMethod = JavaMultiLineCommentParser::parseMultiLineComment;
-			}else if(token.startsWith(SINGLE_LINE_COMMENT_TOKEN)){
+				case MULTI_LINE_COMMENT_START -> parseMethod = JavaMultiLineCommentParser::parseMultiLineComment;
 				// Parse a single-line comment
-				parseMethod = JavaSingleLineCommentParser::parseSingleLineComment;
-			}else if(token.startsWith(ANNOTATION_START_TOKEN)){
+				case SINGLE_LINE_COMMENT_START -> parseMethod = JavaSingleLineCommentParser::parseSingleLineComment;
 				// Parse an annotation
-				parseMethod = JavaAnnotationParser::parseAnnotation;
-			}else if(MODIFIERS.contains(token)){
+				case ANNOTATION_START -> parseMethod = JavaAnnotationParser::parseAnnotation;
 				// Parse a type with modifiers (could be field, method, class, etc.)
-				parseMethod = JavaTypeWithModifiersParser::parseTypeWithModifiers;
-			}else if(WHITESPACE_MATCHER.reset(token).matches()){
-				// Skip whitespace
-				currentToken++;
-				continue;
-			}else{
-				JavaCodeTypes type = determineFieldOrMethod(tokens, currentToken);
-				if(type == JavaCodeTypes.FIELD){
-					parseMethod = JavaFieldParser::parseField;
-				}else if(type == JavaCodeTypes.METHOD){
-					parseMethod = JavaMethodParser::parseMethod;
-				}else{
-					throw new JavaParsingException(JavaCodeTypes.CLASS, "Unable to determine token: '" + token + "'");
+				case PRIVATE, PROTECTED, PUBLIC, ABSTRACT, STATIC, FINAL -> parseMethod = (typeTokens, typeStartToken) ->
+						JavaTypeWithModifiersParser.parseTypeWithModifiers(typeTokens, typeStartToken, diagnostics);
+				default -> {
+					// Parse a field or method
+					ParsingPojo result = JavaMemberParser.parseMember(tokens, currentToken, diagnostics);
+					if(failed(diagnostics)){
+						return null;
+					}else if(result == null){
+						return failParsing(diagnostics, JavaCodeTypes.CLASS, buildError(tokens, currentToken,
+								currentToken + 1, JavaParsingErrorCode.UNEXPECTED_CONTENT,
+								"Unable to determine token: '" + tokens.get(currentToken) + "'"));
+					}
+					itemsInClass.add(result.parsedType());
+					currentToken = result.nextTokenIndex();
+					continue;
 				}
 			}
 			
 			// Run the parse method
 			ParsingPojo result = parseMethod.apply(tokens, currentToken);
+			if(failed(diagnostics)){
+				return null;
+			}
 			itemsInClass.add(result.parsedType());
 			currentToken = result.nextTokenIndex();
 		}
@@ -345,11 +475,11 @@ public class JavaClassParser extends AbstractJavaParser{
 		JavaClassBuilder<EditableJavaClass> builder = EditableJavaClass.builder()
 				.className(className);
 		// Only add extends and implements if we have them
-		if(StringUtil.isNotBlank(superClassName)){
+		if(superClassName != null){
 			builder.superClassName(superClassName);
 		}
-		if(ListUtil.isNotBlank(implementsInterfaces)){
-			builder.implementsInterfaceNameTexts(implementsInterfaces);
+		if(!implementsInterfaces.isEmpty()){
+			builder.implementsInterfaceNames(implementsInterfaces);
 		}
 		Javadoc doc = null;
 		List<JavaAnnotation> annotations = new ArrayList<>();
@@ -407,23 +537,31 @@ public class JavaClassParser extends AbstractJavaParser{
 				clazz.setInnerClass(true);
 				builder.innerClass(clazz);
 			}else{
-				errors.add("Don't know how to add '" + type.getJavaCodeType() + "' to a class");
+				errors.add(new JavaParsingError(JavaParsingErrorCode.UNEXPECTED_CONTENT,
+						"Don't know how to add '" + type.getJavaCodeType() + "' to a class", type));
 			}
 		}
 		
 		// Check for hanging doc/annotations
 		if(doc != null){
-			errors.add("Found Javadoc at end of class with nothing to attach it to!");
+			errors.add(new JavaParsingError(JavaParsingErrorCode.UNATTACHED,
+					"Found Javadoc at end of class with nothing to attach it to!", doc));
 		}
 		if(!annotations.isEmpty()){
-			errors.add("Found annotations at end of class with nothing to attach them to!");
+			JavaAnnotation firstAnnotation = annotations.get(0);
+			JavaAnnotation lastAnnotation = annotations.get(annotations.size() - 1);
+			JavaSourceSpan span = firstAnnotation.hasSourceSpan()?new JavaSourceSpan(
+					JavaSourceSpanned.pack(firstAnnotation.getSourceStartOffset(), lastAnnotation.getSourceEndOffset()),
+					firstAnnotation.getSourceStartPosition(), lastAnnotation.getSourceEndPosition()):null;
+			errors.add(new JavaParsingError(JavaParsingErrorCode.UNATTACHED,
+					"Found annotations at end of class with nothing to attach them to!", span));
 		}
 		
-		// If we had any errors, throw 'em
+		// If we had any errors, throw 'em (or add them to the result in diagnostics mode)
 		if(!errors.isEmpty()){
-			throw new JavaParsingException(JavaCodeTypes.CLASS, StringUtil.buildStringWithNewLines(errors));
+			return failParsing(diagnostics, JavaCodeTypes.CLASS, errors);
 		}
 		
-		return new ParsingPojo(currentToken, builder.build());
+		return buildParsingPojo(tokens, startToken, currentToken, builder.build());
 	}
 }
@@ -4,11 +4,15 @@ import com.github.tadukoo.java.JavaCodeTypes;
 import com.github.tadukoo.java.annotation.EditableJavaAnnotation;
 import com.github.tadukoo.java.annotation.JavaAnnotation;
 import com.github.tadukoo.java.annotation.JavaAnnotationBuilder;
+import com.github.tadukoo.java.annotation.UneditableJavaAnnotation;
 import com.github.tadukoo.java.parsing.AbstractJavaParser;
 import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.ParseMemo;
 import com.github.tadukoo.java.parsing.ParsingPojo;
+import com.github.tadukoo.java.parsing.SymbolTable;
 import com.github.tadukoo.util.StringUtil;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -17,7 +21,8 @@ import java.util.regex.Pattern;
  * A parser to use for parsing {@link JavaAnnotation annotations in Java}
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class JavaAnnotationParser extends AbstractJavaParser{
 	
@@ -68,6 +73,8 @@ public class JavaAnnotationParser extends AbstractJavaParser{
 	 * </table>
 	 */
 	private static final Pattern ANNOTATION_PARAMETER_PATTERN = Pattern.compile("\\s*([^=,]*)\\s*=\\s*([^,]*),?\\s*");
+	/** The {@link ParseMemo} used in front of {@link #parseAnnotation(String)} */
+	private static final ParseMemo<UneditableJavaAnnotation> ANNOTATION_MEMO = new ParseMemo<>();
 	
 	/** Not allowed to instantiate {@link JavaAnnotationParser} */
 	private JavaAnnotationParser(){ }
@@ -93,7 +100,7 @@ public class JavaAnnotationParser extends AbstractJavaParser{
 		
 		// Skip any whitespace
 		int currentToken = startToken+1;
-		while(currentToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(currentToken)).matches()){
+		while(currentToken < tokens.size() && isWhitespace(tokens.get(currentToken))){
 			currentToken++;
 		}
 		
@@ -105,7 +112,7 @@ public class JavaAnnotationParser extends AbstractJavaParser{
 		}
 		
 		// Skip any whitespace
-		while(currentToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(currentToken)).matches()){
+		while(currentToken < tokens.size() && isWhitespace(tokens.get(currentToken))){
 			currentToken++;
 		}
 		
@@ -133,25 +140,78 @@ public class JavaAnnotationParser extends AbstractJavaParser{
 		}
 		
 		// Parse the annotation using the regex method
-		JavaAnnotation annotation = parseAnnotation(fullAnnotation.toString());
+		JavaAnnotation annotation = parseAnnotation(fullAnnotation.toString(), getSymbolTable(tokens));
 		
-		return new ParsingPojo(currentToken, annotation);
+		return buildParsingPojo(tokens, startToken, currentToken, annotation);
 	}
 	
 	/**
-	 * Parses the given text into an {@link JavaAnnotation annotation} if possible, or returns null
+	 * @return The {@link ParseMemo} used in front of {@link #parseAnnotation(String)}
+	 */
+	public static ParseMemo<UneditableJavaAnnotation> getAnnotationMemo(){
+		return ANNOTATION_MEMO;
+	}
+	
+	/**
+	 * Parses the given text into an {@link JavaAnnotation annotation}. The result is memoized in the
+	 * {@link #getAnnotationMemo() annotation memo}, and a new {@link EditableJavaAnnotation} is copied from it each
+	 * time
 	 *
 	 * @param content The text to be parsed into a {@link JavaAnnotation annotation}
-	 * @return The {@link JavaAnnotation annotation} parsed from the text, or {@code null} if it can't be parsed
-	 * @throws JavaParsingException If anything goes wrong during parsing
+	 * @return The {@link JavaAnnotation annotation} parsed from the text
+	 * @throws JavaParsingException If the text can't be parsed into an annotation
 	 */
 	public static JavaAnnotation parseAnnotation(String content) throws JavaParsingException{
+		return parseAnnotation(content, null);
+	}
+	
+	/**
+	 * Parses the given text into an {@link JavaAnnotation annotation}, sharing the annotation name and parameter
+	 * names through the given {@link SymbolTable}. Without a {@link SymbolTable}, the result is memoized in the
+	 * {@link #getAnnotationMemo() annotation memo}
+	 *
+	 * @param content The text to be parsed into a {@link JavaAnnotation annotation}
+	 * @param symbolTable The {@link SymbolTable} to share identifiers through (can be null to not share them)
+	 * @return The {@link JavaAnnotation annotation} parsed from the text
+	 * @throws JavaParsingException If the text can't be parsed into an annotation
+	 */
+	public static JavaAnnotation parseAnnotation(String content, SymbolTable symbolTable) throws JavaParsingException{
+		if(symbolTable != null){
+			return parseAnnotationContent(content, symbolTable);
+		}
+		
+		UneditableJavaAnnotation annotation = ANNOTATION_MEMO.get(content);
+		if(annotation == null){
+			JavaAnnotation parsedAnnotation = parseAnnotationContent(content, null);
+			annotation = UneditableJavaAnnotation.builder()
+					.copy(parsedAnnotation)
+					.parameters(List.copyOf(parsedAnnotation.getParameters()))
+					.build();
+			ANNOTATION_MEMO.put(content, annotation);
+		}
+		return EditableJavaAnnotation.builder()
+				.copy(annotation)
+				.parameters(new ArrayList<>(annotation.getParameters()))
+				.build();
+	}
+	
+	/**
+	 * Parses the given text into an {@link JavaAnnotation annotation}, sharing the annotation name and parameter
+	 * names through the given {@link SymbolTable}
+	 *
+	 * @param content The text to be parsed into a {@link JavaAnnotation annotation}
+	 * @param symbolTable The {@link SymbolTable} to share identifiers through (can be null to not share them)
+	 * @return The {@link JavaAnnotation annotation} parsed from the text
+	 * @throws JavaParsingException If the text isn't a valid {@link JavaAnnotation annotation}
+	 */
+	private static JavaAnnotation parseAnnotationContent(
+			String content, SymbolTable symbolTable) throws JavaParsingException{
 		Matcher annotationMatcher = ANNOTATION_PATTERN.matcher(content);
 		if(annotationMatcher.matches()){
 			JavaAnnotationBuilder<EditableJavaAnnotation> builder = EditableJavaAnnotation.builder();
 			
 			// Grab the name and add it to the builder
-			String annotationName = StringUtil.trim(annotationMatcher.group(1));
+			String annotationName = intern(symbolTable, StringUtil.trim(annotationMatcher.group(1)));
 			builder.name(annotationName);
 			
 			// Grab and parse the parameters
@@ -163,7 +223,7 @@ public class JavaAnnotationParser extends AbstractJavaParser{
 					builder.parameter("value", annotationParameters);
 				}else{
 					do{
-						String parameterName = StringUtil.trim(parameterMatcher.group(1));
+						String parameterName = intern(symbolTable, StringUtil.trim(parameterMatcher.group(1)));
 						String parameterValue = StringUtil.trim(parameterMatcher.group(2));
 						builder.parameter(parameterName, parameterValue);
 					}while(parameterMatcher.find());
@@ -1,21 +1,18 @@
 package com.github.tadukoo.java.parsing.codetypes;
 
-import com.github.tadukoo.java.JavaCodeType;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.Visibility;
-import com.github.tadukoo.java.annotation.JavaAnnotation;
 import com.github.tadukoo.java.field.EditableJavaField;
 import com.github.tadukoo.java.field.JavaField;
-import com.github.tadukoo.java.javadoc.Javadoc;
 import com.github.tadukoo.java.parsing.AbstractJavaParser;
+import com.github.tadukoo.java.parsing.JavaParser;
 import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.MemberHeader;
 import com.github.tadukoo.java.parsing.ParsingPojo;
-import com.github.tadukoo.java.parsing.comment.JavadocParser;
-import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.java.parsing.SymbolTable;
 import com.github.tadukoo.util.StringUtil;
-import com.github.tadukoo.util.functional.function.ThrowingFunction2;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -80,81 +77,7 @@ public class JavaFieldParser extends AbstractJavaParser{
 	 * @throws JavaParsingException If anything goes wrong in parsing
 	 */
 	public static JavaField parseField(String content) throws JavaParsingException{
-		// Split the content into "tokens"
-		List<String> tokens = splitContentIntoTokens(content);
-		
-		// Iterate over the tokens to parse stuff - we could get Javadocs, Annotations, and the field itself
-		int currentToken = 0;
-		List<JavaCodeType> types = new ArrayList<>();
-		while(currentToken < tokens.size()){
-			String token = tokens.get(currentToken);
-			
-			ThrowingFunction2<List<String>, Integer, ParsingPojo, JavaParsingException> parseMethod;
-			
-			if(WHITESPACE_MATCHER.reset(token).matches()){
-				// Skip whitespace
-				currentToken++;
-				continue;
-			}else if(token.startsWith(JAVADOC_START_TOKEN)){
-				// Parse a javadoc
-				parseMethod = JavadocParser::parseJavadoc;
-			}else if(token.startsWith(ANNOTATION_START_TOKEN)){
-				// Parse an annotation
-				parseMethod = JavaAnnotationParser::parseAnnotation;
-			}else{
-				// Assume it's a field
-				parseMethod = JavaFieldParser::parseField;
-			}
-			
-			// Use the parse method and handle its results
-			ParsingPojo pojo = parseMethod.apply(tokens, currentToken);
-			types.add(pojo.parsedType());
-			currentToken = pojo.nextTokenIndex();
-		}
-		
-		// Combine the types
-		Javadoc doc = null;
-		List<JavaAnnotation> annotations = new ArrayList<>();
-		JavaField field = null;
-		for(JavaCodeType type: types){
-			if(type instanceof Javadoc javadoc){
-				if(doc != null){
-					// Can't have multiple Javadocs
-					throw new JavaParsingException(JavaCodeTypes.FIELD, "Only one Javadoc allowed on a field!");
-				}else if(field != null){
-					// Can't have Javadoc after the field
-					throw new JavaParsingException(JavaCodeTypes.FIELD, "Encountered Javadoc after field!");
-				}
-				doc = javadoc;
-			}else if(type instanceof JavaAnnotation annotation){
-				// Can't have annotations after the field
-				if(field != null){
-					throw new JavaParsingException(JavaCodeTypes.FIELD, "Encountered annotation after field!");
-				}
-				annotations.add(annotation);
-			}else if(type instanceof EditableJavaField javaField){
-				// Can't have multiple fields
-				if(field != null){
-					throw new JavaParsingException(JavaCodeTypes.FIELD, "Encountered multiple fields!");
-				}
-				// Set Javadoc if we have it
-				if(doc != null){
-					javaField.setJavadoc(doc);
-				}
-				// Set annotations if we have them
-				if(ListUtil.isNotBlank(annotations)){
-					javaField.setAnnotations(annotations);
-				}
-				field = javaField;
-			}
-		}
-		
-		// Error if we didn't find a field
-		if(field == null){
-			throw new JavaParsingException(JavaCodeTypes.FIELD, "Failed to parse an actual field!");
-		}
-		
-		return field;
+		return JavaParser.forCurrentThread().parseField(content);
 	}
 	
 	/**
@@ -187,19 +110,64 @@ public class JavaFieldParser extends AbstractJavaParser{
 		}
 		
 		// If we don't get a field, it's a problem
-		JavaField javaField = parseJustField(field.toString());
+		JavaField javaField = parseJustField(field.toString(), getSymbolTable(tokens));
 		
-		return new ParsingPojo(currentToken, javaField);
+		return buildParsingPojo(tokens, startToken, currentToken, javaField);
+	}
+	
+	/**
+	 * Parses a {@link JavaField field} whose type and name were already read into the given {@link MemberHeader},
+	 * so only its value (if it has one) still needs to be read from the tokens
+	 *
+	 * @param tokens The List of tokens to be parsed
+	 * @param startToken The index of the token the field started at
+	 * @param header The {@link MemberHeader} that was read for the field
+	 * @return A {@link ParsingPojo} containing where we stopped parsing and the {@link JavaField field}
+	 * @throws JavaParsingException If anything goes wrong during parsing
+	 */
+	static ParsingPojo parseField(List<String> tokens, int startToken, MemberHeader header) throws JavaParsingException{
+		// The field either ends with the name or the token after it, or has a value that goes until the semicolon
+		String name = tokens.get(header.nameToken());
+		String value = null;
+		int currentToken;
+		if(name.endsWith(SEMICOLON)){
+			name = name.substring(0, name.length() - SEMICOLON.length());
+			currentToken = header.nameToken() + 1;
+		}else if(StringUtil.equals(tokens.get(header.nextToken()), SEMICOLON)){
+			currentToken = header.nextToken() + 1;
+		}else{
+			int valueStart = header.nextToken() + 1;
+			boolean foundSemicolon = false;
+			for(currentToken = valueStart; currentToken < tokens.size() && !foundSemicolon; currentToken++){
+				foundSemicolon = tokens.get(currentToken).endsWith(SEMICOLON);
+			}
+			
+			// If we don't have a semicolon, it's a problem
+			if(!foundSemicolon){
+				throw new JavaParsingException(JavaCodeTypes.FIELD, "Failed to find semicolon at end of field");
+			}
+			
+			// Remove semicolon from the end and trim the value
+			String valueString = joinTokens(tokens, valueStart, currentToken);
+			value = formatValue(StringUtil.trim(valueString.substring(0, valueString.length() - SEMICOLON.length())));
+		}
+		
+		JavaField javaField = EditableJavaField.builder()
+				.type(header.type()).name(intern(getSymbolTable(tokens), name))
+				.value(value)
+				.build();
+		return buildParsingPojo(tokens, startToken, currentToken, javaField);
 	}
 	
 	/**
 	 * Parses a Java Field (not counting any Javadoc before it, just the field itself)
 	 *
 	 * @param content The text to be parsed into a {@link JavaField field)}
+	 * @param symbolTable The {@link SymbolTable} to share identifiers through (can be null to not share them)
 	 * @return The parsed {@link JavaField field}, or null if we don't have a field
 	 * @throws JavaParsingException If anything goes wrong during parsing
 	 */
-	private static JavaField parseJustField(String content) throws JavaParsingException{
+	private static JavaField parseJustField(String content, SymbolTable symbolTable) throws JavaParsingException{
 		// Find the equals signs in the field
 		int equalsIndex = content.indexOf(ASSIGNMENT_OPERATOR_TOKEN);
 		
@@ -234,12 +202,11 @@ public class JavaFieldParser extends AbstractJavaParser{
 					}
 				}
 			}
-			String type = StringUtil.trim(matcher.group(4));
-			String name = StringUtil.trim(matcher.group(11));
+			JavaType type = parseJavaType(StringUtil.trim(matcher.group(4)), symbolTable);
+			String name = intern(symbolTable, StringUtil.trim(matcher.group(11)));
 			
 			if(value != null){
-				value = value.replaceAll("\n\t", "\n")
-						.replaceAll(System.lineSeparator(), "\n");
+				value = formatValue(value);
 			}
 			
 			return EditableJavaField.builder()
@@ -252,4 +219,13 @@ public class JavaFieldParser extends AbstractJavaParser{
 			throw new JavaParsingException(JavaCodeTypes.FIELD, "Failed to parse a field");
 		}
 	}
+	
+	/**
+	 * @param value The value of a field, as found in the tokens
+	 * @return The value with its extra indentation removed and its line separators changed to newlines
+	 */
+	private static String formatValue(String value){
+		return value.replaceAll("\n\t", "\n")
+				.replaceAll(System.lineSeparator(), "\n");
+	}
 }
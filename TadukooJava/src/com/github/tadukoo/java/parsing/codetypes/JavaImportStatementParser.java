@@ -15,7 +15,8 @@ import java.util.List;
  * A parser used for parsing an {@link JavaImportStatement import statement in Java}
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class JavaImportStatementParser extends AbstractJavaParser{
 	
@@ -66,7 +67,7 @@ public class JavaImportStatementParser extends AbstractJavaParser{
 		
 		// Skip any whitespace tokens here
 		int currentToken = startToken + 1;
-		while(currentToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(currentToken)).matches()){
+		while(currentToken < tokens.size() && isWhitespace(tokens.get(currentToken))){
 			currentToken++;
 		}
 		
@@ -91,7 +92,7 @@ public class JavaImportStatementParser extends AbstractJavaParser{
 			}else if(token.endsWith(SEMICOLON)){
 				importName.append(token, 0, token.length()-1);
 				gotSemicolon = true;
-			}else if(!WHITESPACE_MATCHER.reset(token).matches()){
+			}else if(!isWhitespace(token)){
 				// Skip whitespace
 				importName.append(token);
 			}
@@ -113,9 +114,9 @@ public class JavaImportStatementParser extends AbstractJavaParser{
 		}
 		
 		// Build the import statement and return
-		return new ParsingPojo(currentToken, EditableJavaImportStatement.builder()
+		return buildParsingPojo(tokens, startToken, currentToken, EditableJavaImportStatement.builder()
 				.isStatic(isStatic)
-				.importName(importName.toString())
+				.importName(intern(getSymbolTable(tokens), importName.toString()))
 				.build());
 	}
 }
@@ -0,0 +1,81 @@
+package com.github.tadukoo.java.parsing.codetypes;
+
+import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.field.JavaField;
+import com.github.tadukoo.java.method.JavaMethod;
+import com.github.tadukoo.java.parsing.AbstractJavaParser;
+import com.github.tadukoo.java.parsing.JavaParseResult;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.JavaTokenList;
+import com.github.tadukoo.java.parsing.MemberHeader;
+import com.github.tadukoo.java.parsing.ParsingPojo;
+
+import java.util.List;
+
+/**
+ * A parser used for parsing the members of a class that can start with a type - {@link JavaField fields} and
+ * {@link JavaMethod methods}. The type parameters, type, and name at the start of the member are read once into a
+ * {@link MemberHeader}, which decides whether it's a field or method from the token after the name, and then
+ * the field or method is parsed from there, rather than looking ahead to decide and then parsing the member
+ * from the start again. The header can only be read from a {@link JavaTokenList}, so for other Lists of tokens,
+ * this still looks ahead to decide
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public class JavaMemberParser extends AbstractJavaParser{
+	
+	/** Not allowed to instantiate {@link JavaMemberParser} */
+	private JavaMemberParser(){ }
+	
+	/**
+	 * Parses a {@link JavaField field} or {@link JavaMethod method} from the given tokens and starting index
+	 *
+	 * @param tokens The List of tokens to be parsed
+	 * @param startToken The index of the token to start parsing at (after any modifiers)
+	 * @return A {@link ParsingPojo} containing where we stopped parsing and the {@link JavaField field} or
+	 * {@link JavaMethod method}, or null if the tokens aren't a field or method
+	 * @throws JavaParsingException If anything goes wrong during parsing
+	 */
+	public static ParsingPojo parseMember(List<String> tokens, int startToken) throws JavaParsingException{
+		return parseMember(tokens, startToken, null);
+	}
+	
+	/**
+	 * Parses a {@link JavaField field} or {@link JavaMethod method} from the given tokens and starting index. In
+	 * diagnostics mode (when there's a {@link JavaParseResult}), any problems found in a {@link JavaMethod method}
+	 * are added to the result instead of being thrown
+	 *
+	 * @param tokens The List of tokens to be parsed
+	 * @param startToken The index of the token to start parsing at (after any modifiers)
+	 * @param diagnostics The {@link JavaParseResult} to add any errors to (can be null to throw them instead)
+	 * @return A {@link ParsingPojo} containing where we stopped parsing and the {@link JavaField field} or
+	 * {@link JavaMethod method}, or null if the tokens aren't a field or method (or parsing failed in diagnostics
+	 * mode)
+	 * @throws JavaParsingException If anything goes wrong during parsing (and not in diagnostics mode)
+	 */
+	public static ParsingPojo parseMember(
+			List<String> tokens, int startToken, JavaParseResult<?> diagnostics) throws JavaParsingException{
+		if(tokens instanceof JavaTokenList){
+			// The header is read straight from the content, so if it can't be read, it's not a field or method
+			MemberHeader header = parseOutMemberHeader(tokens, startToken);
+			if(header == null){
+				return null;
+			}
+			return header.memberType() == JavaCodeTypes.METHOD?
+					JavaMethodParser.parseMethod(tokens, startToken, header, diagnostics):
+					JavaFieldParser.parseField(tokens, startToken, header);
+		}
+		
+		// A plain List of tokens has no content to read the header from, so look ahead to decide instead
+		JavaCodeTypes type = determineFieldOrMethod(tokens, startToken);
+		if(type == JavaCodeTypes.FIELD){
+			return JavaFieldParser.parseField(tokens, startToken);
+		}else if(type == JavaCodeTypes.METHOD){
+			return JavaMethodParser.parseMethod(tokens, startToken, diagnostics);
+		}else{
+			return null;
+		}
+	}
+}
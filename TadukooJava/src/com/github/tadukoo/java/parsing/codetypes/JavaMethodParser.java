@@ -1,26 +1,30 @@
 package com.github.tadukoo.java.parsing.codetypes;
 
-import com.github.tadukoo.java.JavaCodeType;
 import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.JavaParameter;
+import com.github.tadukoo.java.JavaType;
 import com.github.tadukoo.java.JavaTypeParameter;
-import com.github.tadukoo.java.Visibility;
-import com.github.tadukoo.java.annotation.JavaAnnotation;
-import com.github.tadukoo.java.javadoc.Javadoc;
 import com.github.tadukoo.java.method.EditableJavaMethod;
 import com.github.tadukoo.java.method.JavaMethod;
 import com.github.tadukoo.java.parsing.AbstractJavaParser;
+import com.github.tadukoo.java.parsing.JavaLexer;
+import com.github.tadukoo.java.parsing.JavaParseResult;
+import com.github.tadukoo.java.parsing.JavaParsingError;
+import com.github.tadukoo.java.parsing.JavaParsingErrorCode;
+import com.github.tadukoo.java.parsing.JavaParser;
 import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.JavaTokenKind;
+import com.github.tadukoo.java.parsing.JavaTokenList;
+import com.github.tadukoo.java.parsing.MemberHeader;
+import com.github.tadukoo.java.parsing.ParseMode;
 import com.github.tadukoo.java.parsing.ParsingPojo;
-import com.github.tadukoo.java.parsing.comment.JavadocParser;
-import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.java.parsing.SymbolTable;
 import com.github.tadukoo.util.StringUtil;
-import com.github.tadukoo.util.functional.function.ThrowingFunction2;
 
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A parser used for parsing {@link JavaMethod methods in Java}
@@ -31,65 +35,6 @@ import java.util.regex.Pattern;
  */
 public class JavaMethodParser extends AbstractJavaParser{
 	
-	/**
-	 * A {@link Pattern} used for parsing a {@link JavaMethod method}.
-	 * <table>
-	 *     <caption>Groups</caption>
-	 *     <tr>
-	 *         <th>#</th>
-	 *         <th>Group</th>
-	 *         <th>Example</th>
-	 *     </tr>
-	 *     <tr>
-	 *         <td>1</td>
-	 *         <td>Method {@link Visibility}</td>
-	 *         <td>"{@code public}" from "{@code public String name(){}}"</td>
-	 *     </tr>
-	 *     <tr>
-	 *         <td>2</td>
-	 *         <td>Method Static Modifier (or empty)</td>
-	 *         <td>"{@code static}" from "{@code public static String name(){}}"</td>
-	 *     </tr>
-	 *     <tr>
-	 *         <td>3</td>
-	 *         <td>Method Final Modifier (or empty)</td>
-	 *         <td>"{@code final}" from "{@code public final String name(){}}"</td>
-	 *     </tr>
-	 *     <tr>
-	 *         <td>4</td>
-	 *         <td>Method Return Type</td>
-	 *         <td>"{@code String}" from "{@code public String name(){}}"</td>
-	 *     </tr>
-	 *     <tr>
-	 *         <td>5</td>
-	 *         <td>Method Name (or blank if a constructor)</td>
-	 *         <td>"{@code name}" from "{@code public String name(){}}"</td>
-	 *     </tr>
-	 *     <tr>
-	 *         <td>6</td>
-	 *         <td>Method Parameters (or empty)</td>
-	 *         <td>"{@code String blah, int derp}" from "{@code public String name(String blah, int derp){}}"</td>
-	 *     </tr>
-	 *     <tr>
-	 *         <td>7</td>
-	 *         <td>Method Throw Types (or empty)</td>
-	 *         <td>"{@code Exception, Throwable}" from "{@code public String name() throws Exception, Throwable{}}"</td>
-	 *     </tr>
-	 *     <tr>
-	 *         <td>8</td>
-	 *         <td>Method Content (or empty)</td>
-	 *         <td>"{@code doSomething();}" from "{@code public String name(){ doSomething(); }}"</td>
-	 *     </tr>
-	 * </table>
-	 */
-	private static final Pattern METHOD_PATTERN = Pattern.compile(
-			"\\s*" + MODIFIERS_REGEX +
-					"(?:<((?:" + TYPE_PARAMETER_REGEX + ",)*" + TYPE_PARAMETER_REGEX + ")>)?\\s*" +
-					"(" + TYPE_REGEX + ")(\\s*[^\\s(]*)?\\s*" +
-					"\\(\\s*((" + PARAMETER_REGEX + ",?)*)\\s*\\)(?:\\s*throws ([^{]*))?" +
-					"\\s*(?:\\{\\s*(.*)\\s*}|;\\s*)",
-			Pattern.DOTALL);
-	
 	/** Not allowed to instantiate {@link JavaMethodParser} */
 	private JavaMethodParser(){ }
 	
@@ -101,85 +46,25 @@ public class JavaMethodParser extends AbstractJavaParser{
 	 * @throws JavaParsingException If anything goes wrong in parsing
 	 */
 	public static JavaMethod parseMethod(String content) throws JavaParsingException{
-		// Split the content into "tokens"
-		List<String> tokens = splitContentIntoTokens(content);
-		
-		// Iterate over the tokens to parse stuff - we could get Javadocs, Annotations, and the method itself
-		int currentToken = 0;
-		List<JavaCodeType> types = new ArrayList<>();
-		while(currentToken < tokens.size()){
-			String token = tokens.get(currentToken);
-			
-			ThrowingFunction2<List<String>, Integer, ParsingPojo, JavaParsingException> parseMethod;
-			
-			if(WHITESPACE_MATCHER.reset(token).matches()){
-				// Skip whitespace
-				currentToken++;
-				continue;
-			}else if(token.startsWith(JAVADOC_START_TOKEN)){
-				// Parse a javadoc
-				parseMethod = JavadocParser::parseJavadoc;
-			}else if(token.startsWith(ANNOTATION_START_TOKEN)){
-				// Parse an annotation
-				parseMethod = JavaAnnotationParser::parseAnnotation;
-			}else{
-				// Assume it's a method
-				parseMethod = JavaMethodParser::parseMethod;
-			}
-			
-			// Use the parse method and handle its results
-			ParsingPojo pojo = parseMethod.apply(tokens, currentToken);
-			types.add(pojo.parsedType());
-			currentToken = pojo.nextTokenIndex();
-		}
-		
-		// Combine the types
-		Javadoc doc = null;
-		List<JavaAnnotation> annotations = new ArrayList<>();
-		JavaMethod method = null;
-		for(JavaCodeType type: types){
-			if(type instanceof Javadoc javadoc){
-				if(doc != null){
-					// Can't have multiple Javadocs
-					throw new JavaParsingException(JavaCodeTypes.METHOD, "Only one Javadoc allowed on a method!");
-				}else if(method != null){
-					// Can't have Javadoc after the method
-					throw new JavaParsingException(JavaCodeTypes.METHOD, "Encountered Javadoc after method!");
-				}
-				doc = javadoc;
-			}else if(type instanceof JavaAnnotation annotation){
-				// Can't have annotations after the method
-				if(method != null){
-					throw new JavaParsingException(JavaCodeTypes.METHOD, "Encountered annotation after method!");
-				}
-				annotations.add(annotation);
-			}else if(type instanceof EditableJavaMethod javaMethod){
-				// Can't have multiple methods
-				if(method != null){
-					throw new JavaParsingException(JavaCodeTypes.METHOD, "Encountered multiple methods!");
-				}
-				// Set Javadoc if we have it
-				if(doc != null){
-					javaMethod.setJavadoc(doc);
-				}
-				// Set annotations if we have them
-				if(ListUtil.isNotBlank(annotations)){
-					javaMethod.setAnnotations(annotations);
-				}
-				method = javaMethod;
-			}
-		}
-		
-		// Error if we didn't find a method
-		if(method == null){
-			throw new JavaParsingException(JavaCodeTypes.METHOD, "Failed to parse an actual method!");
-		}
-		
-		return method;
+		return JavaParser.forCurrentThread().parseMethod(content);
 	}
 	
 	/**
-	 * Parses a {@link JavaMethod method} from the given tokens and starting index
+	 * Parses a {@link JavaMethod method} from the given content String in diagnostics mode, where any problems
+	 * found are returned as the {@link JavaParsingError errors} of the {@link JavaParseResult} instead of being thrown
+	 *
+	 * @param content The String of content to parse into a {@link JavaMethod method}
+	 * @return A {@link JavaParseResult} with the {@link JavaMethod method} parsed from the given String, or the
+	 * {@link JavaParsingError errors} found while parsing it
+	 */
+	public static JavaParseResult<JavaMethod> tryParseMethod(String content){
+		return JavaParser.forCurrentThread().tryParseMethod(content);
+	}
+	
+	/**
+	 * Parses a {@link JavaMethod method} from the given tokens and starting index. The signature is parsed
+	 * straight from the tokens and the method content is taken as one slice between its braces, so parsing
+	 * is linear in the length of the method
 	 *
 	 * @param tokens The List of tokens to be parsed
 	 * @param startToken The index of the token to start parsing at
@@ -187,46 +72,87 @@ public class JavaMethodParser extends AbstractJavaParser{
 	 * @throws JavaParsingException If anything goes wrong during parsing
 	 */
 	public static ParsingPojo parseMethod(List<String> tokens, int startToken) throws JavaParsingException{
+		return parseMethod(tokens, startToken, null, null);
+	}
+	
+	/**
+	 * Parses a {@link JavaMethod method} from the given tokens and starting index. In diagnostics mode (when there's
+	 * a {@link JavaParseResult}), any problems found are added to the result instead of being thrown
+	 *
+	 * @param tokens The List of tokens to be parsed
+	 * @param startToken The index of the token to start parsing at
+	 * @param diagnostics The {@link JavaParseResult} to add any errors to (can be null to throw them instead)
+	 * @return A {@link ParsingPojo} containing where we stopped parsing and the {@link JavaMethod method}, or null
+	 * if parsing failed in diagnostics mode
+	 * @throws JavaParsingException If anything goes wrong during parsing (and not in diagnostics mode)
+	 */
+	public static ParsingPojo parseMethod(
+			List<String> tokens, int startToken, JavaParseResult<?> diagnostics) throws JavaParsingException{
+		return parseMethod(tokens, startToken, null, diagnostics);
+	}
+	
+	/**
+	 * Parses a {@link JavaMethod method} from the given tokens and starting index. If the type parameters, return
+	 * type, and name of the method were already read into a {@link MemberHeader}, parsing picks up from its
+	 * parameters instead of reading the start of the method again
+	 *
+	 * @param tokens The List of tokens to be parsed
+	 * @param startToken The index of the token to start parsing at
+	 * @param header The {@link MemberHeader} that was read for the method (can be null to read it here)
+	 * @param diagnostics The {@link JavaParseResult} to add any errors to (can be null to throw them instead)
+	 * @return A {@link ParsingPojo} containing where we stopped parsing and the {@link JavaMethod method}, or null
+	 * if parsing failed in diagnostics mode
+	 * @throws JavaParsingException If anything goes wrong during parsing (and not in diagnostics mode)
+	 */
+	static ParsingPojo parseMethod(List<String> tokens, int startToken, MemberHeader header,
+			JavaParseResult<?> diagnostics) throws JavaParsingException{
 		// Keep track of errors
-		List<String> errors = new ArrayList<>();
+		List<JavaParsingError> errors = new ArrayList<>();
 		
-		// Build the method string
-		StringBuilder methodString = new StringBuilder();
-		boolean inParameters = false;
-		boolean parametersDone = false;
-		boolean insideMethod = false;
+		// Find where the parameters and content of the method are
+		boolean skipContent = getParseMode(tokens).skipsBodies();
+		int parameterOpenToken = -1, parameterCloseToken = -1, blockOpenToken = -1;
+		int openParameters = 0;
 		int openBlocks = 0;
 		boolean methodDone = false;
 		int currentToken;
-		for(currentToken = startToken; currentToken < tokens.size() && !methodDone; currentToken++){
+		for(currentToken = header == null?startToken:header.nextToken();
+				currentToken < tokens.size() && !methodDone; currentToken++){
 			String token = tokens.get(currentToken);
-			methodString.append(token);
-			
-			// Check for parameter start token if we're not yet in parameters
-			if(!parametersDone && !inParameters && token.contains(PARAMETER_OPEN_TOKEN)){
-				inParameters = true;
-			}
-			
-			// If we're in parameters and not yet done, check for parameter end token
-			if(!parametersDone && inParameters && token.contains(PARAMETER_CLOSE_TOKEN)){
-				inParameters = false;
-				parametersDone = true;
-			}
 			
-			// If parameters are done, check for block open or semicolon
-			if(parametersDone && token.contains(BLOCK_OPEN_TOKEN)){
-				insideMethod = true;
-			}else if(parametersDone && !insideMethod && token.endsWith(SEMICOLON)){
-				methodDone = true;
-			}
-			
-			// If inside the method, update the number of open blocks
-			if(insideMethod){
-				// Count open and close block tokens
+			if(parameterCloseToken == -1){
+				// Count parameter open and close tokens until the parameters are done
+				if(StringUtil.equals(token, PARAMETER_OPEN_TOKEN)){
+					if(parameterOpenToken == -1){
+						parameterOpenToken = currentToken;
+					}
+					openParameters++;
+				}else if(parameterOpenToken != -1 && StringUtil.equals(token, PARAMETER_CLOSE_TOKEN)){
+					openParameters--;
+					if(openParameters == 0){
+						parameterCloseToken = currentToken;
+					}
+				}
+			}else if(blockOpenToken == -1){
+				// After parameters, we either have a block open or a semicolon to end the method
 				if(StringUtil.equals(token, BLOCK_OPEN_TOKEN)){
+					blockOpenToken = currentToken;
 					openBlocks++;
+					
+					// When skipping content, jump straight to the end of the method
+					int blockEnd = skipContent?skipBlock(tokens, blockOpenToken):-1;
+					if(blockEnd != -1){
+						methodDone = true;
+						currentToken = blockEnd - 1;
+					}
+				}else if(token.endsWith(SEMICOLON)){
+					methodDone = true;
 				}
-				if(StringUtil.equals(token, BLOCK_CLOSE_TOKEN)){
+			}else{
+				// Inside the method, count open and close block tokens
+				if(StringUtil.equals(token, BLOCK_OPEN_TOKEN)){
+					openBlocks++;
+				}else if(StringUtil.equals(token, BLOCK_CLOSE_TOKEN)){
 					openBlocks--;
 				}
 				
@@ -238,22 +164,30 @@ public class JavaMethodParser extends AbstractJavaParser{
 		}
 		
 		// If we didn't do parameters, it's a problem
-		if(!parametersDone){
-			errors.add("Didn't complete parameters in method");
+		if(parameterCloseToken == -1){
+			errors.add(buildError(tokens, parameterOpenToken == -1?startToken:parameterOpenToken, currentToken,
+					JavaParsingErrorCode.INCOMPLETE, "Didn't complete parameters in method"));
 		}
 		
 		// If we didn't finish the method, it's a problem
 		if(!methodDone){
-			errors.add("Didn't complete the method");
+			errors.add(buildError(tokens, startToken, currentToken, JavaParsingErrorCode.INCOMPLETE,
+					"Didn't complete the method"));
 		}
 		
-		// If we had any errors, throw 'em
+		// Build the method if we found all the pieces
+		JavaMethod method = null;
+		if(errors.isEmpty()){
+			method = buildMethod(tokens, startToken, header, parameterOpenToken, parameterCloseToken, blockOpenToken,
+					currentToken, errors);
+		}
+		
+		// If we had any errors, throw 'em (or add them to the result in diagnostics mode)
 		if(!errors.isEmpty()){
-			throw new JavaParsingException(JavaCodeTypes.METHOD, StringUtil.buildStringWithNewLines(errors));
+			return failParsing(diagnostics, JavaCodeTypes.METHOD, errors);
 		}
 		
-		// Build the method
-		return new ParsingPojo(currentToken, parseJustMethod(methodString.toString()));
+		return buildParsingPojo(tokens, startToken, currentToken, method);
 	}
 	
 	/**
@@ -263,122 +197,310 @@ public class JavaMethodParser extends AbstractJavaParser{
 	 * @return The parsed {@link JavaMethod method}, or null if we don't have a method
 	 */
 	public static JavaMethod parseJustMethod(String content){
-		String methodString = StringUtil.trim(content);
+		List<String> tokens = splitContentIntoTokens(content);
+		int startToken = 0;
+		while(startToken < tokens.size() && isWhitespace(tokens.get(startToken))){
+			startToken++;
+		}
+		try{
+			ParsingPojo result = parseMethod(tokens, startToken);
+			verifyEndOfTokens(tokens, result, JavaCodeTypes.METHOD);
+			return (JavaMethod) result.parsedType();
+		}catch(JavaParsingException e){
+			return null;
+		}
+	}
+	
+	/**
+	 * Builds a {@link JavaMethod method} from the pieces of it found in the tokens
+	 *
+	 * @param tokens The List of tokens being parsed
+	 * @param startToken The index of the first token of the method
+	 * @param header The {@link MemberHeader} that was read for the method (or null if it still needs to be read)
+	 * @param parameterOpenToken The index of the parameter open token
+	 * @param parameterCloseToken The index of the parameter close token
+	 * @param blockOpenToken The index of the block open token (or -1 if the method ends in a semicolon)
+	 * @param endToken The index after the last token of the method
+	 * @param errors The List of errors to add any problems to
+	 * @return The built {@link JavaMethod method}, or null if there were any errors
+	 */
+	private static JavaMethod buildMethod(
+			List<String> tokens, int startToken, MemberHeader header, int parameterOpenToken, int parameterCloseToken,
+			int blockOpenToken, int endToken, List<JavaParsingError> errors){
+		// Parse modifiers (a later visibility replaces an earlier one)
+		int modifiers = JavaModifiers.NONE;
+		int currentToken = startToken;
+		while(currentToken < parameterOpenToken){
+			JavaTokenKind kind = getTokenKind(tokens, currentToken);
+			if(!kind.isWhitespace()){
+				int modifier = kind.getModifier();
+				if(modifier == JavaModifiers.NONE){
+					break;
+				}
+				if(JavaModifiers.has(modifier, JavaModifiers.VISIBILITY_MASK)){
+					modifiers &= ~JavaModifiers.VISIBILITY_MASK;
+				}
+				modifiers |= modifier;
+			}
+			currentToken++;
+		}
 		
-		// Use regex to parse the method
-		Matcher matcher = METHOD_PATTERN.matcher(methodString);
-		if(matcher.matches()){
-			Visibility visibility = Visibility.NONE;
-			boolean isAbstract = false, isStatic = false, isFinal = false;
-			for(int i = 1; i <= 3; i++){
-				String token = matcher.group(i);
-				if(StringUtil.isNotBlank(token)){
-					switch(token){
-						case PUBLIC_MODIFIER -> visibility = Visibility.PUBLIC;
-						case PROTECTED_MODIFIER -> visibility = Visibility.PROTECTED;
-						case PRIVATE_MODIFIER -> visibility = Visibility.PRIVATE;
-						case ABSTRACT_MODIFIER -> isAbstract = true;
-						case STATIC_MODIFIER -> isStatic = true;
-						case FINAL_MODIFIER -> isFinal = true;
-					}
+		// Parse type parameters, return type, and name (unless they were already read)
+		List<JavaTypeParameter> typeParameters = null;
+		JavaType returnType = null;
+		String typeParametersString = null, returnTypeString = null, name;
+		if(header != null){
+			typeParameters = header.typeParameters();
+			returnType = header.type();
+			name = header.nameToken() == -1?null:tokens.get(header.nameToken());
+		}else{
+			String signature = joinTokens(tokens, currentToken, parameterOpenToken);
+			int index = skipWhitespace(signature, 0);
+			typeParametersString = "";
+			if(index < signature.length() && signature.charAt(index) == TYPE_PARAMETER_OPEN_TOKEN.charAt(0)){
+				int typeParametersEnd = findTypeParametersEnd(signature, index);
+				if(typeParametersEnd == -1){
+					errors.add(buildError(tokens, currentToken, parameterOpenToken, JavaParsingErrorCode.INCOMPLETE,
+							"Didn't complete type parameters in method"));
+					return null;
 				}
+				typeParametersString = signature.substring(index + 1, typeParametersEnd);
+				index = skipWhitespace(signature, typeParametersEnd + 1);
 			}
-			String typeParametersString = StringUtil.trim(matcher.group(4));
-			String returnType = StringUtil.trim(matcher.group(9));
-			String name = StringUtil.trim(matcher.group(16));
-			String parameterString = StringUtil.trim(matcher.group(17));
-			String throwsString = StringUtil.trim(matcher.group(28));
-			String contentString = StringUtil.trim(matcher.group(29));
-			
-			// Parse type parameters
-			List<JavaTypeParameter> typeParameters = parseJavaTypeParameters(typeParametersString);
-			
-			// Parse parameters
-			List<JavaParameter> parameters = new ArrayList<>();
-			if(StringUtil.isNotBlank(parameterString)){
-				if(parameterString.contains(LIST_SEPARATOR_TOKEN)){
-					String[] parameterList = parameterString.split(LIST_SEPARATOR_TOKEN);
-					String aParameter = null;
-					for(String parameterPiece: parameterList){
-						if(StringUtil.isBlank(aParameter)){
-							aParameter = parameterPiece;
-						}else{
-							aParameter += "," + parameterPiece;
-						}
-						if(PARAMETER_PATTERN.matcher(aParameter).matches()){
-							parameters.add(parseJavaParameter(aParameter));
-							aParameter = null;
-						}
-					}
-				}else{
-					parameters.add(parseJavaParameter(parameterString));
+			int returnTypeStart = index;
+			while(index < signature.length() && !JavaLexer.isWhitespace(signature.charAt(index)) &&
+					signature.charAt(index) != TYPE_PARAMETER_OPEN_TOKEN.charAt(0)){
+				index++;
+			}
+			int afterBaseType = skipWhitespace(signature, index);
+			if(afterBaseType < signature.length() &&
+					signature.charAt(afterBaseType) == TYPE_PARAMETER_OPEN_TOKEN.charAt(0)){
+				int typeParametersEnd = findTypeParametersEnd(signature, afterBaseType);
+				if(typeParametersEnd == -1){
+					errors.add(buildError(tokens, currentToken, parameterOpenToken, JavaParsingErrorCode.INCOMPLETE,
+							"Didn't complete type parameters in method return type"));
+					return null;
+				}
+				index = typeParametersEnd + 1;
+				// Allow for arrays of types with type parameters
+				while(index < signature.length() && !JavaLexer.isWhitespace(signature.charAt(index))){
+					index++;
 				}
 			}
-			
-			// Parse throws
-			List<String> throwTypes = new ArrayList<>();
-			if(StringUtil.isNotBlank(throwsString)){
-				if(throwsString.contains(LIST_SEPARATOR_TOKEN)){
-					for(String throwType: throwsString.split(LIST_SEPARATOR_TOKEN)){
-						throwTypes.add(StringUtil.trim(throwType));
+			returnTypeString = signature.substring(returnTypeStart, index);
+			// Constructors don't have a name after the return type
+			name = StringUtil.trim(signature.substring(index));
+			if(StringUtil.isBlank(name)){
+				name = null;
+			}
+			if(StringUtil.isBlank(returnTypeString)){
+				errors.add(buildError(tokens, currentToken, parameterOpenToken, JavaParsingErrorCode.MISSING,
+						"Didn't find a return type in method"));
+				return null;
+			}
+			for(int i = 0; name != null && i < name.length(); i++){
+				if(JavaLexer.isWhitespace(name.charAt(i))){
+					errors.add(buildError(tokens, currentToken, parameterOpenToken,
+							JavaParsingErrorCode.UNEXPECTED_CONTENT,
+							"Found extra content in method signature: '" + StringUtil.trim(signature) + "'"));
+					return null;
+				}
+			}
+		}
+		
+		// Parse parameters
+		SymbolTable symbolTable = getSymbolTable(tokens);
+		List<JavaParameter> parameters = new ArrayList<>();
+		String parameterString = joinTokens(tokens, parameterOpenToken + 1, parameterCloseToken);
+		if(!StringUtil.isBlank(StringUtil.trim(parameterString))){
+			for(String parameter: splitOnTopLevelCommas(parameterString)){
+				parameter = StringUtil.trim(parameter);
+				if(StringUtil.isBlank(parameter)){
+					errors.add(buildError(tokens, parameterOpenToken, parameterCloseToken + 1,
+							JavaParsingErrorCode.MISSING, "Found an empty parameter in method"));
+					continue;
+				}
+				try{
+					parameters.add(parseJavaParameter(parameter, symbolTable));
+				}catch(IllegalArgumentException e){
+					errors.add(buildError(tokens, parameterOpenToken, parameterCloseToken + 1,
+							JavaParsingErrorCode.INVALID_TYPE, e.getMessage()));
+				}
+			}
+		}
+		
+		// Parse throws
+		List<String> throwTypes = new ArrayList<>();
+		int throwsEndToken = blockOpenToken != -1?blockOpenToken:endToken;
+		String throwsString;
+		if(blockOpenToken != -1){
+			throwsString = joinTokens(tokens, parameterCloseToken + 1, blockOpenToken);
+		}else{
+			// Remove the semicolon at the end of the method
+			throwsString = joinTokens(tokens, parameterCloseToken + 1, endToken);
+			throwsString = throwsString.substring(0, throwsString.length() - SEMICOLON.length());
+		}
+		throwsString = StringUtil.trim(throwsString);
+		if(StringUtil.isNotBlank(throwsString)){
+			if(!throwsString.startsWith(THROWS_TOKEN) || (throwsString.length() > THROWS_TOKEN.length() &&
+					!JavaLexer.isWhitespace(throwsString.charAt(THROWS_TOKEN.length())))){
+				errors.add(buildError(tokens, parameterCloseToken + 1, throwsEndToken,
+						JavaParsingErrorCode.UNEXPECTED_CONTENT,
+						"Found unexpected content after method parameters: '" + throwsString + "'"));
+			}else{
+				for(String throwType: throwsString.substring(THROWS_TOKEN.length()).split(LIST_SEPARATOR_TOKEN)){
+					throwType = StringUtil.trim(throwType);
+					if(StringUtil.isBlank(throwType)){
+						errors.add(buildError(tokens, parameterCloseToken + 1, throwsEndToken,
+								JavaParsingErrorCode.MISSING, "Found an empty throw type in method"));
+					}else{
+						throwTypes.add(intern(symbolTable, throwType));
 					}
-				}else{
-					throwTypes.add(throwsString);
 				}
 			}
-			
-			// Parse content
-			List<String> lines = new ArrayList<>();
-			int insideBlocks = 0;
-			if(StringUtil.isNotBlank(contentString)){
-				if(contentString.contains("\n")){
-					for(String line: contentString.split("\n")){
-						line = StringUtil.trim(line);
-						if(StringUtil.equals(line, SEMICOLON)){
-							String lastLine = lines.remove(lines.size()-1);
-							lines.add(lastLine + SEMICOLON);
-						}
-						if(line.contains(SEMICOLON) && !line.endsWith(BLOCK_OPEN_TOKEN)){
-							for(String subLine: line.split(SEMICOLON)){
-								subLine = StringUtil.trim(subLine);
-								if(StringUtil.isNotBlank(subLine)){
-									if(subLine.startsWith(".")){
-										subLine = "\t\t" + subLine;
-									}
-									lines.add("\t".repeat(insideBlocks) + subLine + SEMICOLON);
+		}
+		
+		// Parse type parameters and return type
+		if(header == null){
+			try{
+				typeParameters = parseJavaTypeParameters(typeParametersString, symbolTable);
+				returnType = parseJavaType(returnTypeString, symbolTable);
+			}catch(IllegalArgumentException e){
+				errors.add(buildError(tokens, currentToken, parameterOpenToken, JavaParsingErrorCode.INVALID_TYPE,
+						e.getMessage()));
+			}
+		}
+		
+		if(!errors.isEmpty()){
+			return null;
+		}
+		
+		// Parse content (or keep it as a slice of the source to be parsed later, or skip it for an outline)
+		List<String> lines = new ArrayList<>();
+		ParseMode parseMode = getParseMode(tokens);
+		if(blockOpenToken != -1 && !parseMode.skipsBodies()){
+			if(parseMode == ParseMode.LAZY_METHOD_BODIES && tokens instanceof JavaTokenList tokenList){
+				lines = new LazyContentLines(CharBuffer.wrap(tokenList.getContent(),
+						tokenList.getEndOffset(blockOpenToken), tokenList.getStartOffset(endToken - 1)));
+			}else{
+				lines = parseContentLines(StringUtil.trim(joinTokens(tokens, blockOpenToken + 1, endToken - 1)));
+			}
+		}
+		
+		return EditableJavaMethod.builder()
+				.modifiers(modifiers)
+				.typeParameters(typeParameters)
+				.returnType(returnType).name(intern(symbolTable, name))
+				.parameters(parameters)
+				.throwTypes(throwTypes)
+				.lines(lines)
+				.build();
+	}
+	
+	/**
+	 * @param text The text to skip whitespace in
+	 * @param index The index to start at
+	 * @return The index of the first non-whitespace character at or after the given index (or the length of the text)
+	 */
+	private static int skipWhitespace(String text, int index){
+		while(index < text.length() && JavaLexer.isWhitespace(text.charAt(index))){
+			index++;
+		}
+		return index;
+	}
+	
+	/**
+	 * Finds the type parameter close token that matches the type parameter open token at the given index
+	 *
+	 * @param text The text to search
+	 * @param openIndex The index of the type parameter open token
+	 * @return The index of the matching type parameter close token, or -1 if there isn't one
+	 */
+	private static int findTypeParametersEnd(String text, int openIndex){
+		int openTypeParameters = 0;
+		for(int i = openIndex; i < text.length(); i++){
+			char c = text.charAt(i);
+			if(c == TYPE_PARAMETER_OPEN_TOKEN.charAt(0)){
+				openTypeParameters++;
+			}else if(c == TYPE_PARAMETER_CLOSE_TOKEN.charAt(0)){
+				openTypeParameters--;
+				if(openTypeParameters == 0){
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Splits the given text on any {@link #LIST_SEPARATOR_TOKEN commas} that aren't inside type parameters
+	 *
+	 * @param text The text to be split
+	 * @return The pieces of the text between the top level commas
+	 */
+	private static List<String> splitOnTopLevelCommas(String text){
+		List<String> pieces = new ArrayList<>();
+		int openTypeParameters = 0;
+		int pieceStart = 0;
+		for(int i = 0; i < text.length(); i++){
+			char c = text.charAt(i);
+			if(c == TYPE_PARAMETER_OPEN_TOKEN.charAt(0)){
+				openTypeParameters++;
+			}else if(c == TYPE_PARAMETER_CLOSE_TOKEN.charAt(0)){
+				openTypeParameters--;
+			}else if(c == LIST_SEPARATOR_TOKEN.charAt(0) && openTypeParameters == 0){
+				pieces.add(text.substring(pieceStart, i));
+				pieceStart = i + 1;
+			}
+		}
+		pieces.add(text.substring(pieceStart));
+		return pieces;
+	}
+	
+	/**
+	 * Splits the content of a method into its lines, re-indenting any blocks inside of it
+	 *
+	 * @param contentString The content of the method (between its braces)
+	 * @return The List of lines in the method
+	 */
+	static List<String> parseContentLines(String contentString){
+		List<String> lines = new ArrayList<>();
+		int insideBlocks = 0;
+		if(StringUtil.isNotBlank(contentString)){
+			if(contentString.contains("\n")){
+				for(String line: contentString.split("\n")){
+					line = StringUtil.trim(line);
+					if(StringUtil.equals(line, SEMICOLON)){
+						String lastLine = lines.remove(lines.size()-1);
+						lines.add(lastLine + SEMICOLON);
+					}
+					if(line.contains(SEMICOLON) && !line.endsWith(BLOCK_OPEN_TOKEN)){
+						for(String subLine: line.split(SEMICOLON)){
+							subLine = StringUtil.trim(subLine);
+							if(StringUtil.isNotBlank(subLine)){
+								if(subLine.startsWith(".")){
+									subLine = "\t\t" + subLine;
 								}
-							}
-						}else{
-							if(line.startsWith(BLOCK_CLOSE_TOKEN) || line.endsWith(BLOCK_CLOSE_TOKEN)){
-								insideBlocks--;
-							}
-							lines.add("\t".repeat(insideBlocks) + (line.startsWith(".")?"\t\t":"") + StringUtil.trim(line));
-							if(line.endsWith(BLOCK_OPEN_TOKEN)){
-								insideBlocks++;
+								lines.add("\t".repeat(insideBlocks) + subLine + SEMICOLON);
 							}
 						}
-					}
-				}else{
-					for(String line: contentString.split(SEMICOLON)){
-						lines.add("\t".repeat(insideBlocks) + (line.startsWith(".")?"\t\t":"") +
-								StringUtil.trim(line) + SEMICOLON);
+					}else{
+						if(line.startsWith(BLOCK_CLOSE_TOKEN) || line.endsWith(BLOCK_CLOSE_TOKEN)){
+							insideBlocks--;
+						}
+						lines.add("\t".repeat(insideBlocks) + (line.startsWith(".")?"\t\t":"") + StringUtil.trim(line));
+						if(line.endsWith(BLOCK_OPEN_TOKEN)){
+							insideBlocks++;
+						}
 					}
 				}
+			}else{
+				for(String line: contentString.split(SEMICOLON)){
+					lines.add("\t".repeat(insideBlocks) + (line.startsWith(".")?"\t\t":"") +
+							StringUtil.trim(line) + SEMICOLON);
+				}
 			}
-			
-			return EditableJavaMethod.builder()
-					.visibility(visibility)
-					.isAbstract(isAbstract)
-					.isStatic(isStatic)
-					.isFinal(isFinal)
-					.typeParameters(typeParameters)
-					.returnType(returnType).name(name)
-					.parameters(parameters)
-					.throwTypes(throwTypes)
-					.lines(lines)
-					.build();
-		}else{
-			return null;
 		}
+		return lines;
 	}
 }
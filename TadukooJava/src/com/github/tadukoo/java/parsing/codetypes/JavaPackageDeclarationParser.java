@@ -15,7 +15,8 @@ import java.util.List;
  * A parser used to parse a {@link JavaPackageDeclaration package declaration in Java}
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class JavaPackageDeclarationParser extends AbstractJavaParser{
 	
@@ -80,7 +81,7 @@ public class JavaPackageDeclarationParser extends AbstractJavaParser{
 			}else if(token.endsWith(SEMICOLON)){
 				packageName.append(token, 0, token.length()-1);
 				gotSemicolon = true;
-			}else if(!WHITESPACE_MATCHER.reset(token).matches()){
+			}else if(!isWhitespace(token)){
 				// If we got a newline, skip it
 				packageName.append(token);
 			}
@@ -102,8 +103,8 @@ public class JavaPackageDeclarationParser extends AbstractJavaParser{
 		}
 		
 		// Build the package declaration and return
-		return new ParsingPojo(currentToken, EditableJavaPackageDeclaration.builder()
-				.packageName(packageName.toString())
+		return buildParsingPojo(tokens, startToken, currentToken, EditableJavaPackageDeclaration.builder()
+				.packageName(intern(getSymbolTable(tokens), packageName.toString()))
 				.build());
 	}
 }
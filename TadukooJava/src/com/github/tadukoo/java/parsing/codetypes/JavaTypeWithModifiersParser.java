@@ -2,27 +2,30 @@ package com.github.tadukoo.java.parsing.codetypes;
 
 import com.github.tadukoo.java.JavaCodeType;
 import com.github.tadukoo.java.JavaCodeTypes;
-import com.github.tadukoo.java.Visibility;
+import com.github.tadukoo.java.JavaModifiers;
 import com.github.tadukoo.java.code.staticcodeblock.EditableJavaStaticCodeBlock;
 import com.github.tadukoo.java.field.EditableJavaField;
 import com.github.tadukoo.java.javaclass.EditableJavaClass;
 import com.github.tadukoo.java.method.EditableJavaMethod;
 import com.github.tadukoo.java.parsing.AbstractJavaParser;
+import com.github.tadukoo.java.parsing.JavaParseResult;
+import com.github.tadukoo.java.parsing.JavaParsingError;
+import com.github.tadukoo.java.parsing.JavaParsingErrorCode;
 import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.JavaTokenKind;
 import com.github.tadukoo.java.parsing.ParsingPojo;
 import com.github.tadukoo.java.parsing.classtypes.JavaClassParser;
 import com.github.tadukoo.util.StringUtil;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * A parser used for parsing Java types that have modifiers
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class JavaTypeWithModifiersParser extends AbstractJavaParser{
 	
@@ -38,54 +41,87 @@ public class JavaTypeWithModifiersParser extends AbstractJavaParser{
 	 * @throws JavaParsingException If anything goes wrong during parsing
 	 */
 	public static ParsingPojo parseTypeWithModifiers(List<String> tokens, int startToken) throws JavaParsingException{
+		return parseTypeWithModifiers(tokens, startToken, null);
+	}
+	
+	/**
+	 * Parses a {@link JavaCodeTypes#TYPE_WITH_MODIFIERS type with modifiers} from the given tokens and starting
+	 * index. In diagnostics mode (when there's a {@link JavaParseResult}), any problems found are added to the result
+	 * instead of being thrown
+	 *
+	 * @param tokens The List of tokens to be parsed
+	 * @param startToken The index of the token to start parsing at
+	 * @param diagnostics The {@link JavaParseResult} to add any errors to (can be null to throw them instead)
+	 * @return A {@link ParsingPojo} containing where we stopped parsing and the
+	 * {@link JavaCodeTypes#TYPE_WITH_MODIFIERS type with modifiers}, or null if parsing failed in diagnostics mode
+	 * @throws JavaParsingException If anything goes wrong during parsing (and not in diagnostics mode)
+	 */
+	public static ParsingPojo parseTypeWithModifiers(
+			List<String> tokens, int startToken, JavaParseResult<?> diagnostics) throws JavaParsingException{
 		// Keep track of errors
-		List<String> errors = new ArrayList<>();
+		List<JavaParsingError> errors = new ArrayList<>();
 		
 		// Ensure the first token is a modifier
-		if(!MODIFIERS.contains(tokens.get(startToken))){
-			errors.add("First token of type with modifiers must be a modifier");
+		if(!getTokenKind(tokens, startToken).isModifier()){
+			errors.add(buildError(tokens, startToken, startToken + 1, JavaParsingErrorCode.MISSING,
+					"First token of type with modifiers must be a modifier"));
 		}
 		
 		// We may discover a more specific type later on
 		JavaCodeTypes type = JavaCodeTypes.TYPE_WITH_MODIFIERS;
 		JavaCodeType resultType = null;
 		
-		// Keep track of modifiers we find
-		List<String> modifiers = new ArrayList<>();
+		// Keep track of modifiers we find as JavaModifiers bits (and any duplicates of them and where they end)
+		int modifiers = JavaModifiers.NONE;
+		int modifierCount = 0;
+		int modifiersEndToken = startToken;
+		List<JavaParsingError> duplicateErrors = new ArrayList<>();
 		int currentToken;
 		for(currentToken = startToken; currentToken < tokens.size(); currentToken++){
-			String token = tokens.get(currentToken);
+			JavaTokenKind kind = getTokenKind(tokens, currentToken);
 			
-			// If we got a modifier, just add it to the list and continue
-			if(MODIFIERS.contains(token)){
-				modifiers.add(token);
-			}else if(StringUtil.equals(token, CLASS_TOKEN)){
+			// If we got a modifier, just add its bit to the modifiers and continue
+			int modifier = kind.getModifier();
+			if(modifier != JavaModifiers.NONE){
+				if(JavaModifiers.has(modifiers, modifier)){
+					duplicateErrors.add(buildError(tokens, currentToken, currentToken + 1,
+							JavaParsingErrorCode.INVALID_MODIFIER,
+							"Found duplicate modifier: '" + kind.getFixedText() + "'"));
+				}
+				modifiers |= modifier;
+				modifierCount++;
+				modifiersEndToken = currentToken + 1;
+			}else if(kind == JavaTokenKind.CLASS){
 				// Parse it as a class
-				ParsingPojo result = JavaClassParser.parseClass(tokens, currentToken);
+				ParsingPojo result = JavaClassParser.parseClass(tokens, currentToken, diagnostics);
+				if(failed(diagnostics)){
+					return null;
+				}
 				type = JavaCodeTypes.CLASS;
 				resultType = result.parsedType();
 				EditableJavaClass clazz = (EditableJavaClass) resultType;
 				currentToken = result.nextTokenIndex();
 				
-				// Handle the modifiers to be attached to the class
-				for(String modifier: modifiers){
-					switch(modifier){
-						case PRIVATE_MODIFIER -> clazz.setVisibility(Visibility.PRIVATE);
-						case PROTECTED_MODIFIER -> clazz.setVisibility(Visibility.PROTECTED);
-						case PUBLIC_MODIFIER -> clazz.setVisibility(Visibility.PUBLIC);
-						case ABSTRACT_MODIFIER -> clazz.setAbstract(true);
-						case STATIC_MODIFIER -> clazz.setStatic(true);
-						case FINAL_MODIFIER -> clazz.setFinal(true);
-					}
-				}
+				// Attach the modifiers to the class
+				clazz.setModifiers(clazz.getModifiers() | modifiers);
 				
 				break;
-			}else if(StringUtil.equals(token, BLOCK_OPEN_TOKEN)){
+			}else if(kind == JavaTokenKind.BLOCK_OPEN){
 				// Parse as a static code block
 				
 				// Check we only have 1 modifier and it's static
-				if(modifiers.size() != 1 || StringUtil.notEquals(modifiers.get(0), STATIC_MODIFIER)){
-					errors.add("Static Code Block can only have 'static' as a modifier");
+				if(modifierCount != 1 || modifiers != JavaModifiers.STATIC){
+					errors.add(buildError(tokens, startToken, modifiersEndToken, JavaParsingErrorCode.INVALID_MODIFIER,
+							"Static Code Block can only have 'static' as a modifier"));
+				}
+				
+				// When skipping content, jump straight to the end of the block and leave the static code block empty
+				int blockEnd = getParseMode(tokens).skipsBodies()?skipBlock(tokens, currentToken):-1;
+				if(blockEnd != -1){
+					currentToken = blockEnd;
+					type = JavaCodeTypes.STATIC_CODE_BLOCK;
+					resultType = EditableJavaStaticCodeBlock.builder().build();
+					break;
 				}
 				
 				// Go through every line until we get to the block close token
@@ -94,7 +130,7 @@ public class JavaTypeWithModifiersParser extends AbstractJavaParser{
 				currentToken++;
 				
 				// Skip leading whitespace
-				while(currentToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(currentToken)).matches()){
+				while(currentToken < tokens.size() && isWhitespace(tokens.get(currentToken))){
 					currentToken++;
 				}
 				
@@ -129,77 +165,56 @@ public class JavaTypeWithModifiersParser extends AbstractJavaParser{
 				resultType = staticCodeBlock;
 				
 				break;
-			}else if(!WHITESPACE_MATCHER.reset(token).matches()){
+			}else if(!kind.isWhitespace()){
 				// Skip whitespace
-				type = determineFieldOrMethod(tokens, currentToken);
-				if(type == JavaCodeTypes.METHOD){
-					// Parse the method and handle modifiers on it
-					ParsingPojo result = JavaMethodParser.parseMethod(tokens, currentToken);
-					EditableJavaMethod method = (EditableJavaMethod) result.parsedType();
-					for(String modifier: modifiers){
-						switch(modifier){
-							case PRIVATE_MODIFIER -> method.setVisibility(Visibility.PRIVATE);
-							case PROTECTED_MODIFIER -> method.setVisibility(Visibility.PROTECTED);
-							case PUBLIC_MODIFIER -> method.setVisibility(Visibility.PUBLIC);
-							case ABSTRACT_MODIFIER -> method.setAbstract(true);
-							case STATIC_MODIFIER -> method.setStatic(true);
-							case FINAL_MODIFIER -> method.setFinal(true);
-						}
-					}
+				ParsingPojo result = JavaMemberParser.parseMember(tokens, currentToken, diagnostics);
+				if(failed(diagnostics)){
+					return null;
+				}else if(result != null && result.parsedType() instanceof EditableJavaMethod method){
+					// Handle modifiers on the method
+					type = JavaCodeTypes.METHOD;
+					method.setModifiers(method.getModifiers() | modifiers);
 					resultType = method;
 					currentToken = result.nextTokenIndex();
 					break;
-				}else if(type == JavaCodeTypes.FIELD){
-					// Parse the field and handle modifiers on it
-					ParsingPojo result = JavaFieldParser.parseField(tokens, currentToken);
-					EditableJavaField field = (EditableJavaField) result.parsedType();
-					for(String modifier: modifiers){
-						switch(modifier){
-							case PRIVATE_MODIFIER -> field.setVisibility(Visibility.PRIVATE);
-							case PROTECTED_MODIFIER -> field.setVisibility(Visibility.PROTECTED);
-							case PUBLIC_MODIFIER -> field.setVisibility(Visibility.PUBLIC);
-							case ABSTRACT_MODIFIER -> throw new JavaParsingException(JavaCodeTypes.FIELD,
-									"'" + ABSTRACT_MODIFIER + "' is not a valid modifier on field!");
-							case STATIC_MODIFIER -> field.setStatic(true);
-							case FINAL_MODIFIER -> field.setFinal(true);
-						}
+				}else if(result != null && result.parsedType() instanceof EditableJavaField field){
+					// Handle modifiers on the field
+					type = JavaCodeTypes.FIELD;
+					if(JavaModifiers.has(modifiers, JavaModifiers.ABSTRACT)){
+						return failParsing(diagnostics, JavaCodeTypes.FIELD, buildError(tokens, startToken,
+								modifiersEndToken, JavaParsingErrorCode.INVALID_MODIFIER,
+								"'" + ABSTRACT_MODIFIER + "' is not a valid modifier on field!"));
 					}
+					field.setModifiers(field.getModifiers() | modifiers);
 					resultType = field;
 					currentToken = result.nextTokenIndex();
 					break;
 				}else{
-					errors.add("Failed to determine type");
+					type = JavaCodeTypes.UNKNOWN;
+					errors.add(buildError(tokens, currentToken, currentToken + 1,
+							JavaParsingErrorCode.UNEXPECTED_CONTENT, "Failed to determine type"));
 				}
 			}
 		}
 		
 		// Check we had no duplicate modifiers (and not more than 1 visibility modifier)
-		Set<String> foundModifiers = new HashSet<>();
-		int visibilityModifiers = 0;
-		for(String modifier: modifiers){
-			if(!foundModifiers.add(modifier)){
-				errors.add("Found duplicate modifier: '" + modifier + "'");
-			}
-			if(VISIBILITY_MODIFIERS.contains(modifier)){
-				visibilityModifiers++;
-			}
-		}
-		
-		// If we had more than 1 visibility modifier, it's a problem
-		if(visibilityModifiers > 1){
-			errors.add("Found multiple visibility modifiers");
+		errors.addAll(duplicateErrors);
+		if(JavaModifiers.hasMultipleVisibilities(modifiers)){
+			errors.add(buildError(tokens, startToken, modifiersEndToken, JavaParsingErrorCode.INVALID_MODIFIER,
+					"Found multiple visibility modifiers"));
 		}
 		
 		// If we have no resultType, there's a problem
 		if(resultType == null){
-			errors.add("Failed to determine result type");
+			errors.add(buildError(tokens, startToken, currentToken, JavaParsingErrorCode.MISSING,
+					"Failed to determine result type"));
 		}
 		
-		// If we had any errors, throw 'em
+		// If we had any errors, throw 'em (or add them to the result in diagnostics mode)
 		if(!errors.isEmpty()){
-			throw new JavaParsingException(type, StringUtil.buildStringWithNewLines(errors));
+			return failParsing(diagnostics, type, errors);
 		}
 		
-		return new ParsingPojo(currentToken, resultType);
+		return buildParsingPojo(tokens, startToken, currentToken, resultType);
 	}
 }
@@ -0,0 +1,65 @@
+package com.github.tadukoo.java.parsing.codetypes;
+
+import com.github.tadukoo.java.TrackedList;
+import com.github.tadukoo.java.parsing.ParseMode;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.List;
+
+/**
+ * Lazy Content Lines is the List of lines used for a method's content when parsing with
+ * {@link ParseMode#LAZY_METHOD_BODIES}. It holds the unparsed content of the method as a slice of the source,
+ * and only splits it into lines (the same way as {@link JavaMethodParser} normally does) the first time anything
+ * in the List is used. After that, it acts as a normal (modifiable) {@link TrackedList} of the lines.
+ * <br><br>
+ * Parsing the lines is thread-safe, so methods with lazy content can be shared between threads, but changing the
+ * lines is not.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class LazyContentLines extends TrackedList<String>{
+	/** The unparsed content of the method (null once it's been parsed) */
+	private CharSequence content;
+	/** The parsed lines of the method (null until they're parsed) */
+	private volatile List<String> lines;
+	
+	/**
+	 * Constructs a new {@link LazyContentLines} for the given unparsed content
+	 *
+	 * @param content The unparsed content of the method (between its braces)
+	 */
+	LazyContentLines(CharSequence content){
+		super(null);
+		this.content = content;
+	}
+	
+	/**
+	 * @return Whether the content has been parsed into lines yet or not
+	 */
+	public boolean isParsed(){
+		return lines != null;
+	}
+	
+	/**
+	 * Gets the lines, parsing them from the content the first time
+	 *
+	 * @return The parsed lines
+	 */
+	@Override
+	protected List<String> getList(){
+		List<String> parsedLines = lines;
+		if(parsedLines == null){
+			synchronized(this){
+				parsedLines = lines;
+				if(parsedLines == null){
+					parsedLines = JavaMethodParser.parseContentLines(StringUtil.trim(content.toString()));
+					lines = parsedLines;
+					content = null;
+				}
+			}
+		}
+		return parsedLines;
+	}
+}
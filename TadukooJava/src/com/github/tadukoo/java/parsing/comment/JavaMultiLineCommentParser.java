@@ -15,7 +15,8 @@ import java.util.List;
  * A parser to use for parsing {@link JavaMultiLineComment multi-line Java comments}
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class JavaMultiLineCommentParser extends AbstractJavaParser{
 	
@@ -88,7 +89,7 @@ public class JavaMultiLineCommentParser extends AbstractJavaParser{
 				justHadNewline = true;
 				content.add(StringUtil.trim(line.toString()));
 				line = new StringBuilder();
-			}else if(justHadNewline && WHITESPACE_MATCHER.reset(token).matches()){
+			}else if(justHadNewline && isWhitespace(token)){
 				// If we just had a newline, and we have whitespace, skip it
 				continue;
 			}else if(StringUtil.equals(token, JAVADOC_LINE_TOKEN) && justHadNewline){
@@ -111,7 +112,7 @@ public class JavaMultiLineCommentParser extends AbstractJavaParser{
 		}
 		
 		// Add the last line if it's still dangling and not whitespace
-		if(!line.isEmpty() && !WHITESPACE_MATCHER.reset(line.toString()).matches()){
+		if(!line.isEmpty() && !isWhitespace(line)){
 			content.add(StringUtil.trim(line.toString()));
 		}
 		
@@ -121,7 +122,7 @@ public class JavaMultiLineCommentParser extends AbstractJavaParser{
 					"Failed to find closing multi-line comment token!");
 		}
 		
-		return new ParsingPojo(currentToken, EditableJavaMultiLineComment.builder()
+		return buildParsingPojo(tokens, startToken, currentToken, EditableJavaMultiLineComment.builder()
 				.content(content)
 				.build());
 	}
@@ -14,7 +14,8 @@ import java.util.List;
  * A parser to use for parsing {@link JavaSingleLineComment single-line Java comments}
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class JavaSingleLineCommentParser extends AbstractJavaParser{
 	
@@ -70,7 +71,7 @@ public class JavaSingleLineCommentParser extends AbstractJavaParser{
 		// Skip leading whitespace if we didn't start content yet
 		int currentToken = startToken + 1;
 		if(content.isEmpty()){
-			while(currentToken < tokens.size() && WHITESPACE_MATCHER.reset(tokens.get(currentToken)).matches()){
+			while(currentToken < tokens.size() && isWhitespace(tokens.get(currentToken))){
 				currentToken++;
 			}
 		}
@@ -87,7 +88,7 @@ public class JavaSingleLineCommentParser extends AbstractJavaParser{
 		}
 		
 		// Build and return the single-line comment
-		return new ParsingPojo(currentToken, EditableJavaSingleLineComment.builder()
+		return buildParsingPojo(tokens, startToken, currentToken, EditableJavaSingleLineComment.builder()
 				.content(StringUtil.trim(content.toString()))
 				.build());
 	}
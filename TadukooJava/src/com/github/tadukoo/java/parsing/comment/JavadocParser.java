@@ -16,7 +16,8 @@ import java.util.List;
  * A parser used for parsing {@link Javadoc Javadocs}
  *
  * @author Logan Ferree (Tadukoo)
- * @version Beta v.0.5
+ * @version Beta v.0.6
+ * @since Beta v.0.5
  */
 public class JavadocParser extends AbstractJavaParser{
 	
@@ -70,7 +71,7 @@ public class JavadocParser extends AbstractJavaParser{
 		if(!condensed){
 			int newlineCheckToken = startToken + 1;
 			while(StringUtil.notEquals(tokens.get(newlineCheckToken), "\n")){
-				if(!WHITESPACE_MATCHER.reset(tokens.get(newlineCheckToken)).matches()){
+				if(!isWhitespace(tokens.get(newlineCheckToken))){
 					condensed = true;
 					break;
 				}
@@ -125,7 +126,7 @@ public class JavadocParser extends AbstractJavaParser{
 				if(token.startsWith(ANNOTATION_START_TOKEN)){
 					annotation = token.substring(ANNOTATION_START_TOKEN.length());
 				}else if(StringUtil.equalsAny(token, "\n", JAVADOC_LINE_TOKEN) ||
-						WHITESPACE_MATCHER.reset(token).matches()){
+						isWhitespace(token)){
 					continue;
 				}else{
 					currentContent.append(token);
@@ -253,7 +254,7 @@ public class JavadocParser extends AbstractJavaParser{
 		}
 		
 		// Build and return the Javadoc
-		return new ParsingPojo(currentToken, EditableJavadoc.builder()
+		return buildParsingPojo(tokens, startToken, currentToken, EditableJavadoc.builder()
 				.condensed(condensed)
 				.content(content)
 				.author(author)
@@ -0,0 +1,931 @@
+package com.github.tadukoo.java.serialization;
+
+import com.github.tadukoo.java.BaseJavaCodeType;
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaParameter;
+import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.JavaTypeParameter;
+import com.github.tadukoo.java.Visibility;
+import com.github.tadukoo.java.annotation.EditableJavaAnnotation;
+import com.github.tadukoo.java.annotation.JavaAnnotation;
+import com.github.tadukoo.java.annotation.JavaAnnotationBuilder;
+import com.github.tadukoo.java.annotation.UneditableJavaAnnotation;
+import com.github.tadukoo.java.code.staticcodeblock.EditableJavaStaticCodeBlock;
+import com.github.tadukoo.java.code.staticcodeblock.JavaStaticCodeBlock;
+import com.github.tadukoo.java.code.staticcodeblock.UneditableJavaStaticCodeBlock;
+import com.github.tadukoo.java.comment.EditableJavaMultiLineComment;
+import com.github.tadukoo.java.comment.EditableJavaSingleLineComment;
+import com.github.tadukoo.java.comment.JavaMultiLineComment;
+import com.github.tadukoo.java.comment.JavaSingleLineComment;
+import com.github.tadukoo.java.comment.UneditableJavaMultiLineComment;
+import com.github.tadukoo.java.comment.UneditableJavaSingleLineComment;
+import com.github.tadukoo.java.field.EditableJavaField;
+import com.github.tadukoo.java.field.JavaField;
+import com.github.tadukoo.java.field.JavaFieldBuilder;
+import com.github.tadukoo.java.field.UneditableJavaField;
+import com.github.tadukoo.java.importstatement.EditableJavaImportStatement;
+import com.github.tadukoo.java.importstatement.JavaImportStatement;
+import com.github.tadukoo.java.importstatement.UneditableJavaImportStatement;
+import com.github.tadukoo.java.javaclass.EditableJavaClass;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.javaclass.JavaClassBuilder;
+import com.github.tadukoo.java.javaclass.UneditableJavaClass;
+import com.github.tadukoo.java.javadoc.EditableJavadoc;
+import com.github.tadukoo.java.javadoc.Javadoc;
+import com.github.tadukoo.java.javadoc.JavadocBuilder;
+import com.github.tadukoo.java.javadoc.UneditableJavadoc;
+import com.github.tadukoo.java.method.EditableJavaMethod;
+import com.github.tadukoo.java.method.JavaMethod;
+import com.github.tadukoo.java.method.JavaMethodBuilder;
+import com.github.tadukoo.java.method.UneditableJavaMethod;
+import com.github.tadukoo.java.packagedeclaration.EditableJavaPackageDeclaration;
+import com.github.tadukoo.java.packagedeclaration.JavaPackageDeclaration;
+import com.github.tadukoo.java.packagedeclaration.UneditableJavaPackageDeclaration;
+import com.github.tadukoo.util.functional.function.ThrowingFunction;
+import com.github.tadukoo.util.tuple.Pair;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Java Code Type Codec is used to encode {@link JavaCodeType Java code types} into a compact binary format and
+ * decode them again, so that parsed code can be saved without needing to be parsed again (e.g. by the
+ * {@link com.github.tadukoo.java.parsing.ParseCache}). Decoding is much faster than parsing, since it's just
+ * reading values and passing them to the builders.
+ * <br><br>
+ * The format starts with a {@link #MAGIC magic number} and the {@link #FORMAT_VERSION}, followed by a table of
+ * every String used (so repeated names, types, and lines are only stored once), and then the code type itself.
+ * Each code type is written as a tag for its {@link JavaCodeTypes type} and whether it's editable, its source span,
+ * and then its fields (with any code types it contains written the same way). Numbers (including references into
+ * the String table) are written as varints, and booleans are packed into flags. Decoding a code type gives an equal
+ * code type, with the same source span and the same editable-ness.
+ * <br><br>
+ * The elements of a {@link JavaClass class} are written in the order they're in the class, so that the order is
+ * kept when the class is built again.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class JavaCodeTypeCodec{
+	
+	/** The magic number at the start of encoded code types */
+	public static final int MAGIC = 0x4A435443;
+	/** The version of the format, which must be changed whenever the format changes */
+	public static final int FORMAT_VERSION = 2;
+	
+	/** The {@link JavaCodeTypes types} that can be encoded, in the order of their tags (starting at 1) */
+	private static final JavaCodeTypes[] TAGS = {
+			JavaCodeTypes.TYPE_PARAMETER, JavaCodeTypes.TYPE, JavaCodeTypes.PARAMETER,
+			JavaCodeTypes.PACKAGE_DECLARATION, JavaCodeTypes.IMPORT_STATEMENT, JavaCodeTypes.JAVADOC,
+			JavaCodeTypes.MULTI_LINE_COMMENT, JavaCodeTypes.SINGLE_LINE_COMMENT, JavaCodeTypes.ANNOTATION,
+			JavaCodeTypes.FIELD, JavaCodeTypes.METHOD, JavaCodeTypes.CLASS, JavaCodeTypes.STATIC_CODE_BLOCK
+	};
+	/** The tag used for a null code type */
+	private static final int NULL_TAG = 0;
+	/** The {@link Visibility visibilities}, used to look up a visibility by its ordinal */
+	private static final Visibility[] VISIBILITIES = Visibility.values();
+	
+	/*
+	 * Flags used to pack booleans
+	 */
+	
+	/** The flag for a static code type (or a static import statement) */
+	private static final int STATIC_FLAG = 1;
+	/** The flag for a final code type */
+	private static final int FINAL_FLAG = 1 << 1;
+	/** The flag for an abstract code type */
+	private static final int ABSTRACT_FLAG = 1 << 2;
+	/** The flag for an inner class */
+	private static final int INNER_CLASS_FLAG = 1 << 3;
+	/** The flag for a condensed Javadoc */
+	private static final int CONDENSED_FLAG = 1 << 4;
+	/** The flag for a vararg parameter */
+	private static final int VARARG_FLAG = 1 << 5;
+	
+	/** Not allowed to instantiate {@link JavaCodeTypeCodec} */
+	private JavaCodeTypeCodec(){ }
+	
+	/**
+	 * Encodes the given {@link JavaCodeType code type} (which may be null)
+	 *
+	 * @param type The {@link JavaCodeType code type} to be encoded
+	 * @return A {@link ByteBuffer} containing the encoded code type, ready to be read
+	 * @throws IOException If the code type can't be encoded
+	 */
+	public static ByteBuffer encode(JavaCodeType type) throws IOException{
+		Encoder body = new Encoder(1024);
+		body.writeCodeType(type);
+		
+		// Build the String table
+		byte[][] stringBytes = new byte[body.strings.size()][];
+		int tableSize = 0;
+		for(int i = 0; i < stringBytes.length; i++){
+			stringBytes[i] = body.strings.get(i).getBytes(StandardCharsets.UTF_8);
+			tableSize += stringBytes[i].length + 5;
+		}
+		
+		Encoder output = new Encoder(Integer.BYTES + 10 + tableSize + body.buffer.position());
+		output.buffer.putInt(MAGIC);
+		output.writeVarInt(FORMAT_VERSION);
+		output.writeVarInt(stringBytes.length);
+		for(byte[] bytes: stringBytes){
+			output.writeVarInt(bytes.length);
+			output.buffer.put(bytes);
+		}
+		output.buffer.put(body.buffer.flip());
+		return output.buffer.flip();
+	}
+	
+	/**
+	 * Decodes a {@link JavaCodeType code type} (which may be null) from the given buffer, starting at its current
+	 * position. The buffer may be a heap buffer, a direct buffer, or a memory-mapped file. The position of the
+	 * buffer is moved to the end of the encoded code type
+	 *
+	 * @param buffer The {@link ByteBuffer} to decode from
+	 * @return The {@link JavaCodeType code type} that was decoded
+	 * @throws IOException If the data isn't a valid encoded code type (or was cut off)
+	 */
+	public static JavaCodeType decode(ByteBuffer buffer) throws IOException{
+		try{
+			if(buffer.getInt() != MAGIC){
+				throw new StreamCorruptedException("Not an encoded code type");
+			}
+			Decoder decoder = new Decoder(buffer);
+			int version = decoder.readVarInt();
+			if(version != FORMAT_VERSION){
+				throw new StreamCorruptedException("Unsupported format version: " + version);
+			}
+			decoder.readStringTable();
+			return decoder.readCodeType();
+		}catch(BufferUnderflowException e){
+			throw new EOFException("Encoded code type was cut off");
+		}catch(IllegalArgumentException | ClassCastException | IndexOutOfBoundsException e){
+			// The builders reject invalid data
+			throw new StreamCorruptedException("Invalid encoded code type: " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * @param type The {@link JavaCodeType code type} to check
+	 * @return Whether the code type is editable or not
+	 */
+	private static boolean isEditable(JavaCodeType type){
+		return switch(type.getJavaCodeType()){
+			case PACKAGE_DECLARATION -> ((JavaPackageDeclaration) type).isEditable();
+			case IMPORT_STATEMENT -> ((JavaImportStatement) type).isEditable();
+			case JAVADOC -> ((Javadoc) type).isEditable();
+			case MULTI_LINE_COMMENT -> ((JavaMultiLineComment) type).isEditable();
+			case SINGLE_LINE_COMMENT -> ((JavaSingleLineComment) type).isEditable();
+			case ANNOTATION -> ((JavaAnnotation) type).isEditable();
+			case FIELD -> ((JavaField) type).isEditable();
+			case METHOD -> ((JavaMethod) type).isEditable();
+			case CLASS -> ((JavaClass) type).isEditable();
+			case STATIC_CODE_BLOCK -> ((JavaStaticCodeBlock) type).isEditable();
+			default -> false;
+		};
+	}
+	
+	/**
+	 * @param flags The flags to check
+	 * @param flag The flag to check for
+	 * @return Whether the flag is set in the flags or not
+	 */
+	private static boolean hasFlag(int flags, int flag){
+		return (flags & flag) != 0;
+	}
+	
+	/**
+	 * Encoder is used to write the body of an encoded code type (collecting the Strings used into a table), or
+	 * the final output, into a growing {@link ByteBuffer}
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Beta v.0.6
+	 * @since Beta v.0.6
+	 */
+	private static class Encoder{
+		/** The buffer being written to */
+		private ByteBuffer buffer;
+		/** The Strings used, in the order they were first used */
+		private final List<String> strings = new ArrayList<>();
+		/** The index in {@link #strings} of each String used */
+		private final Map<String, Integer> stringIndices = new HashMap<>();
+		
+		/**
+		 * Constructs a new {@link Encoder} with the given starting size
+		 *
+		 * @param size The starting size of the buffer
+		 */
+		private Encoder(int size){
+			buffer = ByteBuffer.allocate(size);
+		}
+		
+		/**
+		 * Makes sure the buffer has room for the given number of bytes, growing it if needed
+		 *
+		 * @param bytes The number of bytes that need to fit
+		 */
+		private void ensureRemaining(int bytes){
+			if(buffer.remaining() < bytes){
+				ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+				newBuffer.put(buffer.flip());
+				buffer = newBuffer;
+			}
+		}
+		
+		/**
+		 * Writes the given int (which should be non-negative) as a varint: 7 bits at a time, with the high bit set
+		 * on every byte but the last
+		 *
+		 * @param value The int to be written
+		 */
+		private void writeVarInt(int value){
+			ensureRemaining(5);
+			while((value & ~0x7F) != 0){
+				buffer.put((byte) ((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+			buffer.put((byte) value);
+		}
+		
+		/**
+		 * Writes the given long as a varint (see {@link #writeVarInt(int)})
+		 *
+		 * @param value The long to be written
+		 */
+		private void writeVarLong(long value){
+			ensureRemaining(10);
+			while((value & ~0x7FL) != 0){
+				buffer.put((byte) ((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+			buffer.put((byte) value);
+		}
+		
+		/**
+		 * Writes the given String (which may be null) as a reference into the String table, where 0 is null
+		 *
+		 * @param string The String to be written
+		 */
+		private void writeString(String string){
+			if(string == null){
+				writeVarInt(0);
+				return;
+			}
+			Integer index = stringIndices.get(string);
+			if(index == null){
+				index = strings.size();
+				strings.add(string);
+				stringIndices.put(string, index);
+			}
+			writeVarInt(index + 1);
+		}
+		
+		/**
+		 * Writes the given List of Strings
+		 *
+		 * @param strings The List of Strings to be written
+		 */
+		private void writeStrings(List<String> strings){
+			writeVarInt(strings.size());
+			for(String string: strings){
+				writeString(string);
+			}
+		}
+		
+		/**
+		 * Writes the given List of String Pairs
+		 *
+		 * @param pairs The List of String Pairs to be written
+		 */
+		private void writePairs(List<Pair<String, String>> pairs){
+			writeVarInt(pairs.size());
+			for(Pair<String, String> pair: pairs){
+				writeString(pair.getLeft());
+				writeString(pair.getRight());
+			}
+		}
+		
+		/**
+		 * Writes the given {@link JavaCodeType code type} (which may be null), including its tag and source span
+		 *
+		 * @param type The {@link JavaCodeType code type} to be written
+		 * @throws IOException If the code type can't be encoded
+		 */
+		private void writeCodeType(JavaCodeType type) throws IOException{
+			if(type == null){
+				writeVarInt(NULL_TAG);
+				return;
+			}
+			writeVarInt((getTag(type.getJavaCodeType()) << 1) | (isEditable(type)?1:0));
+			
+			// Write the source span, which is just a 0 if there isn't one
+			writeVarLong(type.getSourceStartPosition());
+			if(type.hasSourceSpan()){
+				writeVarLong(type.getSourceEndPosition());
+				writeVarLong(type.getSourceOffsets());
+			}
+			
+			switch(type.getJavaCodeType()){
+				case TYPE_PARAMETER -> writeTypeParameter((JavaTypeParameter) type);
+				case TYPE -> writeType((JavaType) type);
+				case PARAMETER -> writeParameter((JavaParameter) type);
+				case PACKAGE_DECLARATION -> writeString(((JavaPackageDeclaration) type).getPackageName());
+				case IMPORT_STATEMENT -> {
+					JavaImportStatement importStatement = (JavaImportStatement) type;
+					writeVarInt(importStatement.isStatic()?STATIC_FLAG:0);
+					writeString(importStatement.getImportName());
+				}
+				case JAVADOC -> writeJavadoc((Javadoc) type);
+				case MULTI_LINE_COMMENT -> writeStrings(((JavaMultiLineComment) type).getContent());
+				case SINGLE_LINE_COMMENT -> writeString(((JavaSingleLineComment) type).getContent());
+				case ANNOTATION -> {
+					JavaAnnotation annotation = (JavaAnnotation) type;
+					writeString(annotation.getName());
+					writeString(annotation.getCanonicalName());
+					writePairs(annotation.getParameters());
+				}
+				case FIELD -> writeField((JavaField) type);
+				case METHOD -> writeMethod((JavaMethod) type);
+				case CLASS -> writeClass((JavaClass) type);
+				case STATIC_CODE_BLOCK -> writeStrings(((JavaStaticCodeBlock) type).getLines());
+				default -> throw new IOException("Can't encode " + type.getJavaCodeType().getStandardName());
+			}
+		}
+		
+		/**
+		 * Finds the tag to write for the given {@link JavaCodeTypes type}
+		 *
+		 * @param type The {@link JavaCodeTypes type} to find the tag for
+		 * @return The tag for the type
+		 * @throws IOException If the type can't be encoded
+		 */
+		private static int getTag(JavaCodeTypes type) throws IOException{
+			for(int tag = 0; tag < TAGS.length; tag++){
+				if(TAGS[tag] == type){
+					return tag + 1;
+				}
+			}
+			throw new IOException("Can't encode " + type.getStandardName());
+		}
+		
+		/**
+		 * Writes the given List of {@link JavaCodeType code types}
+		 *
+		 * @param types The List of {@link JavaCodeType code types} to be written
+		 * @throws IOException If any of the code types can't be encoded
+		 */
+		private void writeCodeTypes(List<? extends JavaCodeType> types) throws IOException{
+			writeVarInt(types.size());
+			for(JavaCodeType type: types){
+				writeCodeType(type);
+			}
+		}
+		
+		/**
+		 * Writes the given {@link JavaType type} (which may be null) without a tag or source span
+		 *
+		 * @param type The {@link JavaType type} to be written
+		 */
+		private void writeType(JavaType type){
+			if(type == null){
+				writeVarInt(0);
+				return;
+			}
+			// The number of type parameters is written one higher, so that 0 can mean null
+			List<JavaTypeParameter> typeParameters = type.getTypeParameters();
+			writeVarInt(typeParameters.size() + 1);
+			writeString(type.getBaseType());
+			writeString(type.getCanonicalName());
+			for(JavaTypeParameter typeParameter: typeParameters){
+				writeTypeParameter(typeParameter);
+			}
+		}
+		
+		/**
+		 * Writes the given {@link JavaTypeParameter type parameter} without a tag or source span
+		 *
+		 * @param typeParameter The {@link JavaTypeParameter type parameter} to be written
+		 */
+		private void writeTypeParameter(JavaTypeParameter typeParameter){
+			writeType(typeParameter.getBaseType());
+			writeType(typeParameter.getExtendsType());
+		}
+		
+		/**
+		 * Writes the given List of {@link JavaTypeParameter type parameters}
+		 *
+		 * @param typeParameters The List of {@link JavaTypeParameter type parameters} to be written
+		 */
+		private void writeTypeParameters(List<JavaTypeParameter> typeParameters){
+			writeVarInt(typeParameters.size());
+			for(JavaTypeParameter typeParameter: typeParameters){
+				writeTypeParameter(typeParameter);
+			}
+		}
+		
+		/**
+		 * Writes the given {@link JavaParameter parameter} without a tag or source span
+		 *
+		 * @param parameter The {@link JavaParameter parameter} to be written
+		 */
+		private void writeParameter(JavaParameter parameter){
+			writeVarInt(parameter.isVararg()?VARARG_FLAG:0);
+			writeType(parameter.getType());
+			writeString(parameter.getName());
+		}
+		
+		/**
+		 * Writes the given {@link Javadoc} (not including the tag and source span)
+		 *
+		 * @param javadoc The {@link Javadoc} to be written
+		 */
+		private void writeJavadoc(Javadoc javadoc){
+			writeVarInt(javadoc.isCondensed()?CONDENSED_FLAG:0);
+			writeStrings(javadoc.getContent());
+			writeString(javadoc.getAuthor());
+			writeString(javadoc.getVersion());
+			writeString(javadoc.getSince());
+			writePairs(javadoc.getParams());
+			writeString(javadoc.getReturnVal());
+			writePairs(javadoc.getThrowsInfos());
+		}
+		
+		/**
+		 * Writes the given {@link JavaField field} (not including the tag and source span)
+		 *
+		 * @param field The {@link JavaField field} to be written
+		 * @throws IOException If anything in the field can't be encoded
+		 */
+		private void writeField(JavaField field) throws IOException{
+			writeVarInt((field.isStatic()?STATIC_FLAG:0) | (field.isFinal()?FINAL_FLAG:0));
+			writeVarInt(field.getVisibility().ordinal());
+			writeCodeType(field.getJavadoc());
+			writeCodeTypes(field.getAnnotations());
+			writeType(field.getType());
+			writeString(field.getName());
+			writeString(field.getValue());
+		}
+		
+		/**
+		 * Writes the given {@link JavaMethod method} (not including the tag and source span)
+		 *
+		 * @param method The {@link JavaMethod method} to be written
+		 * @throws IOException If anything in the method can't be encoded
+		 */
+		private void writeMethod(JavaMethod method) throws IOException{
+			writeVarInt((method.isStatic()?STATIC_FLAG:0) | (method.isFinal()?FINAL_FLAG:0) |
+					(method.isAbstract()?ABSTRACT_FLAG:0));
+			writeVarInt(method.getVisibility().ordinal());
+			writeCodeType(method.getJavadoc());
+			writeCodeTypes(method.getAnnotations());
+			writeTypeParameters(method.getTypeParameters());
+			writeType(method.getReturnType());
+			writeString(method.getName());
+			List<JavaParameter> parameters = method.getParameters();
+			writeVarInt(parameters.size());
+			for(JavaParameter parameter: parameters){
+				writeParameter(parameter);
+			}
+			writeStrings(method.getThrowTypes());
+			writeStrings(method.getLines());
+		}
+		
+		/**
+		 * Writes the given {@link JavaClass class} (not including the tag and source span)
+		 *
+		 * @param clazz The {@link JavaClass class} to be written
+		 * @throws IOException If anything in the class can't be encoded
+		 */
+		private void writeClass(JavaClass clazz) throws IOException{
+			writeVarInt((clazz.isStatic()?STATIC_FLAG:0) | (clazz.isFinal()?FINAL_FLAG:0) |
+					(clazz.isAbstract()?ABSTRACT_FLAG:0) | (clazz.isInnerClass()?INNER_CLASS_FLAG:0));
+			writeVarInt(clazz.getVisibility().ordinal());
+			writeCodeType(clazz.getPackageDeclaration());
+			writeCodeTypes(clazz.getImportStatements());
+			writeCodeType(clazz.getJavadoc());
+			writeCodeTypes(clazz.getAnnotations());
+			writeType(clazz.getClassName());
+			writeType(clazz.getSuperClassName());
+			List<JavaType> implementsInterfaceNames = clazz.getImplementsInterfaceNames();
+			writeVarInt(implementsInterfaceNames.size());
+			for(JavaType implementsInterfaceName: implementsInterfaceNames){
+				writeType(implementsInterfaceName);
+			}
+			
+			// Write the elements in the class in order
+			List<Pair<JavaCodeTypes, String>> innerElementsOrder = clazz.getInnerElementsOrder();
+			int staticCodeBlockIndex = 0, singleLineCommentIndex = 0, multiLineCommentIndex = 0;
+			int innerClassIndex = 0, fieldIndex = 0, methodIndex = 0;
+			writeVarInt(innerElementsOrder.size());
+			for(Pair<JavaCodeTypes, String> element: innerElementsOrder){
+				JavaCodeType type = switch(element.getLeft()){
+					case STATIC_CODE_BLOCK -> clazz.getStaticCodeBlocks().get(staticCodeBlockIndex++);
+					case SINGLE_LINE_COMMENT -> clazz.getSingleLineComments().get(singleLineCommentIndex++);
+					case MULTI_LINE_COMMENT -> clazz.getMultiLineComments().get(multiLineCommentIndex++);
+					case CLASS -> clazz.getInnerClasses().get(innerClassIndex++);
+					case FIELD -> clazz.getFields().get(fieldIndex++);
+					case METHOD -> clazz.getMethods().get(methodIndex++);
+					default -> throw new IOException("Can't encode " + element.getLeft().getStandardName() +
+							" in a class");
+				};
+				writeCodeType(type);
+			}
+		}
+	}
+	
+	/**
+	 * Decoder is used to read an encoded code type from a {@link ByteBuffer}
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Beta v.0.6
+	 * @since Beta v.0.6
+	 */
+	private static class Decoder{
+		/** The buffer being read from */
+		private final ByteBuffer buffer;
+		/** The String table */
+		private String[] strings;
+		
+		/**
+		 * Constructs a new {@link Decoder} reading from the given buffer
+		 *
+		 * @param buffer The buffer to read from
+		 */
+		private Decoder(ByteBuffer buffer){
+			this.buffer = buffer;
+		}
+		
+		/**
+		 * @return The varint that was read (see {@link Encoder#writeVarInt(int)})
+		 * @throws StreamCorruptedException If the varint is too long
+		 */
+		private int readVarInt() throws StreamCorruptedException{
+			int value = 0;
+			for(int shift = 0; shift < 32; shift += 7){
+				byte b = buffer.get();
+				value |= (b & 0x7F) << shift;
+				if(b >= 0){
+					return value;
+				}
+			}
+			throw new StreamCorruptedException("Invalid varint");
+		}
+		
+		/**
+		 * @return The varint long that was read (see {@link Encoder#writeVarLong(long)})
+		 * @throws StreamCorruptedException If the varint is too long
+		 */
+		private long readVarLong() throws StreamCorruptedException{
+			long value = 0;
+			for(int shift = 0; shift < 64; shift += 7){
+				byte b = buffer.get();
+				value |= (long) (b & 0x7F) << shift;
+				if(b >= 0){
+					return value;
+				}
+			}
+			throw new StreamCorruptedException("Invalid varint");
+		}
+		
+		/**
+		 * @return The size of a List (or String) that was read
+		 * @throws StreamCorruptedException If the size is invalid
+		 */
+		private int readSize() throws StreamCorruptedException{
+			int size = readVarInt();
+			// Every element takes at least a byte, so this catches sizes that are way too big before allocating
+			if(size < 0 || size > buffer.remaining()){
+				throw new StreamCorruptedException("Invalid size: " + size);
+			}
+			return size;
+		}
+		
+		/**
+		 * Reads the String table
+		 *
+		 * @throws StreamCorruptedException If the String table is invalid
+		 */
+		private void readStringTable() throws StreamCorruptedException{
+			int size = readSize();
+			strings = new String[size];
+			byte[] bytes = new byte[buffer.hasArray()?0:256];
+			for(int i = 0; i < size; i++){
+				int length = readSize();
+				if(buffer.hasArray()){
+					// Decode straight from the array of a heap buffer
+					strings[i] = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+							StandardCharsets.UTF_8);
+					buffer.position(buffer.position() + length);
+				}else{
+					if(length > bytes.length){
+						bytes = new byte[Math.max(length, bytes.length * 2)];
+					}
+					buffer.get(bytes, 0, length);
+					strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+				}
+			}
+		}
+		
+		/**
+		 * @return The String (which may be null) that was read
+		 * @throws StreamCorruptedException If the reference into the String table is invalid
+		 */
+		private String readString() throws StreamCorruptedException{
+			int index = readVarInt();
+			if(index > strings.length){
+				throw new StreamCorruptedException("Invalid String reference: " + index);
+			}
+			return index == 0?null:strings[index - 1];
+		}
+		
+		/**
+		 * Reads a List, using the given function to read each of its elements
+		 *
+		 * @param readElement The function used to read an element of the List
+		 * @return The List that was read
+		 * @param <Element> The type of elements in the List
+		 * @throws StreamCorruptedException If the List is invalid
+		 */
+		private <Element> List<Element> readList(
+				ThrowingFunction<Decoder, Element, StreamCorruptedException> readElement)
+				throws StreamCorruptedException{
+			int size = readSize();
+			List<Element> elements = new ArrayList<>(size);
+			for(int i = 0; i < size; i++){
+				elements.add(readElement.apply(this));
+			}
+			return elements;
+		}
+		
+		/**
+		 * @return The List of Strings that was read
+		 * @throws StreamCorruptedException If the List is invalid
+		 */
+		private List<String> readStrings() throws StreamCorruptedException{
+			return readList(Decoder::readString);
+		}
+		
+		/**
+		 * @return The List of String Pairs that was read
+		 * @throws StreamCorruptedException If the List is invalid
+		 */
+		private List<Pair<String, String>> readPairs() throws StreamCorruptedException{
+			return readList(decoder -> Pair.of(decoder.readString(), decoder.readString()));
+		}
+		
+		/**
+		 * @return The {@link Visibility} that was read
+		 * @throws StreamCorruptedException If the visibility is invalid
+		 */
+		private Visibility readVisibility() throws StreamCorruptedException{
+			int ordinal = readVarInt();
+			if(ordinal >= VISIBILITIES.length){
+				throw new StreamCorruptedException("Unknown visibility: " + ordinal);
+			}
+			return VISIBILITIES[ordinal];
+		}
+		
+		/**
+		 * @return The {@link JavaCodeType code type} (which may be null) that was read, including its source span
+		 * @throws StreamCorruptedException If the code type is invalid
+		 */
+		private JavaCodeType readCodeType() throws StreamCorruptedException{
+			int tagAndEditable = readVarInt();
+			if(tagAndEditable == NULL_TAG){
+				return null;
+			}
+			int tag = tagAndEditable >>> 1;
+			if(tag < 1 || tag > TAGS.length){
+				throw new StreamCorruptedException("Unknown code type tag: " + tag);
+			}
+			boolean editable = (tagAndEditable & 1) != 0;
+			
+			long startPosition = readVarLong();
+			long endPosition = 0, offsets = 0;
+			if(startPosition != JavaCodeType.NO_SPAN){
+				endPosition = readVarLong();
+				offsets = readVarLong();
+			}
+			
+			JavaCodeType type = switch(TAGS[tag - 1]){
+				case TYPE_PARAMETER -> readTypeParameter();
+				case TYPE -> readType();
+				case PARAMETER -> readParameter();
+				case PACKAGE_DECLARATION -> (editable?EditableJavaPackageDeclaration.builder():
+						UneditableJavaPackageDeclaration.builder())
+						.packageName(readString())
+						.build();
+				case IMPORT_STATEMENT -> (editable?EditableJavaImportStatement.builder():
+						UneditableJavaImportStatement.builder())
+						.isStatic(hasFlag(readVarInt(), STATIC_FLAG))
+						.importName(readString())
+						.build();
+				case JAVADOC -> readJavadoc(editable);
+				case MULTI_LINE_COMMENT -> (editable?EditableJavaMultiLineComment.builder():
+						UneditableJavaMultiLineComment.builder())
+						.content(readStrings())
+						.build();
+				case SINGLE_LINE_COMMENT -> (editable?EditableJavaSingleLineComment.builder():
+						UneditableJavaSingleLineComment.builder())
+						.content(readString())
+						.build();
+				case ANNOTATION -> {
+					JavaAnnotationBuilder<? extends JavaAnnotation> builder = editable?EditableJavaAnnotation.builder():
+							UneditableJavaAnnotation.builder();
+					yield builder
+							.name(readString())
+							.canonicalName(readString())
+							.parameters(readPairs())
+							.build();
+				}
+				case FIELD -> readField(editable);
+				case METHOD -> readMethod(editable);
+				case CLASS -> readClass(editable);
+				case STATIC_CODE_BLOCK -> (editable?EditableJavaStaticCodeBlock.builder():
+						UneditableJavaStaticCodeBlock.builder())
+						.lines(readStrings())
+						.build();
+				default -> throw new StreamCorruptedException("Unknown code type tag: " + tag);
+			};
+			
+			// Restore the source span
+			if(startPosition != JavaCodeType.NO_SPAN && type instanceof BaseJavaCodeType spannedType){
+				spannedType.setSourceSpan(offsets, startPosition, endPosition);
+			}
+			return type;
+		}
+		
+		/**
+		 * @param typeClass The class of the code types in the List
+		 * @return The List of {@link JavaCodeType code types} that was read
+		 * @param <Type> The type of {@link JavaCodeType code types} in the List
+		 * @throws StreamCorruptedException If the List is invalid
+		 */
+		private <Type extends JavaCodeType> List<Type> readCodeTypes(Class<Type> typeClass)
+				throws StreamCorruptedException{
+			return readList(decoder -> typeClass.cast(decoder.readCodeType()));
+		}
+		
+		/**
+		 * @return The {@link JavaType type} (which may be null) that was read, without a tag or source span
+		 * @throws StreamCorruptedException If the type is invalid
+		 */
+		private JavaType readType() throws StreamCorruptedException{
+			int numTypeParameters = readVarInt() - 1;
+			if(numTypeParameters == -1){
+				return null;
+			}
+			JavaType.JavaTypeBuilder builder = JavaType.builder()
+					.baseType(readString())
+					.canonicalName(readString());
+			for(int i = 0; i < numTypeParameters; i++){
+				builder.typeParameter(readTypeParameter());
+			}
+			return builder.build();
+		}
+		
+		/**
+		 * @return The {@link JavaTypeParameter type parameter} that was read, without a tag or source span
+		 * @throws StreamCorruptedException If the type parameter is invalid
+		 */
+		private JavaTypeParameter readTypeParameter() throws StreamCorruptedException{
+			return JavaTypeParameter.builder()
+					.baseType(readType())
+					.extendsType(readType())
+					.build();
+		}
+		
+		/**
+		 * @return The {@link JavaParameter parameter} that was read, without a tag or source span
+		 * @throws StreamCorruptedException If the parameter is invalid
+		 */
+		private JavaParameter readParameter() throws StreamCorruptedException{
+			boolean vararg = hasFlag(readVarInt(), VARARG_FLAG);
+			return JavaParameter.builder()
+					.type(readType())
+					.name(readString())
+					.vararg(vararg)
+					.build();
+		}
+		
+		/**
+		 * @param editable Whether the {@link Javadoc} is editable or not
+		 * @return The {@link Javadoc} that was read (not including the tag and source span)
+		 * @throws StreamCorruptedException If the Javadoc is invalid
+		 */
+		private Javadoc readJavadoc(boolean editable) throws StreamCorruptedException{
+			JavadocBuilder<? extends Javadoc> builder = editable?EditableJavadoc.builder():UneditableJavadoc.builder();
+			return builder
+					.condensed(hasFlag(readVarInt(), CONDENSED_FLAG))
+					.content(readStrings())
+					.author(readString())
+					.version(readString())
+					.since(readString())
+					.params(readPairs())
+					.returnVal(readString())
+					.throwsInfos(readPairs())
+					.build();
+		}
+		
+		/**
+		 * @param editable Whether the {@link JavaField field} is editable or not
+		 * @return The {@link JavaField field} that was read (not including the tag and source span)
+		 * @throws StreamCorruptedException If the field is invalid
+		 */
+		private JavaField readField(boolean editable) throws StreamCorruptedException{
+			JavaFieldBuilder<? extends JavaField> builder = editable?EditableJavaField.builder():
+					UneditableJavaField.builder();
+			int flags = readVarInt();
+			return builder
+					.isStatic(hasFlag(flags, STATIC_FLAG))
+					.isFinal(hasFlag(flags, FINAL_FLAG))
+					.visibility(readVisibility())
+					.javadoc((Javadoc) readCodeType())
+					.annotations(readCodeTypes(JavaAnnotation.class))
+					.type(readType())
+					.name(readString())
+					.value(readString())
+					.build();
+		}
+		
+		/**
+		 * @param editable Whether the {@link JavaMethod method} is editable or not
+		 * @return The {@link JavaMethod method} that was read (not including the tag and source span)
+		 * @throws StreamCorruptedException If the method is invalid
+		 */
+		private JavaMethod readMethod(boolean editable) throws StreamCorruptedException{
+			JavaMethodBuilder<? extends JavaMethod> builder = editable?EditableJavaMethod.builder():
+					UneditableJavaMethod.builder();
+			int flags = readVarInt();
+			return builder
+					.isStatic(hasFlag(flags, STATIC_FLAG))
+					.isFinal(hasFlag(flags, FINAL_FLAG))
+					.isAbstract(hasFlag(flags, ABSTRACT_FLAG))
+					.visibility(readVisibility())
+					.javadoc((Javadoc) readCodeType())
+					.annotations(readCodeTypes(JavaAnnotation.class))
+					.typeParameters(readList(Decoder::readTypeParameter))
+					.returnType(readType())
+					.name(readString())
+					.parameters(readList(Decoder::readParameter))
+					.throwTypes(readStrings())
+					.lines(readStrings())
+					.build();
+		}
+		
+		/**
+		 * @param editable Whether the {@link JavaClass class} is editable or not
+		 * @return The {@link JavaClass class} that was read (not including the tag and source span)
+		 * @throws StreamCorruptedException If the class is invalid
+		 */
+		private JavaClass readClass(boolean editable) throws StreamCorruptedException{
+			JavaClassBuilder<? extends JavaClass> builder = editable?EditableJavaClass.builder():
+					UneditableJavaClass.builder();
+			int flags = readVarInt();
+			builder.isStatic(hasFlag(flags, STATIC_FLAG))
+					.isFinal(hasFlag(flags, FINAL_FLAG))
+					.isAbstract(hasFlag(flags, ABSTRACT_FLAG))
+					.isInnerClass(hasFlag(flags, INNER_CLASS_FLAG))
+					.visibility(readVisibility())
+					.packageDeclaration((JavaPackageDeclaration) readCodeType())
+					.importStatements(readCodeTypes(JavaImportStatement.class))
+					.javadoc((Javadoc) readCodeType())
+					.annotations(readCodeTypes(JavaAnnotation.class))
+					.className(readType())
+					.superClassName(readType())
+					.implementsInterfaceNames(readList(Decoder::readType));
+			
+			// Add the elements in the class in order
+			int numElements = readSize();
+			for(int i = 0; i < numElements; i++){
+				JavaCodeType element = readCodeType();
+				if(element instanceof JavaStaticCodeBlock staticCodeBlock){
+					builder.staticCodeBlock(staticCodeBlock);
+				}else if(element instanceof JavaSingleLineComment singleLineComment){
+					builder.singleLineComment(singleLineComment);
+				}else if(element instanceof JavaMultiLineComment multiLineComment){
+					builder.multiLineComment(multiLineComment);
+				}else if(element instanceof JavaClass innerClass){
+					builder.innerClass(innerClass);
+				}else if(element instanceof JavaField field){
+					builder.field(field);
+				}else if(element instanceof JavaMethod method){
+					builder.method(method);
+				}else{
+					throw new StreamCorruptedException("Invalid element in a class");
+				}
+			}
+			return builder.build();
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains classes to use to save Java code types as binary data and load them again
+ */
+package com.github.tadukoo.java.serialization;
@@ -0,0 +1,1047 @@
+package com.github.tadukoo.java.writing;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.JavaCodeTypes;
+import com.github.tadukoo.java.JavaModifiers;
+import com.github.tadukoo.java.JavaParameter;
+import com.github.tadukoo.java.JavaTokens;
+import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.JavaTypeParameter;
+import com.github.tadukoo.java.annotation.JavaAnnotation;
+import com.github.tadukoo.java.code.staticcodeblock.JavaStaticCodeBlock;
+import com.github.tadukoo.java.comment.JavaMultiLineComment;
+import com.github.tadukoo.java.comment.JavaSingleLineComment;
+import com.github.tadukoo.java.field.JavaField;
+import com.github.tadukoo.java.importstatement.JavaImportStatement;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.javadoc.Javadoc;
+import com.github.tadukoo.java.method.JavaMethod;
+import com.github.tadukoo.java.packagedeclaration.JavaPackageDeclaration;
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.StringUtil;
+import com.github.tadukoo.util.tuple.Pair;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Java Code Writer is used to write {@link JavaCodeType Java code types} straight to an {@link Appendable} (e.g. a
+ * {@link Writer} or StringBuilder) or a {@link WritableByteChannel}, rather than building the full code as a String
+ * using toString. The code that gets written is exactly the same as what toString would return.
+ * <br><br>
+ * Instead of rendering inner elements to Strings and then indenting all their lines, the writer keeps track of
+ * the current indentation depth and writes the indentation as it goes, and declarations are built in a single
+ * re-used buffer, so writing a large class doesn't create intermediate copies of its code.
+ * <br><br>
+ * A Java Code Writer is not thread-safe, but different writers can be used on different threads.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public class JavaCodeWriter implements JavaTokens, Flushable{
+	/** The max length of a method declaration line before parameters get moved to new lines */
+	private static final int MAX_METHOD_DECLARATION_LENGTH = 110;
+	/** The size of the buffers used when writing to a {@link WritableByteChannel} */
+	private static final int CHANNEL_BUFFER_SIZE = 8192;
+	/** Orders {@link JavaImportStatement import statements} the same way as in {@link JavaClass#toString()} */
+	private static final Comparator<JavaImportStatement> IMPORT_ORDER =
+			(import1, import2) -> {
+				int segmentComparison = compareFirstSegments(import1.getImportName(), import2.getImportName());
+				return segmentComparison != 0?segmentComparison:
+						compareImportNames(import1.getImportName(), import2.getImportName());
+			};
+	
+	/** The {@link Appendable} to write the code to */
+	private final Appendable out;
+	/** A buffer re-used for building declarations */
+	private final StringBuilder scratch = new StringBuilder();
+	/** A buffer re-used for building method parameters */
+	private final StringBuilder parameterScratch = new StringBuilder();
+	/** The current indentation depth (the number of tabs written after each newline) */
+	private int depth = 0;
+	
+	/**
+	 * Constructs a new {@link JavaCodeWriter} that will write to the given {@link Appendable}
+	 *
+	 * @param out The {@link Appendable} to write the code to
+	 */
+	public JavaCodeWriter(Appendable out){
+		this.out = out;
+	}
+	
+	/**
+	 * Constructs a new {@link JavaCodeWriter} that will write to the given {@link WritableByteChannel} using UTF-8.
+	 * Written code is buffered, so {@link #flush()} must be called once done writing.
+	 *
+	 * @param channel The {@link WritableByteChannel} to write the code to
+	 */
+	public JavaCodeWriter(WritableByteChannel channel){
+		this(channel, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Constructs a new {@link JavaCodeWriter} that will write to the given {@link WritableByteChannel} using the
+	 * given {@link Charset}. Written code is buffered, so {@link #flush()} must be called once done writing.
+	 *
+	 * @param channel The {@link WritableByteChannel} to write the code to
+	 * @param charset The {@link Charset} to use for encoding the code
+	 */
+	public JavaCodeWriter(WritableByteChannel channel, Charset charset){
+		this(new ChannelAppendable(channel, charset));
+	}
+	
+	/**
+	 * Writes the given {@link JavaCodeType} (the same code that its toString would return)
+	 *
+	 * @param type The {@link JavaCodeType} to be written
+	 * @return this, to continue writing
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	public JavaCodeWriter write(JavaCodeType type) throws IOException{
+		if(type instanceof JavaClass clazz){
+			writeClass(clazz);
+		}else if(type instanceof JavaMethod method){
+			writeMethod(method);
+		}else if(type instanceof JavaField field){
+			writeField(field);
+		}else if(type instanceof Javadoc javadoc){
+			writeJavadoc(javadoc);
+		}else if(type instanceof JavaAnnotation annotation){
+			writeAnnotation(annotation);
+		}else if(type instanceof JavaStaticCodeBlock staticCodeBlock){
+			writeStaticCodeBlock(staticCodeBlock);
+		}else if(type instanceof JavaSingleLineComment singleLineComment){
+			writeSingleLineComment(singleLineComment);
+		}else if(type instanceof JavaMultiLineComment multiLineComment){
+			writeMultiLineComment(multiLineComment);
+		}else if(type instanceof JavaImportStatement importStatement){
+			writeImportStatement(importStatement);
+		}else if(type instanceof JavaPackageDeclaration packageDeclaration){
+			writePackageDeclaration(packageDeclaration);
+		}else{
+			// Types, type parameters, and parameters are small enough to just use toString
+			write(type.toString());
+		}
+		return this;
+	}
+	
+	/**
+	 * Flushes any buffered code to the underlying {@link WritableByteChannel}, or flushes the {@link Appendable}
+	 * if it's {@link Flushable}
+	 *
+	 * @throws IOException If anything goes wrong in flushing
+	 */
+	@Override
+	public void flush() throws IOException{
+		if(out instanceof Flushable flushable){
+			flushable.flush();
+		}
+	}
+	
+	/*
+	 * Output Handling
+	 */
+	
+	/**
+	 * Writes a newline, followed by the indentation for the current depth
+	 *
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void newline() throws IOException{
+		out.append('\n');
+		for(int i = 0; i < depth; i++){
+			out.append('\t');
+		}
+	}
+	
+	/**
+	 * Starts a new line of content, adding a newline if it's not the first line
+	 *
+	 * @param firstLine Whether this is the first line of content or not
+	 * @return false, to be used as the new value of firstLine
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private boolean startLine(boolean firstLine) throws IOException{
+		if(!firstLine){
+			newline();
+		}
+		return false;
+	}
+	
+	/**
+	 * Writes the given text, indenting any lines after newlines in it to the current depth
+	 *
+	 * @param text The text to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void write(CharSequence text) throws IOException{
+		write(text, 0, text.length());
+	}
+	
+	/**
+	 * Writes the given part of the text, indenting any lines after newlines in it to the current depth
+	 *
+	 * @param text The text to write part of
+	 * @param start The index to start writing at
+	 * @param end The index to stop writing at (exclusive)
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void write(CharSequence text, int start, int end) throws IOException{
+		int segmentStart = start;
+		for(int i = start; i < end; i++){
+			if(text.charAt(i) == '\n'){
+				append(text, segmentStart, i);
+				newline();
+				segmentStart = i + 1;
+			}
+		}
+		append(text, segmentStart, end);
+	}
+	
+	/**
+	 * Appends the given part of the text to the output as-is
+	 *
+	 * @param text The text to append part of
+	 * @param start The index to start appending at
+	 * @param end The index to stop appending at (exclusive)
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void append(CharSequence text, int start, int end) throws IOException{
+		if(start >= end){
+			return;
+		}
+		if(out instanceof Writer writer){
+			// Writer's append would create a String for the subsequence
+			if(text instanceof String string){
+				writer.write(string, start, end - start);
+			}else{
+				for(int i = start; i < end; i++){
+					writer.write(text.charAt(i));
+				}
+			}
+		}else{
+			out.append(text, start, end);
+		}
+	}
+	
+	/**
+	 * Writes the given {@link JavaCodeType} as an inner element, one level deeper than the current depth
+	 *
+	 * @param type The {@link JavaCodeType} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeIndented(JavaCodeType type) throws IOException{
+		depth++;
+		out.append('\t');
+		write(type);
+		depth--;
+	}
+	
+	/*
+	 * Simple Types
+	 */
+	
+	/**
+	 * Appends the given {@link JavaType} to the given buffer
+	 *
+	 * @param buffer The buffer to append to
+	 * @param type The {@link JavaType} to be appended
+	 */
+	private static void appendType(StringBuilder buffer, JavaType type){
+		if(type == null){
+			buffer.append((Object) null);
+			return;
+		}
+		buffer.append(type.getBaseType());
+		List<JavaTypeParameter> typeParameters = type.getTypeParameters();
+		if(ListUtil.isNotBlank(typeParameters)){
+			buffer.append(TYPE_PARAMETER_OPEN_TOKEN);
+			for(JavaTypeParameter typeParameter: typeParameters){
+				appendTypeParameter(buffer, typeParameter);
+				buffer.append(LIST_SEPARATOR_TOKEN).append(' ');
+			}
+			// Remove the last comma and space
+			buffer.setLength(buffer.length() - 2);
+			buffer.append(TYPE_PARAMETER_CLOSE_TOKEN);
+		}
+	}
+	
+	/**
+	 * Appends the given {@link JavaTypeParameter} to the given buffer
+	 *
+	 * @param buffer The buffer to append to
+	 * @param typeParameter The {@link JavaTypeParameter} to be appended
+	 */
+	private static void appendTypeParameter(StringBuilder buffer, JavaTypeParameter typeParameter){
+		if(typeParameter == null){
+			buffer.append((Object) null);
+			return;
+		}
+		appendType(buffer, typeParameter.getBaseType());
+		if(typeParameter.getExtendsType() != null){
+			buffer.append(' ').append(EXTENDS_TOKEN).append(' ');
+			appendType(buffer, typeParameter.getExtendsType());
+		}
+	}
+	
+	/**
+	 * Appends the given {@link JavaParameter} to the given buffer
+	 *
+	 * @param buffer The buffer to append to
+	 * @param parameter The {@link JavaParameter} to be appended
+	 */
+	private static void appendParameter(StringBuilder buffer, JavaParameter parameter){
+		if(parameter == null){
+			buffer.append((Object) null);
+			return;
+		}
+		appendType(buffer, parameter.getType());
+		if(parameter.isVararg()){
+			buffer.append(' ').append(VARARGS_TOKEN);
+		}
+		buffer.append(' ').append(parameter.getName());
+	}
+	
+	/*
+	 * Leaf Code Types
+	 */
+	
+	/**
+	 * Writes the given {@link JavaPackageDeclaration}
+	 *
+	 * @param packageDeclaration The {@link JavaPackageDeclaration} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writePackageDeclaration(JavaPackageDeclaration packageDeclaration) throws IOException{
+		write(PACKAGE_TOKEN);
+		out.append(' ');
+		write(String.valueOf(packageDeclaration.getPackageName()));
+		write(SEMICOLON);
+	}
+	
+	/**
+	 * Writes the given {@link JavaImportStatement}
+	 *
+	 * @param importStatement The {@link JavaImportStatement} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeImportStatement(JavaImportStatement importStatement) throws IOException{
+		write(IMPORT_TOKEN);
+		out.append(' ');
+		if(importStatement.isStatic()){
+			write(STATIC_MODIFIER);
+			out.append(' ');
+		}
+		write(String.valueOf(importStatement.getImportName()));
+		write(SEMICOLON);
+	}
+	
+	/**
+	 * Writes the given {@link JavaSingleLineComment}
+	 *
+	 * @param singleLineComment The {@link JavaSingleLineComment} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeSingleLineComment(JavaSingleLineComment singleLineComment) throws IOException{
+		write(SINGLE_LINE_COMMENT_TOKEN);
+		out.append(' ');
+		write(String.valueOf(singleLineComment.getContent()));
+	}
+	
+	/**
+	 * Writes the given {@link JavaMultiLineComment}
+	 *
+	 * @param multiLineComment The {@link JavaMultiLineComment} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeMultiLineComment(JavaMultiLineComment multiLineComment) throws IOException{
+		write(MULTI_LINE_COMMENT_START_TOKEN);
+		if(ListUtil.isNotBlank(multiLineComment.getContent())){
+			for(String line: multiLineComment.getContent()){
+				newline();
+				out.append(' ');
+				write(JAVADOC_LINE_TOKEN);
+				out.append(' ');
+				write(String.valueOf(line));
+			}
+		}
+		newline();
+		out.append(' ');
+		write(MULTI_LINE_COMMENT_CLOSE_TOKEN);
+	}
+	
+	/**
+	 * Writes the given {@link Javadoc}
+	 *
+	 * @param javadoc The {@link Javadoc} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeJavadoc(Javadoc javadoc) throws IOException{
+		// Build in the buffer, since some parts get removed again
+		StringBuilder doc = scratch;
+		doc.setLength(0);
+		doc.append(JAVADOC_START_TOKEN);
+		
+		// Check what we have
+		List<String> content = javadoc.getContent();
+		List<Pair<String, String>> params = javadoc.getParams();
+		List<Pair<String, String>> throwsInfos = javadoc.getThrowsInfos();
+		boolean haveContent = ListUtil.isNotBlank(content);
+		boolean haveInfoAnnotations = StringUtil.anyNotBlank(javadoc.getAuthor(), javadoc.getVersion(),
+				javadoc.getSince());
+		boolean haveCodeAnnotations = ListUtil.isNotBlank(params) || StringUtil.isNotBlank(javadoc.getReturnVal()) ||
+				ListUtil.isNotBlank(throwsInfos);
+		boolean prevContent = false;
+		
+		// If not condensed, go to the next line if we have content or annotations coming up
+		if(!javadoc.isCondensed() && (haveContent || haveInfoAnnotations || haveCodeAnnotations)){
+			doc.append("\n ").append(JAVADOC_LINE_TOKEN);
+		}
+		
+		// Add the content
+		if(haveContent){
+			for(String line: content){
+				doc.append(' ').append(line).append("\n ").append(JAVADOC_LINE_TOKEN);
+			}
+			if(!haveInfoAnnotations && !haveCodeAnnotations){
+				doc.setLength(doc.length() - 3);
+			}else{
+				doc.append(' ');
+			}
+			prevContent = true;
+		}
+		
+		// Add the info annotations
+		prevContent = appendJavadocAnnotation(doc, prevContent, JAVADOC_AUTHOR_TOKEN, javadoc.getAuthor());
+		prevContent = appendJavadocAnnotation(doc, prevContent, JAVADOC_VERSION_TOKEN, javadoc.getVersion());
+		prevContent = appendJavadocAnnotation(doc, prevContent, JAVADOC_SINCE_TOKEN, javadoc.getSince());
+		
+		// Add extra line
+		if(haveInfoAnnotations && haveCodeAnnotations){
+			doc.append("\n ").append(JAVADOC_LINE_TOKEN).append(' ');
+		}
+		
+		// Add the parameters
+		if(ListUtil.isNotBlank(params)){
+			prevContent = appendJavadocPairs(doc, prevContent, JAVADOC_PARAM_TOKEN, params);
+		}
+		
+		// Add the return value
+		prevContent = appendJavadocAnnotation(doc, prevContent, JAVADOC_RETURN_TOKEN, javadoc.getReturnVal());
+		
+		// Add the throws info
+		if(ListUtil.isNotBlank(throwsInfos)){
+			appendJavadocPairs(doc, prevContent, THROWS_TOKEN, throwsInfos);
+		}
+		
+		// If not condensed, go to the next line for the closing
+		if(!javadoc.isCondensed()){
+			doc.append('\n');
+		}
+		
+		// End with the closing
+		doc.append(' ').append(MULTI_LINE_COMMENT_CLOSE_TOKEN);
+		
+		write(doc);
+	}
+	
+	/**
+	 * Appends a single Javadoc annotation (e.g. {@code @author}) to the given buffer if it has a value
+	 *
+	 * @param doc The buffer to append to
+	 * @param prevContent Whether there was content before this in the Javadoc
+	 * @param token The token for the annotation
+	 * @param value The value of the annotation
+	 * @return Whether there's content in the Javadoc now
+	 */
+	private static boolean appendJavadocAnnotation(StringBuilder doc, boolean prevContent, String token, String value){
+		if(StringUtil.isBlank(value)){
+			return prevContent;
+		}
+		if(prevContent){
+			doc.append("\n ").append(JAVADOC_LINE_TOKEN);
+		}
+		doc.append(' ').append(ANNOTATION_START_TOKEN).append(token).append(' ').append(value);
+		return true;
+	}
+	
+	/**
+	 * Appends Javadoc annotations made of pairs (e.g. {@code @param name description}) to the given buffer
+	 *
+	 * @param doc The buffer to append to
+	 * @param prevContent Whether there was content before this in the Javadoc
+	 * @param token The token for the annotations
+	 * @param pairs The pairs to be appended
+	 * @return Whether there's content in the Javadoc now
+	 */
+	private static boolean appendJavadocPairs(
+			StringBuilder doc, boolean prevContent, String token, List<Pair<String, String>> pairs){
+		if(prevContent){
+			doc.append("\n ").append(JAVADOC_LINE_TOKEN);
+		}
+		for(Pair<String, String> pair: pairs){
+			doc.append(' ').append(ANNOTATION_START_TOKEN).append(token).append(' ')
+					.append(pair.getLeft()).append(' ').append(pair.getRight())
+					.append("\n ").append(JAVADOC_LINE_TOKEN);
+		}
+		doc.setLength(doc.length() - 3);
+		return true;
+	}
+	
+	/**
+	 * Writes the given {@link JavaAnnotation}
+	 *
+	 * @param annotation The {@link JavaAnnotation} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeAnnotation(JavaAnnotation annotation) throws IOException{
+		write(ANNOTATION_START_TOKEN);
+		write(String.valueOf(annotation.getName()));
+		
+		List<Pair<String, String>> parameters = annotation.getParameters();
+		if(ListUtil.isNotBlank(parameters)){
+			write(PARAMETER_OPEN_TOKEN);
+			if(parameters.size() == 1 && StringUtil.equals(parameters.get(0).getLeft(), "value")){
+				write(String.valueOf(parameters.get(0).getRight()));
+			}else{
+				boolean first = true;
+				for(Pair<String, String> parameter: parameters){
+					if(!first){
+						write(LIST_SEPARATOR_TOKEN);
+						out.append(' ');
+					}
+					first = false;
+					write(String.valueOf(parameter.getLeft()));
+					out.append(' ');
+					write(ASSIGNMENT_OPERATOR_TOKEN);
+					out.append(' ');
+					write(String.valueOf(parameter.getRight()));
+				}
+			}
+			write(PARAMETER_CLOSE_TOKEN);
+		}
+	}
+	
+	/**
+	 * Writes the given {@link JavaStaticCodeBlock}
+	 *
+	 * @param staticCodeBlock The {@link JavaStaticCodeBlock} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeStaticCodeBlock(JavaStaticCodeBlock staticCodeBlock) throws IOException{
+		write(STATIC_MODIFIER);
+		write(BLOCK_OPEN_TOKEN);
+		
+		if(ListUtil.isNotBlank(staticCodeBlock.getLines())){
+			for(String line: staticCodeBlock.getLines()){
+				newline();
+				out.append('\t');
+				write(String.valueOf(line));
+			}
+			newline();
+		}else{
+			// Have an empty space for the block if no content is present
+			out.append(' ');
+		}
+		
+		write(BLOCK_CLOSE_TOKEN);
+	}
+	
+	/*
+	 * Composite Code Types
+	 */
+	
+	/**
+	 * Writes the given {@link Javadoc} (if it's not null) and {@link JavaAnnotation annotations} as lines
+	 *
+	 * @param javadoc The {@link Javadoc} to be written (may be null)
+	 * @param annotations The {@link JavaAnnotation annotations} to be written (may be null)
+	 * @param firstLine Whether the next line is the first line of content or not
+	 * @return Whether the next line is the first line of content or not
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private boolean writeJavadocAndAnnotations(
+			Javadoc javadoc, List<JavaAnnotation> annotations, boolean firstLine) throws IOException{
+		if(javadoc != null){
+			firstLine = startLine(firstLine);
+			writeJavadoc(javadoc);
+		}
+		if(ListUtil.isNotBlank(annotations)){
+			for(JavaAnnotation annotation: annotations){
+				firstLine = startLine(firstLine);
+				writeAnnotation(annotation);
+			}
+		}
+		return firstLine;
+	}
+	
+	/**
+	 * Writes the given {@link JavaField}
+	 *
+	 * @param field The {@link JavaField} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeField(JavaField field) throws IOException{
+		boolean firstLine = writeJavadocAndAnnotations(field.getJavadoc(), field.getAnnotations(), true);
+		
+		StringBuilder declaration = scratch;
+		declaration.setLength(0);
+		JavaModifiers.append(declaration, field.getModifiers());
+		appendType(declaration, field.getType());
+		declaration.append(' ').append(field.getName());
+		if(StringUtil.isNotBlank(field.getValue())){
+			declaration.append(' ').append(ASSIGNMENT_OPERATOR_TOKEN).append(' ').append(field.getValue());
+		}
+		declaration.append(SEMICOLON);
+		
+		startLine(firstLine);
+		write(declaration);
+	}
+	
+	/**
+	 * Writes the given {@link JavaMethod}
+	 *
+	 * @param method The {@link JavaMethod} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeMethod(JavaMethod method) throws IOException{
+		boolean firstLine = writeJavadocAndAnnotations(method.getJavadoc(), method.getAnnotations(), true);
+		
+		StringBuilder declaration = scratch;
+		declaration.setLength(0);
+		JavaModifiers.append(declaration, method.getModifiers());
+		
+		// Optionally add type parameters
+		if(ListUtil.isNotBlank(method.getTypeParameters())){
+			declaration.append(TYPE_PARAMETER_OPEN_TOKEN);
+			for(JavaTypeParameter typeParameter: method.getTypeParameters()){
+				appendTypeParameter(declaration, typeParameter);
+				declaration.append(", ");
+			}
+			declaration.setLength(declaration.length() - 2);
+			declaration.append(TYPE_PARAMETER_CLOSE_TOKEN).append(' ');
+		}
+		
+		// Add return type and name
+		appendType(declaration, method.getReturnType());
+		if(StringUtil.isNotBlank(method.getName())){
+			declaration.append(' ').append(method.getName());
+		}
+		declaration.append(PARAMETER_OPEN_TOKEN);
+		
+		// Add parameters, moving them to new lines if the declaration gets too long
+		boolean multiline = false;
+		if(ListUtil.isNotBlank(method.getParameters())){
+			for(JavaParameter parameter: method.getParameters()){
+				parameterScratch.setLength(0);
+				appendParameter(parameterScratch, parameter);
+				int parameterLength = parameterScratch.length() + 1;
+				if(declaration.length() + parameterLength > MAX_METHOD_DECLARATION_LENGTH){
+					if(!multiline){
+						int cutoff = declaration.indexOf(PARAMETER_OPEN_TOKEN) + 1;
+						firstLine = startLine(firstLine);
+						write(declaration, 0, cutoff);
+						declaration.delete(0, cutoff);
+						declaration.insert(0, "\t\t");
+						if(declaration.length() > 2 && declaration.length() + parameterLength > MAX_METHOD_DECLARATION_LENGTH){
+							firstLine = startLine(firstLine);
+							write(declaration);
+							declaration.setLength(0);
+							declaration.append("\t\t");
+						}
+						multiline = true;
+					}else{
+						firstLine = startLine(firstLine);
+						write(declaration);
+						declaration.setLength(0);
+						declaration.append("\t\t");
+					}
+				}
+				declaration.append(parameterScratch).append(LIST_SEPARATOR_TOKEN).append(' ');
+			}
+			declaration.setLength(declaration.length() - 2);
+		}
+		
+		// Add throw types
+		declaration.append(PARAMETER_CLOSE_TOKEN);
+		if(ListUtil.isNotBlank(method.getThrowTypes())){
+			declaration.append(' ').append(THROWS_TOKEN).append(' ');
+			for(String throwType: method.getThrowTypes()){
+				declaration.append(throwType).append(LIST_SEPARATOR_TOKEN).append(' ');
+			}
+			declaration.setLength(declaration.length() - 2);
+		}
+		
+		if(method.isAbstract()){
+			declaration.append(SEMICOLON);
+			startLine(firstLine);
+			write(declaration);
+		}else if(ListUtil.isNotBlank(method.getLines())){
+			declaration.append(BLOCK_OPEN_TOKEN);
+			startLine(firstLine);
+			write(declaration);
+			for(String line: method.getLines()){
+				newline();
+				out.append('\t');
+				write(String.valueOf(line));
+			}
+			newline();
+			write(BLOCK_CLOSE_TOKEN);
+		}else{
+			// When method has no content, open and close on the same line
+			declaration.append(BLOCK_OPEN_TOKEN).append(' ').append(BLOCK_CLOSE_TOKEN);
+			startLine(firstLine);
+			write(declaration);
+		}
+	}
+	
+	/**
+	 * Writes the given {@link JavaClass}
+	 *
+	 * @param clazz The {@link JavaClass} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeClass(JavaClass clazz) throws IOException{
+		boolean firstLine = true;
+		
+		// Package Declaration, with an empty line after it
+		if(clazz.getPackageDeclaration() != null){
+			firstLine = startLine(firstLine);
+			writePackageDeclaration(clazz.getPackageDeclaration());
+			newline();
+		}
+		
+		// Import Statements
+		if(ListUtil.isNotBlank(clazz.getImportStatements())){
+			List<JavaImportStatement> regularImports = new ArrayList<>();
+			List<JavaImportStatement> staticImports = new ArrayList<>();
+			for(JavaImportStatement importStatement: clazz.getImportStatements()){
+				if(importStatement.isStatic()){
+					staticImports.add(importStatement);
+				}else{
+					regularImports.add(importStatement);
+				}
+			}
+			firstLine = writeImportStatements(regularImports, firstLine);
+			firstLine = writeImportStatements(staticImports, firstLine);
+		}
+		
+		// Javadoc and Annotations
+		firstLine = writeJavadocAndAnnotations(clazz.getJavadoc(), clazz.getAnnotations(), firstLine);
+		
+		// Class Declaration
+		StringBuilder declaration = scratch;
+		declaration.setLength(0);
+		JavaModifiers.append(declaration, clazz.getModifiers());
+		declaration.append(CLASS_TOKEN).append(' ');
+		appendType(declaration, clazz.getClassName());
+		if(clazz.getSuperClassName() != null){
+			declaration.append(' ').append(EXTENDS_TOKEN).append(' ');
+			appendType(declaration, clazz.getSuperClassName());
+		}
+		if(ListUtil.isNotBlank(clazz.getImplementsInterfaceNames())){
+			declaration.append(' ').append(IMPLEMENTS_TOKEN);
+			for(JavaType implementsInterfaceName: clazz.getImplementsInterfaceNames()){
+				declaration.append(' ');
+				appendType(declaration, implementsInterfaceName);
+				declaration.append(',');
+			}
+			// Remove final comma
+			declaration.setLength(declaration.length() - 1);
+		}
+		declaration.append(BLOCK_OPEN_TOKEN);
+		startLine(firstLine);
+		write(declaration);
+		
+		// Newline at start of class
+		newline();
+		out.append('\t');
+		
+		if(ListUtil.isNotBlank(clazz.getInnerElementsOrder())){
+			writeInnerElementsInOrder(clazz);
+		}else{
+			// Default order is inner classes, then fields, then methods
+			if(ListUtil.isNotBlank(clazz.getInnerClasses())){
+				for(JavaClass innerClass: clazz.getInnerClasses()){
+					newline();
+					writeIndented(innerClass);
+				}
+			}
+			if(ListUtil.isNotBlank(clazz.getFields())){
+				for(JavaField field: clazz.getFields()){
+					newline();
+					writeIndented(field);
+				}
+			}
+			if(ListUtil.isNotBlank(clazz.getMethods())){
+				// Newline to separate fields from methods
+				if(ListUtil.isNotBlank(clazz.getFields())){
+					newline();
+					out.append('\t');
+				}
+				boolean firstMethod = true;
+				for(JavaMethod method: clazz.getMethods()){
+					if(!firstMethod){
+						newline();
+						out.append('\t');
+					}
+					firstMethod = false;
+					newline();
+					writeIndented(method);
+				}
+			}
+		}
+		
+		// Closing brace at end of class and empty newline at end of file
+		newline();
+		write(BLOCK_CLOSE_TOKEN);
+		newline();
+	}
+	
+	/**
+	 * Writes the inner elements of the given {@link JavaClass} in the order given by its inner elements order
+	 *
+	 * @param clazz The {@link JavaClass} to write the inner elements of
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeInnerElementsInOrder(JavaClass clazz) throws IOException{
+		int staticCodeBlockIndex = 0, singleLineCommentIndex = 0, multiLineCommentIndex = 0;
+		Map<String, JavaClass> innerClassesByName = clazz.getInnerClassesMap();
+		Map<String, JavaField> fieldsByName = clazz.getFieldsMap();
+		Map<String, JavaMethod> methodsByName = clazz.getMethodsMap();
+		JavaCodeTypes lastType = null;
+		// Empty lines after methods and multi-line comments are only written if something comes after them
+		boolean pendingEmptyLine = false;
+		for(Pair<JavaCodeTypes, String> elementInfo: clazz.getInnerElementsOrder()){
+			if(pendingEmptyLine){
+				newline();
+				out.append('\t');
+				pendingEmptyLine = false;
+			}
+			switch(elementInfo.getLeft()){
+				case STATIC_CODE_BLOCK -> {
+					newline();
+					writeIndented(clazz.getStaticCodeBlocks().get(staticCodeBlockIndex));
+					staticCodeBlockIndex++;
+				}
+				case SINGLE_LINE_COMMENT -> {
+					newline();
+					writeIndented(clazz.getSingleLineComments().get(singleLineCommentIndex));
+					singleLineCommentIndex++;
+				}
+				case MULTI_LINE_COMMENT -> {
+					newline();
+					writeIndented(clazz.getMultiLineComments().get(multiLineCommentIndex));
+					pendingEmptyLine = true;
+					multiLineCommentIndex++;
+				}
+				case CLASS -> {
+					newline();
+					writeIndented(innerClassesByName.get(elementInfo.getRight()));
+				}
+				case FIELD -> {
+					newline();
+					writeIndented(fieldsByName.get(elementInfo.getRight()));
+				}
+				case METHOD -> {
+					// Add line before method if last item was a field
+					if(lastType == JavaCodeTypes.FIELD){
+						newline();
+						out.append('\t');
+					}
+					newline();
+					writeIndented(methodsByName.get(elementInfo.getRight()));
+					pendingEmptyLine = true;
+				}
+			}
+			lastType = elementInfo.getLeft();
+		}
+	}
+	
+	/**
+	 * Writes the given {@link JavaImportStatement import statements}, sorted and grouped by the first part of their
+	 * import name, with an empty line after each group
+	 *
+	 * @param importStatements The {@link JavaImportStatement import statements} to be written
+	 * @param firstLine Whether the next line is the first line of content or not
+	 * @return Whether the next line is the first line of content or not
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private boolean writeImportStatements(
+			List<JavaImportStatement> importStatements, boolean firstLine) throws IOException{
+		importStatements.sort(IMPORT_ORDER);
+		for(int i = 0; i < importStatements.size(); i++){
+			JavaImportStatement importStatement = importStatements.get(i);
+			firstLine = startLine(firstLine);
+			writeImportStatement(importStatement);
+			// Add an empty line after each group
+			if(i == importStatements.size() - 1 || compareFirstSegments(importStatement.getImportName(),
+					importStatements.get(i + 1).getImportName()) != 0){
+				newline();
+			}
+		}
+		return firstLine;
+	}
+	
+	/**
+	 * Compares the first segments (the part before the first period) of the given import names, the same way
+	 * String's compareTo would
+	 *
+	 * @param importName1 The first import name
+	 * @param importName2 The second import name
+	 * @return The comparison result of the first segments
+	 */
+	private static int compareFirstSegments(String importName1, String importName2){
+		int end1 = importName1.indexOf('.');
+		int end2 = importName2.indexOf('.');
+		if(end1 == -1){
+			end1 = importName1.length();
+		}
+		if(end2 == -1){
+			end2 = importName2.length();
+		}
+		for(int i = 0; i < Math.min(end1, end2); i++){
+			char char1 = importName1.charAt(i);
+			char char2 = importName2.charAt(i);
+			if(char1 != char2){
+				return char1 - char2;
+			}
+		}
+		return end1 - end2;
+	}
+	
+	/**
+	 * Compares the given import names the same way that comparing the import statements' code would (as if each
+	 * import name ended with a semicolon)
+	 *
+	 * @param importName1 The first import name
+	 * @param importName2 The second import name
+	 * @return The comparison result of the import names
+	 */
+	private static int compareImportNames(String importName1, String importName2){
+		int length1 = importName1.length() + 1;
+		int length2 = importName2.length() + 1;
+		for(int i = 0; i < Math.min(length1, length2); i++){
+			char char1 = i < importName1.length()?importName1.charAt(i):SEMICOLON.charAt(0);
+			char char2 = i < importName2.length()?importName2.charAt(i):SEMICOLON.charAt(0);
+			if(char1 != char2){
+				return char1 - char2;
+			}
+		}
+		return length1 - length2;
+	}
+	
+	/**
+	 * An {@link Appendable} that encodes characters into a buffer and writes them to a {@link WritableByteChannel}
+	 * whenever the buffer fills up or it's flushed
+	 */
+	private static final class ChannelAppendable implements Appendable, Flushable{
+		/** The {@link WritableByteChannel} to write to */
+		private final WritableByteChannel channel;
+		/** The {@link CharsetEncoder} used to encode characters */
+		private final CharsetEncoder encoder;
+		/** The buffer of characters waiting to be encoded */
+		private final CharBuffer chars;
+		/** The buffer of encoded bytes waiting to be written */
+		private final ByteBuffer bytes;
+		
+		/**
+		 * Constructs a new {@link ChannelAppendable} for the given channel and charset
+		 *
+		 * @param channel The {@link WritableByteChannel} to write to
+		 * @param charset The {@link Charset} to use for encoding
+		 */
+		private ChannelAppendable(WritableByteChannel channel, Charset charset){
+			this.channel = channel;
+			// Replace bad characters like String's getBytes does
+			encoder = charset.newEncoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			chars = CharBuffer.allocate(CHANNEL_BUFFER_SIZE);
+			bytes = ByteBuffer.allocate((int) Math.ceil(CHANNEL_BUFFER_SIZE * encoder.maxBytesPerChar()));
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Appendable append(CharSequence text) throws IOException{
+			return append(text, 0, text.length());
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Appendable append(CharSequence text, int start, int end) throws IOException{
+			for(int i = start; i < end; i++){
+				append(text.charAt(i));
+			}
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Appendable append(char c) throws IOException{
+			if(!chars.hasRemaining()){
+				encodeChars();
+			}
+			chars.put(c);
+			return this;
+		}
+		
+		/**
+		 * Encodes the characters in the buffer and writes them to the channel
+		 *
+		 * @throws IOException If anything goes wrong in encoding or writing
+		 */
+		private void encodeChars() throws IOException{
+			chars.flip();
+			CoderResult result = encoder.encode(chars, bytes, false);
+			while(result.isOverflow()){
+				writeBytes();
+				result = encoder.encode(chars, bytes, false);
+			}
+			if(result.isError()){
+				try{
+					result.throwException();
+				}catch(CharacterCodingException e){
+					throw new IOException("Failed to encode Java code", e);
+				}
+			}
+			writeBytes();
+			// Keep any half of a surrogate pair for the next time
+			chars.compact();
+		}
+		
+		/**
+		 * Writes the encoded bytes in the buffer to the channel
+		 *
+		 * @throws IOException If anything goes wrong in writing
+		 */
+		private void writeBytes() throws IOException{
+			bytes.flip();
+			while(bytes.hasRemaining()){
+				channel.write(bytes);
+			}
+			bytes.clear();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void flush() throws IOException{
+			encodeChars();
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains classes to use to write Java code
+ */
+package com.github.tadukoo.java.writing;
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.github.tadukoo.java.parsing;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link JavaLexer} backend that uses the (incubating) Vector API to classify characters. Instead of looking
+ * at one character at a time, the content is read in blocks of 64 characters, and each block is classified 8 or 16
+ * characters at a time (depending on the hardware) into bit masks of newlines, whitespace, single character tokens,
+ * {@code <} and {@code >}, and word characters. The starts of the tokens are then worked out for the whole
+ * block at once with bit operations, and only the token starts are visited one at a time.
+ * <br><br>
+ * This produces exactly the same tokens as the scalar lexer. It's kept in its own source directory, which is only
+ * compiled in with the {@code vector} Maven profile, and it can only be loaded when the {@code jdk.incubator.vector}
+ * module is available (e.g. with {@code --add-modules jdk.incubator.vector}). It's only used reflectively through
+ * {@link JavaLexer#tokenizeVectorized(CharSequence)}, which falls back to the scalar lexer when it isn't there.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+final class VectorJavaLexer{
+	
+	/** The number of characters classified together into a single {@code long} bit mask */
+	private static final int BLOCK_SIZE = Long.SIZE;
+	/**
+	 * The {@link VectorSpecies} to use for classifying characters - no more than 16 lanes, so that each lane can be
+	 * given its own bit in a {@code short}
+	 */
+	private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED.length() > Short.SIZE?
+			ShortVector.SPECIES_256:ShortVector.SPECIES_PREFERRED;
+	/** The bit for each lane, used to turn a {@link VectorMask} into bits without {@link VectorMask#toLong()} */
+	private static final ShortVector LANE_BITS = createLaneBits();
+	/** A vector of all zeros */
+	private static final ShortVector ZERO = ShortVector.zero(SPECIES);
+	
+	/** Not allowed to instantiate {@link VectorJavaLexer} */
+	private VectorJavaLexer(){ }
+	
+	/**
+	 * @return Whether the Vector API can be used to classify blocks of characters on this machine or not
+	 */
+	static boolean isSupported(){
+		return SPECIES.length() > 1 && BLOCK_SIZE % SPECIES.length() == 0;
+	}
+	
+	/**
+	 * @return A vector with a different single bit set in each lane (the first lane has the lowest bit)
+	 */
+	private static ShortVector createLaneBits(){
+		short[] bits = new short[SPECIES.length()];
+		for(int lane = 0; lane < bits.length; lane++){
+			bits[lane] = (short) (1 << lane);
+		}
+		return ShortVector.fromArray(SPECIES, bits, 0);
+	}
+	
+	/**
+	 * Turns the given mask into bits, with the first lane as the lowest bit. {@link VectorMask#toLong()} does
+	 * the same thing, but isn't compiled down to vector instructions on all JDKs, so it's much slower
+	 *
+	 * @param mask The mask to turn into bits
+	 * @return The bits of the mask
+	 */
+	private static long toBits(VectorMask<Short> mask){
+		return ZERO.blend(LANE_BITS, mask).reduceLanes(VectorOperators.OR) & 0xFFFFL;
+	}
+	
+	/**
+	 * Splits the given content into tokens
+	 *
+	 * @param content The content to be split into tokens
+	 * @return A {@link JavaTokenList} of the tokens in the content
+	 */
+	static JavaTokenList tokenize(CharSequence content){
+		JavaTokenList tokens = new JavaTokenList(content);
+		int length = content.length();
+		char[] block = new char[BLOCK_SIZE];
+		// Whether the character before the current block continues whitespace or a word
+		long prevWhitespace = 0, prevInWord = 0;
+		// Words are only added once the next token is found, so they can be classified (-1 if there isn't one)
+		int wordStart = -1;
+		for(int blockStart = 0; blockStart < length; blockStart += BLOCK_SIZE){
+			int blockLength = Math.min(BLOCK_SIZE, length - blockStart);
+			copyBlock(content, blockStart, blockLength, block);
+			long valid = blockLength == BLOCK_SIZE?-1L:(1L << blockLength) - 1;
+			
+			// Classify the characters in the block
+			long newlines = 0, whitespace = 0, singles = 0, angles = 0;
+			for(int offset = 0; offset < BLOCK_SIZE; offset += SPECIES.length()){
+				ShortVector chars = ShortVector.fromCharArray(SPECIES, block, offset);
+				// '\t' through '\r' covers the inline whitespace control characters, along with the newline
+				VectorMask<Short> lineBreaks = chars.eq((short) '\n');
+				newlines |= toBits(lineBreaks) << offset;
+				whitespace |= toBits(chars.compare(VectorOperators.GE, (short) '\t')
+						.and(chars.compare(VectorOperators.LE, (short) '\r')).andNot(lineBreaks)
+						.or(chars.eq((short) ' '))) << offset;
+				// '(' and ')' only differ in the lowest bit, and '<' and '>' only differ in the second lowest bit
+				singles |= toBits(chars.lanewise(VectorOperators.OR, (short) 1).eq((short) ')')
+						.or(chars.eq((short) '{')).or(chars.eq((short) '}'))
+						.or(chars.eq((short) '=')).or(chars.eq((short) ','))) << offset;
+				angles |= toBits(chars.lanewise(VectorOperators.OR, (short) 2).eq((short) '>')) << offset;
+			}
+			newlines &= valid;
+			whitespace &= valid;
+			singles &= valid;
+			angles &= valid;
+			long words = valid & ~(newlines | whitespace | singles | angles);
+			
+			// A run of < and > continues a word when the character before the run is part of a word - adding the
+			// first bit of each such run to the angles carries through (and clears) the whole run
+			long continuedAngleStarts = ((words << 1) | prevInWord) & angles;
+			long continuedAngles = angles & ~(angles + continuedAngleStarts);
+			long inWord = words | continuedAngles;
+			
+			// Find where each token starts
+			long wordStarts = words & ~((inWord << 1) | prevInWord);
+			long whitespaceStarts = whitespace & ~((whitespace << 1) | prevWhitespace);
+			long starts = newlines | singles | (angles & ~continuedAngles) | wordStarts | whitespaceStarts;
+			while(starts != 0){
+				int index = Long.numberOfTrailingZeros(starts);
+				int start = blockStart + index;
+				if(wordStart != -1){
+					tokens.addToken(KeywordTable.classifyWord(content, wordStart, start), wordStart);
+					wordStart = -1;
+				}
+				long bit = 1L << index;
+				if((wordStarts & bit) != 0){
+					wordStart = start;
+				}else if((whitespaceStarts & bit) != 0){
+					tokens.addToken(JavaTokenKind.WHITESPACE, start);
+				}else{
+					tokens.addToken(JavaLexer.singleCharKind(block[index]), start);
+				}
+				starts &= starts - 1;
+			}
+			
+			prevWhitespace = (whitespace >>> (BLOCK_SIZE - 1)) & 1;
+			prevInWord = (inWord >>> (BLOCK_SIZE - 1)) & 1;
+		}
+		if(wordStart != -1){
+			tokens.addToken(KeywordTable.classifyWord(content, wordStart, length), wordStart);
+		}
+		return tokens;
+	}
+	
+	/**
+	 * Copies a block of characters out of the content, filling the rest of the block with spaces
+	 *
+	 * @param content The content to copy from
+	 * @param start The index of the first character to copy
+	 * @param length The number of characters to copy
+	 * @param block The block to copy the characters into
+	 */
+	private static void copyBlock(CharSequence content, int start, int length, char[] block){
+		if(content instanceof String string){
+			string.getChars(start, start + length, block, 0);
+		}else if(content instanceof StringBuilder builder){
+			builder.getChars(start, start + length, block, 0);
+		}else{
+			for(int i = 0; i < length; i++){
+				block[i] = content.charAt(start + i);
+			}
+		}
+		for(int i = length; i < BLOCK_SIZE; i++){
+			block[i] = ' ';
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package com.github.tadukoo.java.benchmarks;
+
+import com.github.tadukoo.java.testing.JavaClassParsingCorpus;
+import com.github.tadukoo.java.testing.JavaClassParsingTest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark Sources provides the Java source code used in the benchmarks. Sources can either be one of the real
+ * classes from the {@link JavaClassParsingCorpus corpus} in Advanced Tadukoo Java Testing (by the class name without
+ * "Test", e.g. "FileUtil" or "EasyLogger"), a synthetic class with a given number of members
+ * (e.g. "Synthetic100"), or a synthetic class with a given number of methods with long bodies (e.g. "MethodHeavy100")
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class BenchmarkSources{
+	/** The prefix used for the names of synthetic sources */
+	public static final String SYNTHETIC_PREFIX = "Synthetic";
+	/** The prefix used for the names of method-heavy synthetic sources */
+	public static final String METHOD_HEAVY_PREFIX = "MethodHeavy";
+	
+	/** The sources from the corpus, mapped by class name */
+	private static final Map<String, String> CORPUS_SOURCES = new HashMap<>();
+	static{
+		for(JavaClassParsingTest test: JavaClassParsingCorpus.createTests()){
+			String name = test.getClass().getSimpleName();
+			CORPUS_SOURCES.put(name.substring(0, name.length() - "Test".length()), test.getJavaClassCode());
+		}
+	}
+	
+	/** Not allowed to instantiate {@link BenchmarkSources} */
+	private BenchmarkSources(){ }
+	
+	/**
+	 * Gets the source code with the given name
+	 *
+	 * @param name The name of the source (a corpus class name, "Synthetic" followed by a number of members, or
+	 * "MethodHeavy" followed by a number of methods)
+	 * @return The source code with the given name
+	 * @throws IllegalArgumentException If there is no source with the given name
+	 */
+	public static String getSource(String name){
+		if(name.startsWith(SYNTHETIC_PREFIX)){
+			return createSyntheticClass(Integer.parseInt(name.substring(SYNTHETIC_PREFIX.length())));
+		}else if(name.startsWith(METHOD_HEAVY_PREFIX)){
+			return createMethodHeavyClass(Integer.parseInt(name.substring(METHOD_HEAVY_PREFIX.length())));
+		}
+		String source = CORPUS_SOURCES.get(name);
+		if(source == null){
+			throw new IllegalArgumentException("Unknown benchmark source: " + name);
+		}
+		return source;
+	}
+	
+	/**
+	 * @return The source code of all the classes in the corpus
+	 */
+	public static List<String> getCorpusSources(){
+		return List.copyOf(CORPUS_SOURCES.values());
+	}
+	
+	/**
+	 * Creates the source code for a synthetic class with the given number of members. The members alternate between
+	 * fields and getter methods with Javadocs, laid out the same way the class would be rendered, so the code
+	 * can be round-tripped
+	 *
+	 * @param numMembers The number of members (fields and methods) to put in the class
+	 * @return The source code of the synthetic class
+	 */
+	public static String createSyntheticClass(int numMembers){
+		StringBuilder source = new StringBuilder()
+				.append("package com.github.tadukoo.java.benchmarks.synthetic;\n")
+				.append('\n')
+				.append("import java.util.List;\n")
+				.append('\n')
+				.append("/**\n")
+				.append(" * A synthetic class with ").append(numMembers).append(" members\n")
+				.append(" * \n")
+				.append(" * @author Logan Ferree (Tadukoo)\n")
+				.append(" */\n")
+				.append("public class Synthetic").append(numMembers).append("{\n");
+		for(int i = 0; i < numMembers; i++){
+			int fieldNum = i / 2;
+			source.append("\t\n");
+			if(i % 2 == 0){
+				source.append("\t/** Field number ").append(fieldNum).append(" */\n")
+						.append("\tprivate List<String> field").append(fieldNum).append(";\n");
+			}else{
+				source.append("\t/**\n")
+						.append("\t * @return Field number ").append(fieldNum).append('\n')
+						.append("\t */\n")
+						.append("\tpublic List<String> getField").append(fieldNum).append("(){\n")
+						.append("\t\treturn field").append(fieldNum).append(";\n")
+						.append("\t}\n");
+			}
+		}
+		return source.append("}\n").toString();
+	}
+	
+	/**
+	 * Creates the source code for a synthetic class with the given number of methods, where each method has a
+	 * Javadoc and a body of around 20 lines with nested blocks. This is meant to show the cost of parsing method
+	 * content, which is what most real classes are made of
+	 *
+	 * @param numMethods The number of methods to put in the class
+	 * @return The source code of the method-heavy synthetic class
+	 */
+	public static String createMethodHeavyClass(int numMethods){
+		StringBuilder source = new StringBuilder()
+				.append("package com.github.tadukoo.java.benchmarks.synthetic;\n")
+				.append('\n')
+				.append("import java.util.ArrayList;\n")
+				.append("import java.util.List;\n")
+				.append('\n')
+				.append("/**\n")
+				.append(" * A synthetic class with ").append(numMethods).append(" methods\n")
+				.append(" * \n")
+				.append(" * @author Logan Ferree (Tadukoo)\n")
+				.append(" */\n")
+				.append("public class MethodHeavy").append(numMethods).append("{\n");
+		for(int i = 0; i < numMethods; i++){
+			source.append("\t\n")
+					.append("\t/**\n")
+					.append("\t * Method number ").append(i).append('\n')
+					.append("\t * \n")
+					.append("\t * @param values The values to be filtered\n")
+					.append("\t * @return The filtered values\n")
+					.append("\t */\n")
+					.append("\tpublic List<String> method").append(i).append("(List<String> values){\n")
+					.append("\t\tList<String> result = new ArrayList<>();\n")
+					.append("\t\tfor(String value: values){\n")
+					.append("\t\t\tif(value == null){\n")
+					.append("\t\t\t\tcontinue;\n")
+					.append("\t\t\t}else if(value.length() > ").append(i).append("){\n")
+					.append("\t\t\t\tresult.add(value.substring(0, ").append(i).append("));\n")
+					.append("\t\t\t}else{\n")
+					.append("\t\t\t\tresult.add(value);\n")
+					.append("\t\t\t}\n")
+					.append("\t\t}\n")
+					.append("\t\tint count = 0;\n")
+					.append("\t\twhile(count < result.size()){\n")
+					.append("\t\t\tif(result.get(count).isEmpty()){\n")
+					.append("\t\t\t\tresult.remove(count);\n")
+					.append("\t\t\t}else{\n")
+					.append("\t\t\t\tcount++;\n")
+					.append("\t\t\t}\n")
+					.append("\t\t}\n")
+					.append("\t\treturn result;\n")
+					.append("\t}\n");
+		}
+		return source.append("}\n").toString();
+	}
+}
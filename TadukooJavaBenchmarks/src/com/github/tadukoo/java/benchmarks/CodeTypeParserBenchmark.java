@@ -0,0 +1,187 @@
+package com.github.tadukoo.java.benchmarks;
+
+import com.github.tadukoo.java.JavaType;
+import com.github.tadukoo.java.annotation.JavaAnnotation;
+import com.github.tadukoo.java.comment.JavaMultiLineComment;
+import com.github.tadukoo.java.comment.JavaSingleLineComment;
+import com.github.tadukoo.java.field.JavaField;
+import com.github.tadukoo.java.importstatement.JavaImportStatement;
+import com.github.tadukoo.java.javadoc.Javadoc;
+import com.github.tadukoo.java.method.JavaMethod;
+import com.github.tadukoo.java.packagedeclaration.JavaPackageDeclaration;
+import com.github.tadukoo.java.parsing.AbstractJavaParser;
+import com.github.tadukoo.java.parsing.JavaLexer;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.ParsingPojo;
+import com.github.tadukoo.java.parsing.codetypes.JavaAnnotationParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaFieldParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaImportStatementParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaMethodParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaPackageDeclarationParser;
+import com.github.tadukoo.java.parsing.codetypes.JavaTypeWithModifiersParser;
+import com.github.tadukoo.java.parsing.comment.JavaMultiLineCommentParser;
+import com.github.tadukoo.java.parsing.comment.JavaSingleLineCommentParser;
+import com.github.tadukoo.java.parsing.comment.JavadocParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks each of the individual code type parsers on a typical snippet of code
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodeTypeParserBenchmark{
+	/** The code used for the annotation benchmark */
+	private static final String ANNOTATION = "@Test(type = String.class, defaultValue = \"\")";
+	/** The code used for the field benchmark */
+	private static final String FIELD = "private static final String name = \"test\";";
+	/** The code used for the import statement benchmark */
+	private static final String IMPORT_STATEMENT = "import static com.github.tadukoo.util.StringUtil;";
+	/** The code used for the method benchmark */
+	private static final String METHOD = """
+			private static final <T, U> String test(Map<String, Object> map, int ... derps) throws Exception{
+				doSomething();
+				return "test";
+			}""";
+	/** The code used for the package declaration benchmark */
+	private static final String PACKAGE_DECLARATION = "package com.github.tadukoo.java.benchmarks;";
+	/** The code used for the type with modifiers benchmark */
+	private static final String TYPE_WITH_MODIFIERS = "public static final List<String> names = new ArrayList<>();";
+	/** The code used for the type benchmark */
+	private static final String TYPE = "Map<String, List<Pair<Integer, Set<? extends Number>>>>";
+	/** The code used for the Javadoc benchmark */
+	private static final String JAVADOC = """
+			/**
+			 * Does something useful with the given name
+			 *
+			 * @param name The name to use
+			 * @return The result
+			 */""";
+	/** The code used for the single-line comment benchmark */
+	private static final String SINGLE_LINE_COMMENT = "// Keep track of the errors we find";
+	/** The code used for the multi-line comment benchmark */
+	private static final String MULTI_LINE_COMMENT = """
+			/*
+			 * Keep track of the errors
+			 * we find
+			 */""";
+	
+	/** The tokens of {@link #TYPE_WITH_MODIFIERS}, since the type with modifiers parser only takes tokens */
+	private List<String> typeWithModifiersTokens;
+	
+	/**
+	 * Tokenizes the code for the type with modifiers benchmark
+	 */
+	@Setup
+	public void tokenize(){
+		typeWithModifiersTokens = JavaLexer.tokenize(TYPE_WITH_MODIFIERS);
+	}
+	
+	/**
+	 * @return The parsed annotation
+	 * @throws JavaParsingException If the annotation fails to parse
+	 */
+	@Benchmark
+	public JavaAnnotation parseAnnotation() throws JavaParsingException{
+		return JavaAnnotationParser.parseAnnotation(ANNOTATION);
+	}
+	
+	/**
+	 * @return The parsed field
+	 * @throws JavaParsingException If the field fails to parse
+	 */
+	@Benchmark
+	public JavaField parseField() throws JavaParsingException{
+		return JavaFieldParser.parseField(FIELD);
+	}
+	
+	/**
+	 * @return The parsed import statement
+	 * @throws JavaParsingException If the import statement fails to parse
+	 */
+	@Benchmark
+	public JavaImportStatement parseImportStatement() throws JavaParsingException{
+		return JavaImportStatementParser.parseImportStatement(IMPORT_STATEMENT);
+	}
+	
+	/**
+	 * @return The parsed method
+	 * @throws JavaParsingException If the method fails to parse
+	 */
+	@Benchmark
+	public JavaMethod parseMethod() throws JavaParsingException{
+		return JavaMethodParser.parseMethod(METHOD);
+	}
+	
+	/**
+	 * @return The parsed package declaration
+	 * @throws JavaParsingException If the package declaration fails to parse
+	 */
+	@Benchmark
+	public JavaPackageDeclaration parsePackageDeclaration() throws JavaParsingException{
+		return JavaPackageDeclarationParser.parsePackageDeclaration(PACKAGE_DECLARATION);
+	}
+	
+	/**
+	 * @return The {@link ParsingPojo} containing the parsed type with modifiers
+	 * @throws JavaParsingException If the type with modifiers fails to parse
+	 */
+	@Benchmark
+	public ParsingPojo parseTypeWithModifiers() throws JavaParsingException{
+		return JavaTypeWithModifiersParser.parseTypeWithModifiers(typeWithModifiersTokens, 0);
+	}
+	
+	/**
+	 * @return The parsed type
+	 */
+	@Benchmark
+	public JavaType parseType(){
+		return AbstractJavaParser.parseJavaType(TYPE);
+	}
+	
+	/**
+	 * @return The parsed Javadoc
+	 * @throws JavaParsingException If the Javadoc fails to parse
+	 */
+	@Benchmark
+	public Javadoc parseJavadoc() throws JavaParsingException{
+		return JavadocParser.parseJavadoc(JAVADOC);
+	}
+	
+	/**
+	 * @return The parsed single-line comment
+	 * @throws JavaParsingException If the single-line comment fails to parse
+	 */
+	@Benchmark
+	public JavaSingleLineComment parseSingleLineComment() throws JavaParsingException{
+		return JavaSingleLineCommentParser.parseSingleLineComment(SINGLE_LINE_COMMENT);
+	}
+	
+	/**
+	 * @return The parsed multi-line comment
+	 * @throws JavaParsingException If the multi-line comment fails to parse
+	 */
+	@Benchmark
+	public JavaMultiLineComment parseMultiLineComment() throws JavaParsingException{
+		return JavaMultiLineCommentParser.parseMultiLineComment(MULTI_LINE_COMMENT);
+	}
+}
@@ -0,0 +1,50 @@
+package com.github.tadukoo.java.benchmarks;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.ParseMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing whole classes using {@link FullJavaParser#parseType(CharSequence, ParseMode)} in each
+ * {@link ParseMode}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FullJavaParserBenchmark{
+	/** The {@link ParseMode} to use */
+	@Param({"FULL", "LAZY_METHOD_BODIES", "OUTLINE"})
+	public ParseMode parseMode;
+	
+	/**
+	 * Benchmarks parsing the source code
+	 *
+	 * @param state The {@link SourceState} containing the source code
+	 * @return The parsed type
+	 * @throws JavaParsingException If the source code fails to parse
+	 */
+	@Benchmark
+	public JavaCodeType parseType(SourceState state) throws JavaParsingException{
+		return FullJavaParser.parseType(state.code, parseMode);
+	}
+}
@@ -0,0 +1,114 @@
+package com.github.tadukoo.java.benchmarks;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaFileHeaderScanner;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks getting the package declaration and import statements of files using
+ * {@link JavaFileHeaderScanner#scanHeader(Path)}, compared to parsing the whole file with
+ * {@link FullJavaParser#parseType(Path)}. Every class in the corpus is written to a temporary directory, and each
+ * operation handles the next file, so the scores are in files per minute
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeaderScannerBenchmark{
+	/** The temporary directory the files are written to */
+	private Path directory;
+	/** The files to be scanned */
+	private List<Path> files;
+	/** The index of the next file to be scanned */
+	private int nextFile;
+	
+	/**
+	 * Writes the classes in the corpus to files in a temporary directory
+	 *
+	 * @throws IOException If anything goes wrong in writing the files
+	 */
+	@Setup
+	public void writeFiles() throws IOException{
+		directory = Files.createTempDirectory("header-scanner-benchmark");
+		files = new ArrayList<>();
+		for(String source: BenchmarkSources.getCorpusSources()){
+			Path file = directory.resolve("Source" + files.size() + ".java");
+			Files.writeString(file, source);
+			files.add(file);
+		}
+	}
+	
+	/**
+	 * Deletes the temporary directory of files
+	 *
+	 * @throws IOException If anything goes wrong in deleting the files
+	 */
+	@TearDown
+	public void deleteFiles() throws IOException{
+		try(Stream<Path> paths = Files.walk(directory)){
+			for(Path path: paths.sorted(Comparator.reverseOrder()).toList()){
+				Files.delete(path);
+			}
+		}
+	}
+	
+	/**
+	 * @return The next file to be scanned, cycling through all the files
+	 */
+	private Path nextFile(){
+		Path file = files.get(nextFile);
+		nextFile = (nextFile + 1) % files.size();
+		return file;
+	}
+	
+	/**
+	 * Benchmarks scanning the header of a file
+	 *
+	 * @return The header of the file
+	 * @throws IOException If anything goes wrong in reading the file
+	 * @throws JavaParsingException If the header fails to parse
+	 */
+	@Benchmark
+	public JavaFileHeaderScanner.Header scanHeader() throws IOException, JavaParsingException{
+		return JavaFileHeaderScanner.scanHeader(nextFile());
+	}
+	
+	/**
+	 * Benchmarks parsing a whole file, which is how the header had to be found before
+	 *
+	 * @return The parsed type
+	 * @throws IOException If anything goes wrong in reading the file
+	 * @throws JavaParsingException If the file fails to parse
+	 */
+	@Benchmark
+	public JavaCodeType parseType() throws IOException, JavaParsingException{
+		return FullJavaParser.parseType(nextFile());
+	}
+}
@@ -0,0 +1,59 @@
+package com.github.tadukoo.java.benchmarks;
+
+import com.github.tadukoo.java.javaclass.EditableJavaClass;
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building classes with the {@link com.github.tadukoo.java.javaclass.JavaClassBuilder}, which runs
+ * all of its validation checks before constructing the class
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JavaClassBuilderBenchmark{
+	/** The parsed class that gets copied into the builders */
+	private JavaClass clazz;
+	
+	/**
+	 * Parses the class to be copied into the builders
+	 *
+	 * @param source The {@link SourceState} containing the source code
+	 * @throws JavaParsingException If the source code fails to parse
+	 */
+	@Setup
+	public void parse(SourceState source) throws JavaParsingException{
+		clazz = (JavaClass) FullJavaParser.parseType(source.code);
+	}
+	
+	/**
+	 * Benchmarks building a class (the parser creates editable classes, so an editable class is built here too,
+	 * as the uneditable builder only accepts uneditable inner types)
+	 *
+	 * @return A newly built {@link EditableJavaClass}
+	 */
+	@Benchmark
+	public EditableJavaClass build(){
+		return EditableJavaClass.builder().copy(clazz).build();
+	}
+}
@@ -0,0 +1,88 @@
+package com.github.tadukoo.java.benchmarks;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.serialization.JavaCodeTypeCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks encoding and decoding whole classes with the {@link JavaCodeTypeCodec}, compared to parsing them
+ * again with {@link FullJavaParser#parseType(CharSequence)}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JavaCodeTypeCodecBenchmark{
+	/** The parsed source code */
+	private JavaCodeType parsed;
+	/** The encoded source code */
+	private ByteBuffer encoded;
+	
+	/**
+	 * Parses and encodes the source code
+	 *
+	 * @param state The {@link SourceState} containing the source code
+	 * @throws IOException If the parsed source code fails to encode
+	 * @throws JavaParsingException If the source code fails to parse
+	 */
+	@Setup
+	public void encodeSource(SourceState state) throws IOException, JavaParsingException{
+		parsed = FullJavaParser.parseType(state.code);
+		encoded = JavaCodeTypeCodec.encode(parsed);
+	}
+	
+	/**
+	 * Benchmarks encoding the parsed source code
+	 *
+	 * @return The encoded source code
+	 * @throws IOException If the parsed source code fails to encode
+	 */
+	@Benchmark
+	public ByteBuffer encode() throws IOException{
+		return JavaCodeTypeCodec.encode(parsed);
+	}
+	
+	/**
+	 * Benchmarks decoding the encoded source code
+	 *
+	 * @return The decoded type
+	 * @throws IOException If the encoded source code fails to decode
+	 */
+	@Benchmark
+	public JavaCodeType decode() throws IOException{
+		return JavaCodeTypeCodec.decode(encoded.duplicate());
+	}
+	
+	/**
+	 * Benchmarks parsing the source code again, which is what decoding replaces
+	 *
+	 * @param state The {@link SourceState} containing the source code
+	 * @return The parsed type
+	 * @throws JavaParsingException If the source code fails to parse
+	 */
+	@Benchmark
+	public JavaCodeType parseType(SourceState state) throws JavaParsingException{
+		return FullJavaParser.parseType(state.code);
+	}
+}
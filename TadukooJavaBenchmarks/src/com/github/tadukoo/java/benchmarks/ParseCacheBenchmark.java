@@ -0,0 +1,122 @@
+package com.github.tadukoo.java.benchmarks;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.ParseCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks loading files from a warm {@link ParseCache}, compared to parsing them with
+ * {@link FullJavaParser#parseType(Path)}. Every class in the corpus is written to a temporary directory and parsed
+ * into the cache once before the benchmarks are run, and each operation handles the next file, so the scores are
+ * in files per minute
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseCacheBenchmark{
+	/** The temporary directory the files and the cache are written to */
+	private Path directory;
+	/** The files to be parsed */
+	private List<Path> files;
+	/** The {@link ParseCache} to load the files from */
+	private ParseCache cache;
+	/** The index of the next file to be parsed */
+	private int nextFile;
+	
+	/**
+	 * Writes the classes in the corpus to files in a temporary directory and fills the cache with them
+	 *
+	 * @throws IOException If anything goes wrong in writing the files or the cache
+	 * @throws JavaParsingException If any of the files fail to parse
+	 */
+	@Setup
+	public void writeFiles() throws IOException, JavaParsingException{
+		directory = Files.createTempDirectory("parse-cache-benchmark");
+		Path sourceDirectory = Files.createDirectory(directory.resolve("sources"));
+		files = new ArrayList<>();
+		for(String source: BenchmarkSources.getCorpusSources()){
+			Path file = sourceDirectory.resolve("Source" + files.size() + ".java");
+			Files.writeString(file, source);
+			files.add(file);
+		}
+		cache = new ParseCache(directory.resolve("cache"), 64 * 1024 * 1024);
+		for(Path file: files){
+			cache.parseType(file);
+		}
+	}
+	
+	/**
+	 * Deletes the temporary directory of files and the cache
+	 *
+	 * @throws IOException If anything goes wrong in deleting the files
+	 */
+	@TearDown
+	public void deleteFiles() throws IOException{
+		try(Stream<Path> paths = Files.walk(directory)){
+			for(Path path: paths.sorted(Comparator.reverseOrder()).toList()){
+				Files.delete(path);
+			}
+		}
+	}
+	
+	/**
+	 * @return The next file to be parsed, cycling through all the files
+	 */
+	private Path nextFile(){
+		Path file = files.get(nextFile);
+		nextFile = (nextFile + 1) % files.size();
+		return file;
+	}
+	
+	/**
+	 * Benchmarks loading a file from the warm cache
+	 *
+	 * @return The loaded type
+	 * @throws IOException If anything goes wrong in reading the file or the cache
+	 * @throws JavaParsingException If the file fails to parse
+	 */
+	@Benchmark
+	public JavaCodeType warmCache() throws IOException, JavaParsingException{
+		return cache.parseType(nextFile());
+	}
+	
+	/**
+	 * Benchmarks parsing a file without the cache
+	 *
+	 * @return The parsed type
+	 * @throws IOException If anything goes wrong in reading the file
+	 * @throws JavaParsingException If the file fails to parse
+	 */
+	@Benchmark
+	public JavaCodeType parseType() throws IOException, JavaParsingException{
+		return FullJavaParser.parseType(nextFile());
+	}
+}
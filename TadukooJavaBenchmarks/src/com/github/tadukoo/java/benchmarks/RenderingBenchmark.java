@@ -0,0 +1,125 @@
+package com.github.tadukoo.java.benchmarks;
+
+import com.github.tadukoo.java.javaclass.JavaClass;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.writing.JavaCodeWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks rendering parsed classes back into code, using {@link JavaClass#toString()} (both with the rendered
+ * code already cached and on a freshly parsed class), the {@link JavaCodeWriter}, and
+ * {@link JavaClass#toBuilderCode()}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderingBenchmark{
+	
+	/**
+	 * Parsed Class State holds a class parsed once for the whole benchmark
+	 */
+	@State(Scope.Benchmark)
+	public static class ParsedClassState{
+		/** The parsed class */
+		public JavaClass clazz;
+		
+		/**
+		 * Parses the class to be rendered
+		 *
+		 * @param source The {@link SourceState} containing the source code
+		 * @throws JavaParsingException If the source code fails to parse
+		 */
+		@Setup
+		public void parse(SourceState source) throws JavaParsingException{
+			clazz = (JavaClass) FullJavaParser.parseType(source.code);
+		}
+	}
+	
+	/**
+	 * Fresh Class State holds a class that's parsed again before every invocation, so nothing
+	 * has been rendered (and cached) yet
+	 */
+	@State(Scope.Thread)
+	public static class FreshClassState{
+		/** The freshly parsed class */
+		public JavaClass clazz;
+		
+		/**
+		 * Parses the class to be rendered
+		 *
+		 * @param source The {@link SourceState} containing the source code
+		 * @throws JavaParsingException If the source code fails to parse
+		 */
+		@Setup(Level.Invocation)
+		public void parse(SourceState source) throws JavaParsingException{
+			clazz = (JavaClass) FullJavaParser.parseType(source.code);
+		}
+	}
+	
+	/**
+	 * Benchmarks calling toString on a class that has already been rendered once
+	 *
+	 * @param state The {@link ParsedClassState} containing the class
+	 * @return The rendered code
+	 */
+	@Benchmark
+	public String toStringCached(ParsedClassState state){
+		return state.clazz.toString();
+	}
+	
+	/**
+	 * Benchmarks calling toString on a class that hasn't been rendered yet
+	 *
+	 * @param state The {@link FreshClassState} containing the class
+	 * @return The rendered code
+	 */
+	@Benchmark
+	public String toStringCold(FreshClassState state){
+		return state.clazz.toString();
+	}
+	
+	/**
+	 * Benchmarks writing a class using the {@link JavaCodeWriter}
+	 *
+	 * @param state The {@link ParsedClassState} containing the class
+	 * @return The written code
+	 * @throws IOException If writing the code fails
+	 */
+	@Benchmark
+	public StringBuilder writeCode(ParsedClassState state) throws IOException{
+		StringBuilder code = new StringBuilder();
+		new JavaCodeWriter(code).write(state.clazz);
+		return code;
+	}
+	
+	/**
+	 * Benchmarks building the builder code for a class
+	 *
+	 * @param state The {@link ParsedClassState} containing the class
+	 * @return The builder code
+	 */
+	@Benchmark
+	public String toBuilderCode(ParsedClassState state){
+		return state.clazz.toBuilderCode();
+	}
+}
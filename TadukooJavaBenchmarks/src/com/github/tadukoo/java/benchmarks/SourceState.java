@@ -0,0 +1,34 @@
+package com.github.tadukoo.java.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Source State is the JMH state shared by the benchmarks that work on whole classes. By default it runs through
+ * a few real classes from the corpus, synthetic classes with 10, 100, and 1000 members, and a synthetic class with
+ * 100 long methods, but any {@link BenchmarkSources source} can be used with {@code -p source=<name>}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+@State(Scope.Benchmark)
+public class SourceState{
+	/** The name of the {@link BenchmarkSources source} to use */
+	@Param({"FileUtil", "EasyLogger", "CollectionUtil", "Synthetic10", "Synthetic100", "Synthetic1000",
+			"MethodHeavy100"})
+	public String source;
+	
+	/** The source code to use */
+	public String code;
+	
+	/**
+	 * Loads the source code to use
+	 */
+	@Setup
+	public void loadSource(){
+		code = BenchmarkSources.getSource(source);
+	}
+}
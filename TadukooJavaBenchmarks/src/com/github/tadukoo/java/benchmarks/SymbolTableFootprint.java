@@ -0,0 +1,99 @@
+package com.github.tadukoo.java.benchmarks;
+
+import com.github.tadukoo.java.JavaCodeType;
+import com.github.tadukoo.java.parsing.FullJavaParser;
+import com.github.tadukoo.java.parsing.JavaParsingException;
+import com.github.tadukoo.java.parsing.ParseMode;
+import com.github.tadukoo.java.parsing.SymbolTable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Symbol Table Footprint measures how much heap is saved by sharing a {@link SymbolTable} between the parses of a
+ * large corpus. This isn't a JMH benchmark, as JMH measures time and not retained heap: it parses every
+ * {@link BenchmarkSources#getCorpusSources() corpus source} the given number of times (500 by default), keeps all the
+ * parsed models, and reports the heap still used by them after a garbage collection, first without a
+ * {@link SymbolTable} and then with one. It's best run with a fixed heap size (e.g. {@code -Xms2g -Xmx2g}) so the
+ * numbers aren't affected by the heap resizing
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class SymbolTableFootprint{
+	
+	/** The default number of times to parse each source in the corpus */
+	private static final int DEFAULT_COPIES = 500;
+	
+	/** Not allowed to instantiate {@link SymbolTableFootprint} */
+	private SymbolTableFootprint(){ }
+	
+	/**
+	 * Runs the measurement
+	 *
+	 * @param args Optionally the number of times to parse each source in the corpus
+	 * @throws JavaParsingException If anything goes wrong in parsing the corpus
+	 */
+	public static void main(String[] args) throws JavaParsingException{
+		int copies = args.length > 0?Integer.parseInt(args[0]):DEFAULT_COPIES;
+		List<String> sources = BenchmarkSources.getCorpusSources();
+		
+		long withoutTable = measureRetainedHeap(sources, copies, null);
+		SymbolTable symbolTable = new SymbolTable();
+		long withTable = measureRetainedHeap(sources, copies, symbolTable);
+		
+		System.out.printf("Parsed %d files (%d sources x %d copies)%n", sources.size() * copies, sources.size(), copies);
+		System.out.printf("Retained heap without a symbol table: %,d bytes%n", withoutTable);
+		System.out.printf("Retained heap with a symbol table:    %,d bytes (%,d symbols)%n",
+				withTable, symbolTable.size());
+		System.out.printf("Saved: %,d bytes (%.1f%%)%n",
+				withoutTable - withTable, 100.0 * (withoutTable - withTable) / withoutTable);
+	}
+	
+	/**
+	 * Parses each of the given sources the given number of times and measures how much heap the parsed models
+	 * (along with the {@link SymbolTable} if there is one) take up
+	 *
+	 * @param sources The source code to be parsed
+	 * @param copies The number of times to parse each source
+	 * @param symbolTable The {@link SymbolTable} to use in parsing (can be null to not use one)
+	 * @return The number of bytes of heap retained by the parsed models
+	 * @throws JavaParsingException If anything goes wrong in parsing
+	 */
+	private static long measureRetainedHeap(
+			List<String> sources, int copies, SymbolTable symbolTable) throws JavaParsingException{
+		long before = usedHeapAfterGC();
+		List<JavaCodeType> models = new ArrayList<>(sources.size() * copies);
+		for(int i = 0; i < copies; i++){
+			for(String source: sources){
+				// Copy the source so the parsed Strings can't share anything with the previous copies
+				models.add(FullJavaParser.parseType(new StringBuilder(source), ParseMode.FULL, symbolTable));
+			}
+		}
+		long after = usedHeapAfterGC();
+		// Keep the models reachable until after they've been measured
+		if(models.size() != sources.size() * copies){
+			throw new IllegalStateException("Lost some parsed models");
+		}
+		return after - before;
+	}
+	
+	/**
+	 * @return The number of bytes of heap used after running garbage collection a few times
+	 */
+	private static long usedHeapAfterGC(){
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		for(int i = 0; i < 5; i++){
+			System.gc();
+			try{
+				Thread.sleep(100);
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+		}
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+}
@@ -0,0 +1,37 @@
+package com.github.tadukoo.java.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Main class used to run the Tadukoo Java benchmarks. It accepts the same arguments as the standard JMH runner
+ * (e.g. a regex of benchmarks to run, or {@code -p source=Synthetic1000}), and always adds the
+ * {@link GCProfiler} so that allocation rates are reported alongside the timings
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+public final class TadukooJavaBenchmarks{
+	
+	/** Not allowed to instantiate {@link TadukooJavaBenchmarks} */
+	private TadukooJavaBenchmarks(){ }
+	
+	/**
+	 * Runs the benchmarks
+	 *
+	 * @param args The JMH command line arguments
+	 * @throws CommandLineOptionException If the arguments are invalid
+	 * @throws RunnerException If anything goes wrong running the benchmarks
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException{
+		new Runner(new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
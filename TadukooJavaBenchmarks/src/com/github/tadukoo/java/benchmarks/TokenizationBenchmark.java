@@ -0,0 +1,103 @@
+package com.github.tadukoo.java.benchmarks;
+
+import com.github.tadukoo.java.parsing.JavaLexer;
+import com.github.tadukoo.java.parsing.JavaTokenList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks splitting Java source code into tokens. AbstractJavaParser's splitContentIntoTokens is protected and
+ * just delegates to {@link JavaLexer#tokenize(CharSequence)}, so the lexer is benchmarked directly. The scalar lexer
+ * is compared against {@link JavaLexer#tokenizeVectorized(CharSequence)}, both on each source and on the whole
+ * corpus at once. The Vector API backend is only there when built with the {@code vector} profile, and the forked
+ * JVM is given the {@code jdk.incubator.vector} module so that it's used (when running with {@code -f 0}, the JVM
+ * running the benchmarks needs it instead)
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Beta v.0.6
+ * @since Beta v.0.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class TokenizationBenchmark{
+	
+	/**
+	 * The JMH state holding the source code of every class in the corpus
+	 */
+	@State(Scope.Benchmark)
+	public static class CorpusState{
+		/** The source code of the classes in the corpus */
+		public List<String> sources;
+		
+		/**
+		 * Loads the source code of the corpus
+		 */
+		@Setup
+		public void loadSources(){
+			sources = BenchmarkSources.getCorpusSources();
+		}
+	}
+	
+	/**
+	 * Benchmarks tokenizing the source code
+	 *
+	 * @param state The {@link SourceState} containing the source code
+	 * @return The tokens
+	 */
+	@Benchmark
+	public JavaTokenList tokenize(SourceState state){
+		return JavaLexer.tokenize(state.code);
+	}
+	
+	/**
+	 * Benchmarks tokenizing the source code using the Vector API
+	 *
+	 * @param state The {@link SourceState} containing the source code
+	 * @return The tokens
+	 */
+	@Benchmark
+	public JavaTokenList tokenizeVectorized(SourceState state){
+		return JavaLexer.tokenizeVectorized(state.code);
+	}
+	
+	/**
+	 * Benchmarks tokenizing every class in the corpus
+	 *
+	 * @param state The {@link CorpusState} containing the source code of the corpus
+	 * @param blackhole Used to consume the tokens
+	 */
+	@Benchmark
+	public void tokenizeCorpus(CorpusState state, Blackhole blackhole){
+		for(String source: state.sources){
+			blackhole.consume(JavaLexer.tokenize(source));
+		}
+	}
+	
+	/**
+	 * Benchmarks tokenizing every class in the corpus using the Vector API
+	 *
+	 * @param state The {@link CorpusState} containing the source code of the corpus
+	 * @param blackhole Used to consume the tokens
+	 */
+	@Benchmark
+	public void tokenizeCorpusVectorized(CorpusState state, Blackhole blackhole){
+		for(String source: state.sources){
+			blackhole.consume(JavaLexer.tokenizeVectorized(source));
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains JMH benchmarks for parsing, rendering, and building Java code
+ */
+package com.github.tadukoo.java.benchmarks;